@@ -3758,6 +3758,186 @@ public final class CassandraProtos {
      */
     com.google.protobuf.ByteString
         getLocalLocationBytes();
+
+    // optional int32 concurrency = 12;
+    /**
+     * <code>optional int32 concurrency = 12;</code>
+     */
+    boolean hasConcurrency();
+    /**
+     * <code>optional int32 concurrency = 12;</code>
+     */
+    int getConcurrency();
+
+    // optional int32 partSizeMb = 13;
+    /**
+     * <code>optional int32 partSizeMb = 13;</code>
+     */
+    boolean hasPartSizeMb();
+    /**
+     * <code>optional int32 partSizeMb = 13;</code>
+     */
+    int getPartSizeMb();
+
+    // optional string compression = 14;
+    /**
+     * <code>optional string compression = 14;</code>
+     */
+    boolean hasCompression();
+    /**
+     * <code>optional string compression = 14;</code>
+     */
+    java.lang.String getCompression();
+    /**
+     * <code>optional string compression = 14;</code>
+     */
+    com.google.protobuf.ByteString
+        getCompressionBytes();
+
+    // optional bool incremental = 15;
+    /**
+     * <code>optional bool incremental = 15;</code>
+     */
+    boolean hasIncremental();
+    /**
+     * <code>optional bool incremental = 15;</code>
+     */
+    boolean getIncremental();
+
+    // optional int32 bandwidthMb = 16;
+    /**
+     * <code>optional int32 bandwidthMb = 16;</code>
+     */
+    boolean hasBandwidthMb();
+    /**
+     * <code>optional int32 bandwidthMb = 16;</code>
+     */
+    int getBandwidthMb();
+
+    // optional bool adaptiveThrottle = 17;
+    /**
+     * <code>optional bool adaptiveThrottle = 17;</code>
+     */
+    boolean hasAdaptiveThrottle();
+    /**
+     * <code>optional bool adaptiveThrottle = 17;</code>
+     */
+    boolean getAdaptiveThrottle();
+
+    // optional bool streaming = 18;
+    /**
+     * <code>optional bool streaming = 18;</code>
+     */
+    boolean hasStreaming();
+    /**
+     * <code>optional bool streaming = 18;</code>
+     */
+    boolean getStreaming();
+
+    // optional bool bulkLoad = 19;
+    /**
+     * <code>optional bool bulkLoad = 19;</code>
+     */
+    boolean hasBulkLoad();
+    /**
+     * <code>optional bool bulkLoad = 19;</code>
+     */
+    boolean getBulkLoad();
+
+    // optional int32 loaderIndex = 20;
+    /**
+     * <code>optional int32 loaderIndex = 20;</code>
+     */
+    boolean hasLoaderIndex();
+    /**
+     * <code>optional int32 loaderIndex = 20;</code>
+     */
+    int getLoaderIndex();
+
+    // optional int32 loaderCount = 21;
+    /**
+     * <code>optional int32 loaderCount = 21;</code>
+     */
+    boolean hasLoaderCount();
+    /**
+     * <code>optional int32 loaderCount = 21;</code>
+     */
+    int getLoaderCount();
+
+    // optional string parallelism = 22;
+    /**
+     * <code>optional string parallelism = 22;</code>
+     */
+    boolean hasParallelism();
+    /**
+     * <code>optional string parallelism = 22;</code>
+     */
+    java.lang.String getParallelism();
+    /**
+     * <code>optional string parallelism = 22;</code>
+     */
+    com.google.protobuf.ByteString
+        getParallelismBytes();
+
+    // optional int32 subrangePartitions = 23;
+    /**
+     * <code>optional int32 subrangePartitions = 23;</code>
+     */
+    boolean hasSubrangePartitions();
+    /**
+     * <code>optional int32 subrangePartitions = 23;</code>
+     */
+    int getSubrangePartitions();
+
+    // optional string repairId = 24;
+    /**
+     * <code>optional string repairId = 24;</code>
+     */
+    boolean hasRepairId();
+    /**
+     * <code>optional string repairId = 24;</code>
+     */
+    java.lang.String getRepairId();
+    /**
+     * <code>optional string repairId = 24;</code>
+     */
+    com.google.protobuf.ByteString
+        getRepairIdBytes();
+
+    // optional string operation = 25;
+    /**
+     * <code>optional string operation = 25;</code>
+     */
+    boolean hasOperation();
+    /**
+     * <code>optional string operation = 25;</code>
+     */
+    java.lang.String getOperation();
+    /**
+     * <code>optional string operation = 25;</code>
+     */
+    com.google.protobuf.ByteString
+        getOperationBytes();
+
+    // optional int32 jobs = 26;
+    /**
+     * <code>optional int32 jobs = 26;</code>
+     */
+    boolean hasJobs();
+    /**
+     * <code>optional int32 jobs = 26;</code>
+     */
+    int getJobs();
+
+    // optional int32 throughputMb = 27;
+    /**
+     * <code>optional int32 throughputMb = 27;</code>
+     */
+    boolean hasThroughputMb();
+    /**
+     * <code>optional int32 throughputMb = 27;</code>
+     */
+    int getThroughputMb();
   }
   /**
    * Protobuf type {@code com.mesosphere.dcos.cassandra.common.CassandraTaskData}
@@ -3885,6 +4065,86 @@ public final class CassandraProtos {
               localLocation_ = input.readBytes();
               break;
             }
+            case 96: {
+              bitField0_ |= 0x00000200;
+              concurrency_ = input.readInt32();
+              break;
+            }
+            case 104: {
+              bitField0_ |= 0x00000400;
+              partSizeMb_ = input.readInt32();
+              break;
+            }
+            case 114: {
+              bitField0_ |= 0x00000800;
+              compression_ = input.readBytes();
+              break;
+            }
+            case 120: {
+              bitField0_ |= 0x00001000;
+              incremental_ = input.readBool();
+              break;
+            }
+            case 128: {
+              bitField0_ |= 0x00002000;
+              bandwidthMb_ = input.readInt32();
+              break;
+            }
+            case 136: {
+              bitField0_ |= 0x00004000;
+              adaptiveThrottle_ = input.readBool();
+              break;
+            }
+            case 144: {
+              bitField0_ |= 0x00008000;
+              streaming_ = input.readBool();
+              break;
+            }
+            case 152: {
+              bitField0_ |= 0x00010000;
+              bulkLoad_ = input.readBool();
+              break;
+            }
+            case 160: {
+              bitField0_ |= 0x00020000;
+              loaderIndex_ = input.readInt32();
+              break;
+            }
+            case 168: {
+              bitField0_ |= 0x00040000;
+              loaderCount_ = input.readInt32();
+              break;
+            }
+            case 178: {
+              bitField0_ |= 0x00080000;
+              parallelism_ = input.readBytes();
+              break;
+            }
+            case 184: {
+              bitField0_ |= 0x00100000;
+              subrangePartitions_ = input.readInt32();
+              break;
+            }
+            case 194: {
+              bitField0_ |= 0x00200000;
+              repairId_ = input.readBytes();
+              break;
+            }
+            case 202: {
+              bitField0_ |= 0x00400000;
+              operation_ = input.readBytes();
+              break;
+            }
+            case 208: {
+              bitField0_ |= 0x00800000;
+              jobs_ = input.readInt32();
+              break;
+            }
+            case 216: {
+              bitField0_ |= 0x01000000;
+              throughputMb_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -3971,6 +4231,10 @@ public final class CassandraProtos {
        * <code>SCHEMA_RESTORE = 9;</code>
        */
       SCHEMA_RESTORE(8, 9),
+      /**
+       * <code>MAINTENANCE = 10;</code>
+       */
+      MAINTENANCE(9, 10),
       ;
 
       /**
@@ -4009,6 +4273,10 @@ public final class CassandraProtos {
        * <code>SCHEMA_RESTORE = 9;</code>
        */
       public static final int SCHEMA_RESTORE_VALUE = 9;
+      /**
+       * <code>MAINTENANCE = 10;</code>
+       */
+      public static final int MAINTENANCE_VALUE = 10;
 
 
       public final int getNumber() { return value; }
@@ -4024,6 +4292,7 @@ public final class CassandraProtos {
           case 7: return REPAIR;
           case 8: return BACKUP_SCHEMA;
           case 9: return SCHEMA_RESTORE;
+          case 10: return MAINTENANCE;
           default: return null;
         }
       }
@@ -4475,1315 +4744,2651 @@ public final class CassandraProtos {
       }
     }
 
-    private void initFields() {
-      type_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE.CASSANDRA_DAEMON;
-      address_ = "";
-      config_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance();
-      directory_ = "";
-      backupName_ = "";
-      externalLocation_ = "";
-      keySpaces_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      columnFamilies_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      s3AccessKey_ = "";
-      s3SecretKey_ = "";
-      localLocation_ = "";
+    // optional int32 concurrency = 12;
+    public static final int CONCURRENCY_FIELD_NUMBER = 12;
+    private int concurrency_;
+    /**
+     * <code>optional int32 concurrency = 12;</code>
+     */
+    public boolean hasConcurrency() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional int32 concurrency = 12;</code>
+     */
+    public int getConcurrency() {
+      return concurrency_;
     }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasType()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      memoizedIsInitialized = 1;
-      return true;
+    // optional int32 partSizeMb = 13;
+    public static final int PARTSIZEMB_FIELD_NUMBER = 13;
+    private int partSizeMb_;
+    /**
+     * <code>optional int32 partSizeMb = 13;</code>
+     */
+    public boolean hasPartSizeMb() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional int32 partSizeMb = 13;</code>
+     */
+    public int getPartSizeMb() {
+      return partSizeMb_;
     }
 
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeEnum(1, type_.getNumber());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getAddressBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeMessage(3, config_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeBytes(4, getDirectoryBytes());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeBytes(5, getBackupNameBytes());
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeBytes(6, getExternalLocationBytes());
-      }
-      for (int i = 0; i < keySpaces_.size(); i++) {
-        output.writeBytes(7, keySpaces_.getByteString(i));
-      }
-      for (int i = 0; i < columnFamilies_.size(); i++) {
-        output.writeBytes(8, columnFamilies_.getByteString(i));
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        output.writeBytes(9, getS3AccessKeyBytes());
-      }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
-        output.writeBytes(10, getS3SecretKeyBytes());
+    // optional string compression = 14;
+    public static final int COMPRESSION_FIELD_NUMBER = 14;
+    private java.lang.Object compression_;
+    /**
+     * <code>optional string compression = 14;</code>
+     */
+    public boolean hasCompression() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional string compression = 14;</code>
+     */
+    public java.lang.String getCompression() {
+      java.lang.Object ref = compression_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          compression_ = s;
+        }
+        return s;
       }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
-        output.writeBytes(11, getLocalLocationBytes());
+    }
+    /**
+     * <code>optional string compression = 14;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCompressionBytes() {
+      java.lang.Object ref = compression_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        compression_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      getUnknownFields().writeTo(output);
     }
 
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
+    // optional bool incremental = 15;
+    public static final int INCREMENTAL_FIELD_NUMBER = 15;
+    private boolean incremental_;
+    /**
+     * <code>optional bool incremental = 15;</code>
+     */
+    public boolean hasIncremental() {
+      return ((bitField0_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional bool incremental = 15;</code>
+     */
+    public boolean getIncremental() {
+      return incremental_;
+    }
 
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(1, type_.getNumber());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getAddressBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, config_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, getDirectoryBytes());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(5, getBackupNameBytes());
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(6, getExternalLocationBytes());
-      }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < keySpaces_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(keySpaces_.getByteString(i));
-        }
-        size += dataSize;
-        size += 1 * getKeySpacesList().size();
-      }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < columnFamilies_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(columnFamilies_.getByteString(i));
-        }
-        size += dataSize;
-        size += 1 * getColumnFamiliesList().size();
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(9, getS3AccessKeyBytes());
-      }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(10, getS3SecretKeyBytes());
-      }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(11, getLocalLocationBytes());
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
+    // optional int32 bandwidthMb = 16;
+    public static final int BANDWIDTHMB_FIELD_NUMBER = 16;
+    private int bandwidthMb_;
+    /**
+     * <code>optional int32 bandwidthMb = 16;</code>
+     */
+    public boolean hasBandwidthMb() {
+      return ((bitField0_ & 0x00002000) == 0x00002000);
     }
-
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
+    /**
+     * <code>optional int32 bandwidthMb = 16;</code>
+     */
+    public int getBandwidthMb() {
+      return bandwidthMb_;
     }
 
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    // optional bool adaptiveThrottle = 17;
+    public static final int ADAPTIVETHROTTLE_FIELD_NUMBER = 17;
+    private boolean adaptiveThrottle_;
+    /**
+     * <code>optional bool adaptiveThrottle = 17;</code>
+     */
+    public boolean hasAdaptiveThrottle() {
+      return ((bitField0_ & 0x00004000) == 0x00004000);
     }
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+    /**
+     * <code>optional bool adaptiveThrottle = 17;</code>
+     */
+    public boolean getAdaptiveThrottle() {
+      return adaptiveThrottle_;
     }
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+
+    // optional bool streaming = 18;
+    public static final int STREAMING_FIELD_NUMBER = 18;
+    private boolean streaming_;
+    /**
+     * <code>optional bool streaming = 18;</code>
+     */
+    public boolean hasStreaming() {
+      return ((bitField0_ & 0x00008000) == 0x00008000);
     }
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
+    /**
+     * <code>optional bool streaming = 18;</code>
+     */
+    public boolean getStreaming() {
+      return streaming_;
     }
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
+
+    // optional bool bulkLoad = 19;
+    public static final int BULKLOAD_FIELD_NUMBER = 19;
+    private boolean bulkLoad_;
+    /**
+     * <code>optional bool bulkLoad = 19;</code>
+     */
+    public boolean hasBulkLoad() {
+      return ((bitField0_ & 0x00010000) == 0x00010000);
     }
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    /**
+     * <code>optional bool bulkLoad = 19;</code>
+     */
+    public boolean getBulkLoad() {
+      return bulkLoad_;
     }
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+
+    // optional int32 loaderIndex = 20;
+    public static final int LOADERINDEX_FIELD_NUMBER = 20;
+    private int loaderIndex_;
+    /**
+     * <code>optional int32 loaderIndex = 20;</code>
+     */
+    public boolean hasLoaderIndex() {
+      return ((bitField0_ & 0x00020000) == 0x00020000);
     }
-    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
+    /**
+     * <code>optional int32 loaderIndex = 20;</code>
+     */
+    public int getLoaderIndex() {
+      return loaderIndex_;
     }
 
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData prototype) {
-      return newBuilder().mergeFrom(prototype);
+    // optional int32 loaderCount = 21;
+    public static final int LOADERCOUNT_FIELD_NUMBER = 21;
+    private int loaderCount_;
+    /**
+     * <code>optional int32 loaderCount = 21;</code>
+     */
+    public boolean hasLoaderCount() {
+      return ((bitField0_ & 0x00040000) == 0x00040000);
+    }
+    /**
+     * <code>optional int32 loaderCount = 21;</code>
+     */
+    public int getLoaderCount() {
+      return loaderCount_;
     }
-    public Builder toBuilder() { return newBuilder(this); }
 
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    // optional string parallelism = 22;
+    public static final int PARALLELISM_FIELD_NUMBER = 22;
+    private java.lang.Object parallelism_;
+    /**
+     * <code>optional string parallelism = 22;</code>
+     */
+    public boolean hasParallelism() {
+      return ((bitField0_ & 0x00080000) == 0x00080000);
     }
     /**
-     * Protobuf type {@code com.mesosphere.dcos.cassandra.common.CassandraTaskData}
+     * <code>optional string parallelism = 22;</code>
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskDataOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.mesosphere.dcos.cassandra.common.CassandraProtos.internal_static_com_mesosphere_dcos_cassandra_common_CassandraTaskData_descriptor;
+    public java.lang.String getParallelism() {
+      java.lang.Object ref = parallelism_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          parallelism_ = s;
+        }
+        return s;
       }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.mesosphere.dcos.cassandra.common.CassandraProtos.internal_static_com_mesosphere_dcos_cassandra_common_CassandraTaskData_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.class, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.Builder.class);
+    }
+    /**
+     * <code>optional string parallelism = 22;</code>
+     */
+    public com.google.protobuf.ByteString
+        getParallelismBytes() {
+      java.lang.Object ref = parallelism_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        parallelism_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      // Construct using com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
+    // optional int32 subrangePartitions = 23;
+    public static final int SUBRANGEPARTITIONS_FIELD_NUMBER = 23;
+    private int subrangePartitions_;
+    /**
+     * <code>optional int32 subrangePartitions = 23;</code>
+     */
+    public boolean hasSubrangePartitions() {
+      return ((bitField0_ & 0x00100000) == 0x00100000);
+    }
+    /**
+     * <code>optional int32 subrangePartitions = 23;</code>
+     */
+    public int getSubrangePartitions() {
+      return subrangePartitions_;
+    }
 
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getConfigFieldBuilder();
+    // optional string repairId = 24;
+    public static final int REPAIRID_FIELD_NUMBER = 24;
+    private java.lang.Object repairId_;
+    /**
+     * <code>optional string repairId = 24;</code>
+     */
+    public boolean hasRepairId() {
+      return ((bitField0_ & 0x00200000) == 0x00200000);
+    }
+    /**
+     * <code>optional string repairId = 24;</code>
+     */
+    public java.lang.String getRepairId() {
+      java.lang.Object ref = repairId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          repairId_ = s;
         }
+        return s;
       }
-      private static Builder create() {
-        return new Builder();
+    }
+    /**
+     * <code>optional string repairId = 24;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRepairIdBytes() {
+      java.lang.Object ref = repairId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        repairId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      public Builder clear() {
-        super.clear();
-        type_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE.CASSANDRA_DAEMON;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        address_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
-        if (configBuilder_ == null) {
-          config_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance();
-        } else {
-          configBuilder_.clear();
+    // optional string operation = 25;
+    public static final int OPERATION_FIELD_NUMBER = 25;
+    private java.lang.Object operation_;
+    /**
+     * <code>optional string operation = 25;</code>
+     */
+    public boolean hasOperation() {
+      return ((bitField0_ & 0x00400000) == 0x00400000);
+    }
+    /**
+     * <code>optional string operation = 25;</code>
+     */
+    public java.lang.String getOperation() {
+      java.lang.Object ref = operation_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          operation_ = s;
         }
-        bitField0_ = (bitField0_ & ~0x00000004);
-        directory_ = "";
-        bitField0_ = (bitField0_ & ~0x00000008);
-        backupName_ = "";
-        bitField0_ = (bitField0_ & ~0x00000010);
-        externalLocation_ = "";
-        bitField0_ = (bitField0_ & ~0x00000020);
-        keySpaces_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000040);
-        columnFamilies_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000080);
-        s3AccessKey_ = "";
-        bitField0_ = (bitField0_ & ~0x00000100);
-        s3SecretKey_ = "";
-        bitField0_ = (bitField0_ & ~0x00000200);
-        localLocation_ = "";
-        bitField0_ = (bitField0_ & ~0x00000400);
-        return this;
-      }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
+        return s;
       }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.mesosphere.dcos.cassandra.common.CassandraProtos.internal_static_com_mesosphere_dcos_cassandra_common_CassandraTaskData_descriptor;
+    }
+    /**
+     * <code>optional string operation = 25;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOperationBytes() {
+      java.lang.Object ref = operation_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        operation_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int32 jobs = 26;
+    public static final int JOBS_FIELD_NUMBER = 26;
+    private int jobs_;
+    /**
+     * <code>optional int32 jobs = 26;</code>
+     */
+    public boolean hasJobs() {
+      return ((bitField0_ & 0x00800000) == 0x00800000);
+    }
+    /**
+     * <code>optional int32 jobs = 26;</code>
+     */
+    public int getJobs() {
+      return jobs_;
+    }
+
+    // optional int32 throughputMb = 27;
+    public static final int THROUGHPUTMB_FIELD_NUMBER = 27;
+    private int throughputMb_;
+    /**
+     * <code>optional int32 throughputMb = 27;</code>
+     */
+    public boolean hasThroughputMb() {
+      return ((bitField0_ & 0x01000000) == 0x01000000);
+    }
+    /**
+     * <code>optional int32 throughputMb = 27;</code>
+     */
+    public int getThroughputMb() {
+      return throughputMb_;
+    }
+
+    private void initFields() {
+      type_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE.CASSANDRA_DAEMON;
+      address_ = "";
+      config_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance();
+      directory_ = "";
+      backupName_ = "";
+      externalLocation_ = "";
+      keySpaces_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      columnFamilies_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      s3AccessKey_ = "";
+      s3SecretKey_ = "";
+      localLocation_ = "";
+      concurrency_ = 0;
+      partSizeMb_ = 0;
+      compression_ = "";
+      incremental_ = false;
+      bandwidthMb_ = 0;
+      adaptiveThrottle_ = false;
+      streaming_ = false;
+      bulkLoad_ = false;
+      loaderIndex_ = 0;
+      loaderCount_ = 0;
+      parallelism_ = "";
+      subrangePartitions_ = 0;
+      repairId_ = "";
+      operation_ = "";
+      jobs_ = 0;
+      throughputMb_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getAddressBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, config_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getBackupNameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getExternalLocationBytes());
+      }
+      for (int i = 0; i < keySpaces_.size(); i++) {
+        output.writeBytes(7, keySpaces_.getByteString(i));
+      }
+      for (int i = 0; i < columnFamilies_.size(); i++) {
+        output.writeBytes(8, columnFamilies_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(9, getS3AccessKeyBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(10, getS3SecretKeyBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(11, getLocalLocationBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeInt32(12, concurrency_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeInt32(13, partSizeMb_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeBytes(14, getCompressionBytes());
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        output.writeBool(15, incremental_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        output.writeInt32(16, bandwidthMb_);
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        output.writeBool(17, adaptiveThrottle_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        output.writeBool(18, streaming_);
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        output.writeBool(19, bulkLoad_);
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        output.writeInt32(20, loaderIndex_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        output.writeInt32(21, loaderCount_);
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        output.writeBytes(22, getParallelismBytes());
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        output.writeInt32(23, subrangePartitions_);
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        output.writeBytes(24, getRepairIdBytes());
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        output.writeBytes(25, getOperationBytes());
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        output.writeInt32(26, jobs_);
+      }
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+        output.writeInt32(27, throughputMb_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getAddressBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, config_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getBackupNameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getExternalLocationBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < keySpaces_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(keySpaces_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getKeySpacesList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < columnFamilies_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(columnFamilies_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getColumnFamiliesList().size();
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getS3AccessKeyBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(10, getS3SecretKeyBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(11, getLocalLocationBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(12, concurrency_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(13, partSizeMb_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(14, getCompressionBytes());
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(15, incremental_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(16, bandwidthMb_);
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(17, adaptiveThrottle_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(18, streaming_);
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(19, bulkLoad_);
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(20, loaderIndex_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(21, loaderCount_);
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(22, getParallelismBytes());
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(23, subrangePartitions_);
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(24, getRepairIdBytes());
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(25, getOperationBytes());
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(26, jobs_);
+      }
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(27, throughputMb_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.mesosphere.dcos.cassandra.common.CassandraTaskData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.mesosphere.dcos.cassandra.common.CassandraProtos.internal_static_com_mesosphere_dcos_cassandra_common_CassandraTaskData_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.mesosphere.dcos.cassandra.common.CassandraProtos.internal_static_com_mesosphere_dcos_cassandra_common_CassandraTaskData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.class, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.Builder.class);
+      }
+
+      // Construct using com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getConfigFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        type_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE.CASSANDRA_DAEMON;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        address_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (configBuilder_ == null) {
+          config_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance();
+        } else {
+          configBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        directory_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        backupName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        externalLocation_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        keySpaces_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        columnFamilies_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        s3AccessKey_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        s3SecretKey_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        localLocation_ = "";
+        bitField0_ = (bitField0_ & ~0x00000400);
+        concurrency_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000800);
+        partSizeMb_ = 0;
+        bitField0_ = (bitField0_ & ~0x00001000);
+        compression_ = "";
+        bitField0_ = (bitField0_ & ~0x00002000);
+        incremental_ = false;
+        bitField0_ = (bitField0_ & ~0x00004000);
+        bandwidthMb_ = 0;
+        bitField0_ = (bitField0_ & ~0x00008000);
+        adaptiveThrottle_ = false;
+        bitField0_ = (bitField0_ & ~0x00010000);
+        streaming_ = false;
+        bitField0_ = (bitField0_ & ~0x00020000);
+        bulkLoad_ = false;
+        bitField0_ = (bitField0_ & ~0x00040000);
+        loaderIndex_ = 0;
+        bitField0_ = (bitField0_ & ~0x00080000);
+        loaderCount_ = 0;
+        bitField0_ = (bitField0_ & ~0x00100000);
+        parallelism_ = "";
+        bitField0_ = (bitField0_ & ~0x00200000);
+        subrangePartitions_ = 0;
+        bitField0_ = (bitField0_ & ~0x00400000);
+        repairId_ = "";
+        bitField0_ = (bitField0_ & ~0x00800000);
+        operation_ = "";
+        bitField0_ = (bitField0_ & ~0x01000000);
+        jobs_ = 0;
+        bitField0_ = (bitField0_ & ~0x02000000);
+        throughputMb_ = 0;
+        bitField0_ = (bitField0_ & ~0x04000000);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.mesosphere.dcos.cassandra.common.CassandraProtos.internal_static_com_mesosphere_dcos_cassandra_common_CassandraTaskData_descriptor;
+      }
+
+      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData getDefaultInstanceForType() {
+        return com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.getDefaultInstance();
+      }
+
+      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData build() {
+        com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData buildPartial() {
+        com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData result = new com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.address_ = address_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (configBuilder_ == null) {
+          result.config_ = config_;
+        } else {
+          result.config_ = configBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.directory_ = directory_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.backupName_ = backupName_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.externalLocation_ = externalLocation_;
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          keySpaces_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              keySpaces_);
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.keySpaces_ = keySpaces_;
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          columnFamilies_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              columnFamilies_);
+          bitField0_ = (bitField0_ & ~0x00000080);
+        }
+        result.columnFamilies_ = columnFamilies_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.s3AccessKey_ = s3AccessKey_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.s3SecretKey_ = s3SecretKey_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.localLocation_ = localLocation_;
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.concurrency_ = concurrency_;
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.partSizeMb_ = partSizeMb_;
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.compression_ = compression_;
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+          to_bitField0_ |= 0x00001000;
+        }
+        result.incremental_ = incremental_;
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+          to_bitField0_ |= 0x00002000;
+        }
+        result.bandwidthMb_ = bandwidthMb_;
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+          to_bitField0_ |= 0x00004000;
+        }
+        result.adaptiveThrottle_ = adaptiveThrottle_;
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+          to_bitField0_ |= 0x00008000;
+        }
+        result.streaming_ = streaming_;
+        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+          to_bitField0_ |= 0x00010000;
+        }
+        result.bulkLoad_ = bulkLoad_;
+        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
+          to_bitField0_ |= 0x00020000;
+        }
+        result.loaderIndex_ = loaderIndex_;
+        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
+          to_bitField0_ |= 0x00040000;
+        }
+        result.loaderCount_ = loaderCount_;
+        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
+          to_bitField0_ |= 0x00080000;
+        }
+        result.parallelism_ = parallelism_;
+        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
+          to_bitField0_ |= 0x00100000;
+        }
+        result.subrangePartitions_ = subrangePartitions_;
+        if (((from_bitField0_ & 0x00800000) == 0x00800000)) {
+          to_bitField0_ |= 0x00200000;
+        }
+        result.repairId_ = repairId_;
+        if (((from_bitField0_ & 0x01000000) == 0x01000000)) {
+          to_bitField0_ |= 0x00400000;
+        }
+        result.operation_ = operation_;
+        if (((from_bitField0_ & 0x02000000) == 0x02000000)) {
+          to_bitField0_ |= 0x00800000;
+        }
+        result.jobs_ = jobs_;
+        if (((from_bitField0_ & 0x04000000) == 0x04000000)) {
+          to_bitField0_ |= 0x01000000;
+        }
+        result.throughputMb_ = throughputMb_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData) {
+          return mergeFrom((com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData other) {
+        if (other == com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.getDefaultInstance()) return this;
+        if (other.hasType()) {
+          setType(other.getType());
+        }
+        if (other.hasAddress()) {
+          bitField0_ |= 0x00000002;
+          address_ = other.address_;
+          onChanged();
+        }
+        if (other.hasConfig()) {
+          mergeConfig(other.getConfig());
+        }
+        if (other.hasDirectory()) {
+          bitField0_ |= 0x00000008;
+          directory_ = other.directory_;
+          onChanged();
+        }
+        if (other.hasBackupName()) {
+          bitField0_ |= 0x00000010;
+          backupName_ = other.backupName_;
+          onChanged();
+        }
+        if (other.hasExternalLocation()) {
+          bitField0_ |= 0x00000020;
+          externalLocation_ = other.externalLocation_;
+          onChanged();
+        }
+        if (!other.keySpaces_.isEmpty()) {
+          if (keySpaces_.isEmpty()) {
+            keySpaces_ = other.keySpaces_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureKeySpacesIsMutable();
+            keySpaces_.addAll(other.keySpaces_);
+          }
+          onChanged();
+        }
+        if (!other.columnFamilies_.isEmpty()) {
+          if (columnFamilies_.isEmpty()) {
+            columnFamilies_ = other.columnFamilies_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            ensureColumnFamiliesIsMutable();
+            columnFamilies_.addAll(other.columnFamilies_);
+          }
+          onChanged();
+        }
+        if (other.hasS3AccessKey()) {
+          bitField0_ |= 0x00000100;
+          s3AccessKey_ = other.s3AccessKey_;
+          onChanged();
+        }
+        if (other.hasS3SecretKey()) {
+          bitField0_ |= 0x00000200;
+          s3SecretKey_ = other.s3SecretKey_;
+          onChanged();
+        }
+        if (other.hasLocalLocation()) {
+          bitField0_ |= 0x00000400;
+          localLocation_ = other.localLocation_;
+          onChanged();
+        }
+        if (other.hasConcurrency()) {
+          setConcurrency(other.getConcurrency());
+        }
+        if (other.hasPartSizeMb()) {
+          setPartSizeMb(other.getPartSizeMb());
+        }
+        if (other.hasCompression()) {
+          bitField0_ |= 0x00002000;
+          compression_ = other.compression_;
+          onChanged();
+        }
+        if (other.hasIncremental()) {
+          setIncremental(other.getIncremental());
+        }
+        if (other.hasBandwidthMb()) {
+          setBandwidthMb(other.getBandwidthMb());
+        }
+        if (other.hasAdaptiveThrottle()) {
+          setAdaptiveThrottle(other.getAdaptiveThrottle());
+        }
+        if (other.hasStreaming()) {
+          setStreaming(other.getStreaming());
+        }
+        if (other.hasBulkLoad()) {
+          setBulkLoad(other.getBulkLoad());
+        }
+        if (other.hasLoaderIndex()) {
+          setLoaderIndex(other.getLoaderIndex());
+        }
+        if (other.hasLoaderCount()) {
+          setLoaderCount(other.getLoaderCount());
+        }
+        if (other.hasParallelism()) {
+          bitField0_ |= 0x00200000;
+          parallelism_ = other.parallelism_;
+          onChanged();
+        }
+        if (other.hasSubrangePartitions()) {
+          setSubrangePartitions(other.getSubrangePartitions());
+        }
+        if (other.hasRepairId()) {
+          bitField0_ |= 0x00800000;
+          repairId_ = other.repairId_;
+          onChanged();
+        }
+        if (other.hasOperation()) {
+          bitField0_ |= 0x01000000;
+          operation_ = other.operation_;
+          onChanged();
+        }
+        if (other.hasJobs()) {
+          setJobs(other.getJobs());
+        }
+        if (other.hasThroughputMb()) {
+          setThroughputMb(other.getThroughputMb());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasType()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;
+      private com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE type_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE.CASSANDRA_DAEMON;
+      /**
+       * <code>required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;</code>
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;</code>
+       */
+      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE getType() {
+        return type_;
+      }
+      /**
+       * <code>required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;</code>
+       */
+      public Builder setType(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;</code>
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE.CASSANDRA_DAEMON;
+        onChanged();
+        return this;
+      }
+
+      // optional string address = 2;
+      private java.lang.Object address_ = "";
+      /**
+       * <code>optional string address = 2;</code>
+       */
+      public boolean hasAddress() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string address = 2;</code>
+       */
+      public java.lang.String getAddress() {
+        java.lang.Object ref = address_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          address_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string address = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAddressBytes() {
+        java.lang.Object ref = address_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          address_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string address = 2;</code>
+       */
+      public Builder setAddress(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        address_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string address = 2;</code>
+       */
+      public Builder clearAddress() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        address_ = getDefaultInstance().getAddress();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string address = 2;</code>
+       */
+      public Builder setAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        address_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;
+      private com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig config_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfigOrBuilder> configBuilder_;
+      /**
+       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       */
+      public boolean hasConfig() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       */
+      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig getConfig() {
+        if (configBuilder_ == null) {
+          return config_;
+        } else {
+          return configBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       */
+      public Builder setConfig(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig value) {
+        if (configBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          config_ = value;
+          onChanged();
+        } else {
+          configBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       */
+      public Builder setConfig(
+          com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder builderForValue) {
+        if (configBuilder_ == null) {
+          config_ = builderForValue.build();
+          onChanged();
+        } else {
+          configBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       */
+      public Builder mergeConfig(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig value) {
+        if (configBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              config_ != com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance()) {
+            config_ =
+              com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.newBuilder(config_).mergeFrom(value).buildPartial();
+          } else {
+            config_ = value;
+          }
+          onChanged();
+        } else {
+          configBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       */
+      public Builder clearConfig() {
+        if (configBuilder_ == null) {
+          config_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance();
+          onChanged();
+        } else {
+          configBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       */
+      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder getConfigBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       */
+      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfigOrBuilder getConfigOrBuilder() {
+        if (configBuilder_ != null) {
+          return configBuilder_.getMessageOrBuilder();
+        } else {
+          return config_;
+        }
+      }
+      /**
+       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfigOrBuilder> 
+          getConfigFieldBuilder() {
+        if (configBuilder_ == null) {
+          configBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfigOrBuilder>(
+                  config_,
+                  getParentForChildren(),
+                  isClean());
+          config_ = null;
+        }
+        return configBuilder_;
+      }
+
+      // optional string directory = 4;
+      private java.lang.Object directory_ = "";
+      /**
+       * <code>optional string directory = 4;</code>
+       */
+      public boolean hasDirectory() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string directory = 4;</code>
+       */
+      public java.lang.String getDirectory() {
+        java.lang.Object ref = directory_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          directory_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string directory = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDirectoryBytes() {
+        java.lang.Object ref = directory_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          directory_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string directory = 4;</code>
+       */
+      public Builder setDirectory(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        directory_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string directory = 4;</code>
+       */
+      public Builder clearDirectory() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        directory_ = getDefaultInstance().getDirectory();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string directory = 4;</code>
+       */
+      public Builder setDirectoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        directory_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string backupName = 5;
+      private java.lang.Object backupName_ = "";
+      /**
+       * <code>optional string backupName = 5;</code>
+       */
+      public boolean hasBackupName() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string backupName = 5;</code>
+       */
+      public java.lang.String getBackupName() {
+        java.lang.Object ref = backupName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          backupName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string backupName = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getBackupNameBytes() {
+        java.lang.Object ref = backupName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          backupName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string backupName = 5;</code>
+       */
+      public Builder setBackupName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        backupName_ = value;
+        onChanged();
+        return this;
       }
-
-      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData getDefaultInstanceForType() {
-        return com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.getDefaultInstance();
+      /**
+       * <code>optional string backupName = 5;</code>
+       */
+      public Builder clearBackupName() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        backupName_ = getDefaultInstance().getBackupName();
+        onChanged();
+        return this;
       }
-
-      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData build() {
-        com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
+      /**
+       * <code>optional string backupName = 5;</code>
+       */
+      public Builder setBackupNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        backupName_ = value;
+        onChanged();
+        return this;
       }
 
-      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData buildPartial() {
-        com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData result = new com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.type_ = type_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.address_ = address_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        if (configBuilder_ == null) {
-          result.config_ = config_;
+      // optional string externalLocation = 6;
+      private java.lang.Object externalLocation_ = "";
+      /**
+       * <code>optional string externalLocation = 6;</code>
+       */
+      public boolean hasExternalLocation() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string externalLocation = 6;</code>
+       */
+      public java.lang.String getExternalLocation() {
+        java.lang.Object ref = externalLocation_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          externalLocation_ = s;
+          return s;
         } else {
-          result.config_ = configBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.directory_ = directory_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
-        }
-        result.backupName_ = backupName_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
-        }
-        result.externalLocation_ = externalLocation_;
-        if (((bitField0_ & 0x00000040) == 0x00000040)) {
-          keySpaces_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              keySpaces_);
-          bitField0_ = (bitField0_ & ~0x00000040);
-        }
-        result.keySpaces_ = keySpaces_;
-        if (((bitField0_ & 0x00000080) == 0x00000080)) {
-          columnFamilies_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              columnFamilies_);
-          bitField0_ = (bitField0_ & ~0x00000080);
-        }
-        result.columnFamilies_ = columnFamilies_;
-        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
-          to_bitField0_ |= 0x00000040;
-        }
-        result.s3AccessKey_ = s3AccessKey_;
-        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
-          to_bitField0_ |= 0x00000080;
-        }
-        result.s3SecretKey_ = s3SecretKey_;
-        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
-          to_bitField0_ |= 0x00000100;
+          return (java.lang.String) ref;
         }
-        result.localLocation_ = localLocation_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData) {
-          return mergeFrom((com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData)other);
+      /**
+       * <code>optional string externalLocation = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getExternalLocationBytes() {
+        java.lang.Object ref = externalLocation_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          externalLocation_ = b;
+          return b;
         } else {
-          super.mergeFrom(other);
-          return this;
+          return (com.google.protobuf.ByteString) ref;
         }
       }
-
-      public Builder mergeFrom(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData other) {
-        if (other == com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.getDefaultInstance()) return this;
-        if (other.hasType()) {
-          setType(other.getType());
-        }
-        if (other.hasAddress()) {
-          bitField0_ |= 0x00000002;
-          address_ = other.address_;
-          onChanged();
-        }
-        if (other.hasConfig()) {
-          mergeConfig(other.getConfig());
-        }
-        if (other.hasDirectory()) {
-          bitField0_ |= 0x00000008;
-          directory_ = other.directory_;
-          onChanged();
-        }
-        if (other.hasBackupName()) {
-          bitField0_ |= 0x00000010;
-          backupName_ = other.backupName_;
-          onChanged();
-        }
-        if (other.hasExternalLocation()) {
-          bitField0_ |= 0x00000020;
-          externalLocation_ = other.externalLocation_;
-          onChanged();
-        }
-        if (!other.keySpaces_.isEmpty()) {
-          if (keySpaces_.isEmpty()) {
-            keySpaces_ = other.keySpaces_;
-            bitField0_ = (bitField0_ & ~0x00000040);
-          } else {
-            ensureKeySpacesIsMutable();
-            keySpaces_.addAll(other.keySpaces_);
-          }
-          onChanged();
-        }
-        if (!other.columnFamilies_.isEmpty()) {
-          if (columnFamilies_.isEmpty()) {
-            columnFamilies_ = other.columnFamilies_;
-            bitField0_ = (bitField0_ & ~0x00000080);
-          } else {
-            ensureColumnFamiliesIsMutable();
-            columnFamilies_.addAll(other.columnFamilies_);
-          }
-          onChanged();
-        }
-        if (other.hasS3AccessKey()) {
-          bitField0_ |= 0x00000100;
-          s3AccessKey_ = other.s3AccessKey_;
-          onChanged();
-        }
-        if (other.hasS3SecretKey()) {
-          bitField0_ |= 0x00000200;
-          s3SecretKey_ = other.s3SecretKey_;
-          onChanged();
-        }
-        if (other.hasLocalLocation()) {
-          bitField0_ |= 0x00000400;
-          localLocation_ = other.localLocation_;
-          onChanged();
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
+      /**
+       * <code>optional string externalLocation = 6;</code>
+       */
+      public Builder setExternalLocation(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        externalLocation_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string externalLocation = 6;</code>
+       */
+      public Builder clearExternalLocation() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        externalLocation_ = getDefaultInstance().getExternalLocation();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string externalLocation = 6;</code>
+       */
+      public Builder setExternalLocationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        externalLocation_ = value;
+        onChanged();
         return this;
       }
 
-      public final boolean isInitialized() {
-        if (!hasType()) {
-          
-          return false;
-        }
-        return true;
+      // repeated string keySpaces = 7;
+      private com.google.protobuf.LazyStringList keySpaces_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureKeySpacesIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          keySpaces_ = new com.google.protobuf.LazyStringArrayList(keySpaces_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+      /**
+       * <code>repeated string keySpaces = 7;</code>
+       */
+      public java.util.List<java.lang.String>
+          getKeySpacesList() {
+        return java.util.Collections.unmodifiableList(keySpaces_);
+      }
+      /**
+       * <code>repeated string keySpaces = 7;</code>
+       */
+      public int getKeySpacesCount() {
+        return keySpaces_.size();
+      }
+      /**
+       * <code>repeated string keySpaces = 7;</code>
+       */
+      public java.lang.String getKeySpaces(int index) {
+        return keySpaces_.get(index);
       }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+      /**
+       * <code>repeated string keySpaces = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeySpacesBytes(int index) {
+        return keySpaces_.getByteString(index);
+      }
+      /**
+       * <code>repeated string keySpaces = 7;</code>
+       */
+      public Builder setKeySpaces(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeySpacesIsMutable();
+        keySpaces_.set(index, value);
+        onChanged();
         return this;
       }
-      private int bitField0_;
-
-      // required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;
-      private com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE type_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE.CASSANDRA_DAEMON;
       /**
-       * <code>required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;</code>
+       * <code>repeated string keySpaces = 7;</code>
        */
-      public boolean hasType() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public Builder addKeySpaces(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeySpacesIsMutable();
+        keySpaces_.add(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;</code>
+       * <code>repeated string keySpaces = 7;</code>
        */
-      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE getType() {
-        return type_;
+      public Builder addAllKeySpaces(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureKeySpacesIsMutable();
+        super.addAll(values, keySpaces_);
+        onChanged();
+        return this;
       }
       /**
-       * <code>required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;</code>
+       * <code>repeated string keySpaces = 7;</code>
        */
-      public Builder setType(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000001;
-        type_ = value;
+      public Builder clearKeySpaces() {
+        keySpaces_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000040);
         onChanged();
         return this;
       }
       /**
-       * <code>required .com.mesosphere.dcos.cassandra.common.CassandraTaskData.TYPE type = 1;</code>
+       * <code>repeated string keySpaces = 7;</code>
        */
-      public Builder clearType() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        type_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraTaskData.TYPE.CASSANDRA_DAEMON;
+      public Builder addKeySpacesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeySpacesIsMutable();
+        keySpaces_.add(value);
         onChanged();
         return this;
       }
 
-      // optional string address = 2;
-      private java.lang.Object address_ = "";
+      // repeated string columnFamilies = 8;
+      private com.google.protobuf.LazyStringList columnFamilies_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureColumnFamiliesIsMutable() {
+        if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+          columnFamilies_ = new com.google.protobuf.LazyStringArrayList(columnFamilies_);
+          bitField0_ |= 0x00000080;
+         }
+      }
       /**
-       * <code>optional string address = 2;</code>
+       * <code>repeated string columnFamilies = 8;</code>
        */
-      public boolean hasAddress() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public java.util.List<java.lang.String>
+          getColumnFamiliesList() {
+        return java.util.Collections.unmodifiableList(columnFamilies_);
       }
       /**
-       * <code>optional string address = 2;</code>
+       * <code>repeated string columnFamilies = 8;</code>
        */
-      public java.lang.String getAddress() {
-        java.lang.Object ref = address_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          address_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public int getColumnFamiliesCount() {
+        return columnFamilies_.size();
       }
       /**
-       * <code>optional string address = 2;</code>
+       * <code>repeated string columnFamilies = 8;</code>
+       */
+      public java.lang.String getColumnFamilies(int index) {
+        return columnFamilies_.get(index);
+      }
+      /**
+       * <code>repeated string columnFamilies = 8;</code>
        */
       public com.google.protobuf.ByteString
-          getAddressBytes() {
-        java.lang.Object ref = address_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          address_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+          getColumnFamiliesBytes(int index) {
+        return columnFamilies_.getByteString(index);
       }
       /**
-       * <code>optional string address = 2;</code>
+       * <code>repeated string columnFamilies = 8;</code>
        */
-      public Builder setAddress(
-          java.lang.String value) {
+      public Builder setColumnFamilies(
+          int index, java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        address_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string address = 2;</code>
-       */
-      public Builder clearAddress() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        address_ = getDefaultInstance().getAddress();
+  ensureColumnFamiliesIsMutable();
+        columnFamilies_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional string address = 2;</code>
+       * <code>repeated string columnFamilies = 8;</code>
        */
-      public Builder setAddressBytes(
-          com.google.protobuf.ByteString value) {
+      public Builder addColumnFamilies(
+          java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        address_ = value;
+  ensureColumnFamiliesIsMutable();
+        columnFamilies_.add(value);
         onChanged();
         return this;
       }
-
-      // optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;
-      private com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig config_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfigOrBuilder> configBuilder_;
       /**
-       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       * <code>repeated string columnFamilies = 8;</code>
        */
-      public boolean hasConfig() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public Builder addAllColumnFamilies(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureColumnFamiliesIsMutable();
+        super.addAll(values, columnFamilies_);
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       * <code>repeated string columnFamilies = 8;</code>
        */
-      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig getConfig() {
-        if (configBuilder_ == null) {
-          return config_;
-        } else {
-          return configBuilder_.getMessage();
-        }
+      public Builder clearColumnFamilies() {
+        columnFamilies_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       * <code>repeated string columnFamilies = 8;</code>
        */
-      public Builder setConfig(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig value) {
-        if (configBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          config_ = value;
-          onChanged();
-        } else {
-          configBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000004;
+      public Builder addColumnFamiliesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureColumnFamiliesIsMutable();
+        columnFamilies_.add(value);
+        onChanged();
         return this;
       }
+
+      // optional string s3AccessKey = 9;
+      private java.lang.Object s3AccessKey_ = "";
       /**
-       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       * <code>optional string s3AccessKey = 9;</code>
        */
-      public Builder setConfig(
-          com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder builderForValue) {
-        if (configBuilder_ == null) {
-          config_ = builderForValue.build();
-          onChanged();
-        } else {
-          configBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000004;
-        return this;
+      public boolean hasS3AccessKey() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
       }
       /**
-       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       * <code>optional string s3AccessKey = 9;</code>
        */
-      public Builder mergeConfig(com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig value) {
-        if (configBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) == 0x00000004) &&
-              config_ != com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance()) {
-            config_ =
-              com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.newBuilder(config_).mergeFrom(value).buildPartial();
-          } else {
-            config_ = value;
-          }
-          onChanged();
+      public java.lang.String getS3AccessKey() {
+        java.lang.Object ref = s3AccessKey_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          s3AccessKey_ = s;
+          return s;
         } else {
-          configBuilder_.mergeFrom(value);
+          return (java.lang.String) ref;
         }
-        bitField0_ |= 0x00000004;
-        return this;
       }
       /**
-       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       * <code>optional string s3AccessKey = 9;</code>
        */
-      public Builder clearConfig() {
-        if (configBuilder_ == null) {
-          config_ = com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.getDefaultInstance();
-          onChanged();
+      public com.google.protobuf.ByteString
+          getS3AccessKeyBytes() {
+        java.lang.Object ref = s3AccessKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          s3AccessKey_ = b;
+          return b;
         } else {
-          configBuilder_.clear();
+          return (com.google.protobuf.ByteString) ref;
         }
-        bitField0_ = (bitField0_ & ~0x00000004);
-        return this;
       }
       /**
-       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       * <code>optional string s3AccessKey = 9;</code>
        */
-      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder getConfigBuilder() {
-        bitField0_ |= 0x00000004;
+      public Builder setS3AccessKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        s3AccessKey_ = value;
         onChanged();
-        return getConfigFieldBuilder().getBuilder();
+        return this;
       }
       /**
-       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       * <code>optional string s3AccessKey = 9;</code>
        */
-      public com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfigOrBuilder getConfigOrBuilder() {
-        if (configBuilder_ != null) {
-          return configBuilder_.getMessageOrBuilder();
-        } else {
-          return config_;
-        }
+      public Builder clearS3AccessKey() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        s3AccessKey_ = getDefaultInstance().getS3AccessKey();
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional .com.mesosphere.dcos.cassandra.common.CassandraConfig config = 3;</code>
+       * <code>optional string s3AccessKey = 9;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfigOrBuilder> 
-          getConfigFieldBuilder() {
-        if (configBuilder_ == null) {
-          configBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfig.Builder, com.mesosphere.dcos.cassandra.common.CassandraProtos.CassandraConfigOrBuilder>(
-                  config_,
-                  getParentForChildren(),
-                  isClean());
-          config_ = null;
-        }
-        return configBuilder_;
+      public Builder setS3AccessKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        s3AccessKey_ = value;
+        onChanged();
+        return this;
       }
 
-      // optional string directory = 4;
-      private java.lang.Object directory_ = "";
+      // optional string s3SecretKey = 10;
+      private java.lang.Object s3SecretKey_ = "";
       /**
-       * <code>optional string directory = 4;</code>
+       * <code>optional string s3SecretKey = 10;</code>
        */
-      public boolean hasDirectory() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public boolean hasS3SecretKey() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
       }
       /**
-       * <code>optional string directory = 4;</code>
+       * <code>optional string s3SecretKey = 10;</code>
        */
-      public java.lang.String getDirectory() {
-        java.lang.Object ref = directory_;
+      public java.lang.String getS3SecretKey() {
+        java.lang.Object ref = s3SecretKey_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          directory_ = s;
+          s3SecretKey_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string directory = 4;</code>
+       * <code>optional string s3SecretKey = 10;</code>
        */
       public com.google.protobuf.ByteString
-          getDirectoryBytes() {
-        java.lang.Object ref = directory_;
+          getS3SecretKeyBytes() {
+        java.lang.Object ref = s3SecretKey_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          directory_ = b;
+          s3SecretKey_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string directory = 4;</code>
+       * <code>optional string s3SecretKey = 10;</code>
        */
-      public Builder setDirectory(
+      public Builder setS3SecretKey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000008;
-        directory_ = value;
+  bitField0_ |= 0x00000200;
+        s3SecretKey_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string directory = 4;</code>
+       * <code>optional string s3SecretKey = 10;</code>
        */
-      public Builder clearDirectory() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        directory_ = getDefaultInstance().getDirectory();
+      public Builder clearS3SecretKey() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        s3SecretKey_ = getDefaultInstance().getS3SecretKey();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string directory = 4;</code>
+       * <code>optional string s3SecretKey = 10;</code>
        */
-      public Builder setDirectoryBytes(
+      public Builder setS3SecretKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000008;
-        directory_ = value;
+  bitField0_ |= 0x00000200;
+        s3SecretKey_ = value;
         onChanged();
         return this;
       }
 
-      // optional string backupName = 5;
-      private java.lang.Object backupName_ = "";
+      // optional string localLocation = 11;
+      private java.lang.Object localLocation_ = "";
       /**
-       * <code>optional string backupName = 5;</code>
+       * <code>optional string localLocation = 11;</code>
        */
-      public boolean hasBackupName() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      public boolean hasLocalLocation() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
       }
       /**
-       * <code>optional string backupName = 5;</code>
+       * <code>optional string localLocation = 11;</code>
        */
-      public java.lang.String getBackupName() {
-        java.lang.Object ref = backupName_;
+      public java.lang.String getLocalLocation() {
+        java.lang.Object ref = localLocation_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          backupName_ = s;
+          localLocation_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string backupName = 5;</code>
+       * <code>optional string localLocation = 11;</code>
        */
       public com.google.protobuf.ByteString
-          getBackupNameBytes() {
-        java.lang.Object ref = backupName_;
+          getLocalLocationBytes() {
+        java.lang.Object ref = localLocation_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          backupName_ = b;
+          localLocation_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string backupName = 5;</code>
+       * <code>optional string localLocation = 11;</code>
        */
-      public Builder setBackupName(
+      public Builder setLocalLocation(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000010;
-        backupName_ = value;
+  bitField0_ |= 0x00000400;
+        localLocation_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string backupName = 5;</code>
+       * <code>optional string localLocation = 11;</code>
        */
-      public Builder clearBackupName() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        backupName_ = getDefaultInstance().getBackupName();
+      public Builder clearLocalLocation() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        localLocation_ = getDefaultInstance().getLocalLocation();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string backupName = 5;</code>
+       * <code>optional string localLocation = 11;</code>
        */
-      public Builder setBackupNameBytes(
+      public Builder setLocalLocationBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000010;
-        backupName_ = value;
+  bitField0_ |= 0x00000400;
+        localLocation_ = value;
         onChanged();
         return this;
       }
 
-      // optional string externalLocation = 6;
-      private java.lang.Object externalLocation_ = "";
+      // optional int32 concurrency = 12;
+      private int concurrency_ ;
       /**
-       * <code>optional string externalLocation = 6;</code>
+       * <code>optional int32 concurrency = 12;</code>
        */
-      public boolean hasExternalLocation() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+      public boolean hasConcurrency() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
       }
       /**
-       * <code>optional string externalLocation = 6;</code>
+       * <code>optional int32 concurrency = 12;</code>
        */
-      public java.lang.String getExternalLocation() {
-        java.lang.Object ref = externalLocation_;
+      public int getConcurrency() {
+        return concurrency_;
+      }
+      /**
+       * <code>optional int32 concurrency = 12;</code>
+       */
+      public Builder setConcurrency(int value) {
+        bitField0_ |= 0x00000800;
+        concurrency_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 concurrency = 12;</code>
+       */
+      public Builder clearConcurrency() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        concurrency_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 partSizeMb = 13;
+      private int partSizeMb_ ;
+      /**
+       * <code>optional int32 partSizeMb = 13;</code>
+       */
+      public boolean hasPartSizeMb() {
+        return ((bitField0_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional int32 partSizeMb = 13;</code>
+       */
+      public int getPartSizeMb() {
+        return partSizeMb_;
+      }
+      /**
+       * <code>optional int32 partSizeMb = 13;</code>
+       */
+      public Builder setPartSizeMb(int value) {
+        bitField0_ |= 0x00001000;
+        partSizeMb_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 partSizeMb = 13;</code>
+       */
+      public Builder clearPartSizeMb() {
+        bitField0_ = (bitField0_ & ~0x00001000);
+        partSizeMb_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional string compression = 14;
+      private java.lang.Object compression_ = "";
+      /**
+       * <code>optional string compression = 14;</code>
+       */
+      public boolean hasCompression() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional string compression = 14;</code>
+       */
+      public java.lang.String getCompression() {
+        java.lang.Object ref = compression_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          externalLocation_ = s;
+          compression_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string externalLocation = 6;</code>
+       * <code>optional string compression = 14;</code>
        */
       public com.google.protobuf.ByteString
-          getExternalLocationBytes() {
-        java.lang.Object ref = externalLocation_;
+          getCompressionBytes() {
+        java.lang.Object ref = compression_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          externalLocation_ = b;
+          compression_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string externalLocation = 6;</code>
+       * <code>optional string compression = 14;</code>
        */
-      public Builder setExternalLocation(
+      public Builder setCompression(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000020;
-        externalLocation_ = value;
+  bitField0_ |= 0x00002000;
+        compression_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string externalLocation = 6;</code>
+       * <code>optional string compression = 14;</code>
        */
-      public Builder clearExternalLocation() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        externalLocation_ = getDefaultInstance().getExternalLocation();
+      public Builder clearCompression() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        compression_ = getDefaultInstance().getCompression();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string externalLocation = 6;</code>
+       * <code>optional string compression = 14;</code>
        */
-      public Builder setExternalLocationBytes(
+      public Builder setCompressionBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000020;
-        externalLocation_ = value;
+  bitField0_ |= 0x00002000;
+        compression_ = value;
         onChanged();
         return this;
       }
 
-      // repeated string keySpaces = 7;
-      private com.google.protobuf.LazyStringList keySpaces_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureKeySpacesIsMutable() {
-        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
-          keySpaces_ = new com.google.protobuf.LazyStringArrayList(keySpaces_);
-          bitField0_ |= 0x00000040;
-         }
+      // optional bool incremental = 15;
+      private boolean incremental_ ;
+      /**
+       * <code>optional bool incremental = 15;</code>
+       */
+      public boolean hasIncremental() {
+        return ((bitField0_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional bool incremental = 15;</code>
+       */
+      public boolean getIncremental() {
+        return incremental_;
+      }
+      /**
+       * <code>optional bool incremental = 15;</code>
+       */
+      public Builder setIncremental(boolean value) {
+        bitField0_ |= 0x00004000;
+        incremental_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool incremental = 15;</code>
+       */
+      public Builder clearIncremental() {
+        bitField0_ = (bitField0_ & ~0x00004000);
+        incremental_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 bandwidthMb = 16;
+      private int bandwidthMb_ ;
+      /**
+       * <code>optional int32 bandwidthMb = 16;</code>
+       */
+      public boolean hasBandwidthMb() {
+        return ((bitField0_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional int32 bandwidthMb = 16;</code>
+       */
+      public int getBandwidthMb() {
+        return bandwidthMb_;
       }
       /**
-       * <code>repeated string keySpaces = 7;</code>
+       * <code>optional int32 bandwidthMb = 16;</code>
        */
-      public java.util.List<java.lang.String>
-          getKeySpacesList() {
-        return java.util.Collections.unmodifiableList(keySpaces_);
+      public Builder setBandwidthMb(int value) {
+        bitField0_ |= 0x00008000;
+        bandwidthMb_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated string keySpaces = 7;</code>
+       * <code>optional int32 bandwidthMb = 16;</code>
        */
-      public int getKeySpacesCount() {
-        return keySpaces_.size();
+      public Builder clearBandwidthMb() {
+        bitField0_ = (bitField0_ & ~0x00008000);
+        bandwidthMb_ = 0;
+        onChanged();
+        return this;
       }
+
+      // optional bool adaptiveThrottle = 17;
+      private boolean adaptiveThrottle_ ;
       /**
-       * <code>repeated string keySpaces = 7;</code>
+       * <code>optional bool adaptiveThrottle = 17;</code>
        */
-      public java.lang.String getKeySpaces(int index) {
-        return keySpaces_.get(index);
+      public boolean hasAdaptiveThrottle() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
       }
       /**
-       * <code>repeated string keySpaces = 7;</code>
+       * <code>optional bool adaptiveThrottle = 17;</code>
        */
-      public com.google.protobuf.ByteString
-          getKeySpacesBytes(int index) {
-        return keySpaces_.getByteString(index);
+      public boolean getAdaptiveThrottle() {
+        return adaptiveThrottle_;
       }
       /**
-       * <code>repeated string keySpaces = 7;</code>
+       * <code>optional bool adaptiveThrottle = 17;</code>
        */
-      public Builder setKeySpaces(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureKeySpacesIsMutable();
-        keySpaces_.set(index, value);
+      public Builder setAdaptiveThrottle(boolean value) {
+        bitField0_ |= 0x00010000;
+        adaptiveThrottle_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string keySpaces = 7;</code>
+       * <code>optional bool adaptiveThrottle = 17;</code>
        */
-      public Builder addKeySpaces(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureKeySpacesIsMutable();
-        keySpaces_.add(value);
+      public Builder clearAdaptiveThrottle() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        adaptiveThrottle_ = false;
         onChanged();
         return this;
       }
+
+      // optional bool streaming = 18;
+      private boolean streaming_ ;
       /**
-       * <code>repeated string keySpaces = 7;</code>
+       * <code>optional bool streaming = 18;</code>
        */
-      public Builder addAllKeySpaces(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureKeySpacesIsMutable();
-        super.addAll(values, keySpaces_);
-        onChanged();
-        return this;
+      public boolean hasStreaming() {
+        return ((bitField0_ & 0x00020000) == 0x00020000);
       }
       /**
-       * <code>repeated string keySpaces = 7;</code>
+       * <code>optional bool streaming = 18;</code>
        */
-      public Builder clearKeySpaces() {
-        keySpaces_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000040);
+      public boolean getStreaming() {
+        return streaming_;
+      }
+      /**
+       * <code>optional bool streaming = 18;</code>
+       */
+      public Builder setStreaming(boolean value) {
+        bitField0_ |= 0x00020000;
+        streaming_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string keySpaces = 7;</code>
+       * <code>optional bool streaming = 18;</code>
        */
-      public Builder addKeySpacesBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureKeySpacesIsMutable();
-        keySpaces_.add(value);
+      public Builder clearStreaming() {
+        bitField0_ = (bitField0_ & ~0x00020000);
+        streaming_ = false;
         onChanged();
         return this;
       }
 
-      // repeated string columnFamilies = 8;
-      private com.google.protobuf.LazyStringList columnFamilies_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureColumnFamiliesIsMutable() {
-        if (!((bitField0_ & 0x00000080) == 0x00000080)) {
-          columnFamilies_ = new com.google.protobuf.LazyStringArrayList(columnFamilies_);
-          bitField0_ |= 0x00000080;
-         }
+      // optional bool bulkLoad = 19;
+      private boolean bulkLoad_ ;
+      /**
+       * <code>optional bool bulkLoad = 19;</code>
+       */
+      public boolean hasBulkLoad() {
+        return ((bitField0_ & 0x00040000) == 0x00040000);
       }
       /**
-       * <code>repeated string columnFamilies = 8;</code>
+       * <code>optional bool bulkLoad = 19;</code>
        */
-      public java.util.List<java.lang.String>
-          getColumnFamiliesList() {
-        return java.util.Collections.unmodifiableList(columnFamilies_);
+      public boolean getBulkLoad() {
+        return bulkLoad_;
       }
       /**
-       * <code>repeated string columnFamilies = 8;</code>
+       * <code>optional bool bulkLoad = 19;</code>
        */
-      public int getColumnFamiliesCount() {
-        return columnFamilies_.size();
+      public Builder setBulkLoad(boolean value) {
+        bitField0_ |= 0x00040000;
+        bulkLoad_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated string columnFamilies = 8;</code>
+       * <code>optional bool bulkLoad = 19;</code>
        */
-      public java.lang.String getColumnFamilies(int index) {
-        return columnFamilies_.get(index);
+      public Builder clearBulkLoad() {
+        bitField0_ = (bitField0_ & ~0x00040000);
+        bulkLoad_ = false;
+        onChanged();
+        return this;
       }
+
+      // optional int32 loaderIndex = 20;
+      private int loaderIndex_ ;
       /**
-       * <code>repeated string columnFamilies = 8;</code>
+       * <code>optional int32 loaderIndex = 20;</code>
        */
-      public com.google.protobuf.ByteString
-          getColumnFamiliesBytes(int index) {
-        return columnFamilies_.getByteString(index);
+      public boolean hasLoaderIndex() {
+        return ((bitField0_ & 0x00080000) == 0x00080000);
       }
       /**
-       * <code>repeated string columnFamilies = 8;</code>
+       * <code>optional int32 loaderIndex = 20;</code>
        */
-      public Builder setColumnFamilies(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureColumnFamiliesIsMutable();
-        columnFamilies_.set(index, value);
-        onChanged();
-        return this;
+      public int getLoaderIndex() {
+        return loaderIndex_;
       }
       /**
-       * <code>repeated string columnFamilies = 8;</code>
+       * <code>optional int32 loaderIndex = 20;</code>
        */
-      public Builder addColumnFamilies(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureColumnFamiliesIsMutable();
-        columnFamilies_.add(value);
+      public Builder setLoaderIndex(int value) {
+        bitField0_ |= 0x00080000;
+        loaderIndex_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string columnFamilies = 8;</code>
+       * <code>optional int32 loaderIndex = 20;</code>
        */
-      public Builder addAllColumnFamilies(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureColumnFamiliesIsMutable();
-        super.addAll(values, columnFamilies_);
+      public Builder clearLoaderIndex() {
+        bitField0_ = (bitField0_ & ~0x00080000);
+        loaderIndex_ = 0;
         onChanged();
         return this;
       }
+
+      // optional int32 loaderCount = 21;
+      private int loaderCount_ ;
+      /**
+       * <code>optional int32 loaderCount = 21;</code>
+       */
+      public boolean hasLoaderCount() {
+        return ((bitField0_ & 0x00100000) == 0x00100000);
+      }
       /**
-       * <code>repeated string columnFamilies = 8;</code>
+       * <code>optional int32 loaderCount = 21;</code>
        */
-      public Builder clearColumnFamilies() {
-        columnFamilies_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000080);
+      public int getLoaderCount() {
+        return loaderCount_;
+      }
+      /**
+       * <code>optional int32 loaderCount = 21;</code>
+       */
+      public Builder setLoaderCount(int value) {
+        bitField0_ |= 0x00100000;
+        loaderCount_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string columnFamilies = 8;</code>
+       * <code>optional int32 loaderCount = 21;</code>
        */
-      public Builder addColumnFamiliesBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureColumnFamiliesIsMutable();
-        columnFamilies_.add(value);
+      public Builder clearLoaderCount() {
+        bitField0_ = (bitField0_ & ~0x00100000);
+        loaderCount_ = 0;
         onChanged();
         return this;
       }
 
-      // optional string s3AccessKey = 9;
-      private java.lang.Object s3AccessKey_ = "";
+      // optional string parallelism = 22;
+      private java.lang.Object parallelism_ = "";
       /**
-       * <code>optional string s3AccessKey = 9;</code>
+       * <code>optional string parallelism = 22;</code>
        */
-      public boolean hasS3AccessKey() {
-        return ((bitField0_ & 0x00000100) == 0x00000100);
+      public boolean hasParallelism() {
+        return ((bitField0_ & 0x00200000) == 0x00200000);
       }
       /**
-       * <code>optional string s3AccessKey = 9;</code>
+       * <code>optional string parallelism = 22;</code>
        */
-      public java.lang.String getS3AccessKey() {
-        java.lang.Object ref = s3AccessKey_;
+      public java.lang.String getParallelism() {
+        java.lang.Object ref = parallelism_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          s3AccessKey_ = s;
+          parallelism_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string s3AccessKey = 9;</code>
+       * <code>optional string parallelism = 22;</code>
        */
       public com.google.protobuf.ByteString
-          getS3AccessKeyBytes() {
-        java.lang.Object ref = s3AccessKey_;
+          getParallelismBytes() {
+        java.lang.Object ref = parallelism_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          s3AccessKey_ = b;
+          parallelism_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string s3AccessKey = 9;</code>
+       * <code>optional string parallelism = 22;</code>
        */
-      public Builder setS3AccessKey(
+      public Builder setParallelism(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000100;
-        s3AccessKey_ = value;
+  bitField0_ |= 0x00200000;
+        parallelism_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string s3AccessKey = 9;</code>
+       * <code>optional string parallelism = 22;</code>
        */
-      public Builder clearS3AccessKey() {
-        bitField0_ = (bitField0_ & ~0x00000100);
-        s3AccessKey_ = getDefaultInstance().getS3AccessKey();
+      public Builder clearParallelism() {
+        bitField0_ = (bitField0_ & ~0x00200000);
+        parallelism_ = getDefaultInstance().getParallelism();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string s3AccessKey = 9;</code>
+       * <code>optional string parallelism = 22;</code>
        */
-      public Builder setS3AccessKeyBytes(
+      public Builder setParallelismBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000100;
-        s3AccessKey_ = value;
+  bitField0_ |= 0x00200000;
+        parallelism_ = value;
         onChanged();
         return this;
       }
 
-      // optional string s3SecretKey = 10;
-      private java.lang.Object s3SecretKey_ = "";
+      // optional int32 subrangePartitions = 23;
+      private int subrangePartitions_ ;
       /**
-       * <code>optional string s3SecretKey = 10;</code>
+       * <code>optional int32 subrangePartitions = 23;</code>
        */
-      public boolean hasS3SecretKey() {
-        return ((bitField0_ & 0x00000200) == 0x00000200);
+      public boolean hasSubrangePartitions() {
+        return ((bitField0_ & 0x00400000) == 0x00400000);
       }
       /**
-       * <code>optional string s3SecretKey = 10;</code>
+       * <code>optional int32 subrangePartitions = 23;</code>
        */
-      public java.lang.String getS3SecretKey() {
-        java.lang.Object ref = s3SecretKey_;
+      public int getSubrangePartitions() {
+        return subrangePartitions_;
+      }
+      /**
+       * <code>optional int32 subrangePartitions = 23;</code>
+       */
+      public Builder setSubrangePartitions(int value) {
+        bitField0_ |= 0x00400000;
+        subrangePartitions_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 subrangePartitions = 23;</code>
+       */
+      public Builder clearSubrangePartitions() {
+        bitField0_ = (bitField0_ & ~0x00400000);
+        subrangePartitions_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional string repairId = 24;
+      private java.lang.Object repairId_ = "";
+      /**
+       * <code>optional string repairId = 24;</code>
+       */
+      public boolean hasRepairId() {
+        return ((bitField0_ & 0x00800000) == 0x00800000);
+      }
+      /**
+       * <code>optional string repairId = 24;</code>
+       */
+      public java.lang.String getRepairId() {
+        java.lang.Object ref = repairId_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          s3SecretKey_ = s;
+          repairId_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string s3SecretKey = 10;</code>
+       * <code>optional string repairId = 24;</code>
        */
       public com.google.protobuf.ByteString
-          getS3SecretKeyBytes() {
-        java.lang.Object ref = s3SecretKey_;
+          getRepairIdBytes() {
+        java.lang.Object ref = repairId_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          s3SecretKey_ = b;
+          repairId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string s3SecretKey = 10;</code>
+       * <code>optional string repairId = 24;</code>
        */
-      public Builder setS3SecretKey(
+      public Builder setRepairId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000200;
-        s3SecretKey_ = value;
+  bitField0_ |= 0x00800000;
+        repairId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string s3SecretKey = 10;</code>
+       * <code>optional string repairId = 24;</code>
        */
-      public Builder clearS3SecretKey() {
-        bitField0_ = (bitField0_ & ~0x00000200);
-        s3SecretKey_ = getDefaultInstance().getS3SecretKey();
+      public Builder clearRepairId() {
+        bitField0_ = (bitField0_ & ~0x00800000);
+        repairId_ = getDefaultInstance().getRepairId();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string s3SecretKey = 10;</code>
+       * <code>optional string repairId = 24;</code>
        */
-      public Builder setS3SecretKeyBytes(
+      public Builder setRepairIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000200;
-        s3SecretKey_ = value;
+  bitField0_ |= 0x00800000;
+        repairId_ = value;
         onChanged();
         return this;
       }
 
-      // optional string localLocation = 11;
-      private java.lang.Object localLocation_ = "";
+      // optional string operation = 25;
+      private java.lang.Object operation_ = "";
       /**
-       * <code>optional string localLocation = 11;</code>
+       * <code>optional string operation = 25;</code>
        */
-      public boolean hasLocalLocation() {
-        return ((bitField0_ & 0x00000400) == 0x00000400);
+      public boolean hasOperation() {
+        return ((bitField0_ & 0x01000000) == 0x01000000);
       }
       /**
-       * <code>optional string localLocation = 11;</code>
+       * <code>optional string operation = 25;</code>
        */
-      public java.lang.String getLocalLocation() {
-        java.lang.Object ref = localLocation_;
+      public java.lang.String getOperation() {
+        java.lang.Object ref = operation_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          localLocation_ = s;
+          operation_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string localLocation = 11;</code>
+       * <code>optional string operation = 25;</code>
        */
       public com.google.protobuf.ByteString
-          getLocalLocationBytes() {
-        java.lang.Object ref = localLocation_;
+          getOperationBytes() {
+        java.lang.Object ref = operation_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          localLocation_ = b;
+          operation_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string localLocation = 11;</code>
+       * <code>optional string operation = 25;</code>
        */
-      public Builder setLocalLocation(
+      public Builder setOperation(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000400;
-        localLocation_ = value;
+  bitField0_ |= 0x01000000;
+        operation_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string localLocation = 11;</code>
+       * <code>optional string operation = 25;</code>
        */
-      public Builder clearLocalLocation() {
-        bitField0_ = (bitField0_ & ~0x00000400);
-        localLocation_ = getDefaultInstance().getLocalLocation();
+      public Builder clearOperation() {
+        bitField0_ = (bitField0_ & ~0x01000000);
+        operation_ = getDefaultInstance().getOperation();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string localLocation = 11;</code>
+       * <code>optional string operation = 25;</code>
        */
-      public Builder setLocalLocationBytes(
+      public Builder setOperationBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000400;
-        localLocation_ = value;
+  bitField0_ |= 0x01000000;
+        operation_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 jobs = 26;
+      private int jobs_ ;
+      /**
+       * <code>optional int32 jobs = 26;</code>
+       */
+      public boolean hasJobs() {
+        return ((bitField0_ & 0x02000000) == 0x02000000);
+      }
+      /**
+       * <code>optional int32 jobs = 26;</code>
+       */
+      public int getJobs() {
+        return jobs_;
+      }
+      /**
+       * <code>optional int32 jobs = 26;</code>
+       */
+      public Builder setJobs(int value) {
+        bitField0_ |= 0x02000000;
+        jobs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 jobs = 26;</code>
+       */
+      public Builder clearJobs() {
+        bitField0_ = (bitField0_ & ~0x02000000);
+        jobs_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 throughputMb = 27;
+      private int throughputMb_ ;
+      /**
+       * <code>optional int32 throughputMb = 27;</code>
+       */
+      public boolean hasThroughputMb() {
+        return ((bitField0_ & 0x04000000) == 0x04000000);
+      }
+      /**
+       * <code>optional int32 throughputMb = 27;</code>
+       */
+      public int getThroughputMb() {
+        return throughputMb_;
+      }
+      /**
+       * <code>optional int32 throughputMb = 27;</code>
+       */
+      public Builder setThroughputMb(int value) {
+        bitField0_ |= 0x04000000;
+        throughputMb_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 throughputMb = 27;</code>
+       */
+      public Builder clearThroughputMb() {
+        bitField0_ = (bitField0_ & ~0x04000000);
+        throughputMb_ = 0;
         onChanged();
         return this;
       }
@@ -9042,7 +10647,7 @@ public final class CassandraProtos {
       "cos.cassandra.common.Location\022\017\n\007jmxPort" +
       "\030\010 \001(\005\022<\n\006volume\030\t \001(\0132,.com.mesosphere." +
       "dcos.cassandra.common.Volume\022\023\n\013applicat" +
-      "ion\030\n \001(\014\022\020\n\010diskType\030\013 \001(\t\"\230\004\n\021Cassandr" +
+      "ion\030\n \001(\014\022\020\n\010diskType\030\013 \001(\t\"\364\006\n\021Cassandr" +
       "aTaskData\022J\n\004type\030\001 \002(\0162<.com.mesosphere" +
       ".dcos.cassandra.common.CassandraTaskData" +
       ".TYPE\022\017\n\007address\030\002 \001(\t\022E\n\006config\030\003 \001(\01325" +
@@ -9051,26 +10656,35 @@ public final class CassandraProtos {
       "upName\030\005 \001(\t\022\030\n\020externalLocation\030\006 \001(\t\022\021",
       "\n\tkeySpaces\030\007 \003(\t\022\026\n\016columnFamilies\030\010 \003(" +
       "\t\022\023\n\013s3AccessKey\030\t \001(\t\022\023\n\013s3SecretKey\030\n " +
-      "\001(\t\022\025\n\rlocalLocation\030\013 \001(\t\"\261\001\n\004TYPE\022\024\n\020C" +
-      "ASSANDRA_DAEMON\020\001\022\023\n\017BACKUP_SNAPSHOT\020\002\022\021" +
-      "\n\rBACKUP_UPLOAD\020\003\022\025\n\021SNAPSHOT_DOWNLOAD\020\004" +
-      "\022\024\n\020SNAPSHOT_RESTORE\020\005\022\013\n\007CLEANUP\020\006\022\n\n\006R" +
-      "EPAIR\020\007\022\021\n\rBACKUP_SCHEMA\020\010\022\022\n\016SCHEMA_RES" +
-      "TORE\020\t\"\204\002\n\017CassandraStatus\022\014\n\004mode\030\001 \001(\005" +
-      "\022\016\n\006joined\030\002 \001(\010\022\030\n\020rpcServerRunning\030\003 \001" +
-      "(\010\022\036\n\026nativeTransportRunning\030\004 \001(\010\022\031\n\021go",
-      "ssipInitialized\030\005 \001(\010\022\025\n\rgossipRunning\030\006" +
-      " \001(\010\022\016\n\006hostId\030\007 \001(\t\022\020\n\010endpoint\030\010 \001(\t\022\022" +
-      "\n\ntokenCount\030\t \001(\005\022\022\n\ndataCenter\030\n \001(\t\022\014" +
-      "\n\004rack\030\013 \001(\t\022\017\n\007version\030\014 \001(\t\"\246\002\n\027Cassan" +
-      "draTaskStatusData\022J\n\004type\030\001 \002(\0162<.com.me" +
+      "\001(\t\022\025\n\rlocalLocation\030\013 \001(\t\022\023\n\013concurrenc" +
+      "y\030\014 \001(\005\022\022\n\npartSizeMb\030\r \001(\005\022\023\n\013compressi" +
+      "on\030\016 \001(\t\022\023\n\013incremental\030\017 \001(\010\022\023\n\013bandwid" +
+      "thMb\030\020 \001(\005\022\030\n\020adaptiveThrottle\030\021 \001(\010\022\021\n\t" +
+      "streaming\030\022 \001(\010\022\020\n\010bulkLoad\030\023 \001(\010\022\023\n\013loa" +
+      "derIndex\030\024 \001(\005\022\023\n\013loaderCount\030\025 \001(\005\022\023\n\013p" +
+      "arallelism\030\026 \001(\t\022\032\n\022subrangePartitions\030\027" +
+      " \001(\005\022\020\n\010repairId\030\030 \001(\t\022\021\n\toperation\030\031 \001(",
+      "\t\022\014\n\004jobs\030\032 \001(\005\022\024\n\014throughputMb\030\033 \001(\005\"\302\001" +
+      "\n\004TYPE\022\024\n\020CASSANDRA_DAEMON\020\001\022\023\n\017BACKUP_S" +
+      "NAPSHOT\020\002\022\021\n\rBACKUP_UPLOAD\020\003\022\025\n\021SNAPSHOT" +
+      "_DOWNLOAD\020\004\022\024\n\020SNAPSHOT_RESTORE\020\005\022\013\n\007CLE" +
+      "ANUP\020\006\022\n\n\006REPAIR\020\007\022\021\n\rBACKUP_SCHEMA\020\010\022\022\n" +
+      "\016SCHEMA_RESTORE\020\t\022\017\n\013MAINTENANCE\020\n\"\204\002\n\017C" +
+      "assandraStatus\022\014\n\004mode\030\001 \001(\005\022\016\n\006joined\030\002" +
+      " \001(\010\022\030\n\020rpcServerRunning\030\003 \001(\010\022\036\n\026native" +
+      "TransportRunning\030\004 \001(\010\022\031\n\021gossipInitiali" +
+      "zed\030\005 \001(\010\022\025\n\rgossipRunning\030\006 \001(\010\022\016\n\006host",
+      "Id\030\007 \001(\t\022\020\n\010endpoint\030\010 \001(\t\022\022\n\ntokenCount" +
+      "\030\t \001(\005\022\022\n\ndataCenter\030\n \001(\t\022\014\n\004rack\030\013 \001(\t" +
+      "\022\017\n\007version\030\014 \001(\t\"\246\002\n\027CassandraTaskStatu" +
+      "sData\022J\n\004type\030\001 \002(\0162<.com.mesosphere.dco" +
+      "s.cassandra.common.CassandraTaskData.TYP" +
+      "E\022\014\n\004mode\030\002 \001(\005\022E\n\006status\030\003 \001(\01325.com.me" +
       "sosphere.dcos.cassandra.common.Cassandra" +
-      "TaskData.TYPE\022\014\n\004mode\030\002 \001(\005\022E\n\006status\030\003 " +
-      "\001(\01325.com.mesosphere.dcos.cassandra.comm" +
-      "on.CassandraStatus\022\021\n\tdirectory\030\004 \001(\t\022\022\n" +
-      "\nbackupName\030\005 \001(\t\022\030\n\020externalLocation\030\006 ",
-      "\001(\t\022\021\n\tkeySpaces\030\007 \003(\t\022\026\n\016columnFamilies" +
-      "\030\010 \003(\tB\021B\017CassandraProtos"
+      "Status\022\021\n\tdirectory\030\004 \001(\t\022\022\n\nbackupName\030" +
+      "\005 \001(\t\022\030\n\020externalLocation\030\006 \001(\t\022\021\n\tkeySp" +
+      "aces\030\007 \003(\t\022\026\n\016columnFamilies\030\010 \003(\tB\021B\017Ca",
+      "ssandraProtos"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -9106,7 +10720,7 @@ public final class CassandraProtos {
           internal_static_com_mesosphere_dcos_cassandra_common_CassandraTaskData_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_com_mesosphere_dcos_cassandra_common_CassandraTaskData_descriptor,
-              new java.lang.String[] { "Type", "Address", "Config", "Directory", "BackupName", "ExternalLocation", "KeySpaces", "ColumnFamilies", "S3AccessKey", "S3SecretKey", "LocalLocation", });
+              new java.lang.String[] { "Type", "Address", "Config", "Directory", "BackupName", "ExternalLocation", "KeySpaces", "ColumnFamilies", "S3AccessKey", "S3SecretKey", "LocalLocation", "Concurrency", "PartSizeMb", "Compression", "Incremental", "BandwidthMb", "AdaptiveThrottle", "Streaming", "BulkLoad", "LoaderIndex", "LoaderCount", "Parallelism", "SubrangePartitions", "RepairId", "Operation", "Jobs", "ThroughputMb", });
           internal_static_com_mesosphere_dcos_cassandra_common_CassandraStatus_descriptor =
             getDescriptor().getMessageTypes().get(5);
           internal_static_com_mesosphere_dcos_cassandra_common_CassandraStatus_fieldAccessorTable = new
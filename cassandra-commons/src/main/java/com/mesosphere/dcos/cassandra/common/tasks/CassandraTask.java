@@ -27,6 +27,8 @@ import com.mesosphere.dcos.cassandra.common.serialization.Serializer;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.*;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupTask;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceStatus;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceTask;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairTask;
 import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
@@ -72,6 +74,8 @@ import static org.apache.mesos.offer.ResourceUtils.*;
                 "CLEANUP"),
         @JsonSubTypes.Type(value = RepairTask.class, name =
                 "REPAIR"),
+        @JsonSubTypes.Type(value = MaintenanceTask.class, name =
+                "MAINTENANCE"),
 })
 public abstract class CassandraTask {
 
@@ -145,7 +149,12 @@ public abstract class CassandraTask {
          * Task that performs primary range, local, anti-entropy repair on a
          * node.
          */
-        REPAIR
+        REPAIR,
+        /**
+         * Task that performs a maintenance operation, such as compaction or
+         * scrub, on a node.
+         */
+        MAINTENANCE
     }
 
     /**
@@ -279,7 +288,14 @@ public abstract class CassandraTask {
                         data.getExternalLocation(),
                         data.getS3AccessKey(),
                         data.getS3SecretKey(),
-                        data.getLocalLocation()
+                        data.getLocalLocation(),
+                        data.getConcurrency(),
+                        data.getPartSizeMb(),
+                        data.getCompression(),
+                        data.getIncremental(),
+                        data.getBandwidthMb(),
+                        data.getAdaptiveThrottle(),
+                        data.getStreaming()
                 );
 
             case SNAPSHOT_DOWNLOAD:
@@ -309,7 +325,15 @@ public abstract class CassandraTask {
                         data.getExternalLocation(),
                         data.getS3AccessKey(),
                         data.getS3SecretKey(),
-                        data.getLocalLocation()
+                        data.getLocalLocation(),
+                        data.getConcurrency(),
+                        data.getBandwidthMb(),
+                        data.getStreaming(),
+                        data.getKeySpacesList(),
+                        data.getColumnFamiliesList(),
+                        data.getBulkLoad(),
+                        data.getLoaderIndex(),
+                        data.getLoaderCount()
                 );
 
             case SNAPSHOT_RESTORE:
@@ -339,7 +363,10 @@ public abstract class CassandraTask {
                         data.getExternalLocation(),
                         data.getS3AccessKey(),
                         data.getS3SecretKey(),
-                        data.getLocalLocation()
+                        data.getLocalLocation(),
+                        data.getConcurrency(),
+                        data.getKeySpacesList(),
+                        data.getColumnFamiliesList()
                 );
 
             case SCHEMA_RESTORE:
@@ -395,7 +422,8 @@ public abstract class CassandraTask {
                                 info.getExecutor().getExecutorId().getValue(),
                                 Optional.empty()),
                         data.getKeySpacesList(),
-                        data.getColumnFamiliesList()
+                        data.getColumnFamiliesList(),
+                        data.getJobs()
                 );
 
             case REPAIR:
@@ -421,7 +449,40 @@ public abstract class CassandraTask {
                                 info.getExecutor().getExecutorId().getValue(),
                                 Optional.empty()),
                         data.getKeySpacesList(),
-                        data.getColumnFamiliesList()
+                        data.getColumnFamiliesList(),
+                        data.getParallelism(),
+                        data.getSubrangePartitions(),
+                        data.getRepairId(),
+                        data.getIncremental()
+                );
+
+            case MAINTENANCE:
+                return MaintenanceTask.create(
+                        info.getTaskId().getValue(),
+                        info.getSlaveId().getValue(),
+                        data.getAddress(),
+                        CassandraTaskExecutor.parse(info.getExecutor()),
+                        info.getName(),
+                        role,
+                        principal,
+                        getReservedCpu(info.getResourcesList(), role,
+                                principal),
+                        (int) getReservedMem(resources,
+                                role,
+                                principal),
+                        (int) getTotalReservedDisk(resources,
+                                role,
+                                principal),
+                        MaintenanceStatus.create(Protos.TaskState.TASK_STAGING,
+                                info.getTaskId().getValue(),
+                                info.getSlaveId().getValue(),
+                                info.getExecutor().getExecutorId().getValue(),
+                                Optional.empty()),
+                        data.getKeySpacesList(),
+                        data.getColumnFamiliesList(),
+                        data.getJobs(),
+                        data.getOperation(),
+                        data.getThroughputMb()
                 );
             default:
                 return null;
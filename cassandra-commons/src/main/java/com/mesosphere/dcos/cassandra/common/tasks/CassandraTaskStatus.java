@@ -22,6 +22,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.mesosphere.dcos.cassandra.common.CassandraProtos;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.*;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupStatus;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairStatus;
 import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
 import org.apache.mesos.Protos;
@@ -63,6 +64,8 @@ import java.util.Optional;
                 "CLEANUP"),
         @JsonSubTypes.Type(value = RepairStatus.class, name =
                 "REPAIR"),
+        @JsonSubTypes.Type(value = MaintenanceStatus.class, name =
+                "MAINTENANCE"),
 })
 public abstract class CassandraTaskStatus {
 
@@ -234,6 +237,18 @@ public abstract class CassandraTaskStatus {
                                 Optional.empty()
                 );
 
+            case MAINTENANCE:
+                return MaintenanceStatus.create(
+                        status.getState(),
+                        status.getTaskId().getValue(),
+                        status.getSlaveId().getValue(),
+                        status.getExecutorId().getValue(),
+                        (status.hasMessage()) ?
+                                Optional.of(
+                                        status.getMessage()) :
+                                Optional.empty()
+                );
+
             default:
                 return null;
         }
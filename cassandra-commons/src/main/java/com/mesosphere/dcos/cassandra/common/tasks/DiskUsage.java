@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.common.tasks;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
+
+import java.util.Objects;
+
+/**
+ * DiskUsage is the usage of the persistent volume of a Cassandra node sent
+ * from the Executor to the Scheduler. It is used to decide if a snapshot can
+ * be taken without exhausting the volume. A snapshot links every live
+ * SSTable, so in the worst case, where all of them are compacted away before
+ * the snapshot is cleared, it retains the live data size of the node.
+ */
+public class DiskUsage {
+
+    @JsonProperty("total_bytes")
+    private final long totalBytes;
+    @JsonProperty("free_bytes")
+    private final long freeBytes;
+    @JsonProperty("live_bytes")
+    private final long liveBytes;
+
+    /**
+     * Creates a DiskUsage.
+     * @param totalBytes The size of the volume in bytes.
+     * @param freeBytes The bytes of the volume that are available.
+     * @param liveBytes The size of the live SSTables of the node in bytes.
+     * @return A DiskUsage constructed from the parameters.
+     */
+    @JsonCreator
+    public static DiskUsage create(
+            @JsonProperty("total_bytes") final long totalBytes,
+            @JsonProperty("free_bytes") final long freeBytes,
+            @JsonProperty("live_bytes") final long liveBytes) {
+        return new DiskUsage(totalBytes, freeBytes, liveBytes);
+    }
+
+    private DiskUsage(final long totalBytes,
+                      final long freeBytes,
+                      final long liveBytes) {
+        this.totalBytes = totalBytes;
+        this.freeBytes = freeBytes;
+        this.liveBytes = liveBytes;
+    }
+
+    /**
+     * Gets the total bytes.
+     * @return The size of the volume in bytes.
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Gets the free bytes.
+     * @return The bytes of the volume that are available.
+     */
+    public long getFreeBytes() {
+        return freeBytes;
+    }
+
+    /**
+     * Gets the live bytes.
+     * @return The size of the live SSTables of the node in bytes.
+     */
+    public long getLiveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * Gets the usage of the volume if a snapshot retained all of the live
+     * SSTables of the node.
+     * @return The worst case usage of the volume during a backup as a
+     * percentage of its size.
+     */
+    @JsonIgnore
+    public double getSnapshotUsagePercent() {
+        if (totalBytes <= 0) {
+            return 100.0;
+        }
+        return (totalBytes - freeBytes + liveBytes) * 100.0 / totalBytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DiskUsage)) return false;
+        DiskUsage that = (DiskUsage) o;
+        return getTotalBytes() == that.getTotalBytes() &&
+                getFreeBytes() == that.getFreeBytes() &&
+                getLiveBytes() == that.getLiveBytes();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTotalBytes(), getFreeBytes(), getLiveBytes());
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtils.toJsonString(this);
+    }
+}
@@ -16,6 +16,7 @@
 package com.mesosphere.dcos.cassandra.common.tasks.backup;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableSet;
 import com.mesosphere.dcos.cassandra.common.serialization.SerializationException;
 import com.mesosphere.dcos.cassandra.common.serialization.Serializer;
 import com.mesosphere.dcos.cassandra.common.tasks.ClusterTaskContext;
@@ -24,6 +25,7 @@ import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * BackupContext implements ClusterTaskContext to provide a context for
@@ -31,6 +33,32 @@ import java.util.Objects;
  */
 public class BackupContext implements ClusterTaskContext {
 
+    /**
+     * The default number of files that are uploaded concurrently.
+     */
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    /**
+     * The default size of the parts of a multipart upload in Mb.
+     */
+    public static final int DEFAULT_PART_SIZE_MB = 16;
+
+    /**
+     * Backup files are uploaded as they are stored on disk.
+     */
+    public static final String COMPRESSION_NONE = "none";
+
+    /**
+     * Backup files are compressed with Snappy while they are uploaded.
+     */
+    public static final String COMPRESSION_SNAPPY = "snappy";
+
+    /**
+     * The compression algorithms supported for backups.
+     */
+    public static final Set<String> COMPRESSIONS = ImmutableSet.of(
+            COMPRESSION_NONE, COMPRESSION_SNAPPY);
+
     /**
      * Serializer serializes and deserializes a BackupContext to and from a
      * JSON Object.
@@ -69,6 +97,13 @@ public class BackupContext implements ClusterTaskContext {
     private String s3AccessKey;
     private String s3SecretKey;
     private List<String> keySpaces;
+    private int concurrency = DEFAULT_CONCURRENCY;
+    private int partSizeMb = DEFAULT_PART_SIZE_MB;
+    private String compression = COMPRESSION_NONE;
+    private boolean incremental = false;
+    private int bandwidthMb = 0;
+    private boolean adaptiveThrottle = false;
+    private boolean streaming = false;
 
     /**
      * Gets the name of the backup.
@@ -181,6 +216,143 @@ public class BackupContext implements ClusterTaskContext {
      */
     public void setKeySpaces(List<String> keySpaces) { this.keySpaces = keySpaces; }
 
+    /**
+     * Gets the concurrency of the upload.
+     *
+     * @return The number of files that are uploaded concurrently.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets the concurrency of the upload.
+     *
+     * @param concurrency The number of files that are uploaded concurrently.
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Gets the part size of the upload.
+     *
+     * @return The size of the parts of a multipart upload in Mb.
+     */
+    public int getPartSizeMb() {
+        return partSizeMb;
+    }
+
+    /**
+     * Sets the part size of the upload.
+     *
+     * @param partSizeMb The size of the parts of a multipart upload in Mb.
+     */
+    public void setPartSizeMb(int partSizeMb) {
+        this.partSizeMb = partSizeMb;
+    }
+
+    /**
+     * Gets the compression of the upload.
+     *
+     * @return The compression applied to the files while they are uploaded.
+     */
+    public String getCompression() {
+        return compression;
+    }
+
+    /**
+     * Sets the compression of the upload.
+     *
+     * @param compression The compression applied to the files while they are
+     *                    uploaded.
+     */
+    public void setCompression(String compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Gets the incremental flag of the upload.
+     *
+     * @return True if only the files that are not already stored at the
+     * external location are uploaded.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Sets the incremental flag of the upload.
+     *
+     * @param incremental True if only the files that are not already stored
+     *                    at the external location should be uploaded.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Gets the bandwidth of the upload.
+     *
+     * @return The maximum rate at which files are read and uploaded in Mb
+     * per second or 0 if it is unlimited.
+     */
+    public int getBandwidthMb() {
+        return bandwidthMb;
+    }
+
+    /**
+     * Sets the bandwidth of the upload.
+     *
+     * @param bandwidthMb The maximum rate at which files are read and
+     *                    uploaded in Mb per second or 0 if it is unlimited.
+     */
+    public void setBandwidthMb(int bandwidthMb) {
+        this.bandwidthMb = bandwidthMb;
+    }
+
+    /**
+     * Gets the adaptive throttle flag of the upload.
+     *
+     * @return True if the bandwidth of the upload is lowered while the node
+     * has pending compactions or a high read latency.
+     */
+    public boolean isAdaptiveThrottle() {
+        return adaptiveThrottle;
+    }
+
+    /**
+     * Sets the adaptive throttle flag of the upload.
+     *
+     * @param adaptiveThrottle True if the bandwidth of the upload should be
+     *                         lowered while the node has pending compactions
+     *                         or a high read latency.
+     */
+    public void setAdaptiveThrottle(boolean adaptiveThrottle) {
+        this.adaptiveThrottle = adaptiveThrottle;
+    }
+
+    /**
+     * Gets the streaming flag of the backup.
+     *
+     * @return True if the snapshot of a node is taken by its upload task and
+     * the files of each table are uploaded as soon as they are linked.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets the streaming flag of the backup.
+     *
+     * @param streaming True if the snapshot of a node should be taken by its
+     *                  upload task and the files of each table uploaded as
+     *                  soon as they are linked.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     /**
      * Gets the id of the node for the backup.
      *
@@ -217,12 +389,22 @@ public class BackupContext implements ClusterTaskContext {
                         that.getLocalLocation()) &&
                 Objects.equals(getS3AccessKey(), that.getS3AccessKey()) &&
                 Objects.equals(getS3SecretKey(), that.getS3SecretKey()) &&
-                Objects.equals(getKeySpaces(), that.getKeySpaces());
+                Objects.equals(getKeySpaces(), that.getKeySpaces()) &&
+                getConcurrency() == that.getConcurrency() &&
+                getPartSizeMb() == that.getPartSizeMb() &&
+                Objects.equals(getCompression(), that.getCompression()) &&
+                isIncremental() == that.isIncremental() &&
+                getBandwidthMb() == that.getBandwidthMb() &&
+                isAdaptiveThrottle() == that.isAdaptiveThrottle() &&
+                isStreaming() == that.isStreaming();
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(getNodeId(), getName(), getExternalLocation(),
-                getLocalLocation(), getS3AccessKey(), getS3SecretKey(), getKeySpaces());
+                getLocalLocation(), getS3AccessKey(), getS3SecretKey(), getKeySpaces(),
+                getConcurrency(), getPartSizeMb(), getCompression(),
+                isIncremental(), getBandwidthMb(), isAdaptiveThrottle(),
+                isStreaming());
     }
 }
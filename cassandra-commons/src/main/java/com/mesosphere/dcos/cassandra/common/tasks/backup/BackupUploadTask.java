@@ -92,6 +92,13 @@ public class BackupUploadTask extends CassandraTask {
         private String s3AccessKey;
         private String s3SecretKey;
         private String localLocation;
+        private int concurrency;
+        private int partSizeMb;
+        private String compression;
+        private boolean incremental;
+        private int bandwidthMb;
+        private boolean adaptiveThrottle;
+        private boolean streaming;
 
         private Builder(BackupUploadTask task) {
 
@@ -113,6 +120,13 @@ public class BackupUploadTask extends CassandraTask {
             this.s3AccessKey = task.s3AccessKey;
             this.s3SecretKey = task.s3SecretKey;
             this.localLocation = task.localLocation;
+            this.concurrency = task.concurrency;
+            this.partSizeMb = task.partSizeMb;
+            this.compression = task.compression;
+            this.incremental = task.incremental;
+            this.bandwidthMb = task.bandwidthMb;
+            this.adaptiveThrottle = task.adaptiveThrottle;
+            this.streaming = task.streaming;
 
         }
 
@@ -462,6 +476,147 @@ public class BackupUploadTask extends CassandraTask {
             return this;
         }
 
+        /**
+         * Gets the concurrency.
+         *
+         * @return The number of files that will be uploaded concurrently.
+         */
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        /**
+         * Sets the concurrency.
+         *
+         * @param concurrency The number of files that will be uploaded concurrently.
+         * @return The Builder instance.
+         */
+        public Builder setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Gets the part size.
+         *
+         * @return The size of the parts of a multipart upload in Mb.
+         */
+        public int getPartSizeMb() {
+            return partSizeMb;
+        }
+
+        /**
+         * Sets the part size.
+         *
+         * @param partSizeMb The size of the parts of a multipart upload in Mb.
+         * @return The Builder instance.
+         */
+        public Builder setPartSizeMb(int partSizeMb) {
+            this.partSizeMb = partSizeMb;
+            return this;
+        }
+
+        /**
+         * Gets the compression.
+         *
+         * @return The compression applied to the uploaded files.
+         */
+        public String getCompression() {
+            return compression;
+        }
+
+        /**
+         * Sets the compression.
+         *
+         * @param compression The compression applied to the uploaded files.
+         * @return The Builder instance.
+         */
+        public Builder setCompression(String compression) {
+            this.compression = (compression != null) ?
+                compression : BackupContext.COMPRESSION_NONE;
+            return this;
+        }
+
+        /**
+         * Gets the incremental flag.
+         *
+         * @return True if only the files that are not already stored are uploaded.
+         */
+        public boolean isIncremental() {
+            return incremental;
+        }
+
+        /**
+         * Sets the incremental flag.
+         *
+         * @param incremental True if only the files that are not already stored are uploaded.
+         * @return The Builder instance.
+         */
+        public Builder setIncremental(boolean incremental) {
+            this.incremental = incremental;
+            return this;
+        }
+
+        /**
+         * Gets the bandwidth.
+         *
+         * @return The maximum upload rate in Mb per second or 0 if it is unlimited.
+         */
+        public int getBandwidthMb() {
+            return bandwidthMb;
+        }
+
+        /**
+         * Sets the bandwidth.
+         *
+         * @param bandwidthMb The maximum upload rate in Mb per second or 0 if it is unlimited.
+         * @return The Builder instance.
+         */
+        public Builder setBandwidthMb(int bandwidthMb) {
+            this.bandwidthMb = bandwidthMb;
+            return this;
+        }
+
+        /**
+         * Gets the adaptive throttle flag.
+         *
+         * @return True if the upload rate is lowered while the node is under load.
+         */
+        public boolean isAdaptiveThrottle() {
+            return adaptiveThrottle;
+        }
+
+        /**
+         * Sets the adaptive throttle flag.
+         *
+         * @param adaptiveThrottle True if the upload rate is lowered while the node is under load.
+         * @return The Builder instance.
+         */
+        public Builder setAdaptiveThrottle(boolean adaptiveThrottle) {
+            this.adaptiveThrottle = adaptiveThrottle;
+            return this;
+        }
+
+        /**
+         * Gets the streaming flag.
+         *
+         * @return True if the snapshot is taken by the upload and streamed as it is taken.
+         */
+        public boolean isStreaming() {
+            return streaming;
+        }
+
+        /**
+         * Sets the streaming flag.
+         *
+         * @param streaming True if the snapshot is taken by the upload and streamed as it is taken.
+         * @return The Builder instance.
+         */
+        public Builder setStreaming(boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
         /**
          * Creates a new BackupUploadTask.
          * @return A BackupUploadTask constructed from the properties of the
@@ -485,7 +640,14 @@ public class BackupUploadTask extends CassandraTask {
                     externalLocation,
                     s3AccessKey,
                     s3SecretKey,
-                    localLocation);
+                    localLocation,
+                    concurrency,
+                    partSizeMb,
+                    compression,
+                    incremental,
+                    bandwidthMb,
+                    adaptiveThrottle,
+                    streaming);
         }
 
     }
@@ -511,6 +673,27 @@ public class BackupUploadTask extends CassandraTask {
     @JsonProperty("local_location")
     private final String localLocation;
 
+    @JsonProperty("concurrency")
+    private final int concurrency;
+
+    @JsonProperty("part_size_mb")
+    private final int partSizeMb;
+
+    @JsonProperty("compression")
+    private final String compression;
+
+    @JsonProperty("incremental")
+    private final boolean incremental;
+
+    @JsonProperty("bandwidth_mb")
+    private final int bandwidthMb;
+
+    @JsonProperty("adaptive_throttle")
+    private final boolean adaptiveThrottle;
+
+    @JsonProperty("streaming")
+    private final boolean streaming;
+
     /**
      * Creates a new BackupUploadTask.
      *
@@ -536,6 +719,13 @@ public class BackupUploadTask extends CassandraTask {
      *                         stored.
      * @param s3SecretKey      The S3 secret key of the bucket where the backup is
      *                         stored.
+     * @param concurrency      The number of files that will be uploaded concurrently.
+     * @param partSizeMb       The size of the parts of a multipart upload in Mb.
+     * @param compression      The compression applied to the uploaded files.
+     * @param incremental      True if only the files that are not already stored are uploaded.
+     * @param bandwidthMb      The maximum upload rate in Mb per second or 0 if it is unlimited.
+     * @param adaptiveThrottle True if the upload rate is lowered while the node is under load.
+     * @param streaming        True if the snapshot is taken by the upload and streamed as it is taken.
      * @return A new BackupUploadTask constructed from the parameters.
      */
     @JsonCreator
@@ -557,7 +747,14 @@ public class BackupUploadTask extends CassandraTask {
             @JsonProperty("external_location") String externalLocation,
             @JsonProperty("s3_Access_key") String s3AccessKey,
             @JsonProperty("s3_secret_key") String s3SecretKey,
-            @JsonProperty("local_location") String localLocation) {
+            @JsonProperty("local_location") String localLocation,
+            @JsonProperty("concurrency") int concurrency,
+            @JsonProperty("part_size_mb") int partSizeMb,
+            @JsonProperty("compression") String compression,
+            @JsonProperty("incremental") boolean incremental,
+            @JsonProperty("bandwidth_mb") int bandwidthMb,
+            @JsonProperty("adaptive_throttle") boolean adaptiveThrottle,
+            @JsonProperty("streaming") boolean streaming) {
         return new BackupUploadTask(id,
                 slaveId,
                 hostname,
@@ -575,7 +772,14 @@ public class BackupUploadTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                partSizeMb,
+                compression,
+                incremental,
+                bandwidthMb,
+                adaptiveThrottle,
+                streaming);
     }
 
     /**
@@ -603,6 +807,13 @@ public class BackupUploadTask extends CassandraTask {
      *                         stored.
      * @param s3SecretKey      The S3 secret key of the bucket where the backup is
      *                         stored.
+     * @param concurrency      The number of files that will be uploaded concurrently.
+     * @param partSizeMb       The size of the parts of a multipart upload in Mb.
+     * @param compression      The compression applied to the uploaded files.
+     * @param incremental      True if only the files that are not already stored are uploaded.
+     * @param bandwidthMb      The maximum upload rate in Mb per second or 0 if it is unlimited.
+     * @param adaptiveThrottle True if the upload rate is lowered while the node is under load.
+     * @param streaming        True if the snapshot is taken by the upload and streamed as it is taken.
      */
     protected BackupUploadTask(
             String id,
@@ -622,7 +833,14 @@ public class BackupUploadTask extends CassandraTask {
             String externalLocation,
             String s3AccessKey,
             String s3SecretKey,
-            String localLocation) {
+            String localLocation,
+            int concurrency,
+            int partSizeMb,
+            String compression,
+            boolean incremental,
+            int bandwidthMb,
+            boolean adaptiveThrottle,
+            boolean streaming) {
         super(TYPE.BACKUP_UPLOAD,
                 id,
                 slaveId,
@@ -644,6 +862,13 @@ public class BackupUploadTask extends CassandraTask {
         this.s3AccessKey = s3AccessKey;
         this.s3SecretKey = s3SecretKey;
         this.localLocation = localLocation;
+        this.concurrency = concurrency;
+        this.partSizeMb = partSizeMb;
+        this.compression = compression;
+        this.incremental = incremental;
+        this.bandwidthMb = bandwidthMb;
+        this.adaptiveThrottle = adaptiveThrottle;
+        this.streaming = streaming;
     }
 
     /**
@@ -704,6 +929,62 @@ public class BackupUploadTask extends CassandraTask {
         return localLocation;
     }
 
+    /**
+     * Gets the concurrency.
+     * @return The number of files that will be uploaded concurrently.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Gets the part size.
+     * @return The size of the parts of a multipart upload in Mb.
+     */
+    public int getPartSizeMb() {
+        return partSizeMb;
+    }
+
+    /**
+     * Gets the compression.
+     * @return The compression applied to the uploaded files.
+     */
+    public String getCompression() {
+        return compression;
+    }
+
+    /**
+     * Gets the incremental flag.
+     * @return True if only the files that are not already stored are uploaded.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Gets the bandwidth.
+     * @return The maximum upload rate in Mb per second or 0 if it is unlimited.
+     */
+    public int getBandwidthMb() {
+        return bandwidthMb;
+    }
+
+    /**
+     * Gets the adaptive throttle flag.
+     * @return True if the upload rate is lowered while the node is under load.
+     */
+    public boolean isAdaptiveThrottle() {
+        return adaptiveThrottle;
+    }
+
+    /**
+     * Gets the streaming flag.
+     * @return True if the snapshot is taken by the upload and streamed as it is taken.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     @Override
     public CassandraProtos.CassandraTaskData getTaskData() {
         return CassandraProtos.CassandraTaskData.newBuilder()
@@ -715,6 +996,13 @@ public class BackupUploadTask extends CassandraTask {
                 .setS3AccessKey(s3AccessKey)
                 .setS3SecretKey(s3SecretKey)
                 .setLocalLocation(localLocation)
+                .setConcurrency(concurrency)
+                .setPartSizeMb(partSizeMb)
+                .setCompression(compression)
+                .setIncremental(incremental)
+                .setBandwidthMb(bandwidthMb)
+                .setAdaptiveThrottle(adaptiveThrottle)
+                .setStreaming(streaming)
                 .build();
     }
 
@@ -737,7 +1025,14 @@ public class BackupUploadTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                partSizeMb,
+                compression,
+                incremental,
+                bandwidthMb,
+                adaptiveThrottle,
+                streaming);
     }
 
     @Override
@@ -759,7 +1054,14 @@ public class BackupUploadTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                partSizeMb,
+                compression,
+                incremental,
+                bandwidthMb,
+                adaptiveThrottle,
+                streaming);
     }
 
     @Override
@@ -781,7 +1083,14 @@ public class BackupUploadTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                partSizeMb,
+                compression,
+                incremental,
+                bandwidthMb,
+                adaptiveThrottle,
+                streaming);
     }
 
     @Override
@@ -807,7 +1116,14 @@ public class BackupUploadTask extends CassandraTask {
                     externalLocation,
                     s3AccessKey,
                     s3SecretKey,
-                    localLocation);
+                    localLocation,
+                    concurrency,
+                    partSizeMb,
+                    compression,
+                    incremental,
+                    bandwidthMb,
+                    adaptiveThrottle,
+                    streaming);
         } else {
             return this;
         }
@@ -17,6 +17,7 @@ package com.mesosphere.dcos.cassandra.common.tasks.backup;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
 import com.mesosphere.dcos.cassandra.common.CassandraProtos;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonTask;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraTask;
@@ -85,6 +86,14 @@ public class DownloadSnapshotTask extends CassandraTask {
         private String s3AccessKey;
         private String s3SecretKey;
         private String localLocation;
+        private int concurrency;
+        private int bandwidthMb;
+        private boolean streaming;
+        private List<String> keySpaces;
+        private List<String> columnFamilies;
+        private boolean bulkLoad;
+        private int loaderIndex;
+        private int loaderCount;
 
         private Builder(DownloadSnapshotTask task) {
 
@@ -104,6 +113,14 @@ public class DownloadSnapshotTask extends CassandraTask {
             this.s3AccessKey = task.s3AccessKey;
             this.s3SecretKey = task.s3SecretKey;
             this.localLocation = task.localLocation;
+            this.concurrency = task.concurrency;
+            this.bandwidthMb = task.bandwidthMb;
+            this.streaming = task.streaming;
+            this.keySpaces = task.keySpaces;
+            this.columnFamilies = task.columnFamilies;
+            this.bulkLoad = task.bulkLoad;
+            this.loaderIndex = task.loaderIndex;
+            this.loaderCount = task.loaderCount;
         }
 
         /**
@@ -229,6 +246,166 @@ public class DownloadSnapshotTask extends CassandraTask {
             return this;
         }
 
+        /**
+         * Gets the concurrency.
+         *
+         * @return The number of files that will be downloaded concurrently.
+         */
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        /**
+         * Sets the concurrency.
+         *
+         * @param concurrency The number of files that will be downloaded concurrently.
+         * @return The Builder instance.
+         */
+        public Builder setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Gets the bandwidth.
+         *
+         * @return The maximum download rate in Mb per second or 0 if it is unlimited.
+         */
+        public int getBandwidthMb() {
+            return bandwidthMb;
+        }
+
+        /**
+         * Sets the bandwidth.
+         *
+         * @param bandwidthMb The maximum download rate in Mb per second or 0 if it is unlimited.
+         * @return The Builder instance.
+         */
+        public Builder setBandwidthMb(int bandwidthMb) {
+            this.bandwidthMb = bandwidthMb;
+            return this;
+        }
+
+        /**
+         * Gets the streaming flag.
+         *
+         * @return True if the SSTables are loaded as soon as all of their components are downloaded.
+         */
+        public boolean isStreaming() {
+            return streaming;
+        }
+
+        /**
+         * Sets the streaming flag.
+         *
+         * @param streaming True if the SSTables are loaded as soon as all of their components are downloaded.
+         * @return The Builder instance.
+         */
+        public Builder setStreaming(boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Gets the key spaces.
+         *
+         * @return The key spaces that will be restored. If empty all key spaces are restored.
+         */
+        public List<String> getKeySpaces() {
+            return keySpaces;
+        }
+
+        /**
+         * Sets the key spaces.
+         *
+         * @param keySpaces The key spaces that will be restored. If empty all key spaces are restored.
+         * @return The Builder instance.
+         */
+        public Builder setKeySpaces(List<String> keySpaces) {
+            this.keySpaces = keySpaces;
+            return this;
+        }
+
+        /**
+         * Gets the column families.
+         *
+         * @return The tables, as keyspace.table, that will be restored. If empty all tables are restored.
+         */
+        public List<String> getColumnFamilies() {
+            return columnFamilies;
+        }
+
+        /**
+         * Sets the column families.
+         *
+         * @param columnFamilies The tables, as keyspace.table, that will be restored. If empty all tables are restored.
+         * @return The Builder instance.
+         */
+        public Builder setColumnFamilies(List<String> columnFamilies) {
+            this.columnFamilies = columnFamilies;
+            return this;
+        }
+
+        /**
+         * Gets the bulk load flag.
+         *
+         * @return True if the SSTables of the backup are streamed to the ring by the bulk loader.
+         */
+        public boolean isBulkLoad() {
+            return bulkLoad;
+        }
+
+        /**
+         * Sets the bulk load flag.
+         *
+         * @param bulkLoad True if the SSTables of the backup are streamed to the ring by the bulk loader.
+         * @return The Builder instance.
+         */
+        public Builder setBulkLoad(boolean bulkLoad) {
+            this.bulkLoad = bulkLoad;
+            return this;
+        }
+
+        /**
+         * Gets the loader index.
+         *
+         * @return The index of the node among the nodes that bulk load the backup.
+         */
+        public int getLoaderIndex() {
+            return loaderIndex;
+        }
+
+        /**
+         * Sets the loader index.
+         *
+         * @param loaderIndex The index of the node among the nodes that bulk load the backup.
+         * @return The Builder instance.
+         */
+        public Builder setLoaderIndex(int loaderIndex) {
+            this.loaderIndex = loaderIndex;
+            return this;
+        }
+
+        /**
+         * Gets the loader count.
+         *
+         * @return The number of nodes that bulk load the backup.
+         */
+        public int getLoaderCount() {
+            return loaderCount;
+        }
+
+        /**
+         * Sets the loader count.
+         *
+         * @param loaderCount The number of nodes that bulk load the backup.
+         * @return The Builder instance.
+         */
+        public Builder setLoaderCount(int loaderCount) {
+            this.loaderCount = loaderCount;
+            return this;
+        }
+
         /**
          * Creates a DownloadSnapshotTask.
          *
@@ -251,7 +428,15 @@ public class DownloadSnapshotTask extends CassandraTask {
                     externalLocation,
                     s3AccessKey,
                     s3SecretKey,
-                    localLocation);
+                    localLocation,
+                    concurrency,
+                    bandwidthMb,
+                    streaming,
+                    keySpaces,
+                    columnFamilies,
+                    bulkLoad,
+                    loaderIndex,
+                    loaderCount);
         }
 
         /**
@@ -468,6 +653,30 @@ public class DownloadSnapshotTask extends CassandraTask {
     @JsonProperty("local_location")
     private final String localLocation;
 
+    @JsonProperty("concurrency")
+    private final int concurrency;
+
+    @JsonProperty("bandwidth_mb")
+    private final int bandwidthMb;
+
+    @JsonProperty("streaming")
+    private final boolean streaming;
+
+    @JsonProperty("key_spaces")
+    private final List<String> keySpaces;
+
+    @JsonProperty("column_families")
+    private final List<String> columnFamilies;
+
+    @JsonProperty("bulk_load")
+    private final boolean bulkLoad;
+
+    @JsonProperty("loader_index")
+    private final int loaderIndex;
+
+    @JsonProperty("loader_count")
+    private final int loaderCount;
+
     @JsonProperty("s3_access_key")
     private final String s3AccessKey;
 
@@ -498,6 +707,14 @@ public class DownloadSnapshotTask extends CassandraTask {
      *                         stored.
      * @param s3SecretKey      The S3 secret key of the bucket where the backup is
      *                         stored.
+     * @param concurrency      The number of files that will be downloaded concurrently.
+     * @param bandwidthMb      The maximum download rate in Mb per second or 0 if it is unlimited.
+     * @param streaming        True if the SSTables are loaded as soon as all of their components are downloaded.
+     * @param keySpaces        The key spaces that will be restored. If empty all key spaces are restored.
+     * @param columnFamilies   The tables, as keyspace.table, that will be restored. If empty all tables are restored.
+     * @param bulkLoad         True if the SSTables of the backup are streamed to the ring by the bulk loader.
+     * @param loaderIndex      The index of the node among the nodes that bulk load the backup.
+     * @param loaderCount      The number of nodes that bulk load the backup.
      * @return A new DownloadSnapshotTask constructed from the parameters.
      */
     @JsonCreator
@@ -517,7 +734,15 @@ public class DownloadSnapshotTask extends CassandraTask {
             @JsonProperty("external_location") String externalLocation,
             @JsonProperty("s3_access_key") String s3AccessKey,
             @JsonProperty("s3_secret_key") String s3SecretKey,
-            @JsonProperty("local_location") String localLocation) {
+            @JsonProperty("local_location") String localLocation,
+            @JsonProperty("concurrency") int concurrency,
+            @JsonProperty("bandwidth_mb") int bandwidthMb,
+            @JsonProperty("streaming") boolean streaming,
+            @JsonProperty("key_spaces") List<String> keySpaces,
+            @JsonProperty("column_families") List<String> columnFamilies,
+            @JsonProperty("bulk_load") boolean bulkLoad,
+            @JsonProperty("loader_index") int loaderIndex,
+            @JsonProperty("loader_count") int loaderCount) {
         return new DownloadSnapshotTask(id,
                 slaveId,
                 hostname,
@@ -533,7 +758,15 @@ public class DownloadSnapshotTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                bandwidthMb,
+                streaming,
+                keySpaces,
+                columnFamilies,
+                bulkLoad,
+                loaderIndex,
+                loaderCount);
     }
 
     /**
@@ -560,6 +793,14 @@ public class DownloadSnapshotTask extends CassandraTask {
      *                         stored.
      * @param s3SecretKey      The S3 secret key of the bucket where the backup is
      *                         stored.
+     * @param concurrency      The number of files that will be downloaded concurrently.
+     * @param bandwidthMb      The maximum download rate in Mb per second or 0 if it is unlimited.
+     * @param streaming        True if the SSTables are loaded as soon as all of their components are downloaded.
+     * @param keySpaces        The key spaces that will be restored. If empty all key spaces are restored.
+     * @param columnFamilies   The tables, as keyspace.table, that will be restored. If empty all tables are restored.
+     * @param bulkLoad         True if the SSTables of the backup are streamed to the ring by the bulk loader.
+     * @param loaderIndex      The index of the node among the nodes that bulk load the backup.
+     * @param loaderCount      The number of nodes that bulk load the backup.
      */
     protected DownloadSnapshotTask(
             String id,
@@ -577,7 +818,15 @@ public class DownloadSnapshotTask extends CassandraTask {
             String externalLocation,
             String s3AccessKey,
             String s3SecretKey,
-            String localLocation) {
+            String localLocation,
+            int concurrency,
+            int bandwidthMb,
+            boolean streaming,
+            List<String> keySpaces,
+            List<String> columnFamilies,
+            boolean bulkLoad,
+            int loaderIndex,
+            int loaderCount) {
         super(TYPE.SNAPSHOT_DOWNLOAD,
                 id,
                 slaveId,
@@ -597,6 +846,16 @@ public class DownloadSnapshotTask extends CassandraTask {
         this.s3AccessKey = s3AccessKey;
         this.s3SecretKey = s3SecretKey;
         this.localLocation = localLocation;
+        this.concurrency = concurrency;
+        this.bandwidthMb = bandwidthMb;
+        this.streaming = streaming;
+        this.keySpaces = (keySpaces == null) ? ImmutableList.of() :
+                ImmutableList.copyOf(keySpaces);
+        this.columnFamilies = (columnFamilies == null) ? ImmutableList.of() :
+                ImmutableList.copyOf(columnFamilies);
+        this.bulkLoad = bulkLoad;
+        this.loaderIndex = loaderIndex;
+        this.loaderCount = loaderCount;
     }
 
     /**
@@ -640,6 +899,70 @@ public class DownloadSnapshotTask extends CassandraTask {
         return localLocation;
     }
 
+    /**
+     * Gets the concurrency.
+     * @return The number of files that will be downloaded concurrently.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Gets the bandwidth.
+     * @return The maximum download rate in Mb per second or 0 if it is unlimited.
+     */
+    public int getBandwidthMb() {
+        return bandwidthMb;
+    }
+
+    /**
+     * Gets the streaming flag.
+     * @return True if the SSTables are loaded as soon as all of their components are downloaded.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Gets the key spaces.
+     * @return The key spaces that will be restored. If empty all key spaces are restored.
+     */
+    public List<String> getKeySpaces() {
+        return keySpaces;
+    }
+
+    /**
+     * Gets the column families.
+     * @return The tables, as keyspace.table, that will be restored. If empty all tables are restored.
+     */
+    public List<String> getColumnFamilies() {
+        return columnFamilies;
+    }
+
+    /**
+     * Gets the bulk load flag.
+     * @return True if the SSTables of the backup are streamed to the ring by the bulk loader.
+     */
+    public boolean isBulkLoad() {
+        return bulkLoad;
+    }
+
+    /**
+     * Gets the loader index.
+     * @return The index of the node among the nodes that bulk load the backup.
+     */
+    public int getLoaderIndex() {
+        return loaderIndex;
+    }
+
+    /**
+     * Gets the loader count.
+     * @return The number of nodes that bulk load the backup.
+     */
+    public int getLoaderCount() {
+        return loaderCount;
+    }
+
     @Override
     public CassandraProtos.CassandraTaskData getTaskData() {
         return CassandraProtos.CassandraTaskData.newBuilder()
@@ -650,6 +973,14 @@ public class DownloadSnapshotTask extends CassandraTask {
                 .setLocalLocation(localLocation)
                 .setS3AccessKey(s3AccessKey)
                 .setS3SecretKey(s3SecretKey)
+                .setConcurrency(concurrency)
+                .setBandwidthMb(bandwidthMb)
+                .setStreaming(streaming)
+                .addAllKeySpaces(keySpaces)
+                .addAllColumnFamilies(columnFamilies)
+                .setBulkLoad(bulkLoad)
+                .setLoaderIndex(loaderIndex)
+                .setLoaderCount(loaderCount)
                 .build();
     }
 
@@ -670,7 +1001,15 @@ public class DownloadSnapshotTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                bandwidthMb,
+                streaming,
+                keySpaces,
+                columnFamilies,
+                bulkLoad,
+                loaderIndex,
+                loaderCount);
     }
 
     @Override
@@ -690,7 +1029,15 @@ public class DownloadSnapshotTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                bandwidthMb,
+                streaming,
+                keySpaces,
+                columnFamilies,
+                bulkLoad,
+                loaderIndex,
+                loaderCount);
     }
 
     @Override
@@ -710,7 +1057,15 @@ public class DownloadSnapshotTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                bandwidthMb,
+                streaming,
+                keySpaces,
+                columnFamilies,
+                bulkLoad,
+                loaderIndex,
+                loaderCount);
     }
 
     @Override
@@ -733,7 +1088,15 @@ public class DownloadSnapshotTask extends CassandraTask {
                     externalLocation,
                     s3AccessKey,
                     s3SecretKey,
-                    localLocation);
+                    localLocation,
+                    concurrency,
+                    bandwidthMb,
+                    streaming,
+                    keySpaces,
+                    columnFamilies,
+                    bulkLoad,
+                    loaderIndex,
+                    loaderCount);
         } else {
             return this;
         }
@@ -22,8 +22,10 @@ import com.mesosphere.dcos.cassandra.common.tasks.ClusterTaskContext;
 import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * BackupContext implements ClusterTaskContext to provide a context for
@@ -31,6 +33,11 @@ import java.util.Objects;
  */
 public class RestoreContext implements ClusterTaskContext {
 
+    /**
+     * The default number of files that are downloaded concurrently.
+     */
+    public static final int DEFAULT_CONCURRENCY = 8;
+
     private String nodeId;
     private String name;
     private String externalLocation;
@@ -38,6 +45,11 @@ public class RestoreContext implements ClusterTaskContext {
     private String s3AccessKey;
     private String s3SecretKey;
     private List<String> nonSystemKeyspaces;
+    private int concurrency = DEFAULT_CONCURRENCY;
+    private int bandwidthMb = 0;
+    private List<String> tables = Collections.emptyList();
+    private boolean streaming = false;
+    private boolean bulkLoad = false;
 
     /**
      * Gets the name of the backup.
@@ -167,6 +179,143 @@ public class RestoreContext implements ClusterTaskContext {
      */
     public void setKeyspaces(List<String> nonSystemKeyspaces) { this.nonSystemKeyspaces = nonSystemKeyspaces; }
 
+    /**
+     * Gets the tables to be restored.
+     *
+     * @return The tables, as keyspace.table, that will be restored. If
+     * empty all tables of the restored key spaces are restored.
+     */
+    public List<String> getTables() {
+        return tables;
+    }
+
+    /**
+     * Sets the tables to be restored.
+     *
+     * @param tables The tables, as keyspace.table, that will be restored. If
+     *               empty all tables of the restored key spaces are
+     *               restored.
+     */
+    public void setTables(List<String> tables) {
+        this.tables = (tables == null) ? Collections.emptyList() : tables;
+    }
+
+    /**
+     * Gets the key spaces of a node that are restored.
+     *
+     * @param keyspaces The non system key spaces of the node.
+     * @param requested The key spaces that were requested. If empty all key
+     *                  spaces are requested.
+     * @param tables    The tables, as keyspace.table, that were requested.
+     *                  If empty all tables are requested.
+     * @return The key spaces of the node that are requested and, if tables
+     * are requested, contain at least one of them.
+     */
+    public static List<String> selectKeyspaces(List<String> keyspaces,
+                                               List<String> requested,
+                                               List<String> tables) {
+        return keyspaces.stream()
+                .filter(keyspace -> requested == null ||
+                        requested.isEmpty() || requested.contains(keyspace))
+                .filter(keyspace -> tables == null || tables.isEmpty() ||
+                        tables.stream().anyMatch(table ->
+                                table.startsWith(keyspace + ".")))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets if a table is restored. The key space of the table must also be
+     * one of the restored key spaces.
+     *
+     * @param keyspace The key space of the table.
+     * @param table    The name of the table.
+     * @return True if the table is restored.
+     */
+    public boolean isTableRestored(String keyspace, String table) {
+        return tables.isEmpty() || tables.contains(keyspace + "." + table);
+    }
+
+    /**
+     * Gets the concurrency of the download.
+     *
+     * @return The number of files that are downloaded concurrently.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets the concurrency of the download.
+     *
+     * @param concurrency The number of files that are downloaded
+     *                    concurrently.
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Gets the bandwidth of the download.
+     *
+     * @return The maximum download rate in Mb per second or 0 if it is
+     * unlimited.
+     */
+    public int getBandwidthMb() {
+        return bandwidthMb;
+    }
+
+    /**
+     * Sets the bandwidth of the download.
+     *
+     * @param bandwidthMb The maximum download rate in Mb per second or 0 if
+     *                    it is unlimited.
+     */
+    public void setBandwidthMb(int bandwidthMb) {
+        this.bandwidthMb = bandwidthMb;
+    }
+
+    /**
+     * Gets the streaming flag of the restore.
+     *
+     * @return True if the SSTables of a node are loaded by its download task
+     * as soon as all of their components have been downloaded.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets the streaming flag of the restore.
+     *
+     * @param streaming True if the SSTables of a node should be loaded by its
+     *                  download task as soon as all of their components have
+     *                  been downloaded.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Gets the bulk load flag of the restore.
+     *
+     * @return True if the SSTables of the backup are streamed to the ring
+     * by the bulk loader, so that the backup can be restored to a cluster
+     * with a different topology.
+     */
+    public boolean isBulkLoad() {
+        return bulkLoad;
+    }
+
+    /**
+     * Sets the bulk load flag of the restore.
+     *
+     * @param bulkLoad True if the SSTables of the backup should be streamed
+     *                 to the ring by the bulk loader.
+     */
+    public void setBulkLoad(boolean bulkLoad) {
+        this.bulkLoad = bulkLoad;
+    }
+
     @Override
     public String toString() {
         return JsonUtils.toJsonString(this);
@@ -185,13 +334,20 @@ public class RestoreContext implements ClusterTaskContext {
                         that.getLocalLocation()) &&
                 Objects.equals(getS3AccessKey(), that.getS3AccessKey()) &&
                 Objects.equals(getS3SecretKey(), that.getS3SecretKey()) &&
-                Objects.equals(getKeyspaces(), that.getKeyspaces());
+                Objects.equals(getKeyspaces(), that.getKeyspaces()) &&
+                getConcurrency() == that.getConcurrency() &&
+                Objects.equals(getTables(), that.getTables()) &&
+                getBandwidthMb() == that.getBandwidthMb() &&
+                isStreaming() == that.isStreaming() &&
+                isBulkLoad() == that.isBulkLoad();
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(getNodeId(), getName(), getExternalLocation(),
-                getLocalLocation(), getS3AccessKey(), getS3SecretKey(), getKeyspaces());
+                getLocalLocation(), getS3AccessKey(), getS3SecretKey(), getKeyspaces(),
+                getTables(), getConcurrency(), getBandwidthMb(),
+                isStreaming(), isBulkLoad());
     }
 
     /**
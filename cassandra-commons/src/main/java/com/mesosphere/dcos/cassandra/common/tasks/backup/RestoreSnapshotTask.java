@@ -17,6 +17,7 @@ package com.mesosphere.dcos.cassandra.common.tasks.backup;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
 import com.mesosphere.dcos.cassandra.common.CassandraProtos;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonTask;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraTask;
@@ -86,6 +87,9 @@ public class RestoreSnapshotTask extends CassandraTask {
         private String s3AccessKey;
         private String s3SecretKey;
         private String localLocation;
+        private int concurrency;
+        private List<String> keySpaces;
+        private List<String> columnFamilies;
 
         private Builder(RestoreSnapshotTask task) {
 
@@ -105,6 +109,9 @@ public class RestoreSnapshotTask extends CassandraTask {
             this.s3AccessKey = task.s3AccessKey;
             this.s3SecretKey = task.s3SecretKey;
             this.localLocation = task.localLocation;
+            this.concurrency = task.concurrency;
+            this.keySpaces = task.keySpaces;
+            this.columnFamilies = task.columnFamilies;
         }
 
 
@@ -229,6 +236,66 @@ public class RestoreSnapshotTask extends CassandraTask {
             return this;
         }
 
+        /**
+         * Gets the concurrency.
+         *
+         * @return The number of tables whose SSTables are loaded concurrently.
+         */
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        /**
+         * Sets the concurrency.
+         *
+         * @param concurrency The number of tables whose SSTables are loaded concurrently.
+         * @return The Builder instance.
+         */
+        public Builder setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Gets the key spaces.
+         *
+         * @return The key spaces that will be restored. If empty all key spaces are restored.
+         */
+        public List<String> getKeySpaces() {
+            return keySpaces;
+        }
+
+        /**
+         * Sets the key spaces.
+         *
+         * @param keySpaces The key spaces that will be restored. If empty all key spaces are restored.
+         * @return The Builder instance.
+         */
+        public Builder setKeySpaces(List<String> keySpaces) {
+            this.keySpaces = keySpaces;
+            return this;
+        }
+
+        /**
+         * Gets the column families.
+         *
+         * @return The tables, as keyspace.table, that will be restored. If empty all tables are restored.
+         */
+        public List<String> getColumnFamilies() {
+            return columnFamilies;
+        }
+
+        /**
+         * Sets the column families.
+         *
+         * @param columnFamilies The tables, as keyspace.table, that will be restored. If empty all tables are restored.
+         * @return The Builder instance.
+         */
+        public Builder setColumnFamilies(List<String> columnFamilies) {
+            this.columnFamilies = columnFamilies;
+            return this;
+        }
+
         /**
          * Creates a new RestoreSnapshotTask.
          * @return A RestoreSnapshotTask constructed from the properties of
@@ -250,7 +317,10 @@ public class RestoreSnapshotTask extends CassandraTask {
                     externalLocation,
                     s3AccessKey,
                     s3SecretKey,
-                    localLocation);
+                    localLocation,
+                    concurrency,
+                    keySpaces,
+                    columnFamilies);
         }
 
         /**
@@ -464,6 +534,15 @@ public class RestoreSnapshotTask extends CassandraTask {
     @JsonProperty("local_location")
     private final String localLocation;
 
+    @JsonProperty("concurrency")
+    private final int concurrency;
+
+    @JsonProperty("key_spaces")
+    private final List<String> keySpaces;
+
+    @JsonProperty("column_families")
+    private final List<String> columnFamilies;
+
     @JsonProperty("external_location")
     private final String externalLocation;
 
@@ -497,6 +576,9 @@ public class RestoreSnapshotTask extends CassandraTask {
      *                         stored.
      * @param s3SecretKey      The S3 secret key of the bucket where the backup is
      *                         stored.
+     * @param concurrency      The number of tables whose SSTables are loaded concurrently.
+     * @param keySpaces        The key spaces that will be restored. If empty all key spaces are restored.
+     * @param columnFamilies   The tables, as keyspace.table, that will be restored. If empty all tables are restored.
      * @return A new RestoreSnapshotTask constructed from the parameters.
      */
     @JsonCreator
@@ -516,7 +598,10 @@ public class RestoreSnapshotTask extends CassandraTask {
             @JsonProperty("external_location") String externalLocation,
             @JsonProperty("s3_access_key") String s3AccessKey,
             @JsonProperty("s3_secret_key") String s3SecretKey,
-            @JsonProperty("local_location") String localLocation) {
+            @JsonProperty("local_location") String localLocation,
+            @JsonProperty("concurrency") int concurrency,
+            @JsonProperty("key_spaces") List<String> keySpaces,
+            @JsonProperty("column_families") List<String> columnFamilies) {
         return new RestoreSnapshotTask(id,
                 slaveId,
                 hostname,
@@ -532,7 +617,10 @@ public class RestoreSnapshotTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                keySpaces,
+                columnFamilies);
     }
 
     /**
@@ -559,6 +647,9 @@ public class RestoreSnapshotTask extends CassandraTask {
      *                         stored.
      * @param s3SecretKey      The S3 secret key of the bucket where the backup is
      *                         stored.
+     * @param concurrency      The number of tables whose SSTables are loaded concurrently.
+     * @param keySpaces        The key spaces that will be restored. If empty all key spaces are restored.
+     * @param columnFamilies   The tables, as keyspace.table, that will be restored. If empty all tables are restored.
      */
     protected RestoreSnapshotTask(
             String id,
@@ -576,7 +667,10 @@ public class RestoreSnapshotTask extends CassandraTask {
             String externalLocation,
             String s3AccessKey,
             String s3SecretKey,
-            String localLocation) {
+            String localLocation,
+            int concurrency,
+            List<String> keySpaces,
+            List<String> columnFamilies) {
         super(TYPE.SNAPSHOT_RESTORE,
                 id,
                 slaveId,
@@ -596,6 +690,11 @@ public class RestoreSnapshotTask extends CassandraTask {
         this.s3AccessKey = s3AccessKey;
         this.s3SecretKey = s3SecretKey;
         this.localLocation = localLocation;
+        this.concurrency = concurrency;
+        this.keySpaces = (keySpaces == null) ? ImmutableList.of() :
+                ImmutableList.copyOf(keySpaces);
+        this.columnFamilies = (columnFamilies == null) ? ImmutableList.of() :
+                ImmutableList.copyOf(columnFamilies);
     }
 
     /**
@@ -639,6 +738,30 @@ public class RestoreSnapshotTask extends CassandraTask {
         return localLocation;
     }
 
+    /**
+     * Gets the concurrency.
+     * @return The number of tables whose SSTables are loaded concurrently.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Gets the key spaces.
+     * @return The key spaces that will be restored. If empty all key spaces are restored.
+     */
+    public List<String> getKeySpaces() {
+        return keySpaces;
+    }
+
+    /**
+     * Gets the column families.
+     * @return The tables, as keyspace.table, that will be restored. If empty all tables are restored.
+     */
+    public List<String> getColumnFamilies() {
+        return columnFamilies;
+    }
+
     @Override
     public CassandraProtos.CassandraTaskData getTaskData() {
         return CassandraProtos.CassandraTaskData.newBuilder()
@@ -649,6 +772,9 @@ public class RestoreSnapshotTask extends CassandraTask {
                 .setLocalLocation(localLocation)
                 .setS3AccessKey(s3AccessKey)
                 .setS3SecretKey(s3SecretKey)
+                .setConcurrency(concurrency)
+                .addAllKeySpaces(keySpaces)
+                .addAllColumnFamilies(columnFamilies)
                 .build();
     }
 
@@ -669,7 +795,10 @@ public class RestoreSnapshotTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                keySpaces,
+                columnFamilies);
     }
 
     @Override
@@ -689,7 +818,10 @@ public class RestoreSnapshotTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                keySpaces,
+                columnFamilies);
     }
 
     @Override
@@ -709,7 +841,10 @@ public class RestoreSnapshotTask extends CassandraTask {
                 externalLocation,
                 s3AccessKey,
                 s3SecretKey,
-                localLocation);
+                localLocation,
+                concurrency,
+                keySpaces,
+                columnFamilies);
     }
 
     @Override
@@ -732,7 +867,10 @@ public class RestoreSnapshotTask extends CassandraTask {
                     externalLocation,
                     s3AccessKey,
                     s3SecretKey,
-                    localLocation);
+                    localLocation,
+                    concurrency,
+                    keySpaces,
+                    columnFamilies);
         } else {
             return this;
         }
@@ -38,6 +38,8 @@ import java.util.Objects;
  * used.
  * If the column families for the context are empty, all non-system column
  * families are used.
+ * Nodes whose replicas do not overlap may be cleaned at the same time, up to
+ * the concurrency of the cleanup in each data center.
  */
 public class CleanupContext implements ClusterTaskContext {
 
@@ -78,14 +80,21 @@ public class CleanupContext implements ClusterTaskContext {
      *                  non-system key spaces will be cleaned up.
      * @param columnFamilies The column families that will be cleaned up. If
      *                       empty, all column families will be clean up.
+     * @param jobs The number of SSTables of each table that are cleaned at
+     *             the same time, or 0 to use all of the compaction threads.
+     * @param concurrency The maximum number of nodes of each data center
+     *                    that are cleaned at the same time.
      * @return A CleanupContext constructed from the parameters.
      */
     @JsonCreator
     public static CleanupContext create(
             @JsonProperty("nodes") final List<String> nodes,
             @JsonProperty("keySpaces") final List<String> keySpaces,
-            @JsonProperty("columnFamilies") final List<String> columnFamilies) {
-        return new CleanupContext(nodes, keySpaces, columnFamilies);
+            @JsonProperty("columnFamilies") final List<String> columnFamilies,
+            @JsonProperty("jobs") final int jobs,
+            @JsonProperty("concurrency") final int concurrency) {
+        return new CleanupContext(nodes, keySpaces, columnFamilies, jobs,
+                concurrency);
     }
 
     @JsonProperty("nodes")
@@ -94,6 +103,10 @@ public class CleanupContext implements ClusterTaskContext {
     private final List<String> keySpaces;
     @JsonProperty("columnFamilies")
     private final List<String> columnFamilies;
+    @JsonProperty("jobs")
+    private final int jobs;
+    @JsonProperty("concurrency")
+    private final int concurrency;
 
     /**
      * Constructs a new CleanupContext
@@ -102,10 +115,17 @@ public class CleanupContext implements ClusterTaskContext {
      *                  non-system key spaces will be cleaned up.
      * @param columnFamilies The column families that will be cleaned up. If
      *                       empty, all column families will be clean up.
+     * @param jobs The number of SSTables of each table that are cleaned at
+     *             the same time, or 0 to use all of the compaction threads.
+     * @param concurrency The maximum number of nodes of each data center
+     *                    that are cleaned at the same time. Values less
+     *                    than 1 are treated as 1.
      */
     public CleanupContext(final List<String> nodes,
                           final List<String> keySpaces,
-                          final List<String> columnFamilies) {
+                          final List<String> columnFamilies,
+                          final int jobs,
+                          final int concurrency) {
         this.nodes = (nodes == null) ? Collections.emptyList() : nodes;
         this.keySpaces = (keySpaces == null) ?
                 Collections.emptyList() :
@@ -113,6 +133,8 @@ public class CleanupContext implements ClusterTaskContext {
         this.columnFamilies = (columnFamilies == null) ?
                 Collections.emptyList() :
                 columnFamilies;
+        this.jobs = jobs;
+        this.concurrency = Math.max(1, concurrency);
     }
 
     /**
@@ -141,6 +163,24 @@ public class CleanupContext implements ClusterTaskContext {
         return keySpaces;
     }
 
+    /**
+     * Gets the jobs.
+     * @return The number of SSTables of each table that are cleaned at the
+     * same time, or 0 to use all of the compaction threads.
+     */
+    public int getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Gets the concurrency.
+     * @return The maximum number of nodes of each data center that are
+     * cleaned at the same time.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -149,12 +189,15 @@ public class CleanupContext implements ClusterTaskContext {
         return Objects.equals(getNodes(), that.getNodes()) &&
                 Objects.equals(getKeySpaces(), that.getKeySpaces()) &&
                 Objects.equals(getColumnFamilies(),
-                        that.getColumnFamilies());
+                        that.getColumnFamilies()) &&
+                getJobs() == that.getJobs() &&
+                getConcurrency() == that.getConcurrency();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getNodes(), getKeySpaces(), getColumnFamilies());
+        return Objects.hash(getNodes(), getKeySpaces(), getColumnFamilies(),
+                getJobs(), getConcurrency());
     }
 
     @Override
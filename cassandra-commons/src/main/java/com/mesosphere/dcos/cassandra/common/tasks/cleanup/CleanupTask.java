@@ -92,6 +92,7 @@ public class CleanupTask extends CassandraTask {
         private CleanupStatus status;
         private List<String> keySpaces;
         private List<String> columnFamilies;
+        private int jobs;
 
         private Builder(CleanupTask task) {
 
@@ -107,6 +108,7 @@ public class CleanupTask extends CassandraTask {
             this.diskMb = task.diskMb;
             this.status = task.getStatus();
             this.columnFamilies = task.columnFamilies;
+            this.jobs = task.jobs;
             this.keySpaces = task.keySpaces;
         }
 
@@ -378,6 +380,28 @@ public class CleanupTask extends CassandraTask {
             return this;
         }
 
+        /**
+         * Gets the jobs.
+         *
+         * @return The number of SSTables cleaned at the same time, or 0 to
+         * use all of the compaction threads.
+         */
+        public int getJobs() {
+            return jobs;
+        }
+
+        /**
+         * Sets the jobs.
+         *
+         * @param jobs The number of SSTables cleaned at the same time, or 0 to
+         *             use all of the compaction threads.
+         * @return The Builder instance.
+         */
+        public Builder setJobs(int jobs) {
+            this.jobs = jobs;
+            return this;
+        }
+
         /**
          * Creates a CleanupTask.
          *
@@ -396,7 +420,8 @@ public class CleanupTask extends CassandraTask {
                     diskMb,
                     status,
                     keySpaces,
-                    columnFamilies);
+                    columnFamilies,
+                    jobs);
         }
     }
 
@@ -407,6 +432,9 @@ public class CleanupTask extends CassandraTask {
     @JsonProperty("column_families")
     private final List<String> columnFamilies;
 
+    @JsonProperty("jobs")
+    private final int jobs;
+
     /**
      * Creates a new CleanupTask.
      *
@@ -425,6 +453,8 @@ public class CleanupTask extends CassandraTask {
      *                       empty, all column families will be cleaned.
      * @param keySpaces      The key spaces that will be cleaned. If empty, all
      *                       non-system key spaces will be cleaned.
+     * @param jobs           The number of SSTables cleaned at the same time,
+     *                       or 0 to use all of the compaction threads.
      * @return A CleanupTask constructed from the parameters.
      */
     @JsonCreator
@@ -441,7 +471,8 @@ public class CleanupTask extends CassandraTask {
             @JsonProperty("disk_mb") int diskMb,
             @JsonProperty("status") CleanupStatus status,
             @JsonProperty("key_spaces") List<String> keySpaces,
-            @JsonProperty("column_families") List<String> columnFamilies) {
+            @JsonProperty("column_families") List<String> columnFamilies,
+            @JsonProperty("jobs") int jobs) {
         return new CleanupTask(id,
                 slaveId,
                 hostname,
@@ -454,7 +485,8 @@ public class CleanupTask extends CassandraTask {
                 diskMb,
                 status,
                 keySpaces,
-                columnFamilies);
+                columnFamilies,
+                jobs);
     }
 
     /**
@@ -475,6 +507,8 @@ public class CleanupTask extends CassandraTask {
      *                       empty, all column families will be cleaned.
      * @param keySpaces      The key spaces that will be cleaned. If empty, all
      *                       non-system key spaces will be cleaned.
+     * @param jobs           The number of SSTables cleaned at the same time,
+     *                       or 0 to use all of the compaction threads.
      */
     protected CleanupTask(
             String id,
@@ -489,7 +523,8 @@ public class CleanupTask extends CassandraTask {
             int diskMb,
             CleanupStatus status,
             List<String> keySpaces,
-            List<String> columnFamilies) {
+            List<String> columnFamilies,
+            int jobs) {
         super(CassandraTask.TYPE.CLEANUP,
                 id,
                 slaveId,
@@ -506,6 +541,7 @@ public class CleanupTask extends CassandraTask {
 
         this.keySpaces = ImmutableList.copyOf(keySpaces);
         this.columnFamilies = ImmutableList.copyOf(columnFamilies);
+        this.jobs = jobs;
     }
 
     /**
@@ -527,12 +563,22 @@ public class CleanupTask extends CassandraTask {
     }
 
 
+    /**
+     * Gets the jobs.
+     * @return The number of SSTables cleaned at the same time, or 0 to use all
+     * of the compaction threads.
+     */
+    public int getJobs() {
+        return jobs;
+    }
+
     @Override
     public CassandraProtos.CassandraTaskData getTaskData() {
         return CassandraProtos.CassandraTaskData.newBuilder()
                 .setType(CassandraProtos.CassandraTaskData.TYPE.CLEANUP)
                 .addAllColumnFamilies(columnFamilies)
                 .addAllKeySpaces(keySpaces)
+                .setJobs(jobs)
                 .build();
     }
 
@@ -550,7 +596,8 @@ public class CleanupTask extends CassandraTask {
                 diskMb,
                 (CleanupStatus) status,
                 keySpaces,
-                columnFamilies);
+                columnFamilies,
+                jobs);
     }
 
     @Override
@@ -567,7 +614,8 @@ public class CleanupTask extends CassandraTask {
                 diskMb,
                 (CleanupStatus) status,
                 keySpaces,
-                columnFamilies);
+                columnFamilies,
+                jobs);
     }
 
     @Override
@@ -584,7 +632,8 @@ public class CleanupTask extends CassandraTask {
                 diskMb,
                 ((CleanupStatus) status).update(state),
                 keySpaces,
-                columnFamilies);
+                columnFamilies,
+                jobs);
     }
 
     @Override
@@ -604,7 +653,8 @@ public class CleanupTask extends CassandraTask {
                     diskMb,
                     (CleanupStatus) status,
                     keySpaces,
-                    columnFamilies);
+                    columnFamilies,
+                    jobs);
         } else {
             return this;
         }
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.common.tasks.maintenance;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableSet;
+import com.mesosphere.dcos.cassandra.common.serialization.SerializationException;
+import com.mesosphere.dcos.cassandra.common.serialization.Serializer;
+import com.mesosphere.dcos.cassandra.common.tasks.ClusterTaskContext;
+import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+
+/**
+ * MaintenanceContext implements ClusterTaskContext to provide a context for
+ * cluster wide maintenance operations. A maintenance operation runs one of
+ * the table operations of the Cassandra daemon (major compaction, SSTable
+ * upgrade, flush or scrub) on each node, for example to rewrite the SSTables
+ * of the cluster after a version upgrade.
+ * If the key spaces for the context are empty, all non-system key spaces are
+ * used.
+ * If the column families for the context are empty, all non-system column
+ * families are used.
+ * Nodes whose replicas do not overlap may be processed at the same time, up
+ * to the concurrency of the operation in each data center.
+ */
+public class MaintenanceContext implements ClusterTaskContext {
+
+    /**
+     * Performs a major compaction of the tables.
+     */
+    public static final String OPERATION_COMPACT = "compact";
+
+    /**
+     * Rewrites the SSTables that are not in the current format.
+     */
+    public static final String OPERATION_UPGRADE_SSTABLES = "upgradesstables";
+
+    /**
+     * Flushes the memtables of the tables.
+     */
+    public static final String OPERATION_FLUSH = "flush";
+
+    /**
+     * Rewrites the SSTables of the tables, discarding corrupted rows.
+     */
+    public static final String OPERATION_SCRUB = "scrub";
+
+    /**
+     * The supported maintenance operations.
+     */
+    public static final Set<String> OPERATIONS = ImmutableSet.of(
+            OPERATION_COMPACT,
+            OPERATION_UPGRADE_SSTABLES,
+            OPERATION_FLUSH,
+            OPERATION_SCRUB);
+
+    /**
+     * Serializer serializes and deserializes a MaintenanceContext to and from
+     * a JSON object.
+     */
+    public static final Serializer<MaintenanceContext> JSON_SERIALIZER =
+            new Serializer<MaintenanceContext>() {
+                @Override
+                public byte[] serialize(MaintenanceContext value)
+                        throws SerializationException {
+                    try {
+                        return JsonUtils.MAPPER.writeValueAsBytes(value);
+                    } catch (IOException ex) {
+                        throw new SerializationException("Serialization " +
+                                "failed", ex);
+                    }
+                }
+
+                @Override
+                public MaintenanceContext deserialize(byte[] bytes)
+                        throws SerializationException {
+                    try {
+                        return JsonUtils.MAPPER.readValue(bytes,
+                                MaintenanceContext.class);
+                    } catch (IOException ex) {
+                        throw new SerializationException("Deserialization " +
+                                "failed", ex);
+                    }
+                }
+            };
+
+    /**
+     * Creates a new MaintenanceContext
+     * @param operation The maintenance operation.
+     * @param nodes The nodes on which the operation will be performed.
+     * @param keySpaces The key spaces that will be processed. If empty, all
+     *                  non-system key spaces will be processed.
+     * @param columnFamilies The column families that will be processed. If
+     *                       empty, all column families will be processed.
+     * @param jobs The number of SSTables that are processed at the same time,
+     *             or 0 to use all of the compaction threads.
+     * @param throughputMb The compaction throughput of the nodes in Mb per
+     *                     second while the operation runs, or 0 to keep the
+     *                     configured throughput.
+     * @param concurrency The maximum number of nodes of each data center
+     *                    that are processed at the same time.
+     * @return A MaintenanceContext constructed from the parameters.
+     */
+    @JsonCreator
+    public static MaintenanceContext create(
+            @JsonProperty("operation") final String operation,
+            @JsonProperty("nodes") final List<String> nodes,
+            @JsonProperty("keySpaces") final List<String> keySpaces,
+            @JsonProperty("columnFamilies") final List<String> columnFamilies,
+            @JsonProperty("jobs") final int jobs,
+            @JsonProperty("throughputMb") final int throughputMb,
+            @JsonProperty("concurrency") final int concurrency) {
+        return new MaintenanceContext(operation, nodes, keySpaces,
+                columnFamilies, jobs, throughputMb, concurrency);
+    }
+
+    @JsonProperty("operation")
+    private final String operation;
+    @JsonProperty("nodes")
+    private final List<String> nodes;
+    @JsonProperty("keySpaces")
+    private final List<String> keySpaces;
+    @JsonProperty("columnFamilies")
+    private final List<String> columnFamilies;
+    @JsonProperty("jobs")
+    private final int jobs;
+    @JsonProperty("throughputMb")
+    private final int throughputMb;
+    @JsonProperty("concurrency")
+    private final int concurrency;
+
+    /**
+     * Constructs a new MaintenanceContext
+     * @param operation The maintenance operation.
+     * @param nodes The nodes on which the operation will be performed.
+     * @param keySpaces The key spaces that will be processed. If empty, all
+     *                  non-system key spaces will be processed.
+     * @param columnFamilies The column families that will be processed. If
+     *                       empty, all column families will be processed.
+     * @param jobs The number of SSTables that are processed at the same time,
+     *             or 0 to use all of the compaction threads.
+     * @param throughputMb The compaction throughput of the nodes in Mb per
+     *                     second while the operation runs, or 0 to keep the
+     *                     configured throughput.
+     * @param concurrency The maximum number of nodes of each data center
+     *                    that are processed at the same time. Values less
+     *                    than 1 are treated as 1.
+     */
+    public MaintenanceContext(final String operation,
+                              final List<String> nodes,
+                              final List<String> keySpaces,
+                              final List<String> columnFamilies,
+                              final int jobs,
+                              final int throughputMb,
+                              final int concurrency) {
+        this.operation = (operation == null) ? "" : operation;
+        this.nodes = (nodes == null) ? Collections.emptyList() : nodes;
+        this.keySpaces = (keySpaces == null) ?
+                Collections.emptyList() :
+                keySpaces;
+        this.columnFamilies = (columnFamilies == null) ?
+                Collections.emptyList() :
+                columnFamilies;
+        this.jobs = jobs;
+        this.throughputMb = throughputMb;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Gets the operation.
+     * @return The maintenance operation that will be performed.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the nodes for the operation.
+     * @return The names of the nodes on which the operation will be
+     * performed.
+     */
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Gets the column families.
+     * @return The column families that will be processed. If empty, all
+     * column families will be processed.
+     */
+    public List<String> getColumnFamilies() {
+        return columnFamilies;
+    }
+
+    /**
+     * Get the key spaces that will be processed.
+     * @return The key spaces that will be processed. If empty, all
+     * non-system key spaces will be processed.
+     */
+    public List<String> getKeySpaces() {
+        return keySpaces;
+    }
+
+    /**
+     * Gets the jobs.
+     * @return The number of SSTables that are processed at the same time, or
+     * 0 to use all of the compaction threads.
+     */
+    public int getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Gets the throughput.
+     * @return The compaction throughput of the nodes in Mb per second while
+     * the operation runs, or 0 to keep the configured throughput.
+     */
+    public int getThroughputMb() {
+        return throughputMb;
+    }
+
+    /**
+     * Gets the concurrency.
+     * @return The maximum number of nodes of each data center that are
+     * processed at the same time.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MaintenanceContext)) return false;
+        MaintenanceContext that = (MaintenanceContext) o;
+        return Objects.equals(getOperation(), that.getOperation()) &&
+                Objects.equals(getNodes(), that.getNodes()) &&
+                Objects.equals(getKeySpaces(), that.getKeySpaces()) &&
+                Objects.equals(getColumnFamilies(),
+                        that.getColumnFamilies()) &&
+                getJobs() == that.getJobs() &&
+                getThroughputMb() == that.getThroughputMb() &&
+                getConcurrency() == that.getConcurrency();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getOperation(), getNodes(), getKeySpaces(),
+                getColumnFamilies(), getJobs(), getThroughputMb(),
+                getConcurrency());
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtils.toJsonString(this);
+    }
+}
@@ -17,6 +17,7 @@ package com.mesosphere.dcos.cassandra.common.tasks.repair;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableSet;
 import com.mesosphere.dcos.cassandra.common.serialization.SerializationException;
 import com.mesosphere.dcos.cassandra.common.serialization.Serializer;
 import com.mesosphere.dcos.cassandra.common.tasks.ClusterTaskContext;
@@ -26,13 +27,40 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * RepairContext implements ClusterTaskContext to provide a context for
- * cluster wide sequential, primary range, anti-entropy repair.
+ * cluster wide, primary range, anti-entropy repair. The primary ranges of
+ * each node may be split into subranges that are repaired one at a time.
+ * Nodes whose replicas do not overlap may be repaired at the same time, up
+ * to the concurrency of the repair in each data center.
  */
 public class RepairContext implements ClusterTaskContext {
 
+    /**
+     * Replicas are repaired one at a time.
+     */
+    public static final String PARALLELISM_SEQUENTIAL = "sequential";
+
+    /**
+     * All of the replicas are repaired at the same time.
+     */
+    public static final String PARALLELISM_PARALLEL = "parallel";
+
+    /**
+     * One replica of each data center is repaired at a time.
+     */
+    public static final String PARALLELISM_DATACENTER_AWARE = "dc_parallel";
+
+    /**
+     * The repair parallelisms supported by Cassandra.
+     */
+    public static final Set<String> PARALLELISMS = ImmutableSet.of(
+            PARALLELISM_SEQUENTIAL,
+            PARALLELISM_PARALLEL,
+            PARALLELISM_DATACENTER_AWARE);
+
     /**
      * Serializer serializes and deserializes RepairContext to and from a JSON
      * object.
@@ -71,14 +99,32 @@ public class RepairContext implements ClusterTaskContext {
      * @param columnFamilies The column families that will be repaired. If
      *                       empty, all column families for the indicated key
      *                       spaces will be repaired.
+     * @param parallelism The parallelism of the repair of each range.
+     * @param subrangePartitions The estimated number of partitions of each
+     *                           subrange, or 0 if the primary ranges are not
+     *                           split.
+     * @param id The unique identifier of the repair. A node whose repair is
+     *           restarted resumes the subranges of the repair with the same
+     *           identifier.
+     * @param incremental If true, only the SSTables that have not been
+     *                    repaired yet are repaired.
+     * @param concurrency The maximum number of nodes of each data center
+     *                    that are repaired at the same time.
      * @return A new RepairContext.
      */
     @JsonCreator
     public static RepairContext create(
             @JsonProperty("nodes") final List<String> nodes,
             @JsonProperty("keySpaces") final List<String> keySpaces,
-            @JsonProperty("columnFamilies") final List<String> columnFamilies) {
-        return new RepairContext( nodes,keySpaces,columnFamilies);
+            @JsonProperty("columnFamilies") final List<String> columnFamilies,
+            @JsonProperty("parallelism") final String parallelism,
+            @JsonProperty("subrangePartitions") final int subrangePartitions,
+            @JsonProperty("id") final String id,
+            @JsonProperty("incremental") final boolean incremental,
+            @JsonProperty("concurrency") final int concurrency) {
+        return new RepairContext(nodes, keySpaces, columnFamilies,
+                parallelism, subrangePartitions, id, incremental,
+                concurrency);
     }
 
     @JsonProperty("nodes")
@@ -87,6 +133,16 @@ public class RepairContext implements ClusterTaskContext {
     private final List<String> keySpaces;
     @JsonProperty("columnFamilies")
     private final List<String> columnFamilies;
+    @JsonProperty("parallelism")
+    private final String parallelism;
+    @JsonProperty("subrangePartitions")
+    private final int subrangePartitions;
+    @JsonProperty("id")
+    private final String id;
+    @JsonProperty("incremental")
+    private final boolean incremental;
+    @JsonProperty("concurrency")
+    private final int concurrency;
 
     /**
      * Constructs a new RepairContext.
@@ -96,10 +152,25 @@ public class RepairContext implements ClusterTaskContext {
      * @param columnFamilies The column families that will be repaired. If
      *                       empty, all column families for the indicated key
      *                       spaces will be repaired.
+     * @param parallelism The parallelism of the repair of each range.
+     * @param subrangePartitions The estimated number of partitions of each
+     *                           subrange, or 0 if the primary ranges are not
+     *                           split.
+     * @param id The unique identifier of the repair.
+     * @param incremental If true, only the SSTables that have not been
+     *                    repaired yet are repaired.
+     * @param concurrency The maximum number of nodes of each data center
+     *                    that are repaired at the same time. Values less
+     *                    than 1 are treated as 1.
      */
     public RepairContext(final List<String> nodes,
                           final List<String> keySpaces,
-                          final List<String> columnFamilies) {
+                          final List<String> columnFamilies,
+                          final String parallelism,
+                          final int subrangePartitions,
+                          final String id,
+                          final boolean incremental,
+                          final int concurrency) {
         this.nodes = (nodes == null) ? Collections.emptyList() : nodes;
         this.keySpaces = (keySpaces == null) ?
                 Collections.emptyList() :
@@ -107,6 +178,13 @@ public class RepairContext implements ClusterTaskContext {
         this.columnFamilies = (columnFamilies == null) ?
                 Collections.emptyList() :
                 columnFamilies;
+        this.parallelism = (parallelism == null) ?
+                PARALLELISM_SEQUENTIAL :
+                parallelism;
+        this.subrangePartitions = subrangePartitions;
+        this.id = (id == null) ? "" : id;
+        this.incremental = incremental;
+        this.concurrency = Math.max(1, concurrency);
     }
 
     /**
@@ -135,6 +213,49 @@ public class RepairContext implements ClusterTaskContext {
         return keySpaces;
     }
 
+    /**
+     * Gets the parallelism.
+     * @return The parallelism of the repair of each range.
+     */
+    public String getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Gets the subrange partitions.
+     * @return The estimated number of partitions of each subrange, or 0 if
+     * the primary ranges are not split.
+     */
+    public int getSubrangePartitions() {
+        return subrangePartitions;
+    }
+
+    /**
+     * Gets the id.
+     * @return The unique identifier of the repair.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the incremental mode.
+     * @return True if only the SSTables that have not been repaired yet are
+     * repaired.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Gets the concurrency.
+     * @return The maximum number of nodes of each data center that are
+     * repaired at the same time.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -143,12 +264,19 @@ public class RepairContext implements ClusterTaskContext {
         return Objects.equals(getNodes(), that.getNodes()) &&
                 Objects.equals(getKeySpaces(), that.getKeySpaces()) &&
                 Objects.equals(getColumnFamilies(),
-                        that.getColumnFamilies());
+                        that.getColumnFamilies()) &&
+                Objects.equals(getParallelism(), that.getParallelism()) &&
+                getSubrangePartitions() == that.getSubrangePartitions() &&
+                Objects.equals(getId(), that.getId()) &&
+                isIncremental() == that.isIncremental() &&
+                getConcurrency() == that.getConcurrency();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getNodes(), getKeySpaces(), getColumnFamilies());
+        return Objects.hash(getNodes(), getKeySpaces(), getColumnFamilies(),
+                getParallelism(), getSubrangePartitions(), getId(),
+                isIncremental(), getConcurrency());
     }
 
     @Override
@@ -34,8 +34,8 @@ import java.util.List;
 import static org.apache.mesos.protobuf.ResourceBuilder.*;
 
 /**
- * RepairTask performs primary range, sequential, single data center
- * anti-entropy repair on a node. In order to successfully execute, a
+ * RepairTask performs primary range, single data center anti-entropy repair
+ * on a node, optionally splitting its primary ranges into subranges. In order to successfully execute, a
  * CassandraDaemonTask must be running on the slave. If the indicated key
  * spaces are empty, all non-system key spaces will be repaired. If the column
  * families are empty, all column families for the selected key spaces will
@@ -87,6 +87,10 @@ public class RepairTask extends CassandraTask {
         private RepairStatus status;
         private List<String> keySpaces;
         private List<String> columnFamilies;
+        private String parallelism;
+        private int subrangePartitions;
+        private String repairId;
+        private boolean incremental;
 
         private Builder(RepairTask task) {
 
@@ -102,6 +106,10 @@ public class RepairTask extends CassandraTask {
             this.diskMb = task.diskMb;
             this.status = task.getStatus();
             this.columnFamilies = task.columnFamilies;
+            this.parallelism = task.parallelism;
+            this.subrangePartitions = task.subrangePartitions;
+            this.repairId = task.repairId;
+            this.incremental = task.incremental;
             this.keySpaces = task.keySpaces;
         }
 
@@ -333,6 +341,91 @@ public class RepairTask extends CassandraTask {
             return slaveId;
         }
 
+        /**
+         * Gets the parallelism.
+         *
+         * @return The parallelism of the repair of each range.
+         */
+        public String getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the parallelism.
+         *
+         * @param parallelism The parallelism of the repair of each range.
+         * @return The Builder instance.
+         */
+        public Builder setParallelism(String parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Gets the subrange partitions.
+         *
+         * @return The estimated number of partitions of each subrange, or 0
+         * if the primary ranges are not split.
+         */
+        public int getSubrangePartitions() {
+            return subrangePartitions;
+        }
+
+        /**
+         * Sets the subrange partitions.
+         *
+         * @param subrangePartitions The estimated number of partitions of
+         *                           each subrange, or 0 if the primary
+         *                           ranges are not split.
+         * @return The Builder instance.
+         */
+        public Builder setSubrangePartitions(int subrangePartitions) {
+            this.subrangePartitions = subrangePartitions;
+            return this;
+        }
+
+        /**
+         * Gets the repair id.
+         *
+         * @return The unique identifier of the repair.
+         */
+        public String getRepairId() {
+            return repairId;
+        }
+
+        /**
+         * Sets the repair id.
+         *
+         * @param repairId The unique identifier of the repair.
+         * @return The Builder instance.
+         */
+        public Builder setRepairId(String repairId) {
+            this.repairId = repairId;
+            return this;
+        }
+
+        /**
+         * Gets the incremental mode.
+         *
+         * @return True if only the SSTables that have not been repaired yet
+         * are repaired.
+         */
+        public boolean isIncremental() {
+            return incremental;
+        }
+
+        /**
+         * Sets the incremental mode.
+         *
+         * @param incremental If true, only the SSTables that have not been
+         *                    repaired yet are repaired.
+         * @return The Builder instance.
+         */
+        public Builder setIncremental(boolean incremental) {
+            this.incremental = incremental;
+            return this;
+        }
+
         /**
          * Sets the slave id.
          *
@@ -367,7 +460,11 @@ public class RepairTask extends CassandraTask {
                     diskMb,
                     status,
                     keySpaces,
-                    columnFamilies);
+                    columnFamilies,
+                    parallelism,
+                    subrangePartitions,
+                    repairId,
+                    incremental);
         }
     }
 
@@ -377,6 +474,18 @@ public class RepairTask extends CassandraTask {
     @JsonProperty("column_families")
     private final List<String> columnFamilies;
 
+    @JsonProperty("parallelism")
+    private final String parallelism;
+
+    @JsonProperty("subrange_partitions")
+    private final int subrangePartitions;
+
+    @JsonProperty("repair_id")
+    private final String repairId;
+
+    @JsonProperty("incremental")
+    private final boolean incremental;
+
 
     /**
      * Creates a new RepairTask.
@@ -396,6 +505,15 @@ public class RepairTask extends CassandraTask {
      *                       empty, all column families will be repaired.
      * @param keySpaces      The key spaces that will be repaired. If empty, all
      *                       non-system key spaces will be repaired.
+     * @param parallelism    The parallelism of the repair of each range.
+     * @param subrangePartitions The estimated number of partitions of each
+     *                           subrange, or 0 if the primary ranges are not
+     *                           split.
+     * @param repairId       The unique identifier of the repair. A restarted
+     *                       repair resumes the subranges repaired by the
+     *                       previous tasks with the same identifier.
+     * @param incremental    If true, only the SSTables that have not been
+     *                       repaired yet are repaired.
      * @return A RepairTask constructed from the parameters.
      */
     @JsonCreator
@@ -412,7 +530,11 @@ public class RepairTask extends CassandraTask {
             @JsonProperty("disk_mb") int diskMb,
             @JsonProperty("status") RepairStatus status,
             @JsonProperty("key_spaces") List<String> keySpaces,
-            @JsonProperty("column_families") List<String> columnFamilies) {
+            @JsonProperty("column_families") List<String> columnFamilies,
+            @JsonProperty("parallelism") String parallelism,
+            @JsonProperty("subrange_partitions") int subrangePartitions,
+            @JsonProperty("repair_id") String repairId,
+            @JsonProperty("incremental") boolean incremental) {
         return new RepairTask(id,
                 slaveId,
                 hostname,
@@ -425,7 +547,11 @@ public class RepairTask extends CassandraTask {
                 diskMb,
                 status,
                 keySpaces,
-                columnFamilies);
+                columnFamilies,
+                parallelism,
+                subrangePartitions,
+                repairId,
+                incremental);
     }
 
     /**
@@ -446,6 +572,15 @@ public class RepairTask extends CassandraTask {
      *                       empty, all column families will be repaired.
      * @param keySpaces      The key spaces that will be repaired. If empty, all
      *                       non-system key spaces will be repaired.
+     * @param parallelism    The parallelism of the repair of each range.
+     * @param subrangePartitions The estimated number of partitions of each
+     *                           subrange, or 0 if the primary ranges are not
+     *                           split.
+     * @param repairId       The unique identifier of the repair. A restarted
+     *                       repair resumes the subranges repaired by the
+     *                       previous tasks with the same identifier.
+     * @param incremental    If true, only the SSTables that have not been
+     *                       repaired yet are repaired.
      */
     protected RepairTask(
             String id,
@@ -460,7 +595,11 @@ public class RepairTask extends CassandraTask {
             int diskMb,
             RepairStatus status,
             List<String> keySpaces,
-            List<String> columnFamilies) {
+            List<String> columnFamilies,
+            String parallelism,
+            int subrangePartitions,
+            String repairId,
+            boolean incremental) {
         super(CassandraTask.TYPE.REPAIR,
                 id,
                 slaveId,
@@ -477,6 +616,12 @@ public class RepairTask extends CassandraTask {
 
         this.keySpaces = ImmutableList.copyOf(keySpaces);
         this.columnFamilies = ImmutableList.copyOf(columnFamilies);
+        this.parallelism = (parallelism == null || parallelism.isEmpty()) ?
+                RepairContext.PARALLELISM_SEQUENTIAL :
+                parallelism;
+        this.subrangePartitions = subrangePartitions;
+        this.repairId = (repairId == null) ? "" : repairId;
+        this.incremental = incremental;
     }
 
     /**
@@ -498,12 +643,50 @@ public class RepairTask extends CassandraTask {
     }
 
 
+    /**
+     * Gets the parallelism.
+     * @return The parallelism of the repair of each range.
+     */
+    public String getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Gets the subrange partitions.
+     * @return The estimated number of partitions of each subrange, or 0 if
+     * the primary ranges are not split.
+     */
+    public int getSubrangePartitions() {
+        return subrangePartitions;
+    }
+
+    /**
+     * Gets the repair id.
+     * @return The unique identifier of the repair.
+     */
+    public String getRepairId() {
+        return repairId;
+    }
+
+    /**
+     * Gets the incremental mode.
+     * @return True if only the SSTables that have not been repaired yet
+     * are repaired.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
     @Override
     public CassandraProtos.CassandraTaskData getTaskData() {
         return CassandraProtos.CassandraTaskData.newBuilder()
                 .setType(CassandraProtos.CassandraTaskData.TYPE.REPAIR)
                 .addAllColumnFamilies(columnFamilies)
                 .addAllKeySpaces(keySpaces)
+                .setParallelism(parallelism)
+                .setSubrangePartitions(subrangePartitions)
+                .setRepairId(repairId)
+                .setIncremental(incremental)
                 .build();
     }
 
@@ -521,7 +704,11 @@ public class RepairTask extends CassandraTask {
                 diskMb,
                 (RepairStatus) status,
                 keySpaces,
-                columnFamilies);
+                columnFamilies,
+                parallelism,
+                subrangePartitions,
+                repairId,
+                incremental);
     }
 
     @Override
@@ -538,7 +725,11 @@ public class RepairTask extends CassandraTask {
                 diskMb,
                 (RepairStatus) status,
                 keySpaces,
-                columnFamilies);
+                columnFamilies,
+                parallelism,
+                subrangePartitions,
+                repairId,
+                incremental);
     }
 
     @Override
@@ -555,7 +746,11 @@ public class RepairTask extends CassandraTask {
                 diskMb,
                 ((RepairStatus) status).update(state),
                 keySpaces,
-                columnFamilies);
+                columnFamilies,
+                parallelism,
+                subrangePartitions,
+                repairId,
+                incremental);
     }
 
     @Override
@@ -575,7 +770,11 @@ public class RepairTask extends CassandraTask {
                     diskMb,
                     (RepairStatus) status,
                     keySpaces,
-                    columnFamilies);
+                    columnFamilies,
+                    parallelism,
+                    subrangePartitions,
+                    repairId,
+                    incremental);
         } else {
             return this;
         }
@@ -20,23 +20,48 @@ import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonTask;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraMode;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraStatus;
+import com.mesosphere.dcos.cassandra.common.tasks.DiskUsage;
 import com.mesosphere.dcos.cassandra.executor.metrics.MetricsConfig;
+import com.mesosphere.dcos.cassandra.executor.repair.RepairProgressListener;
+import com.mesosphere.dcos.cassandra.executor.startup.StartupBackoff;
+import com.mesosphere.dcos.cassandra.executor.startup.StartupLogMonitor;
+import com.mesosphere.dcos.cassandra.executor.startup.StartupMetrics;
+import org.apache.cassandra.metrics.CassandraMetricsRegistry;
+import org.apache.cassandra.service.StorageServiceMBean;
+import org.apache.cassandra.streaming.SessionInfo;
+import org.apache.cassandra.streaming.StreamState;
 import org.apache.cassandra.tools.NodeProbe;
 import org.apache.mesos.ExecutorDriver;
 import org.apache.mesos.Protos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
+import javax.management.JMException;
+import javax.management.JMX;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -60,6 +85,18 @@ public class CassandraDaemonProcess {
 
     private static final Object CLOSED = new Object();
 
+    private static final String JMX_URL =
+            "service:jmx:rmi:///jndi/rmi://[%s]:%d/jmxrmi";
+    private static final String LOCALHOST = "127.0.0.1";
+    private static final String STORAGE_SERVICE_MBEAN =
+            "org.apache.cassandra.db:type=StorageService";
+    private static final String REPAIR_STREAM_DESCRIPTION = "Repair";
+    private static final String VALIDATION_TASK_TYPE = "Validation";
+    private static final long POLL_MS = 1000;
+    private static final long STABLE_POLL_MS = 30000;
+    private static final String STDOUT_LOG = "cassandra-stdout.log";
+    private static final long JMX_CONNECT_TIMEOUT_MS = 1000;
+
     private static class WatchDog implements Runnable {
 
         public static final WatchDog create(
@@ -142,6 +179,12 @@ public class CassandraDaemonProcess {
         }
     }
 
+    /**
+     * ModeReporter sends a status update to the scheduler when the mode of
+     * the daemon changes. It is run by the mode poll and whenever the
+     * StorageService of the daemon emits a notification, and it is safe to
+     * run from several threads at once.
+     */
     private static final class ModeReporter implements Runnable {
 
         public static ModeReporter create(
@@ -173,14 +216,13 @@ public class CassandraDaemonProcess {
             this.mode = mode;
         }
 
-        public void run() {
+        public synchronized void run() {
 
             if (open.get()) {
 
 
                 CassandraMode current = CassandraMode.valueOf(
                         probe.getOperationMode());
-                ;
 
                 if (!mode.get().equals(current)) {
                     mode.set(current);
@@ -201,6 +243,17 @@ public class CassandraDaemonProcess {
         }
     }
 
+    /**
+     * Tests if a mode is stable. A normal node only leaves its mode when it
+     * is drained, decommissioned or moved, and a drained or decommissioned
+     * node only leaves its mode when the daemon is restarted.
+     */
+    private static boolean isStable(final CassandraMode mode) {
+        return mode == CassandraMode.NORMAL ||
+                mode == CassandraMode.DRAINED ||
+                mode == CassandraMode.DECOMMISSIONED;
+    }
+
     private static CassandraStatus getCassandraStatus(final NodeProbe probe) {
         return CassandraStatus.create(
                 CassandraMode.valueOf(
@@ -243,6 +296,8 @@ public class CassandraDaemonProcess {
      * @param executor The ScheduledExecutorService to use for background
      *                 Runnables (The watchdog and status reporter).
      * @param driver   The ExecutorDriver for the CassandraExecutor.
+     * @param metrics  The StartupMetrics that record the phases of the
+     *                 start of the process.
      * @return A CassandraDaemonProcess constructed from the
      * @throws IOException If an error occurs attempting to start the
      *                     CassandraProcess or connect to it via NodeProbe.
@@ -250,19 +305,23 @@ public class CassandraDaemonProcess {
     public static final CassandraDaemonProcess create(
             final CassandraDaemonTask task,
             final ScheduledExecutorService executor,
-            final ExecutorDriver driver) throws IOException {
+            final ExecutorDriver driver,
+            final StartupMetrics metrics) throws IOException {
 
-        return new CassandraDaemonProcess(task, executor, driver);
+        return new CassandraDaemonProcess(task, executor, driver, metrics);
     }
 
 
     private final CassandraDaemonTask task;
     private final ScheduledExecutorService executor;
+    private final StartupMetrics startupMetrics;
     private final CassandraPaths paths;
     private final Process process;
     private final AtomicBoolean open = new AtomicBoolean(true);
     private final AtomicReference<CassandraMode> mode;
+    private final ModeReporter modeReporter;
     private final NodeProbe probe;
+    private final CassandraSession session;
     private final CompletableFuture<Object> closeFuture =
             new CompletableFuture<>();
 
@@ -277,6 +336,52 @@ public class CassandraDaemonProcess {
         }
     }
 
+    /**
+     * Opens a JMX connection to the daemon for operations that need their
+     * own connection, or a different API, than the shared NodeProbe.
+     */
+    private JMXConnector connectJmx() throws IOException {
+        return JMXConnectorFactory.connect(new JMXServiceURL(String.format(
+                JMX_URL, LOCALHOST, task.getConfig().getJmxPort())));
+    }
+
+    /**
+     * Polls the mode of the daemon. The StorageService of Cassandra 2.2 does
+     * not notify mode changes, so the mode is polled every second while the
+     * node moves between modes, e.g. while it starts or joins the ring. Once
+     * the node is in a stable mode it is polled slowly: the drains and
+     * decommissions started by the executor check the mode as soon as they
+     * return, and only those started outside of the executor wait for the
+     * next poll.
+     */
+    private void pollMode() {
+        try {
+            modeReporter.run();
+        } catch (Throwable t) {
+            LOGGER.warn("Failed to poll Cassandra Daemon mode", t);
+        } finally {
+            if (open.get()) {
+                executor.schedule(this::pollMode,
+                        isStable(mode.get()) ? STABLE_POLL_MS : POLL_MS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Checks the mode of the daemon on the executor, so that a mode change
+     * is reported without waiting for the next poll.
+     */
+    private void checkMode() {
+        executor.execute(() -> {
+            try {
+                modeReporter.run();
+            } catch (Throwable t) {
+                LOGGER.warn("Failed to check Cassandra Daemon mode", t);
+            }
+        });
+    }
+
     private Process createDaemon() throws IOException {
 
         final ProcessBuilder builder = new ProcessBuilder(
@@ -286,7 +391,7 @@ public class CassandraDaemonProcess {
                 "-f"
         )
                 .directory(new File(System.getProperty("user.dir")))
-                .redirectOutput(new File("cassandra-stdout.log"))
+                .redirectOutput(new File(STDOUT_LOG))
                 .redirectError(new File("cassandra-stderr.log"));
 
         builder.environment().putAll(task.getConfig().getHeap().toEnv());
@@ -296,30 +401,65 @@ public class CassandraDaemonProcess {
         return builder.start();
     }
 
+    /**
+     * Tests if the JMX port of the daemon accepts connections. The connect is
+     * non-blocking and bounded by timeoutMs, so a port that is not yet bound
+     * fails fast and a node that does not answer does not hang the caller.
+     */
+    private boolean isJmxPortOpen(long timeoutMs) {
+        try (SocketChannel channel = SocketChannel.open();
+             Selector selector = Selector.open()) {
+            channel.configureBlocking(false);
+            if (channel.connect(new InetSocketAddress(LOCALHOST,
+                    task.getConfig().getJmxPort()))) {
+                return true;
+            }
+            channel.register(selector, SelectionKey.OP_CONNECT);
+            return selector.select(timeoutMs) > 0 && channel.finishConnect();
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Connects the NodeProbe to the daemon. The NodeProbe, and its RMI
+     * connection, is only created once the JMX port accepts connections.
+     * Attempts are paced by a StartupBackoff until its deadline.
+     */
     private NodeProbe connectProbe() {
 
-        NodeProbe nodeProbe;
+        final StartupBackoff backoff = StartupBackoff.create();
 
-        while (open.get()) {
-            try {
-                nodeProbe = new NodeProbe("127.0.0.1",
-                        task.getConfig().getJmxPort());
-                LOGGER.info("Node probe is successfully connected to the " +
-                                "Cassandra Daemon: port {}",
-                        task.getConfig().getJmxPort());
-                return nodeProbe;
-            } catch (Exception ex) {
-
-                LOGGER.info("Connection to server failed backing off for 500 " +
-                        "ms");
+        while (open.get() && backoff.hasTime()) {
+            startupMetrics.jmxConnectAttempted();
+            if (isJmxPortOpen(JMX_CONNECT_TIMEOUT_MS)) {
                 try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
+                    final NodeProbe nodeProbe = new NodeProbe(LOCALHOST,
+                            task.getConfig().getJmxPort());
+                    startupMetrics.jmxConnected();
+                    LOGGER.info("Node probe is successfully connected to " +
+                                    "the Cassandra Daemon: port {}",
+                            task.getConfig().getJmxPort());
+                    return nodeProbe;
+                } catch (Exception ex) {
+                    LOGGER.debug("Node probe connection failed", ex);
                 }
+            }
 
+            final long sleep = backoff.nextDelayMs();
+            LOGGER.info("Connection to server failed backing off for {} ms",
+                    sleep);
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException e) {
             }
         }
 
+        if (open.get()) {
+            // The daemon is running but never opened JMX, it is killed so
+            // that the watchdog reports the task as failed.
+            process.destroyForcibly();
+        }
         throw new IllegalStateException(
                 String.format("Failed to connect to Cassandra " +
                         "Daemon: port = %s", task.getConfig().getJmxPort()));
@@ -334,16 +474,20 @@ public class CassandraDaemonProcess {
      * @param executor The ScheduledExecutorService to use for background
      *                 Runnables (The watchdog and status reporter).
      * @param driver   The ExecutorDriver for the CassandraExecutor
+     * @param metrics  The StartupMetrics that record the phases of the
+     *                 start of the process.
      * @throws IOException If an error occurs attempting to start the
      *                     CassandraProcess or connect to it via NodeProbe.
      */
     public CassandraDaemonProcess(final CassandraDaemonTask task,
                                   final ScheduledExecutorService executor,
-                                  final ExecutorDriver driver)
+                                  final ExecutorDriver driver,
+                                  final StartupMetrics metrics)
             throws IOException {
 
         this.task = task;
         this.executor = executor;
+        this.startupMetrics = metrics;
         this.paths = CassandraPaths.create(
                 task.getConfig().getVersion());
         task.getConfig().getLocation().writeProperties(
@@ -357,10 +501,16 @@ public class CassandraDaemonProcess {
                 .setRpcAddress(getListenAddress())
                 .build().writeDaemonConfiguration(paths.cassandraConfig());
 
+        startupMetrics.daemonLaunched();
         process = createDaemon();
         executor.submit(
                 WatchDog.create(task, process, driver, open, closeFuture));
+        executor.submit(new StartupLogMonitor(Paths.get(STDOUT_LOG),
+                startupMetrics, open));
         probe = connectProbe();
+        session = CassandraSession.create(new InetSocketAddress(
+                probe.getEndpoint(),
+                task.getConfig().getApplication().getNativeTransportPort()));
         CassandraMode current = CassandraMode.valueOf(probe.getOperationMode());
         mode = new AtomicReference<>(current);
 
@@ -374,13 +524,12 @@ public class CassandraDaemonProcess {
                         current);
         driver.sendStatusUpdate(daemonStatus.toProto());
         LOGGER.debug("Sent status update = {} ", daemonStatus);
-        executor.scheduleAtFixedRate(
-                ModeReporter.create(task,
-                        probe,
-                        driver,
-                        open,
-                        mode),
-                1, 1, TimeUnit.SECONDS);
+        modeReporter = ModeReporter.create(task,
+                probe,
+                driver,
+                open,
+                mode);
+        executor.schedule(this::pollMode, POLL_MS, TimeUnit.MILLISECONDS);
     }
 
 
@@ -394,6 +543,16 @@ public class CassandraDaemonProcess {
         return this.probe;
     }
 
+    /**
+     * Gets the session.
+     *
+     * @return The CassandraSession shared by the tasks of the executor to
+     * communicate with the cluster through CQL.
+     */
+    public CassandraSession getSession() {
+        return this.session;
+    }
+
     /**
      * Gets the task.
      *
@@ -423,6 +582,32 @@ public class CassandraDaemonProcess {
         return getCassandraStatus(probe);
     }
 
+    /**
+     * Gets the persistent volume.
+     *
+     * @return The absolute path of the persistent volume of the node.
+     */
+    public Path getVolume() {
+        return Paths.get("").resolve(task.getConfig().getVolume().getPath())
+                .toAbsolutePath();
+    }
+
+    /**
+     * Gets the disk usage of the persistent volume. The size and free space
+     * are those of the file store of the volume, and the live bytes are the
+     * load of the node as accounted by Cassandra, so no directory is
+     * traversed.
+     *
+     * @return The DiskUsage of the persistent volume of the node.
+     * @throws IOException If the file store of the volume can not be read.
+     */
+    public DiskUsage getDiskUsage() throws IOException {
+        final FileStore store = Files.getFileStore(getVolume());
+        return DiskUsage.create(store.getTotalSpace(),
+                store.getUsableSpace(),
+                ((Number) probe.getStorageMetric("Load")).longValue());
+    }
+
     /**
      * Gets the status of the Java process.
      *
@@ -457,6 +642,7 @@ public class CassandraDaemonProcess {
      */
     public void shutdown() {
 
+        session.close();
         try {
             probe.stopCassandraDaemon();
         } catch (Throwable expected) {
@@ -479,6 +665,7 @@ public class CassandraDaemonProcess {
      * executor to shutdown.
      */
     public void kill() {
+        session.close();
         try {
             process.destroyForcibly();
         } catch (Throwable expected) {
@@ -514,24 +701,187 @@ public class CassandraDaemonProcess {
      * @param keySpace       The key space to cleanup.
      * @param columnFamilies A list of the column families to clean. If
      *                       empty, all column families are cleaned.
+     * @param jobs           The number of SSTables that are cleaned at the
+     *                       same time, or 0 to use all of the compaction
+     *                       threads.
      * @throws InterruptedException If the task is interrupted.
      * @throws ExecutionException   If execution fails.
      * @throws IOException          If an IOException occurs communicating with the
-     *                              process.
+     *                              process or the cleanup is aborted.
      */
     public void cleanup(String keySpace,
-                        List<String> columnFamilies)
+                        List<String> columnFamilies,
+                        int jobs)
             throws InterruptedException, ExecutionException, IOException {
+        String[] families = new String[columnFamilies.size()];
+        families = columnFamilies.toArray(families);
+        try (JMXConnector connector = connectJmx()) {
+            final int result = getStorageService(connector)
+                    .forceKeyspaceCleanup(jobs, keySpace, families);
+            if (result != 0) {
+                throw new IOException(String.format("Cleanup aborted: " +
+                                "keySpace = %s, columnFamilies = %s, see " +
+                                "the Cassandra logs", keySpace,
+                        columnFamilies));
+            }
+        } catch (JMException ex) {
+            throw new IOException("Cleanup failed: keySpace = " + keySpace,
+                    ex);
+        }
+    }
 
-        if (columnFamilies.isEmpty()) {
-            this.probe.forceKeyspaceCleanup(keySpace);
-        } else {
-            String[] families = new String[columnFamilies.size()];
-            families = columnFamilies.toArray(families);
-            this.probe.forceKeyspaceCleanup(keySpace, families);
+    /**
+     * Gets a proxy of the StorageService of the daemon over connector.
+     */
+    private StorageServiceMBean getStorageService(JMXConnector connector)
+            throws IOException, JMException {
+        return JMX.newMBeanProxy(
+                connector.getMBeanServerConnection(),
+                new ObjectName(STORAGE_SERVICE_MBEAN),
+                StorageServiceMBean.class);
+    }
+
+    /**
+     * Performs a major compaction of the indicated key space and column
+     * families.
+     *
+     * @param keySpace       The key space to compact.
+     * @param columnFamilies A list of the column families to compact. If
+     *                       empty, all column families are compacted.
+     * @throws InterruptedException If the task is interrupted.
+     * @throws ExecutionException   If execution fails.
+     * @throws IOException          If an IOException occurs communicating
+     *                              with the process.
+     */
+    public void compact(String keySpace, List<String> columnFamilies)
+            throws InterruptedException, ExecutionException, IOException {
+        try (JMXConnector connector = connectJmx()) {
+            getStorageService(connector).forceKeyspaceCompaction(false,
+                    keySpace, columnFamilies.toArray(new String[0]));
+        } catch (JMException ex) {
+            throw new IOException("Compaction failed: keySpace = " +
+                    keySpace, ex);
         }
     }
 
+    /**
+     * Rewrites the SSTables of the indicated key space and column families
+     * that are not in the format of the current version of Cassandra.
+     *
+     * @param keySpace       The key space to upgrade.
+     * @param columnFamilies A list of the column families to upgrade. If
+     *                       empty, all column families are upgraded.
+     * @param jobs           The number of SSTables that are upgraded at the
+     *                       same time, or 0 to use all of the compaction
+     *                       threads.
+     * @throws InterruptedException If the task is interrupted.
+     * @throws ExecutionException   If execution fails.
+     * @throws IOException          If an IOException occurs communicating
+     *                              with the process or the upgrade is
+     *                              aborted.
+     */
+    public void upgradeSSTables(String keySpace,
+                                List<String> columnFamilies,
+                                int jobs)
+            throws InterruptedException, ExecutionException, IOException {
+        try (JMXConnector connector = connectJmx()) {
+            final int result = getStorageService(connector).upgradeSSTables(
+                    keySpace, true, jobs,
+                    columnFamilies.toArray(new String[0]));
+            if (result != 0) {
+                throw new IOException(String.format("Upgrade aborted: " +
+                                "keySpace = %s, columnFamilies = %s, see " +
+                                "the Cassandra logs", keySpace,
+                        columnFamilies));
+            }
+        } catch (JMException ex) {
+            throw new IOException("Upgrade failed: keySpace = " + keySpace,
+                    ex);
+        }
+    }
+
+    /**
+     * Flushes the memtables of the indicated key space and column families
+     * to SSTables.
+     *
+     * @param keySpace       The key space to flush.
+     * @param columnFamilies A list of the column families to flush. If
+     *                       empty, all column families are flushed.
+     * @throws InterruptedException If the task is interrupted.
+     * @throws ExecutionException   If execution fails.
+     * @throws IOException          If an IOException occurs communicating
+     *                              with the process.
+     */
+    public void flush(String keySpace, List<String> columnFamilies)
+            throws InterruptedException, ExecutionException, IOException {
+        try (JMXConnector connector = connectJmx()) {
+            getStorageService(connector).forceKeyspaceFlush(keySpace,
+                    columnFamilies.toArray(new String[0]));
+        } catch (JMException ex) {
+            throw new IOException("Flush failed: keySpace = " + keySpace,
+                    ex);
+        }
+    }
+
+    /**
+     * Scrubs the SSTables of the indicated key space and column families.
+     * A snapshot of the tables is taken before they are scrubbed, the data
+     * of the rows is checked, and corrupted rows abort the scrub rather than
+     * being skipped.
+     *
+     * @param keySpace       The key space to scrub.
+     * @param columnFamilies A list of the column families to scrub. If
+     *                       empty, all column families are scrubbed.
+     * @param jobs           The number of SSTables that are scrubbed at the
+     *                       same time, or 0 to use all of the compaction
+     *                       threads.
+     * @throws InterruptedException If the task is interrupted.
+     * @throws ExecutionException   If execution fails.
+     * @throws IOException          If an IOException occurs communicating
+     *                              with the process or the scrub is aborted.
+     */
+    public void scrub(String keySpace,
+                      List<String> columnFamilies,
+                      int jobs)
+            throws InterruptedException, ExecutionException, IOException {
+        try (JMXConnector connector = connectJmx()) {
+            final int result = getStorageService(connector).scrub(false,
+                    false, true, jobs, keySpace,
+                    columnFamilies.toArray(new String[0]));
+            if (result != 0) {
+                throw new IOException(String.format("Scrub aborted: " +
+                                "keySpace = %s, columnFamilies = %s, see " +
+                                "the Cassandra logs", keySpace,
+                        columnFamilies));
+            }
+        } catch (JMException ex) {
+            throw new IOException("Scrub failed: keySpace = " + keySpace,
+                    ex);
+        }
+    }
+
+    /**
+     * Gets the compaction throughput.
+     *
+     * @return The compaction throughput of the node in Mb per second, or 0
+     * if compaction is not throttled.
+     */
+    public int getCompactionThroughput() {
+        return probe.getCompactionThroughput();
+    }
+
+    /**
+     * Sets the compaction throughput. The throughput applies to all of the
+     * compactions of the node, including cleanup, scrub and SSTable
+     * upgrades, and is not persisted across restarts of the daemon.
+     *
+     * @param throughputMb The compaction throughput of the node in Mb per
+     *                     second, or 0 to disable throttling.
+     */
+    public void setCompactionThroughput(int throughputMb) {
+        probe.setCompactionThroughput(throughputMb);
+    }
+
     /**
      * Cleans the deleted keys and keys that no longer belong to the node for
      * for all key spaces and column families.
@@ -550,33 +900,216 @@ public class CassandraDaemonProcess {
     }
 
     /**
-     * Takes a snapshot of the indicated key space with the given name.
+     * Takes a snapshot of the indicated key spaces with the given name. All
+     * of the key spaces are flushed and snapshotted by a single call to the
+     * node.
      *
-     * @param name     The name of the snapshot.
-     * @param keySpace The name of the key space.
+     * @param name      The name of the snapshot.
+     * @param keySpaces The names of the key spaces.
      * @throws IOException If an error occurs taking the snapshot.
      */
-    public void takeSnapShot(String name, String keySpace) throws IOException {
-        probe.takeSnapshot(name, null, keySpace);
+    public void takeSnapShot(String name, String... keySpaces)
+            throws IOException {
+        probe.takeSnapshot(name, null, keySpaces);
+    }
+
+    /**
+     * Loads the SSTables that have been placed in the data directory of a
+     * table. The load is invoked on the MBean of the table rather than on
+     * StorageService, which serializes the loads of all tables, so that
+     * different tables may be loaded concurrently.
+     *
+     * @param keySpace The name of the key space of the table.
+     * @param table    The name of the table.
+     */
+    public void loadNewSSTables(String keySpace, String table) {
+        probe.getCfsProxy(keySpace, table).loadNewSSTables();
+    }
+
+    /**
+     * Streams the SSTables in a directory to the replicas that own their
+     * data, through the bulk loader of the Cassandra distribution. The ring
+     * is discovered through this node, so the SSTables may come from a
+     * cluster with a different topology.
+     *
+     * @param directory    The directory containing the SSTables. Its last
+     *                     two path elements must be the key space and the
+     *                     data directory of the table.
+     * @param throttleMbit The maximum rate of the stream in Mbit per second
+     *                     or 0 if it is unlimited.
+     * @throws IOException If the bulk loader can not be run or fails.
+     */
+    public void bulkLoad(File directory, int throttleMbit)
+            throws IOException {
+        final List<String> command = new ArrayList<>(Arrays.asList(
+                paths.sstableLoader().toString(),
+                "-d", getListenAddress(),
+                "-p", Integer.toString(task.getConfig().getApplication()
+                        .getNativeTransportPort())));
+        if (throttleMbit > 0) {
+            command.add("-t");
+            command.add(Integer.toString(throttleMbit));
+        }
+        command.add(directory.getAbsolutePath());
+        LOGGER.info("Bulk loading SSTables: command = {}", command);
+        final File log = new File("sstableloader.log");
+        final Process loader = new ProcessBuilder(command)
+                .directory(new File(System.getProperty("user.dir")))
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(log))
+                .start();
+        try {
+            final int exitCode = loader.waitFor();
+            if (exitCode != 0) {
+                throw new IOException(String.format(
+                        "Bulk load of %s failed: exit code = %d, see %s",
+                        directory, exitCode, log));
+            }
+        } catch (InterruptedException ex) {
+            loader.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk load interrupted: " + directory, ex);
+        }
     }
 
     /**
-     * Performs anti-entropy repair on the indicated keySpace.
+     * Performs anti-entropy repair on the indicated keySpace. The repair is
+     * started through a dedicated JMX connection whose StorageService
+     * progress notifications are delivered to listener until the repair
+     * command completes.
      *
      * @param keySpace The keyspace that will be repaired.
      * @param options  The options for the repair operation.
-     * @return The output of the repair operation.
-     * @throws IOException If an error occurs executing the repair or
-     *                     parsing the output.
+     * @param listener The RepairProgressListener that follows the repair.
+     * @throws IOException If an error occurs executing the repair.
      */
-    public String repair(String keySpace, Map<String, String> options)
+    public void repair(String keySpace,
+                       Map<String, String> options,
+                       RepairProgressListener listener)
             throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PrintStream out = new PrintStream(baos);
+        try (JMXConnector connector = connectJmx()) {
+            final MBeanServerConnection connection =
+                    connector.getMBeanServerConnection();
+            final ObjectName storageService =
+                    new ObjectName(STORAGE_SERVICE_MBEAN);
+            connector.addConnectionNotificationListener(listener, null, null);
+            connection.addNotificationListener(storageService, listener,
+                    null, null);
+            try {
+                final int command = JMX.newMBeanProxy(connection,
+                        storageService, StorageServiceMBean.class)
+                        .repairAsync(keySpace, options);
+                if (command > 0) {
+                    listener.await(command);
+                } else {
+                    LOGGER.info("Nothing to repair: keySpace = {}", keySpace);
+                }
+            } finally {
+                // The listener must not see the close of this connection.
+                connector.removeConnectionNotificationListener(listener);
+            }
+        } catch (JMException ex) {
+            throw new IOException("Repair failed: keySpace = " + keySpace, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Repair interrupted: keySpace = " +
+                    keySpace, ex);
+        }
+    }
+
+    /**
+     * Gets the bytes streamed by repair.
+     *
+     * @return The bytes sent and received so far by each of the repair
+     * streams of the node that are in progress, by plan.
+     */
+    public Map<UUID, Long> getRepairStreamBytes() {
+        final Map<UUID, Long> bytes = new HashMap<>();
+        for (StreamState state : probe.getStreamStatus()) {
+            if (!REPAIR_STREAM_DESCRIPTION.equals(state.description)) {
+                continue;
+            }
+            long total = 0;
+            for (SessionInfo session : state.sessions) {
+                total += session.getTotalSizeReceived() +
+                        session.getTotalSizeSent();
+            }
+            bytes.put(state.planId, total);
+        }
+        return bytes;
+    }
+
+    /**
+     * Tests whether the node is validating.
+     *
+     * @return True if the node is building Merkle trees for repair.
+     */
+    public boolean isValidating() {
+        for (Map<String, String> compaction :
+                probe.getCompactionManagerProxy().getCompactions()) {
+            if (VALIDATION_TASK_TYPE.equals(compaction.get("taskType"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the estimated number of partitions of a table.
+     *
+     * @param keySpace The key space of the table.
+     * @param table    The name of the table.
+     * @return The estimated number of partitions stored by the node for the
+     * table.
+     */
+    public long getEstimatedPartitions(String keySpace, String table) {
+        return probe.getCfsProxy(keySpace, table).estimateKeys();
+    }
 
-        probe.repairAsync(out, keySpace, options);
+    /**
+     * Gets the live disk space used by a table.
+     *
+     * @param keySpace The key space of the table.
+     * @param table    The name of the table.
+     * @return The size of the live SSTables of the table in bytes.
+     */
+    public long getLiveDiskSpaceUsed(String keySpace, String table) {
+        return ((Number) probe.getColumnFamilyMetric(keySpace, table,
+                "LiveDiskSpaceUsed")).longValue();
+    }
 
-        return baos.toString("UTF8");
+    /**
+     * Gets the repaired percentage of a table.
+     *
+     * @param keySpace The key space of the table.
+     * @param table    The name of the table.
+     * @return The percentage of the data of the table that is in repaired
+     * SSTables.
+     */
+    public double getPercentRepaired(String keySpace, String table) {
+        return ((Number) probe.getColumnFamilyMetric(keySpace, table,
+                "PercentRepaired")).doubleValue();
+    }
+
+    /**
+     * Gets the number of pending compactions.
+     *
+     * @return The number of compaction tasks that are waiting to be
+     * executed on the node.
+     */
+    public int getPendingCompactions() {
+        return ((Number) probe.getCompactionMetric("PendingTasks")).intValue();
+    }
+
+    /**
+     * Gets the read latency.
+     *
+     * @return The 99th percentile latency of the reads coordinated by the
+     * node in microseconds.
+     */
+    public double getReadLatency() {
+        return ((CassandraMetricsRegistry.JmxTimerMBean)
+                probe.getProxyMetric("Read")).get99thPercentile();
     }
 
     /**
@@ -600,6 +1133,7 @@ public class CassandraDaemonProcess {
      */
     public void decommission() throws InterruptedException {
         this.probe.decommission();
+        checkMode();
     }
 
     /**
@@ -613,6 +1147,7 @@ public class CassandraDaemonProcess {
     public void drain()
             throws InterruptedException, ExecutionException, IOException {
         this.probe.drain();
+        checkMode();
     }
 
     /**
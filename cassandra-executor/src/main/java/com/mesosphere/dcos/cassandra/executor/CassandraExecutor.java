@@ -27,8 +27,12 @@ import com.mesosphere.dcos.cassandra.common.tasks.backup.DownloadSnapshotTask;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreSnapshotTask;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreSchemaTask;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupTask;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceTask;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairTask;
-import com.mesosphere.dcos.cassandra.executor.backup.S3StorageDriver;
+import com.mesosphere.dcos.cassandra.executor.backup.BackupStorageDrivers;
+import com.mesosphere.dcos.cassandra.executor.backup.BackupThrottle;
+import com.mesosphere.dcos.cassandra.executor.repair.RepairMetrics;
+import com.mesosphere.dcos.cassandra.executor.startup.StartupMetrics;
 import com.mesosphere.dcos.cassandra.executor.tasks.*;
 import org.apache.mesos.Executor;
 import org.apache.mesos.ExecutorDriver;
@@ -56,6 +60,10 @@ public class CassandraExecutor implements Executor {
     private String nodeId = null;
     private final ScheduledExecutorService executor;
     private final ExecutorService clusterJobExecutorService;
+    private final BackupThrottle backupThrottle;
+    private final BackupStorageDrivers backupStorageDrivers;
+    private final RepairMetrics repairMetrics;
+    private final StartupMetrics startupMetrics;
 
     private String getNodeId(String executorName) {
         int end = executorName.indexOf("_");
@@ -85,7 +93,8 @@ public class CassandraExecutor implements Executor {
             cassandra = CassandraDaemonProcess.create(
                     (CassandraDaemonTask) task,
                     executor,
-                    driver
+                    driver,
+                    startupMetrics
             );
 
             LOGGER.info("Starting Cassandra Daemon: task = {}",
@@ -129,7 +138,9 @@ public class CassandraExecutor implements Executor {
                         cassandra,
                         (BackupSchemaTask) cassandraTask,
                         nodeId,
-                        new S3StorageDriver()));
+                        backupStorageDrivers.forLocation(
+                                ((BackupSchemaTask) cassandraTask)
+                                        .getExternalLocation())));
                 break;
 
             case BACKUP_UPLOAD:
@@ -138,7 +149,11 @@ public class CassandraExecutor implements Executor {
                         cassandra,
                         (BackupUploadTask) cassandraTask,
                         nodeId,
-                        new S3StorageDriver()));
+                        backupStorageDrivers.forLocation(
+                                ((BackupUploadTask) cassandraTask)
+                                        .getExternalLocation()),
+                        backupThrottle,
+                        executor));
 
                 break;
 
@@ -147,7 +162,9 @@ public class CassandraExecutor implements Executor {
                         driver,
                         (DownloadSnapshotTask) cassandraTask,
                         nodeId,
-                        new S3StorageDriver(),
+                        backupStorageDrivers.forLocation(
+                                ((DownloadSnapshotTask) cassandraTask)
+                                        .getExternalLocation()),
                         cassandra));
 
                 break;
@@ -171,7 +188,9 @@ public class CassandraExecutor implements Executor {
                         (RestoreSchemaTask) cassandraTask,
                         nodeId,
                         cassandra.getTask().getConfig().getVersion(),
-                        new S3StorageDriver()));
+                        backupStorageDrivers.forLocation(
+                                ((RestoreSchemaTask) cassandraTask)
+                                        .getExternalLocation())));
 
                 break;
 
@@ -188,7 +207,17 @@ public class CassandraExecutor implements Executor {
                 clusterJobExecutorService.submit(new Repair(
                         driver,
                         cassandra,
-                        (RepairTask) cassandraTask));
+                        (RepairTask) cassandraTask,
+                        repairMetrics));
+
+                break;
+
+            case MAINTENANCE:
+                clusterJobExecutorService.submit(
+                        new Maintenance(
+                                driver,
+                                cassandra,
+                                (MaintenanceTask) cassandraTask));
 
                 break;
 
@@ -216,12 +245,28 @@ public class CassandraExecutor implements Executor {
      *                 tasks.
      * @param clusterJobExecutorService The ExecutorService used by the
      *                                  Executor to run ClusterTasks.
+     * @param backupThrottle The BackupThrottle that limits the rate of
+     *                       backup uploads.
+     * @param backupStorageDrivers The BackupStorageDrivers used by backup
+     *                             and restore tasks.
+     * @param repairMetrics The RepairMetrics that record the progress of
+     *                      repair tasks.
+     * @param startupMetrics The StartupMetrics that record the phases of
+     *                       the start of the Cassandra daemon.
      */
     @Inject
     public CassandraExecutor(final ScheduledExecutorService executor,
-                             final ExecutorService clusterJobExecutorService) {
+                             final ExecutorService clusterJobExecutorService,
+                             final BackupThrottle backupThrottle,
+                             final BackupStorageDrivers backupStorageDrivers,
+                             final RepairMetrics repairMetrics,
+                             final StartupMetrics startupMetrics) {
         this.executor = executor;
         this.clusterJobExecutorService = clusterJobExecutorService;
+        this.backupThrottle = backupThrottle;
+        this.backupStorageDrivers = backupStorageDrivers;
+        this.repairMetrics = repairMetrics;
+        this.startupMetrics = startupMetrics;
     }
 
 
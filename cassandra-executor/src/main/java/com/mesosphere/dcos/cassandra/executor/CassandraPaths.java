@@ -112,4 +112,13 @@ public class CassandraPaths {
 
         return bin().resolve("cassandra");
     }
+
+    /**
+     * Gets the Cassandra bulk loader command.
+     *
+     * @return The sstableloader command.
+     */
+    public Path sstableLoader() {
+        return bin().resolve("sstableloader");
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.HostDistance;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PoolingOptions;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.policies.DCAwareRoundRobinPolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
+import com.datastax.driver.core.policies.WhiteListPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+
+/**
+ * CassandraSession is the CQL session of the executor. It is created the
+ * first time it is used and is shared by all of the tasks of the executor,
+ * so that the cost of discovering the ring, fetching the schema and opening
+ * connections is only paid once. The driver keeps the metadata of the
+ * Session up to date through its control connection, so it serves as a
+ * cache of the schema of the cluster. Schema changes are made through a
+ * separate session that only uses the local node as coordinator (see
+ * getLocal). It is closed with the CassandraDaemonProcess.
+ */
+public class CassandraSession implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            CassandraSession.class);
+
+    /**
+     * The time the driver waits for schema agreement after each schema
+     * change. Tasks that change the schema apply all of their statements
+     * through the local session, so each statement is applied by a node
+     * that has already applied the statements it depends on, and then call
+     * awaitSchemaAgreement.
+     */
+    private static final int STATEMENT_AGREEMENT_WAIT_SECONDS = 1;
+    private static final long SCHEMA_AGREEMENT_POLL_MS = 1000;
+
+    /**
+     * Creates a new CassandraSession.
+     *
+     * @param address The address of the native transport of the local node.
+     * @return A CassandraSession that will connect to the cluster through
+     * address when it is first used.
+     */
+    public static CassandraSession create(InetSocketAddress address) {
+        return new CassandraSession(address);
+    }
+
+    private final InetSocketAddress address;
+    private Cluster cluster = null;
+    private Session session = null;
+    private Cluster localCluster = null;
+    private Session localSession = null;
+    private boolean closed = false;
+
+    private CassandraSession(InetSocketAddress address) {
+        this.address = address;
+    }
+
+    private Cluster createCluster(LoadBalancingPolicy policy) {
+        return Cluster.builder()
+                .addContactPointsWithPorts(
+                        Collections.singletonList(address))
+                .withLoadBalancingPolicy(policy)
+                .withPoolingOptions(new PoolingOptions()
+                        .setConnectionsPerHost(HostDistance.LOCAL, 1, 2)
+                        .setConnectionsPerHost(HostDistance.REMOTE, 1, 1)
+                        .setMaxRequestsPerConnection(HostDistance.LOCAL,
+                                1024)
+                        .setMaxRequestsPerConnection(HostDistance.REMOTE,
+                                256))
+                .withMaxSchemaAgreementWaitSeconds(
+                        STATEMENT_AGREEMENT_WAIT_SECONDS)
+                .build();
+    }
+
+    private static Session connect(Cluster cluster) {
+        try {
+            return cluster.connect();
+        } catch (RuntimeException ex) {
+            cluster.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Gets the session.
+     *
+     * @return The Session of the executor, connecting it if it is not
+     * connected yet.
+     * @throws IllegalStateException If the CassandraSession is closed.
+     */
+    public synchronized Session get() {
+        if (closed) {
+            throw new IllegalStateException("CassandraSession is closed");
+        }
+        if (session == null) {
+            LOGGER.info("Connecting CQL session: address = {}", address);
+            final Cluster created = createCluster(new TokenAwarePolicy(
+                    DCAwareRoundRobinPolicy.builder().build()));
+            session = connect(created);
+            cluster = created;
+        }
+        return session;
+    }
+
+    /**
+     * Gets the local session. Its only coordinator is the local node, so
+     * consecutive schema changes are applied in order by the same node even
+     * though the driver only waits briefly for schema agreement after each
+     * of them. A statement that depends on a previous one (e.g. a table and
+     * its key space) can not reach a node that has not seen it yet.
+     *
+     * @return The Session of the executor whose statements are coordinated
+     * by the local node, connecting it if it is not connected yet.
+     * @throws IllegalStateException If the CassandraSession is closed.
+     */
+    public synchronized Session getLocal() {
+        if (closed) {
+            throw new IllegalStateException("CassandraSession is closed");
+        }
+        if (localSession == null) {
+            LOGGER.info("Connecting local CQL session: address = {}",
+                    address);
+            final Cluster created = createCluster(new WhiteListPolicy(
+                    DCAwareRoundRobinPolicy.builder().build(),
+                    Collections.singletonList(address)));
+            localSession = connect(created);
+            localCluster = created;
+        }
+        return localSession;
+    }
+
+    /**
+     * Gets the metadata.
+     *
+     * @return The metadata of the cluster, including its schema, as cached
+     * by the driver.
+     */
+    public Metadata getMetadata() {
+        return get().getCluster().getMetadata();
+    }
+
+    /**
+     * Waits until all of the nodes of the cluster agree on the schema.
+     *
+     * @param timeoutMs The maximum time to wait in milliseconds.
+     * @throws IOException          If the schema is not agreed before the
+     *                              timeout.
+     * @throws InterruptedException If the thread is interrupted while
+     *                              waiting.
+     */
+    public void awaitSchemaAgreement(long timeoutMs)
+            throws IOException, InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!getMetadata().checkSchemaAgreement()) {
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IOException(
+                        "Schema agreement was not reached within " +
+                                timeoutMs + " ms");
+            }
+            Thread.sleep(SCHEMA_AGREEMENT_POLL_MS);
+        }
+        LOGGER.info("Schema agreement reached");
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (session != null) {
+            session.close();
+            session = null;
+        }
+        if (cluster != null) {
+            cluster.close();
+            cluster = null;
+        }
+        if (localSession != null) {
+            localSession.close();
+            localSession = null;
+        }
+        if (localCluster != null) {
+            localCluster.close();
+            localCluster = null;
+        }
+    }
+}
@@ -16,7 +16,12 @@
 package com.mesosphere.dcos.cassandra.executor;
 
 import com.google.inject.AbstractModule;
+import com.mesosphere.dcos.cassandra.executor.backup.BackupStorageDrivers;
+import com.mesosphere.dcos.cassandra.executor.backup.BackupThrottle;
+import com.mesosphere.dcos.cassandra.executor.backup.S3ClientCache;
 import com.mesosphere.dcos.cassandra.executor.config.CassandraExecutorConfiguration;
+import com.mesosphere.dcos.cassandra.executor.repair.RepairMetrics;
+import com.mesosphere.dcos.cassandra.executor.startup.StartupMetrics;
 import org.apache.mesos.Executor;
 
 import java.util.concurrent.ExecutorService;
@@ -58,6 +63,12 @@ public class ExecutorModule extends AbstractModule {
                 Executors.newCachedThreadPool());
         bind(ScheduledExecutorService.class).toInstance(
                 Executors.newScheduledThreadPool(10));
+        bind(CassandraExecutorConfiguration.class).toInstance(configuration);
+        bind(BackupThrottle.class).asEagerSingleton();
+        bind(S3ClientCache.class).asEagerSingleton();
+        bind(BackupStorageDrivers.class).asEagerSingleton();
+        bind(RepairMetrics.class).asEagerSingleton();
+        bind(StartupMetrics.class).asEagerSingleton();
         bind(Executor.class).to(CassandraExecutor.class).asEagerSingleton();
         bind(ExecutorDriverFactory.class)
                 .to(MesosExecutorDriverFactory.class)
@@ -20,6 +20,8 @@ import com.google.inject.Injector;
 import com.mesosphere.dcos.cassandra.executor.checks.DaemonMode;
 import com.mesosphere.dcos.cassandra.executor.checks.DaemonRunning;
 import com.mesosphere.dcos.cassandra.executor.config.CassandraExecutorConfiguration;
+import com.mesosphere.dcos.cassandra.executor.repair.RepairMetrics;
+import com.mesosphere.dcos.cassandra.executor.startup.StartupMetrics;
 import com.mesosphere.dcos.cassandra.executor.resources.CassandraDaemonController;
 import io.dropwizard.Application;
 import io.dropwizard.configuration.EnvironmentVariableLookup;
@@ -75,6 +77,10 @@ public class Main extends Application<CassandraExecutorConfiguration> {
                 injector.getInstance(DaemonRunning.class));
         environment.healthChecks().register(DaemonMode.NAME,
                 injector.getInstance(DaemonMode.class));
+        environment.metrics().register(RepairMetrics.NAME,
+                injector.getInstance(RepairMetrics.class));
+        environment.metrics().register(StartupMetrics.NAME,
+                injector.getInstance(StartupMetrics.class));
         environment.jersey().register(
                 injector.getInstance(CassandraDaemonController.class));
         environment.lifecycle().manage(
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+
+/**
+ * AbstractBackupStorageDriver implements the functionality shared by all
+ * BackupStorageDrivers: locating the snapshot files of a backup in the
+ * Cassandra data directory, checksumming them and waiting for concurrent
+ * transfers.
+ */
+public abstract class AbstractBackupStorageDriver
+        implements BackupStorageDriver {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            AbstractBackupStorageDriver.class);
+
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    protected final Set<String> SKIP_KEYSPACES = ImmutableSet.of("system");
+    protected final Map<String, List<String>> SKIP_COLUMN_FAMILIES = ImmutableMap.of();
+
+    /**
+     * Filters unwanted keyspaces and column families
+     */
+    public boolean isValidBackupDir(File ksDir, File cfDir, File bkDir) {
+        if (!bkDir.isDirectory() && !bkDir.exists())
+            return false;
+
+        String ksName = ksDir.getName();
+        if (SKIP_KEYSPACES.contains(ksName))
+            return false;
+
+        String cfName = cfDir.getName();
+        if (SKIP_COLUMN_FAMILIES.containsKey(ksName)
+                && SKIP_COLUMN_FAMILIES.get(ksName).contains(cfName))
+            return false;
+
+        return true;
+    }
+
+    protected Optional<File> getValidSnapshotDirectory(File cfDir,
+                                                       File snapshotsDir,
+                                                       String snapshotName) {
+        File validSnapshot = null;
+        for (File snapshotDir : snapshotsDir.listFiles())
+            if (snapshotDir.getName().matches(snapshotName)) {
+                // Found requested snapshot directory
+                validSnapshot = snapshotDir;
+                break;
+            }
+
+        // Requested snapshot directory not found
+        return Optional.ofNullable(validSnapshot);
+    }
+
+    /**
+     * Gets all of the files in the snapshot directories of the valid column
+     * families of the data directory.
+     *
+     * @param dataDirectory The Cassandra data directory.
+     * @param backupName    The name of the backup (snapshot).
+     * @return The files contained in the snapshot directories.
+     * @throws IOException If the snapshot directories can not be traversed.
+     */
+    protected List<SnapshotFile> getSnapshotFiles(File dataDirectory,
+                                                  String backupName)
+            throws IOException {
+        final List<SnapshotFile> files = getSnapshotFiles(dataDirectory,
+                backupName, snapshotDirectory -> true);
+        LOGGER.info("Found {} snapshot files for backup: {}", files.size(),
+                backupName);
+        return files;
+    }
+
+    /**
+     * Gets the files in the snapshot directories of the valid column
+     * families of the data directory that are accepted by a filter.
+     *
+     * @param dataDirectory The Cassandra data directory.
+     * @param backupName    The name of the backup (snapshot).
+     * @param include       The filter applied to the snapshot directories.
+     * @return The files contained in the included snapshot directories.
+     * @throws IOException If the snapshot directories can not be traversed.
+     */
+    protected List<SnapshotFile> getSnapshotFiles(File dataDirectory,
+                                                  String backupName,
+                                                  Predicate<File> include)
+            throws IOException {
+        final List<SnapshotFile> files = new ArrayList<>();
+        final File[] keyspaceDirs = dataDirectory.listFiles();
+        if (keyspaceDirs == null) {
+            throw new IOException("Failed to list data directory: " +
+                    dataDirectory.getAbsolutePath());
+        }
+        // Ex: data/<keyspace>/<cf>/snapshots/</snapshot-dir>/<files>
+        for (File keyspaceDir : keyspaceDirs) {
+            if (keyspaceDir.isFile()) {
+                // Skip any files in the data directory.
+                // Only enter keyspace directory.
+                continue;
+            }
+            LOGGER.debug("Entering keyspace: {}", keyspaceDir.getName());
+            for (File cfDir : keyspaceDir.listFiles()) {
+                File snapshotDir = new File(cfDir, "snapshots");
+                if (!isValidBackupDir(keyspaceDir, cfDir, snapshotDir)) {
+                    LOGGER.debug("Skipping directory: {}", snapshotDir.getAbsolutePath());
+                    continue;
+                }
+
+                final Optional<File> snapshotDirectory = getValidSnapshotDirectory(
+                        cfDir, snapshotDir, backupName);
+                if (snapshotDirectory.isPresent() &&
+                        include.test(snapshotDirectory.get())) {
+                    LOGGER.debug("Adding snapshot directory: {}",
+                            snapshotDirectory.get().getAbsolutePath());
+                    final Path root = snapshotDirectory.get().toPath();
+                    try (Stream<Path> paths = Files.walk(root)) {
+                        paths.filter(Files::isRegularFile).forEach(path ->
+                                files.add(SnapshotFile.create(
+                                        keyspaceDir.getName(),
+                                        cfDir.getName(),
+                                        root.relativize(path).toString()
+                                                .replace(File.separatorChar, '/'),
+                                        path.toFile())));
+                    }
+                } else if (!snapshotDirectory.isPresent()) {
+                    LOGGER.debug("Snapshots directory: {} doesn't contain the current backup directory: {}",
+                            snapshotDir.getName(), backupName);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Watches the snapshot directories of a snapshot that is being taken.
+     *
+     * @param dataDirectory The Cassandra data directory.
+     * @param backupName    The name of the backup (snapshot).
+     * @param snapshot      The snapshot, which is done if the snapshot was
+     *                      taken before the upload.
+     * @return A SnapshotWatcher that lists the files of the snapshot as they
+     * are linked.
+     */
+    protected SnapshotWatcher watchSnapshot(File dataDirectory,
+                                            String backupName,
+                                            Future<?> snapshot) {
+        return new SnapshotWatcher(this, dataDirectory, backupName, snapshot);
+    }
+
+    /**
+     * Computes the CRC32 checksum of a file.
+     *
+     * @param file The file whose checksum will be computed.
+     * @return The hex encoded CRC32 checksum of the contents of file.
+     * @throws IOException If the file can not be read.
+     */
+    static String computeChecksum(File file) throws IOException {
+        return computeChecksum(new FileInputStream(file));
+    }
+
+    /**
+     * Computes the CRC32 checksum of a stream.
+     *
+     * @param input The stream whose checksum will be computed. It is closed
+     *              once it has been read.
+     * @return The hex encoded CRC32 checksum of the contents of input.
+     * @throws IOException If the stream can not be read.
+     */
+    static String computeChecksum(InputStream input) throws IOException {
+        final CRC32 crc = new CRC32();
+        try (InputStream stream = new CheckedInputStream(input, crc)) {
+            final byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            while (stream.read(buffer) != -1) {
+                // Reading the stream updates the checksum.
+            }
+        }
+        return formatChecksum(crc);
+    }
+
+    /**
+     * Formats a checksum.
+     *
+     * @param checksum The CRC32 of the data that has been read.
+     * @return The hex encoded value of checksum, as returned by
+     * computeChecksum.
+     */
+    static String formatChecksum(Checksum checksum) {
+        return Long.toHexString(checksum.getValue());
+    }
+
+    static <T> List<T> waitForAll(List<? extends Future<T>> pending,
+                                  String operation)
+            throws IOException {
+        final List<T> results = new ArrayList<>(pending.size());
+        int failures = 0;
+        Throwable cause = null;
+        for (Future<T> future : pending) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(operation + " interrupted", ex);
+            } catch (ExecutionException ex) {
+                LOGGER.error("Error occurred on " + operation, ex.getCause());
+                failures++;
+                cause = ex.getCause();
+            }
+        }
+        if (failures > 0) {
+            throw new IOException(String.format("Failed to %s %d of %d files",
+                    operation, failures, pending.size()), cause);
+        }
+        return results;
+    }
+
+    protected static String getTableName(String cfDirectoryName) {
+        final int index = cfDirectoryName.indexOf("-");
+        return (index < 0) ? cfDirectoryName :
+                cfDirectoryName.substring(0, index);
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * BackupManifest lists the files of the backup of a single node. Each entry
+ * maps the key of a snapshot file, relative to the backup of the node
+ * (<keyspace>/<cf>/<relativePath>), to the object where its contents are
+ * stored along with the size and checksum used to verify it on restore.
+ * For incremental backups the object may be shared by several backups of
+ * the node. A restore reads the manifest instead of listing the bucket.
+ */
+public class BackupManifest {
+
+    /**
+     * The name of the manifest object.
+     */
+    public static final String MANIFEST_NAME = "manifest.json";
+
+    /**
+     * Entry is a single file of a BackupManifest.
+     */
+    public static class Entry {
+
+        @JsonProperty("key")
+        private final String key;
+
+        @JsonProperty("size")
+        private final long size;
+
+        @JsonProperty("last_modified")
+        private final long lastModified;
+
+        @JsonProperty("generation")
+        private final long generation;
+
+        @JsonProperty("checksum")
+        private final String checksum;
+
+        @JsonProperty("location")
+        private final String location;
+
+        /**
+         * Creates a new Entry.
+         *
+         * @param key          The key of the file relative to the backup of
+         *                     the node.
+         * @param size         The size of the file in bytes.
+         * @param lastModified The last modification time of the file.
+         * @param generation   The generation of the SSTable of the file.
+         * @param checksum     The checksum of the file.
+         * @param location     The key of the object that stores the file.
+         * @return A new Entry.
+         */
+        @JsonCreator
+        public static Entry create(
+                @JsonProperty("key") String key,
+                @JsonProperty("size") long size,
+                @JsonProperty("last_modified") long lastModified,
+                @JsonProperty("generation") long generation,
+                @JsonProperty("checksum") String checksum,
+                @JsonProperty("location") String location) {
+            return new Entry(key, size, lastModified, generation, checksum,
+                    location);
+        }
+
+        private Entry(String key,
+                      long size,
+                      long lastModified,
+                      long generation,
+                      String checksum,
+                      String location) {
+            this.key = key;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.generation = generation;
+            this.checksum = checksum;
+            this.location = location;
+        }
+
+        /**
+         * Gets the key.
+         *
+         * @return The key of the file relative to the backup of the node.
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the size.
+         *
+         * @return The size of the file in bytes.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Gets the last modification time.
+         *
+         * @return The last modification time of the file.
+         */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Gets the generation.
+         *
+         * @return The generation of the SSTable of the file or -1 if the
+         * file is not an SSTable component.
+         */
+        public long getGeneration() {
+            return generation;
+        }
+
+        /**
+         * Gets the checksum.
+         *
+         * @return The checksum of the file.
+         */
+        public String getChecksum() {
+            return checksum;
+        }
+
+        /**
+         * Gets the location.
+         *
+         * @return The key of the object that stores the file.
+         */
+        public String getLocation() {
+            return location;
+        }
+
+        /**
+         * Tests if the entry describes a local file. SSTables are immutable,
+         * so a file with the same key, size and modification time has the
+         * same contents.
+         *
+         * @param file The local snapshot file.
+         * @return True if the entry describes file.
+         */
+        public boolean matches(SnapshotFile file) {
+            return key.equals(file.getKey()) &&
+                    size == file.getSize() &&
+                    lastModified == file.getFile().lastModified();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry that = (Entry) o;
+            return getSize() == that.getSize() &&
+                    getLastModified() == that.getLastModified() &&
+                    getGeneration() == that.getGeneration() &&
+                    Objects.equals(getKey(), that.getKey()) &&
+                    Objects.equals(getChecksum(), that.getChecksum()) &&
+                    Objects.equals(getLocation(), that.getLocation());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getKey(), getSize(), getLastModified(),
+                    getGeneration(), getChecksum(), getLocation());
+        }
+
+        @Override
+        public String toString() {
+            return JsonUtils.toJsonString(this);
+        }
+    }
+
+    @JsonProperty("entries")
+    private final List<Entry> entries;
+
+    @JsonIgnore
+    private final Map<String, Entry> byKey;
+
+    /**
+     * Creates a new BackupManifest.
+     *
+     * @param entries The entries of the manifest.
+     * @return A new BackupManifest.
+     */
+    @JsonCreator
+    public static BackupManifest create(
+            @JsonProperty("entries") List<Entry> entries) {
+        return new BackupManifest(entries);
+    }
+
+    /**
+     * Gets an empty manifest.
+     *
+     * @return A BackupManifest with no entries.
+     */
+    public static BackupManifest empty() {
+        return new BackupManifest(Collections.emptyList());
+    }
+
+    /**
+     * Parses a manifest.
+     *
+     * @param bytes The JSON serialized manifest.
+     * @return The BackupManifest serialized in bytes.
+     * @throws IOException If the manifest can not be parsed.
+     */
+    public static BackupManifest parse(byte[] bytes) throws IOException {
+        return JsonUtils.MAPPER.readValue(bytes, BackupManifest.class);
+    }
+
+    private BackupManifest(List<Entry> entries) {
+        this.entries = (entries == null) ? ImmutableList.of() :
+                ImmutableList.copyOf(entries);
+        this.byKey = this.entries.stream().collect(
+                Collectors.toMap(Entry::getKey, Function.identity(),
+                        (first, second) -> second));
+    }
+
+    /**
+     * Gets the entries.
+     *
+     * @return The entries of the manifest.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gets the entry for a file.
+     *
+     * @param key The key of the file relative to the backup of the node.
+     * @return The entry for the file or empty if it is not in the manifest.
+     */
+    public Optional<Entry> getEntry(String key) {
+        return Optional.ofNullable(byKey.get(key));
+    }
+
+    /**
+     * Serializes the manifest.
+     *
+     * @return The JSON serialized manifest.
+     * @throws IOException If the manifest can not be serialized.
+     */
+    public byte[] toBytes() throws IOException {
+        return JsonUtils.MAPPER.writeValueAsBytes(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BackupManifest)) return false;
+        BackupManifest that = (BackupManifest) o;
+        return Objects.equals(getEntries(), that.getEntries());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getEntries());
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtils.toJsonString(this);
+    }
+}
@@ -19,6 +19,9 @@ import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupContext;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreContext;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Future;
 
 /**
  * BackupStorageDriver is the interface to all drivers that store and
@@ -27,11 +30,18 @@ import java.io.IOException;
 public interface BackupStorageDriver {
 
     /**
-     * Uploads snapshot files to a remote location.
+     * Uploads snapshot files to a remote location. If the snapshot is still
+     * being taken, the files of each column family are uploaded as soon as
+     * its snapshot directory is complete.
      * @param ctx The context of the backup.
-     * @throws IOException If the upload fails.
+     * @param throttle The BackupThrottle that limits the rate at which the
+     *                 snapshot files are read.
+     * @param snapshot The snapshot that is uploaded. It is done if the
+     *                 snapshot was taken before the upload.
+     * @throws IOException If the upload or the snapshot fails.
      */
-    void upload(BackupContext ctx) throws IOException;
+    void upload(BackupContext ctx, BackupThrottle throttle, Future<?> snapshot)
+            throws IOException;
 
     /**
      * uploads the schema for each keyspace and their corresponding column families
@@ -51,9 +61,21 @@ public interface BackupStorageDriver {
     /**
      * Downloads snapshot files from a remote location.
      * @param ctx The context of the restore.
+     * @param loader The PipelinedTableLoader that loads the SSTables as they
+     *               are downloaded, or empty if the files are downloaded
+     *               directly to the data directories of their tables.
      * @throws IOException If the download from the remote location fails.
      */
-    void download(RestoreContext ctx) throws IOException;
+    void download(RestoreContext ctx, Optional<PipelinedTableLoader> loader)
+            throws IOException;
+
+    /**
+     * Gets the nodes whose snapshots are stored in a backup.
+     * @param ctx The context of the restore.
+     * @return The ids of the nodes of the backup, sorted.
+     * @throws IOException If the backup can not be listed.
+     */
+    List<String> listNodes(RestoreContext ctx) throws IOException;
 
 
 }
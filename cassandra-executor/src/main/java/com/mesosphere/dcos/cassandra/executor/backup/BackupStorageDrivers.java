@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * BackupStorageDrivers is the registry of BackupStorageDrivers. The driver
+ * for a backup or restore is chosen by the scheme of its external location
+ * URI (e.g. s3://bucket/path or file:///mnt/backups). The S3 drivers share
+ * the clients of the executor's S3ClientCache.
+ */
+public class BackupStorageDrivers {
+
+    private final Map<String, Supplier<BackupStorageDriver>> drivers;
+
+    /**
+     * Constructs a new BackupStorageDrivers.
+     *
+     * @param s3Clients The S3ClientCache used by the S3 drivers.
+     */
+    @Inject
+    public BackupStorageDrivers(final S3ClientCache s3Clients) {
+        this.drivers = ImmutableMap.of(
+                "s3", () -> new S3StorageDriver(s3Clients),
+                LocalStorageDriver.SCHEME, LocalStorageDriver::new);
+    }
+
+    /**
+     * Gets the driver for an external location.
+     *
+     * @param externalLocation The URI of the external location.
+     * @return A BackupStorageDriver that stores and retrieves backups at
+     * externalLocation.
+     * @throws IllegalArgumentException If no driver supports the scheme of
+     *                                  externalLocation.
+     */
+    public BackupStorageDriver forLocation(String externalLocation) {
+        final String scheme = URI.create(externalLocation).getScheme();
+        final Supplier<BackupStorageDriver> driver = (scheme == null) ?
+                null : drivers.get(scheme.toLowerCase());
+        if (driver == null) {
+            throw new IllegalArgumentException(
+                    "Unsupported backup location: " + externalLocation);
+        }
+        return driver.get();
+    }
+}
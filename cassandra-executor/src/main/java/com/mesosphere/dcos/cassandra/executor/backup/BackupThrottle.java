@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.util.concurrent.RateLimiter;
+import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+
+/**
+ * BackupThrottle is the token bucket that limits the rate at which backup
+ * uploads read snapshot files from the data volume. Every byte that is sent
+ * to the external location is first read from the data volume, so limiting
+ * reads also limits the network bandwidth of the upload. The throttle is
+ * shared by all uploads of the executor. Its bandwidth is set from the
+ * backup request when an upload starts and may be changed at runtime. The
+ * effective rate is the bandwidth scaled by a load factor that is lowered
+ * while the Cassandra daemon is under load.
+ */
+public class BackupThrottle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            BackupThrottle.class);
+
+    /**
+     * The lowest load factor that may be applied to the bandwidth.
+     */
+    public static final double MIN_FACTOR = 0.1;
+
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    /**
+     * Status is a point in time view of a BackupThrottle.
+     */
+    public static class Status {
+
+        @JsonProperty("bandwidth_mb")
+        private final int bandwidthMb;
+
+        @JsonProperty("factor")
+        private final double factor;
+
+        @JsonProperty("rate_bytes_per_second")
+        private final double rate;
+
+        private Status(int bandwidthMb, double factor, double rate) {
+            this.bandwidthMb = bandwidthMb;
+            this.factor = factor;
+            this.rate = rate;
+        }
+
+        /**
+         * Gets the bandwidth.
+         *
+         * @return The configured bandwidth in Mb per second or 0 if it is
+         * unlimited.
+         */
+        public int getBandwidthMb() {
+            return bandwidthMb;
+        }
+
+        /**
+         * Gets the load factor.
+         *
+         * @return The factor, between MIN_FACTOR and 1, applied to the
+         * bandwidth.
+         */
+        public double getFactor() {
+            return factor;
+        }
+
+        /**
+         * Gets the rate.
+         *
+         * @return The effective rate in bytes per second or 0 if it is
+         * unlimited.
+         */
+        public double getRate() {
+            return rate;
+        }
+
+        @Override
+        public String toString() {
+            return JsonUtils.toJsonString(this);
+        }
+    }
+
+    private final RateLimiter limiter =
+            RateLimiter.create(Double.POSITIVE_INFINITY);
+    private int bandwidthMb = 0;
+    private double factor = 1.0;
+
+    private double getRate() {
+        return bandwidthMb * BYTES_PER_MB * factor;
+    }
+
+    private void update() {
+        limiter.setRate(bandwidthMb > 0 ? getRate() :
+                Double.POSITIVE_INFINITY);
+        LOGGER.info("Backup throttle updated: {}", getStatus());
+    }
+
+    /**
+     * Sets the bandwidth. The new rate applies immediately to the uploads in
+     * progress.
+     *
+     * @param bandwidthMb The maximum rate in Mb per second or 0 if it is
+     *                    unlimited.
+     * @throws IllegalArgumentException If bandwidthMb is negative.
+     */
+    public synchronized void setBandwidthMb(int bandwidthMb) {
+        if (bandwidthMb < 0) {
+            throw new IllegalArgumentException(
+                    "Bandwidth must not be negative: " + bandwidthMb);
+        }
+        this.bandwidthMb = bandwidthMb;
+        update();
+    }
+
+    /**
+     * Sets the load factor.
+     *
+     * @param factor The factor applied to the bandwidth. It is bounded to
+     *               [MIN_FACTOR, 1].
+     */
+    public synchronized void setFactor(double factor) {
+        final double bounded = Math.max(MIN_FACTOR, Math.min(1.0, factor));
+        if (bounded != this.factor) {
+            this.factor = bounded;
+            update();
+        }
+    }
+
+    /**
+     * Gets the load factor.
+     *
+     * @return The factor, between MIN_FACTOR and 1, applied to the
+     * bandwidth.
+     */
+    public synchronized double getFactor() {
+        return factor;
+    }
+
+    /**
+     * Gets the status.
+     *
+     * @return The current bandwidth, load factor and effective rate.
+     */
+    public synchronized Status getStatus() {
+        return new Status(bandwidthMb, factor,
+                bandwidthMb > 0 ? getRate() : 0);
+    }
+
+    /**
+     * Gets the limiter.
+     *
+     * @return The RateLimiter, in bytes per second, shared by all uploads.
+     */
+    public RateLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Throttles a stream.
+     *
+     * @param stream The stream that reads a file from the data volume.
+     * @return A stream that reads stream at the rate of the throttle.
+     */
+    public InputStream throttle(InputStream stream) {
+        return new ThrottledInputStream(stream, limiter);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * BackupThrottleMonitor adapts the load factor of a BackupThrottle to the
+ * load of the Cassandra daemon. It is run periodically while an upload is
+ * in progress. When the node has more pending compactions or a higher read
+ * latency than the thresholds the factor is halved, otherwise it is
+ * increased by a fixed step until the full bandwidth is restored.
+ */
+public class BackupThrottleMonitor implements Runnable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            BackupThrottleMonitor.class);
+
+    /**
+     * The interval at which the monitor should be run in seconds.
+     */
+    public static final long INTERVAL_SECONDS = 10;
+
+    /**
+     * The number of pending compactions above which the node is loaded.
+     */
+    public static final int PENDING_COMPACTIONS_THRESHOLD = 32;
+
+    /**
+     * The 99th percentile read latency, in microseconds, above which the
+     * node is loaded.
+     */
+    public static final double READ_LATENCY_THRESHOLD_MICROS = 50000;
+
+    private static final double DECREASE = 0.5;
+    private static final double INCREASE = 0.1;
+
+    private final CassandraDaemonProcess daemon;
+    private final BackupThrottle throttle;
+
+    /**
+     * Constructs a new BackupThrottleMonitor.
+     *
+     * @param daemon   The CassandraDaemonProcess whose load is monitored.
+     * @param throttle The BackupThrottle that is adjusted.
+     */
+    public BackupThrottleMonitor(final CassandraDaemonProcess daemon,
+                                 final BackupThrottle throttle) {
+        this.daemon = daemon;
+        this.throttle = throttle;
+    }
+
+    @Override
+    public void run() {
+        try {
+            final int pendingCompactions = daemon.getPendingCompactions();
+            final double readLatency = daemon.getReadLatency();
+            final double factor = throttle.getFactor();
+            if (pendingCompactions > PENDING_COMPACTIONS_THRESHOLD ||
+                    readLatency > READ_LATENCY_THRESHOLD_MICROS) {
+                LOGGER.info("Node is loaded, lowering backup throttle: " +
+                                "pendingCompactions = {}, readLatency = {}",
+                        pendingCompactions, readLatency);
+                throttle.setFactor(factor * DECREASE);
+            } else {
+                throttle.setFactor(factor + INCREASE);
+            }
+        } catch (Throwable t) {
+            // An error reading the metrics must not fail the upload.
+            LOGGER.warn("Failed to monitor the load of the node", t);
+        }
+    }
+}
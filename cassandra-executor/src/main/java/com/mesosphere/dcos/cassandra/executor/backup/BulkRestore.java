@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreContext;
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BulkRestore restores a backup to a cluster whose topology may differ from
+ * that of the backed up cluster. The source nodes of the backup are split
+ * between the nodes of the cluster by their index. Each node downloads the
+ * snapshot of each of its source nodes to a staging directory and streams the
+ * SSTables of each table to the replicas that own their data with the bulk
+ * loader. Source nodes are restored one at a time, so that the staging
+ * directory never holds more than one node's snapshot.
+ */
+public class BulkRestore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            BulkRestore.class);
+
+    /**
+     * The name of the directory, next to the data directory, to which the
+     * snapshots of the source nodes are downloaded.
+     */
+    public static final String STAGING_DIRECTORY = "bulk-load";
+
+    /**
+     * Progress is notified each time a source node has been loaded.
+     */
+    public interface Progress {
+        void loaded(String sourceNode, int loaded, int total);
+    }
+
+    /**
+     * Gets the source nodes restored by a node.
+     *
+     * @param nodes       The source nodes of the backup, sorted.
+     * @param loaderIndex The index of the node.
+     * @param loaderCount The number of nodes that restore the backup.
+     * @return The source nodes whose index modulo the loader count is the
+     * index of the node.
+     */
+    static List<String> getSourceNodes(List<String> nodes,
+                                       int loaderIndex,
+                                       int loaderCount) {
+        final List<String> sources = new ArrayList<>();
+        for (int index = 0; index < nodes.size(); index++) {
+            if (loaderCount <= 0 || index % loaderCount == loaderIndex) {
+                sources.add(nodes.get(index));
+            }
+        }
+        return sources;
+    }
+
+    private final BackupStorageDriver driver;
+    private final CassandraDaemonProcess daemon;
+
+    /**
+     * Constructs a new BulkRestore.
+     *
+     * @param driver The BackupStorageDriver used to download the snapshots.
+     * @param daemon The CassandraDaemonProcess of the node that streams the
+     *               SSTables.
+     */
+    public BulkRestore(final BackupStorageDriver driver,
+                       final CassandraDaemonProcess daemon) {
+        this.driver = driver;
+        this.daemon = daemon;
+    }
+
+    /**
+     * Restores the share of a backup of a node.
+     *
+     * @param ctx         The context of the restore. Its local location is
+     *                    the data directory of the node.
+     * @param loaderIndex The index of the node.
+     * @param loaderCount The number of nodes that restore the backup.
+     * @param progress    The Progress notified as source nodes are loaded.
+     * @throws IOException If a snapshot can not be downloaded or loaded.
+     */
+    public void restore(RestoreContext ctx,
+                        int loaderIndex,
+                        int loaderCount,
+                        Progress progress) throws IOException {
+        final List<String> sources = getSourceNodes(driver.listNodes(ctx),
+                loaderIndex, loaderCount);
+        LOGGER.info("Bulk loading {} source nodes of backup: {}, nodes = {}",
+                sources.size(), ctx.getName(), sources);
+        final File dataDirectory = new File(ctx.getLocalLocation());
+        final File staging = new File(dataDirectory.getAbsoluteFile()
+                .getParentFile(), STAGING_DIRECTORY);
+        int loaded = 0;
+        for (String source : sources) {
+            final File sourceDirectory = new File(staging, source);
+            FileUtils.deleteDirectory(sourceDirectory);
+            try {
+                final List<File> tables = createTables(ctx, dataDirectory,
+                        sourceDirectory);
+                driver.download(copy(ctx, source, sourceDirectory),
+                        Optional.empty());
+                for (File table : tables) {
+                    final String[] files = table.list();
+                    if (files == null || files.length == 0) {
+                        continue;
+                    }
+                    LOGGER.info("Bulk loading table: {}, source node = {}",
+                            table, source);
+                    daemon.bulkLoad(table, ctx.getBandwidthMb() * 8);
+                }
+            } finally {
+                FileUtils.deleteDirectory(sourceDirectory);
+            }
+            progress.loaded(source, ++loaded, sources.size());
+        }
+    }
+
+    /**
+     * Creates a copy of the data directories of the restored tables of the
+     * node in the staging directory of a source node. The drivers download
+     * the files of each table to the matching directory.
+     */
+    private static List<File> createTables(RestoreContext ctx,
+                                           File dataDirectory,
+                                           File sourceDirectory)
+            throws IOException {
+        final List<File> tables = new ArrayList<>();
+        for (String keyspace : ctx.getKeyspaces()) {
+            final File[] cfDirs = new File(dataDirectory, keyspace)
+                    .listFiles();
+            if (cfDirs == null) {
+                continue;
+            }
+            for (File cfDir : cfDirs) {
+                if (cfDir.isFile() || !ctx.isTableRestored(keyspace,
+                        AbstractBackupStorageDriver.getTableName(
+                                cfDir.getName()))) {
+                    continue;
+                }
+                final File table = new File(new File(sourceDirectory,
+                        keyspace), cfDir.getName());
+                Files.createDirectories(table.toPath());
+                tables.add(table);
+            }
+        }
+        return tables;
+    }
+
+    private static RestoreContext copy(RestoreContext ctx,
+                                       String source,
+                                       File sourceDirectory) {
+        final RestoreContext copy = new RestoreContext();
+        copy.setNodeId(source);
+        copy.setName(ctx.getName());
+        copy.setExternalLocation(ctx.getExternalLocation());
+        copy.setLocalLocation(sourceDirectory.getAbsolutePath());
+        copy.setS3AccessKey(ctx.getS3AccessKey());
+        copy.setS3SecretKey(ctx.getS3SecretKey());
+        copy.setKeyspaces(ctx.getKeyspaces());
+        copy.setTables(ctx.getTables());
+        copy.setConcurrency(ctx.getConcurrency());
+        copy.setBandwidthMb(ctx.getBandwidthMb());
+        return copy;
+    }
+}
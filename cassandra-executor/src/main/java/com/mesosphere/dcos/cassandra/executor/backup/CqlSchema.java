@@ -0,0 +1,185 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * CqlSchema prepares a backed up schema for restore. The schema is split
+ * into statements, taking string literals, quoted identifiers and comments
+ * into account, each CREATE statement is rewritten so that it succeeds if
+ * the element already exists, and the statements are ordered so that every
+ * element is created after the elements it depends on.
+ */
+public class CqlSchema {
+
+    private static final Pattern CREATE = Pattern.compile(
+            "^CREATE\\s+(KEYSPACE|TABLE|COLUMNFAMILY|TYPE|FUNCTION|" +
+                    "AGGREGATE|TRIGGER|MATERIALIZED\\s+VIEW|" +
+                    "(?:CUSTOM\\s+)?INDEX)\\b(?!\\s+IF\\s+NOT\\s+EXISTS\\b)",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * The kinds of CREATE statements in the order in which they must be
+     * applied. Statements of the same kind keep their order in the schema,
+     * as types and functions may depend on those created before them.
+     */
+    private static final List<String> ORDER = Arrays.asList(
+            "KEYSPACE",
+            "TYPE",
+            "FUNCTION",
+            "AGGREGATE",
+            "TABLE",
+            "INDEX",
+            "MATERIALIZED VIEW",
+            "TRIGGER");
+
+    private static final Pattern KIND = Pattern.compile(
+            "^CREATE\\s+(?:OR\\s+REPLACE\\s+)?(?:CUSTOM\\s+)?" +
+                    "(KEYSPACE|TABLE|COLUMNFAMILY|TYPE|FUNCTION|AGGREGATE|" +
+                    "TRIGGER|MATERIALIZED\\s+VIEW|INDEX)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private CqlSchema() {
+    }
+
+    /**
+     * Gets the statements that restore a schema.
+     *
+     * @param schema The text of the schema, as written by the backup.
+     * @return The idempotent statements of the schema in dependency order.
+     */
+    public static List<String> getRestoreStatements(String schema) {
+        return order(split(schema).stream()
+                .map(CqlSchema::makeIdempotent)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Splits CQL text into statements. Comments are removed, and semicolons
+     * inside string literals, quoted identifiers and function bodies do not
+     * end a statement.
+     *
+     * @param text The CQL text.
+     * @return The non empty statements of the text, without their
+     * terminating semicolon.
+     */
+    static List<String> split(String text) {
+        final List<String> statements = new ArrayList<>();
+        final StringBuilder current = new StringBuilder();
+        int index = 0;
+        while (index < text.length()) {
+            final char c = text.charAt(index);
+            if (c == '\'' || c == '"') {
+                final int end = skipQuoted(text, index, c);
+                current.append(text, index, end);
+                index = end;
+            } else if (text.startsWith("$$", index)) {
+                final int close = text.indexOf("$$", index + 2);
+                final int end = (close < 0) ? text.length() : close + 2;
+                current.append(text, index, end);
+                index = end;
+            } else if (text.startsWith("--", index) ||
+                    text.startsWith("//", index)) {
+                final int newline = text.indexOf('\n', index);
+                index = (newline < 0) ? text.length() : newline;
+            } else if (text.startsWith("/*", index)) {
+                final int close = text.indexOf("*/", index + 2);
+                index = (close < 0) ? text.length() : close + 2;
+                current.append(' ');
+            } else if (c == ';') {
+                add(statements, current);
+                index++;
+            } else {
+                current.append(c);
+                index++;
+            }
+        }
+        add(statements, current);
+        return statements;
+    }
+
+    /**
+     * Rewrites a CREATE statement so that it does not fail if the element
+     * already exists. Other statements are returned unchanged.
+     *
+     * @param statement The statement.
+     * @return The idempotent statement.
+     */
+    static String makeIdempotent(String statement) {
+        final Matcher matcher = CREATE.matcher(statement);
+        return matcher.find() ?
+                matcher.replaceFirst("$0 IF NOT EXISTS") :
+                statement;
+    }
+
+    /**
+     * Orders statements so that key spaces are created first, followed by
+     * types, functions, aggregates, tables, indexes, views and triggers.
+     * Statements that do not create an element are applied last.
+     *
+     * @param statements The statements of the schema.
+     * @return The statements in the order in which they must be applied.
+     */
+    static List<String> order(List<String> statements) {
+        final List<String> ordered = new ArrayList<>(statements);
+        // List.sort is stable, so statements of the same kind keep their
+        // relative order.
+        ordered.sort(Comparator.comparingInt(CqlSchema::getRank));
+        return ordered;
+    }
+
+    private static int getRank(String statement) {
+        final Matcher matcher = KIND.matcher(statement);
+        if (!matcher.find()) {
+            return ORDER.size();
+        }
+        final String kind = matcher.group(1).toUpperCase()
+                .replaceAll("\\s+", " ");
+        return ORDER.indexOf("COLUMNFAMILY".equals(kind) ? "TABLE" : kind);
+    }
+
+    private static int skipQuoted(String text, int start, char quote) {
+        int index = start + 1;
+        while (index < text.length()) {
+            if (text.charAt(index) == quote) {
+                // A doubled quote is an escaped quote.
+                if (index + 1 < text.length() &&
+                        text.charAt(index + 1) == quote) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return text.length();
+    }
+
+    private static void add(List<String> statements, StringBuilder current) {
+        final String statement = current.toString().trim();
+        if (!statement.isEmpty()) {
+            statements.add(statement);
+        }
+        current.setLength(0);
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.mesosphere.dcos.cassandra.common.config.CassandraApplicationConfig;
+import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupContext;
+import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreContext;
+import com.mesosphere.dcos.cassandra.executor.compress.CompressionDrivers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implements a BackupStorageDriver that stores backups in a directory of a
+ * local or network (e.g. NFS) file system, identified by a file:// URI.
+ * Files are hard linked when the snapshot and the backup directory share a
+ * file system and are otherwise copied with FileChannel.transferTo.
+ * The backup of a node is stored as
+ * <location>/<backup>/<nodeId>/<keyspace>/<cf>/<relativePath>.
+ * The files are stored as is, so the compression and incremental options of
+ * a backup are rejected for file:// locations and no manifest is written. A
+ * file copied by an earlier attempt of the upload is kept if it has the size
+ * of the snapshot file.
+ */
+public class LocalStorageDriver extends AbstractBackupStorageDriver {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            LocalStorageDriver.class);
+
+    /**
+     * The URI scheme of the locations handled by the driver.
+     */
+    public static final String SCHEME = "file";
+
+    private static final long TRANSFER_SIZE = 8 * 1024 * 1024;
+
+    private static Path getNodeDirectory(String externalLocation,
+                                         String backupName,
+                                         String nodeId) {
+        return Paths.get(URI.create(externalLocation))
+                .resolve(backupName)
+                .resolve(nodeId);
+    }
+
+    @Override
+    public void upload(BackupContext ctx,
+                       BackupThrottle throttle,
+                       Future<?> snapshot) throws IOException {
+        if (ctx.isIncremental() ||
+                CompressionDrivers.forName(ctx.getCompression()).isPresent()) {
+            throw new IOException("Compressed and incremental backups are " +
+                    "not supported for location: " +
+                    ctx.getExternalLocation());
+        }
+        final Path nodeDirectory = getNodeDirectory(ctx.getExternalLocation(),
+                ctx.getName(), ctx.getNodeId());
+        final SnapshotWatcher watcher = watchSnapshot(
+                new File(ctx.getLocalLocation()), ctx.getName(), snapshot);
+        final int concurrency = ctx.getConcurrency() > 0 ?
+                ctx.getConcurrency() : BackupContext.DEFAULT_CONCURRENCY;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                concurrency);
+        try {
+            final List<Future<Void>> pending = new ArrayList<>();
+            for (List<SnapshotFile> files = watcher.next(); !files.isEmpty();
+                 files = watcher.next()) {
+                LOGGER.info("Copying {} snapshot files for backup: {} to {}",
+                        files.size(), ctx.getName(), nodeDirectory);
+                for (SnapshotFile file : files) {
+                    pending.add(executor.submit(() -> {
+                        final Path target = nodeDirectory.resolve(
+                                file.getKey());
+                        // Files copied by a previous attempt of the upload
+                        // are complete if they have the size of the
+                        // snapshot file.
+                        if (Files.isRegularFile(target) &&
+                                Files.size(target) == file.getSize()) {
+                            LOGGER.debug("Skipping copied file: {}", file);
+                        } else {
+                            transfer(file.getFile().toPath(), target,
+                                    Optional.of(throttle.getLimiter()));
+                        }
+                        watcher.stored(file.getKey());
+                        return null;
+                    }));
+                }
+            }
+            waitForAll(pending, "upload");
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.info("Done copying snapshots for backup: {}", ctx.getName());
+    }
+
+    @Override
+    public void uploadSchema(BackupContext ctx, String keyspacesSchema)
+            throws IOException {
+        final Path schemaFile = getNodeDirectory(ctx.getExternalLocation(),
+                ctx.getName(), ctx.getNodeId())
+                .resolve(CassandraApplicationConfig.SCHEMAFILENAME);
+        Files.createDirectories(schemaFile.getParent());
+        Files.write(schemaFile,
+                keyspacesSchema.getBytes(StandardCharsets.UTF_8));
+        LOGGER.info("Wrote schema to {}", schemaFile);
+    }
+
+    @Override
+    public void downloadSchema(RestoreContext ctx) throws IOException {
+        final Path source = getNodeDirectory(ctx.getExternalLocation(),
+                ctx.getName(), ctx.getNodeId())
+                .resolve(CassandraApplicationConfig.SCHEMAFILENAME);
+        final Path destination = Paths.get(ctx.getLocalLocation(),
+                CassandraApplicationConfig.SCHEMAFILENAME);
+        Files.createDirectories(destination.getParent());
+        Files.copy(source, destination, StandardCopyOption.REPLACE_EXISTING);
+        LOGGER.info("Copied schema from {} to {}", source, destination);
+    }
+
+    @Override
+    public void download(RestoreContext ctx,
+                         Optional<PipelinedTableLoader> loader)
+            throws IOException {
+        final Path nodeDirectory = getNodeDirectory(ctx.getExternalLocation(),
+                ctx.getName(), ctx.getNodeId());
+        final int concurrency = ctx.getConcurrency() > 0 ?
+                ctx.getConcurrency() : RestoreContext.DEFAULT_CONCURRENCY;
+        final Optional<RateLimiter> limiter = ctx.getBandwidthMb() > 0 ?
+                Optional.of(RateLimiter.create(
+                        ctx.getBandwidthMb() * 1024.0 * 1024.0)) :
+                Optional.empty();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                concurrency);
+        try {
+            // All files are staged before any of them is copied.
+            final Map<Path, Path> copies = new LinkedHashMap<>();
+            for (String keyspace : ctx.getKeyspaces()) {
+                final Path backupKeyspace = nodeDirectory.resolve(keyspace);
+                final File[] cfDirs = new File(ctx.getLocalLocation(),
+                        keyspace).listFiles();
+                if (cfDirs == null || !Files.isDirectory(backupKeyspace)) {
+                    continue;
+                }
+                for (File cfDir : cfDirs) {
+                    final String tableName = getTableName(cfDir.getName());
+                    if (cfDir.isFile() ||
+                            !ctx.isTableRestored(keyspace, tableName)) {
+                        continue;
+                    }
+                    for (Path source : getBackupFiles(backupKeyspace,
+                            tableName)) {
+                        final String fileName =
+                                source.getFileName().toString();
+                        copies.put(source, loader.isPresent() ?
+                                loader.get().stage(keyspace, cfDir, fileName)
+                                        .toPath() :
+                                cfDir.toPath().resolve(fileName));
+                    }
+                }
+            }
+            final List<Future<Void>> pending = new ArrayList<>();
+            for (Map.Entry<Path, Path> copy : copies.entrySet()) {
+                pending.add(executor.submit(() -> {
+                    transfer(copy.getKey(), copy.getValue(), limiter);
+                    if (loader.isPresent()) {
+                        loader.get().downloaded(copy.getValue().toFile());
+                    }
+                    return null;
+                }));
+            }
+            LOGGER.info("Copying {} files for backup: {}", pending.size(),
+                    ctx.getName());
+            waitForAll(pending, "download");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public List<String> listNodes(RestoreContext ctx) throws IOException {
+        final Path backupDirectory = Paths.get(
+                URI.create(ctx.getExternalLocation())).resolve(ctx.getName());
+        try (Stream<Path> nodes = Files.list(backupDirectory)) {
+            return nodes.filter(Files::isDirectory)
+                    .map(node -> node.getFileName().toString())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<Path> getBackupFiles(Path backupKeyspace,
+                                             String tableName)
+            throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (Stream<Path> cfDirs = Files.list(backupKeyspace)) {
+            for (Path cfDir : cfDirs.filter(Files::isDirectory)
+                    .filter(dir -> getTableName(dir.getFileName().toString())
+                            .equals(tableName))
+                    .collect(Collectors.toList())) {
+                try (Stream<Path> paths = Files.walk(cfDir)) {
+                    paths.filter(Files::isRegularFile).forEach(files::add);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Transfers a file by creating a hard link when the source and the
+     * target share a file system, and by copying it with transferTo
+     * otherwise. A copy reads at most the rate of the limiter, if present.
+     */
+    private static void transfer(Path source,
+                                 Path target,
+                                 Optional<RateLimiter> limiter)
+            throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.deleteIfExists(target);
+        if (Files.getFileStore(source).equals(
+                Files.getFileStore(target.getParent()))) {
+            try {
+                Files.createLink(target, source);
+                LOGGER.debug("Linked {} to {}", source, target);
+                return;
+            } catch (IOException | UnsupportedOperationException ex) {
+                LOGGER.debug("Failed to link {} to {}, copying it",
+                        source, target);
+            }
+        }
+        try (FileChannel in = FileChannel.open(source,
+                StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target,
+                     StandardOpenOption.CREATE_NEW,
+                     StandardOpenOption.WRITE)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                final long count = Math.min(TRANSFER_SIZE, size - position);
+                if (limiter.isPresent()) {
+                    limiter.get().acquire((int) count);
+                }
+                position += in.transferTo(position, count, out);
+            }
+        }
+        LOGGER.debug("Copied {} to {}", source, target);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * MultipartUploadOutputStream is an OutputStream that uploads the data
+ * written to it to an S3 object, one part at a time. At most one part is
+ * buffered in memory, so streams of unknown length (e.g. the output of a
+ * compressor) can be uploaded without staging them on disk. Data smaller
+ * than a single part is uploaded with a single put when the stream is
+ * closed. If an upload fails, the multipart upload is aborted. A writer
+ * that fails to produce all of the data must call abort instead of close,
+ * so that a truncated object is never stored. An upload that was
+ * interrupted may be resumed by its upload id. The data of the parts that
+ * were already uploaded is written again and discarded.
+ */
+public class MultipartUploadOutputStream extends OutputStream {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            MultipartUploadOutputStream.class);
+
+    private final AmazonS3 client;
+    private final String bucketName;
+    private final String key;
+    private final byte[] buffer;
+    private final List<PartETag> partETags = new ArrayList<>();
+    private int position = 0;
+    private String uploadId = null;
+    private boolean closed = false;
+    private long discard = 0;
+
+    /**
+     * Resumes an interrupted multipart upload. The parts that have already
+     * been uploaded are kept and the same number of bytes is discarded from
+     * the start of the data written to the stream. If the upload no longer
+     * exists, a new upload is started.
+     *
+     * @param client     The client used to upload the parts.
+     * @param bucketName The bucket of the object.
+     * @param key        The key of the object.
+     * @param partSize   The size of the remaining parts in bytes.
+     * @param uploadId   The id of the interrupted upload.
+     * @return A MultipartUploadOutputStream that continues the upload.
+     */
+    public static MultipartUploadOutputStream resume(final AmazonS3 client,
+                                                     final String bucketName,
+                                                     final String key,
+                                                     final int partSize,
+                                                     final String uploadId) {
+        final MultipartUploadOutputStream stream =
+                new MultipartUploadOutputStream(client, bucketName, key,
+                        partSize);
+        final List<PartSummary> parts = new ArrayList<>();
+        try {
+            final ListPartsRequest request = new ListPartsRequest(bucketName,
+                    key, uploadId);
+            PartListing listing;
+            do {
+                listing = client.listParts(request);
+                parts.addAll(listing.getParts());
+                request.setPartNumberMarker(listing.getNextPartNumberMarker());
+            } while (listing.isTruncated());
+        } catch (AmazonS3Exception ex) {
+            LOGGER.warn("Failed to list the parts of upload {} of {}, " +
+                    "restarting it: {}", uploadId, key, ex.getMessage());
+            return stream;
+        }
+        parts.sort(Comparator.comparingInt(PartSummary::getPartNumber));
+        // Only the leading run of consecutive parts can be kept, any later
+        // part is uploaded again.
+        for (PartSummary part : parts) {
+            if (part.getPartNumber() != stream.partETags.size() + 1) {
+                break;
+            }
+            stream.partETags.add(new PartETag(part.getPartNumber(),
+                    part.getETag()));
+            stream.discard += part.getSize();
+        }
+        stream.uploadId = uploadId;
+        LOGGER.info("Resuming upload {} of {} after {} parts ({} bytes)",
+                uploadId, key, stream.partETags.size(), stream.discard);
+        return stream;
+    }
+
+    /**
+     * Constructs a new MultipartUploadOutputStream.
+     *
+     * @param client     The client used to upload the parts.
+     * @param bucketName The bucket of the object.
+     * @param key        The key of the object.
+     * @param partSize   The size of the parts of the upload in bytes.
+     */
+    public MultipartUploadOutputStream(final AmazonS3 client,
+                                       final String bucketName,
+                                       final String key,
+                                       final int partSize) {
+        this.client = client;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.buffer = new byte[partSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (discard > 0) {
+            discard--;
+            return;
+        }
+        if (position == buffer.length) {
+            uploadPart();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (discard > 0) {
+            final int skipped = (int) Math.min(discard, len);
+            discard -= skipped;
+            off += skipped;
+            len -= skipped;
+        }
+        while (len > 0) {
+            if (position == buffer.length) {
+                uploadPart();
+            }
+            final int length = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, length);
+            position += length;
+            off += length;
+            len -= length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (discard > 0) {
+            abort();
+            throw new IOException(String.format("Failed to resume upload " +
+                    "of %s: %d uploaded bytes were not written again", key,
+                    discard));
+        }
+        closed = true;
+        try {
+            if (uploadId == null) {
+                final ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentLength(position);
+                client.putObject(bucketName, key,
+                        new ByteArrayInputStream(buffer, 0, position),
+                        metadata);
+            } else {
+                if (position > 0 || partETags.isEmpty()) {
+                    uploadPart();
+                }
+                client.completeMultipartUpload(
+                        new CompleteMultipartUploadRequest(bucketName, key,
+                                uploadId, partETags));
+            }
+        } catch (RuntimeException ex) {
+            abort();
+            throw new IOException("Failed to upload " + key, ex);
+        }
+    }
+
+    private void uploadPart() throws IOException {
+        try {
+            if (uploadId == null) {
+                uploadId = client.initiateMultipartUpload(
+                        new InitiateMultipartUploadRequest(bucketName, key))
+                        .getUploadId();
+            }
+            final UploadPartResult result = client.uploadPart(
+                    new UploadPartRequest()
+                            .withBucketName(bucketName)
+                            .withKey(key)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partETags.size() + 1)
+                            .withInputStream(new ByteArrayInputStream(
+                                    buffer, 0, position))
+                            .withPartSize(position));
+            partETags.add(result.getPartETag());
+            position = 0;
+        } catch (RuntimeException ex) {
+            closed = true;
+            abort();
+            throw new IOException("Failed to upload part of " + key, ex);
+        }
+    }
+
+    /**
+     * Aborts the upload. Nothing is stored and the stream is closed.
+     */
+    public void abort() {
+        closed = true;
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            client.abortMultipartUpload(new AbortMultipartUploadRequest(
+                    bucketName, key, uploadId));
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to abort multipart upload of " + key, ex);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.google.common.util.concurrent.RateLimiter;
+import com.mesosphere.dcos.cassandra.executor.compress.CompressionDriver;
+import com.mesosphere.dcos.cassandra.executor.compress.CompressionDrivers;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * ParallelDownloader downloads the files of a backup concurrently. Files
+ * larger than the range size are split into byte ranges that are fetched
+ * in parallel and written directly to their position in the destination
+ * file. The number of concurrent requests is bounded by the executor and
+ * the aggregate transfer rate may be capped by a RateLimiter. Every file is
+ * verified against its manifest entry once it has been written. The
+ * checksum of a file downloaded in ranges is combined from the checksums of
+ * its ranges, so the file is never read back.
+ */
+public class ParallelDownloader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            ParallelDownloader.class);
+
+    /**
+     * The default size of the ranges of a download in bytes.
+     */
+    public static final long DEFAULT_RANGE_SIZE = 16 * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int GF2_DIM = 32;
+
+    private static final long CRC32_POLYNOMIAL = 0xedb88320L;
+
+    /**
+     * FileDownload is a single file that will be downloaded.
+     */
+    public static class FileDownload {
+        private final BackupManifest.Entry entry;
+        private final File destination;
+
+        /**
+         * Creates a new FileDownload.
+         *
+         * @param entry       The manifest entry of the file. An entry with a
+         *                    negative size and no checksum is not verified.
+         * @param destination The local file where the download is written.
+         * @return A new FileDownload.
+         */
+        public static FileDownload create(BackupManifest.Entry entry,
+                                          File destination) {
+            return new FileDownload(entry, destination);
+        }
+
+        private FileDownload(BackupManifest.Entry entry, File destination) {
+            this.entry = entry;
+            this.destination = destination;
+        }
+
+        /**
+         * Gets the entry.
+         *
+         * @return The manifest entry of the file.
+         */
+        public BackupManifest.Entry getEntry() {
+            return entry;
+        }
+
+        /**
+         * Gets the destination.
+         *
+         * @return The local file where the download is written.
+         */
+        public File getDestination() {
+            return destination;
+        }
+    }
+
+    private interface IOTask {
+        void run() throws IOException;
+    }
+
+    private final AmazonS3 client;
+    private final String bucketName;
+    private final ExecutorService executor;
+    private final Optional<RateLimiter> limiter;
+    private final long rangeSize;
+
+    /**
+     * Constructs a new ParallelDownloader.
+     *
+     * @param client     The client used to fetch the objects.
+     * @param bucketName The bucket containing the objects.
+     * @param executor   The executor that performs the requests. Its
+     *                   number of threads bounds the number of concurrent
+     *                   requests.
+     * @param limiter    The RateLimiter, in bytes per second, shared by all
+     *                   requests or empty if the rate is unlimited.
+     * @param rangeSize  The size of the ranges in bytes.
+     */
+    public ParallelDownloader(final AmazonS3 client,
+                              final String bucketName,
+                              final ExecutorService executor,
+                              final Optional<RateLimiter> limiter,
+                              final long rangeSize) {
+        this.client = client;
+        this.bucketName = bucketName;
+        this.executor = executor;
+        this.limiter = limiter;
+        this.rangeSize = rangeSize;
+    }
+
+    /**
+     * Downloads all files and waits for them to complete.
+     *
+     * @param downloads The files that will be downloaded.
+     * @throws IOException If any of the downloads fails.
+     */
+    public void download(List<FileDownload> downloads) throws IOException {
+        final List<FileDownload> sorted = new ArrayList<>(downloads);
+        // Start the largest files first so that the tail of the restore is
+        // not dominated by a single large transfer.
+        sorted.sort(Comparator.comparingLong(
+                (FileDownload download) -> download.getEntry().getSize())
+                .reversed());
+        download(sorted, destination -> {
+        });
+    }
+
+    /**
+     * Downloads all files, starting them in the order they are given, and
+     * waits for them to complete.
+     *
+     * @param downloads The files that will be downloaded.
+     * @param listener  The listener that is notified with the destination of
+     *                  each file once it has been written and verified.
+     * @throws IOException If any of the downloads fails.
+     */
+    public void download(List<FileDownload> downloads,
+                         Consumer<File> listener) throws IOException {
+        final List<CompletableFuture<Void>> pending =
+                new ArrayList<>(downloads.size());
+        for (FileDownload download : downloads) {
+            pending.add(schedule(download).thenRun(() ->
+                    listener.accept(download.getDestination())));
+        }
+        AbstractBackupStorageDriver.waitForAll(pending, "download");
+    }
+
+    private CompletableFuture<Void> schedule(FileDownload download)
+            throws IOException {
+        final BackupManifest.Entry entry = download.getEntry();
+        final File destination = download.getDestination();
+        Files.deleteIfExists(destination.toPath());
+        final Optional<CompressionDriver> compression =
+                CompressionDrivers.forKey(entry.getLocation());
+        if (compression.isPresent() || entry.getSize() <= rangeSize) {
+            // Compressed objects must be decompressed as a single stream.
+            return submit(() -> downloadStream(entry, destination,
+                    compression));
+        }
+
+        final int count = (int) ((entry.getSize() + rangeSize - 1) /
+                rangeSize);
+        final long[] checksums = new long[count];
+        final List<CompletableFuture<Void>> ranges = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            final int range = index;
+            final long begin = index * rangeSize;
+            final long end = Math.min(begin + rangeSize, entry.getSize());
+            ranges.add(submit(() -> checksums[range] =
+                    downloadRange(entry, destination, begin, end)));
+        }
+        LOGGER.debug("Downloading {} in {} ranges", entry.getLocation(),
+                count);
+        return CompletableFuture.allOf(
+                ranges.toArray(new CompletableFuture[ranges.size()]))
+                .thenCompose(ignored -> submit(() -> verify(entry,
+                        destination, Long.toHexString(
+                                combine(checksums, entry.getSize())))));
+    }
+
+    /**
+     * Combines the CRC32 checksums of the consecutive ranges of a file into
+     * the checksum of the whole file.
+     *
+     * @param checksums The checksums of the ranges in order. All ranges but
+     *                  the last have the range size.
+     * @param size      The size of the file in bytes.
+     * @return The CRC32 checksum of the file.
+     */
+    private long combine(long[] checksums, long size) {
+        long crc = 0;
+        for (int index = 0; index < checksums.length; index++) {
+            final long length = Math.min(rangeSize,
+                    size - index * rangeSize);
+            crc = combine(crc, checksums[index], length);
+        }
+        return crc;
+    }
+
+    /**
+     * Combines two CRC32 checksums as zlib's crc32_combine does: the result
+     * is the checksum of the concatenation of the first and second blocks,
+     * computed by applying the operator that appends length zero bytes to
+     * the first checksum.
+     *
+     * @param first  The CRC32 checksum of the first block.
+     * @param second The CRC32 checksum of the second block.
+     * @param length The length of the second block in bytes.
+     * @return The CRC32 checksum of the concatenation of the blocks.
+     */
+    static long combine(long first, long second, long length) {
+        if (length <= 0) {
+            return first;
+        }
+        long[] even = new long[GF2_DIM];
+        long[] odd = new long[GF2_DIM];
+
+        // The operator for one zero bit
+        odd[0] = CRC32_POLYNOMIAL;
+        long row = 1;
+        for (int n = 1; n < GF2_DIM; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        // The operators for two and then four zero bits
+        square(even, odd);
+        square(odd, even);
+
+        // Apply the operator for each bit of length, starting with one
+        // zero byte
+        long crc = first;
+        do {
+            square(even, odd);
+            if ((length & 1) != 0) {
+                crc = times(even, crc);
+            }
+            length >>= 1;
+            if (length == 0) {
+                break;
+            }
+            square(odd, even);
+            if ((length & 1) != 0) {
+                crc = times(odd, crc);
+            }
+            length >>= 1;
+        } while (length != 0);
+        return crc ^ second;
+    }
+
+    private static long times(long[] matrix, long vector) {
+        long sum = 0;
+        for (int n = 0; vector != 0; n++, vector >>>= 1) {
+            if ((vector & 1) != 0) {
+                sum ^= matrix[n];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(long[] square, long[] matrix) {
+        for (int n = 0; n < GF2_DIM; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+    }
+
+    private CompletableFuture<Void> submit(IOTask task) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                task.run();
+                future.complete(null);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private InputStream open(GetObjectRequest request) {
+        final InputStream stream = client.getObject(request)
+                .getObjectContent();
+        return limiter.isPresent() ?
+                new ThrottledInputStream(stream, limiter.get()) : stream;
+    }
+
+    private void downloadStream(BackupManifest.Entry entry,
+                                File destination,
+                                Optional<CompressionDriver> compression)
+            throws IOException {
+        LOGGER.debug("Downloading {} to {}", entry.getLocation(),
+                destination);
+        final CRC32 crc = new CRC32();
+        final InputStream source = open(new GetObjectRequest(bucketName,
+                entry.getLocation()));
+        final OutputStream output = new CheckedOutputStream(
+                new BufferedOutputStream(new FileOutputStream(destination),
+                        BUFFER_SIZE), crc);
+        if (compression.isPresent()) {
+            compression.get().decompress(source, output);
+        } else {
+            try (InputStream in = source; OutputStream out = output) {
+                IOUtils.copyLarge(in, out);
+            }
+        }
+        verify(entry, destination, Long.toHexString(crc.getValue()));
+    }
+
+    private long downloadRange(BackupManifest.Entry entry,
+                               File destination,
+                               long start,
+                               long end) throws IOException {
+        final CRC32 crc = new CRC32();
+        long position = start;
+        try (InputStream in = open(new GetObjectRequest(bucketName,
+                entry.getLocation()).withRange(start, end - 1));
+             FileChannel channel = FileChannel.open(destination.toPath(),
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                final ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+                while (bytes.hasRemaining()) {
+                    position += channel.write(bytes, position);
+                }
+            }
+        }
+        if (position != end) {
+            throw new IOException(String.format(
+                    "Short read of %s: range [%d, %d) ended at %d",
+                    entry.getLocation(), start, end, position));
+        }
+        return crc.getValue();
+    }
+
+    private static void verify(BackupManifest.Entry entry,
+                               File destination,
+                               String checksum) throws IOException {
+        final boolean sizeMatches = entry.getSize() < 0 ||
+                destination.length() == entry.getSize();
+        final boolean checksumMatches = entry.getChecksum() == null ||
+                entry.getChecksum().equals(checksum);
+        if (!sizeMatches || !checksumMatches) {
+            final String message = String.format(
+                    "Verification of %s failed: expected size = %d, " +
+                            "checksum = %s, actual size = %d, checksum = %s",
+                    entry.getLocation(), entry.getSize(), entry.getChecksum(),
+                    destination.length(), checksum);
+            if (!destination.delete()) {
+                LOGGER.warn("Failed to delete {}", destination);
+            }
+            throw new IOException(message);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ParallelTableLoader loads the SSTables that have been restored to the
+ * data directories of the tables of a node. The tables are loaded
+ * concurrently, largest first, so that the load of the node is not
+ * dominated by a single large table that is started last.
+ */
+public class ParallelTableLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            ParallelTableLoader.class);
+
+    /**
+     * Table is the data directory of a single table.
+     */
+    public static class Table {
+        private final String keyspace;
+        private final String name;
+        private final long size;
+
+        /**
+         * Creates a new Table.
+         *
+         * @param keyspace The name of the key space of the table.
+         * @param name     The name of the table.
+         * @param size     The size of the SSTables of the table in bytes.
+         * @return A new Table.
+         */
+        public static Table create(String keyspace, String name, long size) {
+            return new Table(keyspace, name, size);
+        }
+
+        private Table(String keyspace, String name, long size) {
+            this.keyspace = keyspace;
+            this.name = name;
+            this.size = size;
+        }
+
+        /**
+         * Gets the key space.
+         *
+         * @return The name of the key space of the table.
+         */
+        public String getKeyspace() {
+            return keyspace;
+        }
+
+        /**
+         * Gets the name.
+         *
+         * @return The name of the table.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the size.
+         *
+         * @return The size of the SSTables of the table in bytes.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return keyspace + "." + name;
+        }
+    }
+
+    /**
+     * Progress is notified each time a table has been loaded.
+     */
+    public interface Progress {
+        void loaded(Table table, int loaded, int total);
+    }
+
+    /**
+     * Gets the tables of key spaces in a data directory.
+     *
+     * @param dataDirectory The Cassandra data directory.
+     * @param keyspaces     The names of the key spaces.
+     * @return The tables of the key spaces that have a data directory.
+     */
+    public static List<Table> getTables(File dataDirectory,
+                                        List<String> keyspaces) {
+        final List<Table> tables = new ArrayList<>();
+        for (String keyspace : keyspaces) {
+            final File[] cfDirs = new File(dataDirectory, keyspace)
+                    .listFiles();
+            if (cfDirs == null) {
+                continue;
+            }
+            for (File cfDir : cfDirs) {
+                if (cfDir.isFile()) {
+                    continue;
+                }
+                long size = 0;
+                final File[] files = cfDir.listFiles();
+                if (files != null) {
+                    for (File file : files) {
+                        if (file.isFile()) {
+                            size += file.length();
+                        }
+                    }
+                }
+                tables.add(Table.create(keyspace,
+                        AbstractBackupStorageDriver.getTableName(
+                                cfDir.getName()),
+                        size));
+            }
+        }
+        return tables;
+    }
+
+    private final CassandraDaemonProcess daemon;
+    private final int concurrency;
+
+    /**
+     * Constructs a new ParallelTableLoader.
+     *
+     * @param daemon      The CassandraDaemonProcess that loads the SSTables.
+     * @param concurrency The maximum number of tables loaded concurrently.
+     */
+    public ParallelTableLoader(final CassandraDaemonProcess daemon,
+                               final int concurrency) {
+        this.daemon = daemon;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Loads the SSTables of tables.
+     *
+     * @param tables   The tables that will be loaded.
+     * @param progress The Progress notified as tables are loaded.
+     * @throws IOException If any of the tables fails to load.
+     */
+    public void load(List<Table> tables, Progress progress)
+            throws IOException {
+        final List<Table> ordered = new ArrayList<>(tables);
+        ordered.sort(Comparator.comparingLong(Table::getSize).reversed());
+        LOGGER.info("Loading {} tables, concurrency = {}", ordered.size(),
+                concurrency);
+        final AtomicInteger loaded = new AtomicInteger(0);
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                concurrency);
+        try {
+            final List<Future<Void>> pending = new ArrayList<>();
+            for (Table table : ordered) {
+                pending.add(executor.submit(() -> {
+                    LOGGER.info("Loading table: {}, size = {}", table,
+                            table.getSize());
+                    daemon.loadNewSSTables(table.getKeyspace(),
+                            table.getName());
+                    progress.loaded(table, loaded.incrementAndGet(),
+                            ordered.size());
+                    return null;
+                }));
+            }
+            AbstractBackupStorageDriver.waitForAll(pending, "load");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
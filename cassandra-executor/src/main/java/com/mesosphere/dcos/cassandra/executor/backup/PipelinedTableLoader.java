@@ -0,0 +1,237 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * PipelinedTableLoader loads the SSTables of a node while the rest of the
+ * backup is still being downloaded. The components of each SSTable are
+ * downloaded to a staging directory inside the data directory of their
+ * table, which Cassandra does not list. As soon as all of the components of
+ * an SSTable (Data, Index, Filter, Summary, Statistics, CompressionInfo,
+ * TOC, ...) have been downloaded, they are moved into the data directory of
+ * the table and the new SSTables of the table are loaded.
+ *
+ * Loads of different tables run concurrently. Loads of the same table are
+ * serialized, and SSTables that complete while their table is being loaded
+ * are loaded together by the next load of the table.
+ */
+public class PipelinedTableLoader implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            PipelinedTableLoader.class);
+
+    /**
+     * The name of the directory, inside the data directory of a table, to
+     * which the components of its SSTables are downloaded. It is not a valid
+     * index name, so it can not collide with the directory of a secondary
+     * index.
+     */
+    public static final String STAGING_DIRECTORY = ".restore-staging";
+
+    private static class Table {
+        private final String keyspace;
+        private final String name;
+        private final File directory;
+        private final Map<String, Set<File>> missing = new HashMap<>();
+        private final Map<String, List<File>> components = new HashMap<>();
+        private final List<File> ready = new ArrayList<>();
+        private boolean loading = false;
+
+        private Table(String keyspace, String name, File directory) {
+            this.keyspace = keyspace;
+            this.name = name;
+            this.directory = directory;
+        }
+
+        @Override
+        public String toString() {
+            return keyspace + "." + name;
+        }
+    }
+
+    /**
+     * Gets the descriptor of an SSTable component. All of the components of
+     * an SSTable share the file name up to the last '-'
+     * (e.g. la-12-big-Data.db and la-12-big-Index.db or ks-cf-ka-12-Data.db
+     * and ks-cf-ka-12-Index.db).
+     *
+     * @param fileName The file name of the component.
+     * @return The descriptor of the SSTable of the component, or the file
+     * name if it is not an SSTable component.
+     */
+    static String getDescriptor(String fileName) {
+        final int index = fileName.lastIndexOf('-');
+        return (index < 0) ? fileName : fileName.substring(0, index);
+    }
+
+    private final CassandraDaemonProcess daemon;
+    private final ExecutorService executor;
+    private final Map<File, Table> tables = new HashMap<>();
+    private final List<Future<Void>> pending = new ArrayList<>();
+    private int loaded = 0;
+
+    /**
+     * Constructs a new PipelinedTableLoader.
+     *
+     * @param daemon      The CassandraDaemonProcess that loads the SSTables.
+     * @param concurrency The maximum number of tables loaded concurrently.
+     */
+    public PipelinedTableLoader(final CassandraDaemonProcess daemon,
+                                final int concurrency) {
+        this.daemon = daemon;
+        this.executor = Executors.newFixedThreadPool(concurrency);
+    }
+
+    /**
+     * Stages a file that will be downloaded. All of the files of the restore
+     * must be staged before any of them is downloaded, so that an SSTable is
+     * not loaded before all of its components are known.
+     *
+     * @param keyspace The name of the key space of the table.
+     * @param cfDir    The data directory of the table.
+     * @param fileName The name of the file.
+     * @return The file in the staging directory of the table to which the
+     * file must be downloaded.
+     * @throws IOException If the staging directory can not be created.
+     */
+    public synchronized File stage(String keyspace,
+                                   File cfDir,
+                                   String fileName) throws IOException {
+        final File staging = new File(cfDir, STAGING_DIRECTORY);
+        Files.createDirectories(staging.toPath());
+        Table table = tables.get(cfDir);
+        if (table == null) {
+            table = new Table(keyspace,
+                    AbstractBackupStorageDriver.getTableName(cfDir.getName()),
+                    cfDir);
+            tables.put(cfDir, table);
+        }
+        final File staged = new File(staging, fileName);
+        final String descriptor = getDescriptor(fileName);
+        table.missing.computeIfAbsent(descriptor, key -> new HashSet<>())
+                .add(staged);
+        table.components.computeIfAbsent(descriptor,
+                key -> new ArrayList<>()).add(staged);
+        return staged;
+    }
+
+    /**
+     * Records that a staged file has been downloaded. If it is the last
+     * component of its SSTable to be downloaded, the SSTable is loaded.
+     *
+     * @param staged The staged file that has been downloaded.
+     */
+    public synchronized void downloaded(File staged) {
+        final Table table = tables.get(
+                staged.getParentFile().getParentFile());
+        if (table == null) {
+            return;
+        }
+        final String descriptor = getDescriptor(staged.getName());
+        final Set<File> missing = table.missing.get(descriptor);
+        if (missing == null || !missing.remove(staged) ||
+                !missing.isEmpty()) {
+            return;
+        }
+        table.missing.remove(descriptor);
+        table.ready.addAll(table.components.remove(descriptor));
+        if (!table.loading) {
+            table.loading = true;
+            pending.add(executor.submit(() -> {
+                load(table);
+                return null;
+            }));
+        }
+    }
+
+    private void load(Table table) throws IOException {
+        while (true) {
+            final List<File> files;
+            synchronized (this) {
+                if (table.ready.isEmpty()) {
+                    table.loading = false;
+                    return;
+                }
+                files = new ArrayList<>(table.ready);
+                table.ready.clear();
+            }
+            for (File file : files) {
+                Files.move(file.toPath(),
+                        new File(table.directory, file.getName()).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+            LOGGER.info("Loading {} files of table: {}", files.size(),
+                    table);
+            daemon.loadNewSSTables(table.keyspace, table.name);
+            synchronized (this) {
+                loaded += files.size();
+            }
+        }
+    }
+
+    /**
+     * Waits for all of the loads to complete and removes the staging
+     * directories. It must only be called once all of the staged files have
+     * been downloaded.
+     *
+     * @throws IOException If any of the loads fails or a staged file has not
+     *                     been downloaded.
+     */
+    public void finish() throws IOException {
+        final List<Future<Void>> loads;
+        synchronized (this) {
+            loads = new ArrayList<>(pending);
+        }
+        AbstractBackupStorageDriver.waitForAll(loads, "load");
+        synchronized (this) {
+            for (Table table : tables.values()) {
+                if (!table.missing.isEmpty()) {
+                    throw new IOException(String.format(
+                            "SSTables of table %s were not downloaded: %s",
+                            table, table.missing.keySet()));
+                }
+                FileUtils.deleteDirectory(new File(table.directory,
+                        STAGING_DIRECTORY));
+            }
+            LOGGER.info("Loaded {} files of {} tables", loaded,
+                    tables.size());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
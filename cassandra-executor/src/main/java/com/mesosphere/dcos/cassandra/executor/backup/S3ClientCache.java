@@ -0,0 +1,244 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.regions.Region;
+import com.amazonaws.regions.Regions;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3URI;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
+import com.google.inject.Inject;
+import com.mesosphere.dcos.cassandra.executor.config.CassandraExecutorConfiguration;
+import com.mesosphere.dcos.cassandra.executor.config.S3ClientConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3ClientCache holds the S3 clients that are shared by all backup and
+ * restore tasks of the executor. A client, along with its connection pool
+ * and transfer thread pool, is created for each combination of credentials
+ * and region the first time it is used. Clients that have not been used by
+ * any task for the configured idle timeout are shut down.
+ */
+public class S3ClientCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            S3ClientCache.class);
+
+    private static class Key {
+        private final String accessKey;
+        private final String secretKey;
+        private final String region;
+
+        private Key(String accessKey, String secretKey, String region) {
+            this.accessKey = accessKey;
+            this.secretKey = secretKey;
+            this.region = region;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return Objects.equals(accessKey, that.accessKey) &&
+                    Objects.equals(secretKey, that.secretKey) &&
+                    Objects.equals(region, that.region);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accessKey, secretKey, region);
+        }
+
+        @Override
+        public String toString() {
+            // The credentials must never be logged.
+            return "region = " + (region == null ? "default" : region);
+        }
+    }
+
+    private static class Entry {
+        private final AmazonS3Client client;
+        private final ExecutorService transferPool;
+        private int leases = 0;
+        private long lastUsed = System.currentTimeMillis();
+
+        private Entry(AmazonS3Client client, ExecutorService transferPool) {
+            this.client = client;
+            this.transferPool = transferPool;
+        }
+
+        private void shutdown() {
+            transferPool.shutdownNow();
+            client.shutdown();
+        }
+    }
+
+    /**
+     * Lease is the use of a cached client by a single task. The client is
+     * not evicted while it is leased. Closing the lease releases the client,
+     * it does not shut it down.
+     */
+    public class Lease implements AutoCloseable {
+        private final Entry entry;
+        private boolean closed = false;
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        /**
+         * Gets the client.
+         *
+         * @return The shared S3 client.
+         */
+        public AmazonS3 getClient() {
+            return entry.client;
+        }
+
+        /**
+         * Creates a TransferManager. The TransferManager uses the shared
+         * client and transfer pool and must be shut down with
+         * shutdownNow(false) so that they are not shut down with it.
+         *
+         * @param partSizeMb The size of the parts of multipart uploads in Mb.
+         * @return A TransferManager that transfers with the shared client.
+         */
+        public TransferManager createTransferManager(int partSizeMb) {
+            final TransferManager tx = new TransferManager(entry.client,
+                    entry.transferPool, false);
+            final long partSize = partSizeMb * 1024L * 1024L;
+            final TransferManagerConfiguration configuration =
+                    new TransferManagerConfiguration();
+            configuration.setMinimumUploadPartSize(partSize);
+            configuration.setMultipartUploadThreshold(partSize);
+            tx.setConfiguration(configuration);
+            return tx;
+        }
+
+        @Override
+        public void close() {
+            synchronized (S3ClientCache.this) {
+                if (!closed) {
+                    closed = true;
+                    entry.leases--;
+                    entry.lastUsed = System.currentTimeMillis();
+                }
+            }
+        }
+    }
+
+    private final S3ClientConfig config;
+    private final Map<Key, Entry> clients = new HashMap<>();
+
+    /**
+     * Constructs a new S3ClientCache.
+     *
+     * @param configuration The configuration of the executor.
+     * @param executor      The ScheduledExecutorService used to evict idle
+     *                      clients.
+     */
+    @Inject
+    public S3ClientCache(final CassandraExecutorConfiguration configuration,
+                         final ScheduledExecutorService executor) {
+        this.config = configuration.getS3Config();
+        final long period = Math.max(1,
+                config.getClientIdleTimeoutSeconds() / 2);
+        executor.scheduleWithFixedDelay(this::evict, period, period,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Leases the client for a location.
+     *
+     * @param accessKey The access key of the credentials.
+     * @param secretKey The secret key of the credentials.
+     * @param location  The S3 location that will be accessed.
+     * @return A Lease of the client that must be closed once the task no
+     * longer uses it.
+     */
+    public synchronized Lease acquire(String accessKey,
+                                      String secretKey,
+                                      AmazonS3URI location) {
+        final Key key = new Key(accessKey, secretKey, location.getRegion());
+        Entry entry = clients.get(key);
+        if (entry == null) {
+            LOGGER.info("Creating S3 client: {}, configuration = {}", key,
+                    config);
+            entry = new Entry(createClient(accessKey, secretKey,
+                    location.getRegion()),
+                    Executors.newFixedThreadPool(config.getTransferThreads()));
+            clients.put(key, entry);
+        }
+        entry.leases++;
+        return new Lease(entry);
+    }
+
+    private AmazonS3Client createClient(String accessKey,
+                                        String secretKey,
+                                        String region) {
+        final AmazonS3Client client = new AmazonS3Client(
+                new BasicAWSCredentials(accessKey, secretKey),
+                new ClientConfiguration()
+                        .withMaxConnections(config.getMaxConnections())
+                        .withConnectionMaxIdleMillis(
+                                config.getConnectionMaxIdleMs()));
+        if (region != null) {
+            try {
+                client.setRegion(Region.getRegion(Regions.fromName(region)));
+            } catch (IllegalArgumentException ex) {
+                LOGGER.warn("Unknown region {}, using the default endpoint",
+                        region);
+            }
+        }
+        return client;
+    }
+
+    private synchronized void evict() {
+        final long now = System.currentTimeMillis();
+        final long timeout = TimeUnit.SECONDS.toMillis(
+                config.getClientIdleTimeoutSeconds());
+        final Iterator<Map.Entry<Key, Entry>> iterator =
+                clients.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Key, Entry> cached = iterator.next();
+            final Entry entry = cached.getValue();
+            if (entry.leases == 0 && now - entry.lastUsed >= timeout) {
+                LOGGER.info("Shutting down idle S3 client: {}",
+                        cached.getKey());
+                iterator.remove();
+                try {
+                    entry.shutdown();
+                } catch (RuntimeException ex) {
+                    LOGGER.warn("Failed to shut down S3 client", ex);
+                }
+            }
+        }
+    }
+}
@@ -15,117 +15,463 @@
  */
 package com.mesosphere.dcos.cassandra.executor.backup;
 
-import com.amazonaws.auth.BasicAWSCredentials;
-import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3URI;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.Download;
-import com.amazonaws.services.s3.transfer.MultipleFileUpload;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.Upload;
 import com.amazonaws.services.s3.model.*;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.RateLimiter;
 import com.mesosphere.dcos.cassandra.common.config.CassandraApplicationConfig;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupContext;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreContext;
+import com.mesosphere.dcos.cassandra.executor.compress.CompressionDriver;
+import com.mesosphere.dcos.cassandra.executor.compress.CompressionDrivers;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 /**
  * Implements a BackupStorageDriver that provides upload and download
  * functionality to an S3 bucket.
  */
-public class S3StorageDriver implements BackupStorageDriver {
+public class S3StorageDriver extends AbstractBackupStorageDriver {
     private static final Logger LOGGER = LoggerFactory.getLogger(
             S3StorageDriver.class);
 
-    protected final Set<String> SKIP_KEYSPACES = ImmutableSet.of("system");
-    protected final Map<String, List<String>> SKIP_COLUMN_FAMILIES = ImmutableMap.of();
+    private static final String DATA_COMPONENT = "Data.db";
+    private static final String COMPRESSION_INFO_COMPONENT =
+            "CompressionInfo.db";
+    private static final String DATA_DIRECTORY = "data";
+
+    private final S3ClientCache clients;
+
+    /**
+     * Constructs a new S3StorageDriver.
+     *
+     * @param clients The S3ClientCache that provides the clients of the
+     *                driver.
+     */
+    public S3StorageDriver(final S3ClientCache clients) {
+        this.clients = clients;
+    }
+
+    private S3ClientCache.Lease acquire(String accessKey,
+                                        String secretKey,
+                                        String externalLocation) {
+        return clients.acquire(accessKey, secretKey,
+                new AmazonS3URI(externalLocation));
+    }
 
     @Override
-    public void upload(BackupContext ctx) throws IOException {
-        final String accessKey = ctx.getS3AccessKey();
-        final String secretKey = ctx.getS3SecretKey();
+    public void upload(BackupContext ctx,
+                       BackupThrottle throttle,
+                       Future<?> snapshot) throws IOException {
+        try (S3ClientCache.Lease lease = acquire(ctx.getS3AccessKey(),
+                ctx.getS3SecretKey(), ctx.getExternalLocation())) {
+            upload(ctx, throttle, snapshot, lease);
+        }
+    }
+
+    private void upload(BackupContext ctx,
+                        BackupThrottle throttle,
+                        Future<?> snapshot,
+                        S3ClientCache.Lease lease) throws IOException {
         final String localLocation = ctx.getLocalLocation();
         final String backupName = ctx.getName();
         final String nodeId = ctx.getNodeId();
+        final int concurrency = ctx.getConcurrency() > 0 ?
+                ctx.getConcurrency() : BackupContext.DEFAULT_CONCURRENCY;
+        final int partSizeMb = ctx.getPartSizeMb() > 0 ?
+                ctx.getPartSizeMb() : BackupContext.DEFAULT_PART_SIZE_MB;
 
         final AmazonS3URI backupLocationURI = new AmazonS3URI(ctx.getExternalLocation());
         final String bucketName = backupLocationURI.getBucket();
 
-        String prefixKey = backupLocationURI.getKey() != null ? backupLocationURI.getKey() : "";
-        prefixKey = (prefixKey.length() > 0 && !prefixKey.endsWith("/")) ? prefixKey + "/" : prefixKey;
-        prefixKey += backupName;
-        final String key = prefixKey + "/" + nodeId;
-
-        final BasicAWSCredentials basicAWSCredentials = new BasicAWSCredentials(accessKey, secretKey);
-        TransferManager tx = new TransferManager(basicAWSCredentials);
-
-        final File dataDirectory = new File(localLocation);
-        // Ex: data/<keyspace>/<cf>/snapshots/</snapshot-dir>/<files>
-        for (File keyspaceDir : dataDirectory.listFiles()) {
-            if (keyspaceDir.isFile()) {
-                // Skip any files in the data directory.
-                // Only enter keyspace directory.
-                continue;
+        final String keyPrefix = getKeyPrefix(backupLocationURI);
+        final String key = keyPrefix + backupName + "/" + nodeId;
+        // Incremental backups store the files of a node under a location
+        // that is shared by all of its backups.
+        final String dataKey = keyPrefix + DATA_DIRECTORY + "/" + nodeId;
+
+        final SnapshotWatcher watcher = watchSnapshot(
+                new File(localLocation), backupName, snapshot);
+        LOGGER.info("Uploading snapshot files for backup: {}, " +
+                        "concurrency = {}, partSizeMb = {}, incremental = {}, " +
+                        "streaming = {}, throttle = {}",
+                backupName, concurrency, partSizeMb, ctx.isIncremental(),
+                !snapshot.isDone(), throttle.getStatus());
+
+        final TransferManager tx = lease.createTransferManager(partSizeMb);
+        final Optional<CompressionDriver> compression =
+                CompressionDrivers.forName(ctx.getCompression());
+        final ExecutorService uploads = Executors.newFixedThreadPool(
+                concurrency);
+        try {
+            // The latest manifest of the node is used to avoid re-reading
+            // unchanged SSTables to compute their checksums.
+            final BackupManifest previous = readManifest(
+                    tx.getAmazonS3Client(), bucketName,
+                    dataKey + "/" + BackupManifest.MANIFEST_NAME)
+                    .orElse(BackupManifest.empty());
+            final Set<String> stored;
+            if (ctx.isIncremental()) {
+                stored = listSnapshotFiles(tx.getAmazonS3Client(),
+                        bucketName,
+                        dataKey + "/").keySet();
+                LOGGER.info("Found {} stored files for node: {}",
+                        stored.size(), nodeId);
+            } else {
+                stored = Collections.emptySet();
             }
-            LOGGER.info("Entering keyspace: {}", keyspaceDir.getName());
-            for (File cfDir : keyspaceDir.listFiles()) {
-                LOGGER.info("Entering column family: {}", cfDir.getName());
-                File snapshotDir = new File(cfDir, "snapshots");
-                if (!isValidBackupDir(keyspaceDir, cfDir, snapshotDir)) {
-                    LOGGER.info("Skipping directory: {}", snapshotDir.getAbsolutePath());
-                    continue;
-                }
-                LOGGER.info(
-                        "Valid backup directories. Keyspace: {} | ColumnFamily: {} | Snapshot: {} | BackupName: {}",
-                        keyspaceDir.getAbsolutePath(), cfDir.getAbsolutePath(),
-                        snapshotDir.getAbsolutePath(), backupName);
-
-                final Optional<File> snapshotDirectory = getValidSnapshotDirectory(
-                        cfDir, snapshotDir, backupName);
-                LOGGER.info("Valid snapshot directory: {}",
-                        snapshotDirectory.isPresent());
-                if (snapshotDirectory.isPresent()) {
-                    // Upload this directory
-                    LOGGER.info("Going to upload directory: {}",
-                            snapshotDirectory.get().getAbsolutePath());
-
-                    uploadDirectory(tx, bucketName, key, keyspaceDir.getName(), cfDir.getName(), snapshotDirectory.get());
-                } else {
-                    LOGGER.warn("Snapshots directory: {} doesn't contain the current backup directory: {}",
-                            snapshotDir.getName(), backupName);
+
+            // A relaunched upload skips the files stored by the previous
+            // attempt and resumes its unfinished multipart uploads.
+            final String checkpointKey = key + "/" +
+                    UploadCheckpoint.CHECKPOINT_NAME;
+            // The snapshot of a table is only cleared once its files are in
+            // a saved checkpoint, so that a retry does not need them. A
+            // streaming upload retakes the whole snapshot instead, so the
+            // files it no longer lists are not part of the backup.
+            final UploadCheckpoint checkpoint = new UploadCheckpoint(
+                    readManifest(tx.getAmazonS3Client(), bucketName,
+                            checkpointKey).orElse(BackupManifest.empty()),
+                    progress -> {
+                        writeManifest(tx.getAmazonS3Client(), bucketName,
+                                checkpointKey, progress);
+                        progress.getEntries().forEach(entry ->
+                                watcher.stored(entry.getKey()));
+                    }, ctx.isStreaming());
+            final Map<String, String> unfinished = listMultipartUploads(
+                    tx.getAmazonS3Client(), bucketName,
+                    (ctx.isIncremental() ? dataKey : key) + "/");
+            LOGGER.info("Found {} unfinished uploads for backup: {}",
+                    unfinished.size(), backupName);
+
+            final List<Future<BackupManifest.Entry>> pending =
+                    new ArrayList<>();
+            for (List<SnapshotFile> files = watcher.next(); !files.isEmpty();
+                 files = watcher.next()) {
+                // Start the largest files first so that the tail of the
+                // upload is not dominated by a single large transfer.
+                files.sort(Comparator.comparingLong(SnapshotFile::getSize)
+                        .reversed());
+                LOGGER.info("Uploading {} snapshot files for backup: {}",
+                        files.size(), backupName);
+                for (SnapshotFile file : files) {
+                    pending.add(uploads.submit(() -> {
+                        final Optional<BackupManifest.Entry> done =
+                                checkpoint.getCompleted(file);
+                        if (done.isPresent()) {
+                            LOGGER.debug("Skipping checkpointed file: {}",
+                                    file);
+                            checkpoint.complete(done.get());
+                            return done.get();
+                        }
+                        final boolean compress = compression.isPresent() &&
+                                shouldCompress(file);
+                        final String extension = compress ?
+                                compression.get().getExtension() : "";
+                        // The checksum of an unchanged SSTable is taken from
+                        // the previous manifest instead of re-reading it.
+                        final Optional<BackupManifest.Entry> entry =
+                                previous.getEntry(file.getKey());
+                        Optional<String> known = (entry.isPresent() &&
+                                entry.get().matches(file)) ?
+                                Optional.of(entry.get().getChecksum()) :
+                                Optional.empty();
+                        final String location;
+                        if (ctx.isIncremental()) {
+                            // The location of an incremental file depends on
+                            // its checksum, so it is read before the upload.
+                            if (!known.isPresent()) {
+                                known = Optional.of(computeChecksum(
+                                        throttle.throttle(new FileInputStream(
+                                                file.getFile()))));
+                            }
+                            location = dataKey + "/" + file.getKeyspace() +
+                                    "/" + file.getColumnFamily() + "/" +
+                                    known.get() + "/" +
+                                    file.getRelativePath() + extension;
+                            if (stored.contains(location)) {
+                                LOGGER.debug("Skipping stored file: {}",
+                                        file);
+                                final BackupManifest.Entry existing =
+                                        createEntry(file, known.get(),
+                                                location);
+                                checkpoint.complete(existing);
+                                return existing;
+                            }
+                        } else {
+                            location = key + "/" + file.getKey() + extension;
+                        }
+                        final Optional<String> uploadId =
+                                Optional.ofNullable(
+                                        unfinished.remove(location));
+                        final String checksum = compress ?
+                                uploadCompressedSnapshotFile(tx, bucketName,
+                                        location, file.getFile(),
+                                        compression.get(), partSizeMb,
+                                        throttle, uploadId, known) :
+                                uploadSnapshotFile(tx, bucketName,
+                                        location, file.getFile(), partSizeMb,
+                                        throttle, uploadId, known);
+                        final BackupManifest.Entry uploaded =
+                                createEntry(file, checksum, location);
+                        checkpoint.complete(uploaded);
+                        return uploaded;
+                    }));
                 }
             }
+            final List<BackupManifest.Entry> entries;
+            try {
+                entries = waitForAll(pending, "upload");
+            } finally {
+                checkpoint.save();
+            }
+            entries.addAll(checkpoint.getCleared(entries.stream()
+                    .map(BackupManifest.Entry::getKey)
+                    .collect(Collectors.toSet())));
+            final BackupManifest manifest = BackupManifest.create(entries);
+            writeManifest(tx.getAmazonS3Client(), bucketName,
+                    key + "/" + BackupManifest.MANIFEST_NAME, manifest);
+            writeManifest(tx.getAmazonS3Client(), bucketName,
+                    dataKey + "/" + BackupManifest.MANIFEST_NAME, manifest);
+            tx.getAmazonS3Client().deleteObject(bucketName, checkpointKey);
+            abortMultipartUploads(tx.getAmazonS3Client(), bucketName,
+                    unfinished);
+        } finally {
+            uploads.shutdownNow();
+            // The client and transfer pool are shared with other tasks.
+            tx.shutdownNow(false);
         }
-        tx.shutdownNow();
         LOGGER.info("Done uploading snapshots for backup: {}", backupName);
     }
 
-    private void uploadDirectory(TransferManager tx,
-                                 String bucketName,
-                                 String key,
-                                 String keyspaceName,
-                                 String cfName,
-                                 File snapshotDirectory) {
+    /**
+     * Uploads a snapshot file. The file is always read through the throttle,
+     * even if it is not limited when the upload starts, so that a bandwidth
+     * set at runtime or lowered by the adaptive throttle applies to the
+     * uploads in progress. The TransferManager reads the file itself, so it
+     * is not used for snapshot files.
+     *
+     * @param checksum The checksum of the file, if it is already known.
+     * @return The checksum of the file. If it was not known, it is computed
+     * from the data read for the upload, so the file is read only once.
+     */
+    private static String uploadSnapshotFile(TransferManager tx,
+                                             String bucketName,
+                                             String fileKey,
+                                             File file,
+                                             int partSizeMb,
+                                             BackupThrottle throttle,
+                                             Optional<String> uploadId,
+                                             Optional<String> checksum)
+            throws IOException {
+        LOGGER.debug("Uploading file: {} to key: {}", file, fileKey);
+        final CRC32 crc = new CRC32();
+        final MultipartUploadOutputStream out = openUpload(
+                tx.getAmazonS3Client(), bucketName, fileKey, partSizeMb,
+                uploadId);
+        try (InputStream in = new CheckedInputStream(
+                throttle.throttle(new FileInputStream(file)), crc)) {
+            IOUtils.copyLarge(in, out);
+        } catch (IOException | RuntimeException ex) {
+            out.abort();
+            throw ex;
+        }
+        out.close();
+        return checksum.orElse(formatChecksum(crc));
+    }
+
+    private static MultipartUploadOutputStream openUpload(
+            AmazonS3 client,
+            String bucketName,
+            String fileKey,
+            int partSizeMb,
+            Optional<String> uploadId) {
+        final int partSize = partSizeMb * 1024 * 1024;
+        return uploadId.isPresent() ?
+                MultipartUploadOutputStream.resume(client, bucketName,
+                        fileKey, partSize, uploadId.get()) :
+                new MultipartUploadOutputStream(client, bucketName, fileKey,
+                        partSize);
+    }
+
+    /**
+     * Lists the multipart uploads that were started, but neither completed
+     * nor aborted, under a prefix. If there are several uploads of a key the
+     * most recent one is returned.
+     *
+     * @return A map of the keys of the unfinished uploads to their upload
+     * ids.
+     */
+    private static Map<String, String> listMultipartUploads(
+            AmazonS3 client,
+            String bucketName,
+            String prefix) {
+        final Map<String, MultipartUpload> latest = new HashMap<>();
         try {
-            String fileKey = key + "/" + keyspaceName + "/" + cfName + "/";
-            MultipleFileUpload myUpload = tx.uploadDirectory(bucketName, fileKey, snapshotDirectory, true);
-            myUpload.waitForCompletion();
-        } catch (Exception t) {
-            LOGGER.error("Error occurred on uploading {}", t);
+            final ListMultipartUploadsRequest request =
+                    new ListMultipartUploadsRequest(bucketName)
+                            .withPrefix(prefix);
+            MultipartUploadListing listing;
+            do {
+                listing = client.listMultipartUploads(request);
+                for (MultipartUpload upload : listing.getMultipartUploads()) {
+                    final MultipartUpload current =
+                            latest.get(upload.getKey());
+                    if (current == null || upload.getInitiated().after(
+                            current.getInitiated())) {
+                        latest.put(upload.getKey(), upload);
+                    }
+                }
+                request.setKeyMarker(listing.getNextKeyMarker());
+                request.setUploadIdMarker(listing.getNextUploadIdMarker());
+            } while (listing.isTruncated());
+        } catch (AmazonClientException ex) {
+            LOGGER.warn("Failed to list unfinished uploads: " + prefix, ex);
         }
+        final Map<String, String> uploads = new ConcurrentHashMap<>();
+        latest.forEach((key, upload) -> uploads.put(key,
+                upload.getUploadId()));
+        return uploads;
+    }
 
+    private static void abortMultipartUploads(AmazonS3 client,
+                                              String bucketName,
+                                              Map<String, String> uploads) {
+        uploads.forEach((key, uploadId) -> {
+            try {
+                LOGGER.info("Aborting stale upload {} of {}", uploadId, key);
+                client.abortMultipartUpload(new AbortMultipartUploadRequest(
+                        bucketName, key, uploadId));
+            } catch (AmazonClientException ex) {
+                LOGGER.warn("Failed to abort upload " + uploadId, ex);
+            }
+        });
+    }
+
+    /**
+     * Cassandra already compresses the data of tables with SSTable
+     * compression enabled. The Data component of those tables is uploaded as
+     * is, all other components are compressed.
+     */
+    private static boolean shouldCompress(SnapshotFile file) {
+        final String name = file.getFile().getName();
+        if (!name.endsWith(DATA_COMPONENT)) {
+            return true;
+        }
+        final String compressionInfo = name.substring(0,
+                name.length() - DATA_COMPONENT.length()) +
+                COMPRESSION_INFO_COMPONENT;
+        return !new File(file.getFile().getParentFile(), compressionInfo)
+                .exists();
+    }
+
+    private static String getKeyPrefix(AmazonS3URI backupLocationURI) {
+        final String prefixKey = backupLocationURI.getKey() != null ?
+                backupLocationURI.getKey() : "";
+        return (prefixKey.length() > 0 && !prefixKey.endsWith("/")) ?
+                prefixKey + "/" : prefixKey;
+    }
+
+    private static BackupManifest.Entry createEntry(SnapshotFile file,
+                                                    String checksum,
+                                                    String location) {
+        return BackupManifest.Entry.create(file.getKey(),
+                file.getSize(),
+                file.getFile().lastModified(),
+                file.getGeneration(),
+                checksum,
+                location);
+    }
+
+    private static Optional<BackupManifest> readManifest(AmazonS3 client,
+                                                         String bucketName,
+                                                         String manifestKey)
+            throws IOException {
+        final S3Object object;
+        try {
+            object = client.getObject(bucketName, manifestKey);
+        } catch (AmazonS3Exception ex) {
+            if (ex.getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw new IOException("Failed to read manifest: " + manifestKey,
+                    ex);
+        }
+        try (InputStream stream = object.getObjectContent()) {
+            return Optional.of(BackupManifest.parse(IOUtils.toByteArray(stream)));
+        }
+    }
+
+    private static void writeManifest(AmazonS3 client,
+                                      String bucketName,
+                                      String manifestKey,
+                                      BackupManifest manifest)
+            throws IOException {
+        final byte[] bytes = manifest.toBytes();
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType("application/json");
+        LOGGER.info("Writing manifest with {} entries to key: {}",
+                manifest.getEntries().size(), manifestKey);
+        client.putObject(bucketName, manifestKey,
+                new ByteArrayInputStream(bytes), metadata);
+    }
+
+    /**
+     * Uploads a snapshot file through a compression driver.
+     *
+     * @param checksum The checksum of the file, if it is already known.
+     * @return The checksum of the uncompressed file. If it was not known, it
+     * is computed from the data read for the upload.
+     */
+    private static String uploadCompressedSnapshotFile(TransferManager tx,
+                                                       String bucketName,
+                                                       String fileKey,
+                                                       File file,
+                                                       CompressionDriver driver,
+                                                       int partSizeMb,
+                                                       BackupThrottle throttle,
+                                                       Optional<String> uploadId,
+                                                       Optional<String> checksum)
+            throws IOException {
+        LOGGER.debug("Uploading compressed file: {} to key: {}", file,
+                fileKey);
+        final CRC32 crc = new CRC32();
+        final MultipartUploadOutputStream out = openUpload(
+                tx.getAmazonS3Client(), bucketName, fileKey, partSizeMb,
+                uploadId);
+        try {
+            driver.compress(new CheckedInputStream(
+                    throttle.throttle(new FileInputStream(file)), crc), out);
+        } catch (IOException | RuntimeException ex) {
+            out.abort();
+            throw ex;
+        }
+        return checksum.orElse(formatChecksum(crc));
     }
 
     @Override
@@ -138,8 +484,6 @@ public class S3StorageDriver implements BackupStorageDriver {
 
         final AmazonS3URI backupLocationURI = new AmazonS3URI(ctx.getExternalLocation());
         final String bucketName = backupLocationURI.getBucket();
-        final BasicAWSCredentials basicAWSCredentials = new BasicAWSCredentials(accessKey, secretKey);
-        TransferManager tx = new TransferManager(basicAWSCredentials);
 
         String prefixKey = backupLocationURI.getKey() != null ? backupLocationURI.getKey() : "";
         prefixKey = (prefixKey.length() > 0 && !prefixKey.endsWith("/")) ? prefixKey + "/" : prefixKey;
@@ -148,8 +492,13 @@ public class S3StorageDriver implements BackupStorageDriver {
         final String fileKey = key + File.separator + CassandraApplicationConfig.SCHEMAFILENAME;
         LOGGER.info("key {}, filekey {}", key, fileKey);
 
-        uploadFile(tx, bucketName, fileKey, stream);
-        tx.shutdownNow();
+        try (S3ClientCache.Lease lease = acquire(accessKey, secretKey,
+                ctx.getExternalLocation())) {
+            final TransferManager tx = lease.createTransferManager(
+                    BackupContext.DEFAULT_PART_SIZE_MB);
+            uploadFile(tx, bucketName, fileKey, stream);
+            tx.shutdownNow(false);
+        }
     }
 
     private void uploadFile(TransferManager tx,
@@ -174,8 +523,6 @@ public class S3StorageDriver implements BackupStorageDriver {
         final String nodeId = ctx.getNodeId();
         final AmazonS3URI backupLocationURI = new AmazonS3URI(ctx.getExternalLocation());
         final String bucketName = backupLocationURI.getBucket();
-        final BasicAWSCredentials basicAWSCredentials = new BasicAWSCredentials(accessKey, secretKey);
-        final TransferManager tx = new TransferManager(basicAWSCredentials);
 
         final String schemaFilePath = localLocation + File.separator + CassandraApplicationConfig.SCHEMAFILENAME;
         final File schemaFile = new File(schemaFilePath);
@@ -184,49 +531,60 @@ public class S3StorageDriver implements BackupStorageDriver {
                 File.separator + CassandraApplicationConfig.SCHEMAFILENAME;
         LOGGER.info(schemaFilePath);
         LOGGER.info("source prefix: {}", sourcePrefixKey);
-        downloadFile(tx, bucketName, sourcePrefixKey, schemaFilePath);
-        tx.shutdownNow();
+        try (S3ClientCache.Lease lease = acquire(accessKey, secretKey,
+                ctx.getExternalLocation())) {
+            final TransferManager tx = lease.createTransferManager(
+                    BackupContext.DEFAULT_PART_SIZE_MB);
+            downloadFile(tx, bucketName, sourcePrefixKey, schemaFilePath);
+            tx.shutdownNow(false);
+        }
     }
 
-    /**
-     * Filters unwanted keyspaces and column families
-     */
-    public boolean isValidBackupDir(File ksDir, File cfDir, File bkDir) {
-        if (!bkDir.isDirectory() && !bkDir.exists())
-            return false;
-
-        String ksName = ksDir.getName();
-        if (SKIP_KEYSPACES.contains(ksName))
-            return false;
-
-        String cfName = cfDir.getName();
-        if (SKIP_COLUMN_FAMILIES.containsKey(ksName)
-                && SKIP_COLUMN_FAMILIES.get(ksName).contains(cfName))
-            return false;
-
-        return true;
+    @Override
+    public void download(RestoreContext ctx,
+                         Optional<PipelinedTableLoader> loader)
+            throws IOException {
+        try (S3ClientCache.Lease lease = acquire(ctx.getS3AccessKey(),
+                ctx.getS3SecretKey(), ctx.getExternalLocation())) {
+            download(ctx, loader, lease.getClient());
+        }
     }
 
-    private Optional<File> getValidSnapshotDirectory(File cfDir,
-                                                     File snapshotsDir,
-                                                     String snapshotName) {
-        File validSnapshot = null;
-        for (File snapshotDir : snapshotsDir.listFiles())
-            if (snapshotDir.getName().matches(snapshotName)) {
-                // Found requested snapshot directory
-                validSnapshot = snapshotDir;
-                break;
-            }
-
-        // Requested snapshot directory not found
-        return Optional.ofNullable(validSnapshot);
+    @Override
+    public List<String> listNodes(RestoreContext ctx) throws IOException {
+        final AmazonS3URI backupLocationURI =
+                new AmazonS3URI(ctx.getExternalLocation());
+        final String prefix = getKeyPrefix(backupLocationURI) +
+                ctx.getName() + "/";
+        final List<String> nodes = new ArrayList<>();
+        try (S3ClientCache.Lease lease = acquire(ctx.getS3AccessKey(),
+                ctx.getS3SecretKey(), ctx.getExternalLocation())) {
+            final ListObjectsV2Request req = new ListObjectsV2Request()
+                    .withBucketName(backupLocationURI.getBucket())
+                    .withPrefix(prefix)
+                    .withDelimiter("/");
+            ListObjectsV2Result result;
+            do {
+                result = lease.getClient().listObjectsV2(req);
+                for (String nodePrefix : result.getCommonPrefixes()) {
+                    nodes.add(nodePrefix.substring(prefix.length(),
+                            nodePrefix.length() - 1));
+                }
+                req.setContinuationToken(result.getNextContinuationToken());
+            } while (result.isTruncated());
+        } catch (AmazonClientException ex) {
+            throw new IOException("Failed to list the nodes of backup: " +
+                    ctx.getName(), ex);
+        }
+        Collections.sort(nodes);
+        return nodes;
     }
 
-    @Override
-    public void download(RestoreContext ctx) throws IOException {
+    private void download(RestoreContext ctx,
+                          Optional<PipelinedTableLoader> loader,
+                          AmazonS3 amazonS3Client)
+            throws IOException {
         // Ex: data/<keyspace>/<cf>/snapshots/</snapshot-dir>/<files>
-        final String accessKey = ctx.getS3AccessKey();
-        final String secretKey = ctx.getS3SecretKey();
         // Location of data directory, where the data will be copied.
         final String localLocation = ctx.getLocalLocation();
         final String backupName = ctx.getName();
@@ -236,30 +594,140 @@ public class S3StorageDriver implements BackupStorageDriver {
         final AmazonS3URI backupLocationURI = new AmazonS3URI(ctx.getExternalLocation());
         final String bucketName = backupLocationURI.getBucket();
 
-        final BasicAWSCredentials basicAWSCredentials = new BasicAWSCredentials(accessKey, secretKey);
-        final AmazonS3Client amazonS3Client = new AmazonS3Client(basicAWSCredentials);
-        final TransferManager tx = new TransferManager(basicAWSCredentials);
+        final int concurrency = ctx.getConcurrency() > 0 ?
+                ctx.getConcurrency() : RestoreContext.DEFAULT_CONCURRENCY;
+        final Optional<BackupManifest> manifest = readManifest(
+                amazonS3Client, bucketName, getKeyPrefix(backupLocationURI) +
+                        backupName + "/" + nodeId + "/" +
+                        BackupManifest.MANIFEST_NAME);
 
+        final List<ParallelDownloader.FileDownload> downloads =
+                new ArrayList<>();
         for (String keyspace : keyspaces) {
 
             String keyspaceDirPath = localLocation + "/" + keyspace;
             LOGGER.info("keyspace path" + keyspaceDirPath);
             File keySpaceDir = new File(keyspaceDirPath);
             File[] cfNames = keySpaceDir.listFiles();
+            if (cfNames == null) {
+                continue;
+            }
 
             for (File cfName : cfNames) {
                 if (cfName.isFile ())
                     continue;
-                String columnFamilyName = cfName.getName().substring(0, cfName.getName().indexOf("-"));
-                final Map<String, Long> snapshotFileKeys = listSnapshotFiles(amazonS3Client, bucketName, backupName + "/" + nodeId + "/" + keyspace + "/" + columnFamilyName);
-                for(String fileKey: snapshotFileKeys.keySet()) {
-                    String destinationDirPath = cfName.getAbsolutePath() + fileKey.substring(fileKey.lastIndexOf("/"));
-                    downloadFile(tx, bucketName, fileKey, destinationDirPath);
-                    LOGGER.info("Keyspace {}, Column Family {}, FileKey {}, destination {}", keyspace, columnFamilyName, fileKey, destinationDirPath);
+                String columnFamilyName = getTableName(cfName.getName());
+                if (!ctx.isTableRestored(keyspace, columnFamilyName)) {
+                    continue;
+                }
+                final List<BackupManifest.Entry> entries;
+                if (manifest.isPresent()) {
+                    entries = manifest.get().getEntries().stream()
+                            .filter(entry -> isEntryOf(entry, keyspace,
+                                    columnFamilyName))
+                            .collect(Collectors.toList());
+                } else {
+                    // Backups taken before manifests were written are found
+                    // by listing the bucket and are not verified.
+                    entries = listSnapshotFiles(amazonS3Client, bucketName,
+                            backupName + "/" + nodeId + "/" + keyspace + "/" +
+                                    columnFamilyName)
+                            .entrySet().stream()
+                            .map(object -> BackupManifest.Entry.create(
+                                    object.getKey(),
+                                    CompressionDrivers.forKey(object.getKey())
+                                            .isPresent() ? -1 : object.getValue(),
+                                    0,
+                                    -1,
+                                    null,
+                                    object.getKey()))
+                            .collect(Collectors.toList());
+                }
+                for (BackupManifest.Entry entry : entries) {
+                    String fileName = entry.getKey().substring(
+                            entry.getKey().lastIndexOf("/") + 1);
+                    final Optional<CompressionDriver> compression =
+                            CompressionDrivers.forKey(fileName);
+                    if (!manifest.isPresent() && compression.isPresent()) {
+                        fileName = fileName.substring(0, fileName.length() -
+                                compression.get().getExtension().length());
+                    }
+                    final File destination = loader.isPresent() ?
+                            loader.get().stage(keyspace, cfName, fileName) :
+                            new File(cfName, fileName);
+                    LOGGER.info("Keyspace {}, Column Family {}, FileKey {}, destination {}",
+                            keyspace, columnFamilyName, entry.getLocation(),
+                            destination);
+                    downloads.add(ParallelDownloader.FileDownload.create(
+                            entry, destination));
                 }
             }
         }
-        tx.shutdownNow();
+
+        LOGGER.info("Downloading {} files for backup: {}, concurrency = {}, " +
+                        "bandwidthMb = {}", downloads.size(), backupName,
+                concurrency, ctx.getBandwidthMb());
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                concurrency);
+        try {
+            final ParallelDownloader downloader = new ParallelDownloader(
+                    amazonS3Client,
+                    bucketName,
+                    executor,
+                    ctx.getBandwidthMb() > 0 ?
+                            Optional.of(RateLimiter.create(
+                                    ctx.getBandwidthMb() * 1024.0 * 1024.0)) :
+                            Optional.empty(),
+                    ParallelDownloader.DEFAULT_RANGE_SIZE);
+            if (loader.isPresent()) {
+                downloader.download(orderBySSTable(downloads),
+                        loader.get()::downloaded);
+            } else {
+                downloader.download(downloads);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Orders downloads so that the components of each SSTable are downloaded
+     * together, largest SSTable first. An SSTable can only be loaded once
+     * all of its components are downloaded, so downloading the largest
+     * files of all SSTables first would delay every load until the end of
+     * the download.
+     */
+    private static List<ParallelDownloader.FileDownload> orderBySSTable(
+            List<ParallelDownloader.FileDownload> downloads) {
+        final Map<String, List<ParallelDownloader.FileDownload>> sstables =
+                new HashMap<>();
+        final Map<String, Long> sizes = new HashMap<>();
+        for (ParallelDownloader.FileDownload download : downloads) {
+            final File destination = download.getDestination();
+            final String sstable = destination.getParent() + "/" +
+                    PipelinedTableLoader.getDescriptor(destination.getName());
+            sstables.computeIfAbsent(sstable, key -> new ArrayList<>())
+                    .add(download);
+            sizes.merge(sstable, download.getEntry().getSize(), Long::sum);
+        }
+        final List<String> ordered = new ArrayList<>(sstables.keySet());
+        ordered.sort(Comparator.comparingLong(sizes::get).reversed());
+        final List<ParallelDownloader.FileDownload> result =
+                new ArrayList<>(downloads.size());
+        for (String sstable : ordered) {
+            result.addAll(sstables.get(sstable));
+        }
+        return result;
+    }
+
+    private static boolean isEntryOf(BackupManifest.Entry entry,
+                                     String keyspace,
+                                     String tableName) {
+        // Ex: <keyspace>/<cf>/<relativePath>
+        final String[] parts = entry.getKey().split("/", 3);
+        return parts.length == 3 &&
+                parts[0].equals(keyspace) &&
+                getTableName(parts[1]).equals(tableName);
     }
 
     private void downloadFile(TransferManager tx,
@@ -276,7 +744,7 @@ public class S3StorageDriver implements BackupStorageDriver {
         }
     }
 
-    private static Map<String, Long> listSnapshotFiles(AmazonS3Client amazonS3Client,
+    private static Map<String, Long> listSnapshotFiles(AmazonS3 amazonS3Client,
                                                         String bucketName,
                                                         String backupName) {
         Map<String, Long> snapshotFiles = new HashMap<> ( );
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * SnapshotFile is a single file of a column family snapshot along with the
+ * key, relative to the backup of the node, under which it is stored.
+ * Ex: data/<keyspace>/<cf>/snapshots/<snapshot-dir>/<relativePath>
+ * is stored as <keyspace>/<cf>/<relativePath>.
+ */
+public class SnapshotFile {
+
+    private final String keyspace;
+    private final String columnFamily;
+    private final String relativePath;
+    private final File file;
+
+    /**
+     * Creates a new SnapshotFile.
+     *
+     * @param keyspace     The name of the key space of the file.
+     * @param columnFamily The name of the column family directory of the file.
+     * @param relativePath The path of the file relative to the snapshot
+     *                     directory.
+     * @param file         The file on the local host.
+     * @return A new SnapshotFile.
+     */
+    public static SnapshotFile create(final String keyspace,
+                                      final String columnFamily,
+                                      final String relativePath,
+                                      final File file) {
+        return new SnapshotFile(keyspace, columnFamily, relativePath, file);
+    }
+
+    private SnapshotFile(final String keyspace,
+                         final String columnFamily,
+                         final String relativePath,
+                         final File file) {
+        this.keyspace = keyspace;
+        this.columnFamily = columnFamily;
+        this.relativePath = relativePath;
+        this.file = file;
+    }
+
+    /**
+     * Gets the key space.
+     *
+     * @return The name of the key space of the file.
+     */
+    public String getKeyspace() {
+        return keyspace;
+    }
+
+    /**
+     * Gets the column family.
+     *
+     * @return The name of the column family directory of the file.
+     */
+    public String getColumnFamily() {
+        return columnFamily;
+    }
+
+    /**
+     * Gets the relative path.
+     *
+     * @return The path of the file relative to the snapshot directory.
+     */
+    public String getRelativePath() {
+        return relativePath;
+    }
+
+    /**
+     * Gets the file.
+     *
+     * @return The file on the local host.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the size of the file.
+     *
+     * @return The size of the file in bytes.
+     */
+    public long getSize() {
+        return file.length();
+    }
+
+    /**
+     * Gets the generation of the SSTable the file belongs to. The
+     * generation is the first numeric component of the file name
+     * (e.g. la-12-big-Data.db or ks-cf-ka-12-Data.db).
+     *
+     * @return The generation of the SSTable or -1 if the file is not an
+     * SSTable component.
+     */
+    public long getGeneration() {
+        for (String component : file.getName().split("-")) {
+            if (!component.isEmpty() &&
+                    component.chars().allMatch(Character::isDigit)) {
+                try {
+                    return Long.parseLong(component);
+                } catch (NumberFormatException ex) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the key of the file.
+     *
+     * @return The key of the file relative to the backup of the node.
+     */
+    public String getKey() {
+        return keyspace + "/" + columnFamily + "/" + relativePath;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SnapshotFile)) return false;
+        SnapshotFile that = (SnapshotFile) o;
+        return Objects.equals(getKeyspace(), that.getKeyspace()) &&
+                Objects.equals(getColumnFamily(), that.getColumnFamily()) &&
+                Objects.equals(getRelativePath(), that.getRelativePath()) &&
+                Objects.equals(getFile(), that.getFile());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getKeyspace(), getColumnFamily(),
+                getRelativePath(), getFile());
+    }
+
+    @Override
+    public String toString() {
+        return getKey();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * SnapshotWatcher lists the files of a snapshot while it is being taken.
+ * Cassandra writes the manifest of a column family snapshot after all of its
+ * SSTables have been linked, so the files of a snapshot directory are listed
+ * as soon as its manifest exists. Once the snapshot is complete the files
+ * that have not been listed yet (e.g. those of secondary indexes) are listed
+ * as well. Each file is listed only once.
+ *
+ * Once the snapshot is complete, the snapshot directory of a column family is
+ * deleted as soon as all of its files have been stored, so that the hard
+ * links do not pin SSTables that are compacted away while the rest of the
+ * backup is uploaded.
+ */
+public class SnapshotWatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            SnapshotWatcher.class);
+
+    /**
+     * The name of the manifest Cassandra writes to a snapshot directory.
+     */
+    public static final String MANIFEST_NAME = "manifest.json";
+
+    /**
+     * The interval at which the snapshot directories are listed while the
+     * snapshot is being taken in milliseconds.
+     */
+    public static final long POLL_INTERVAL_MS = 500;
+
+    private final AbstractBackupStorageDriver driver;
+    private final File dataDirectory;
+    private final String snapshotName;
+    private final Future<?> snapshot;
+    private final Set<File> listed = new HashSet<>();
+    private final Map<String, File> unstored = new HashMap<>();
+    private final Map<File, Integer> remaining = new HashMap<>();
+    private volatile boolean done = false;
+
+    /**
+     * Constructs a new SnapshotWatcher.
+     *
+     * @param driver        The driver used to list the snapshot directories.
+     * @param dataDirectory The Cassandra data directory.
+     * @param snapshotName  The name of the snapshot.
+     * @param snapshot      The snapshot that is being taken. If it is done,
+     *                      all of the files of the snapshot are listed at
+     *                      once.
+     */
+    SnapshotWatcher(final AbstractBackupStorageDriver driver,
+                    final File dataDirectory,
+                    final String snapshotName,
+                    final Future<?> snapshot) {
+        this.driver = driver;
+        this.dataDirectory = dataDirectory;
+        this.snapshotName = snapshotName;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Gets the next files of the snapshot, waiting until new files are
+     * linked or the snapshot is complete.
+     *
+     * @return The files that have not been listed yet, or an empty list if
+     * all of the files of the snapshot have been listed.
+     * @throws IOException If the snapshot fails, the wait is interrupted or
+     *                     the snapshot directories can not be listed.
+     */
+    public List<SnapshotFile> next() throws IOException {
+        while (!done) {
+            final boolean taken = snapshot.isDone();
+            if (taken) {
+                checkSnapshot();
+            }
+            final List<SnapshotFile> files = new ArrayList<>();
+            for (SnapshotFile file : driver.getSnapshotFiles(dataDirectory,
+                    snapshotName, directory -> taken ||
+                            new File(directory, MANIFEST_NAME).isFile())) {
+                if (listed.add(file.getFile())) {
+                    files.add(file);
+                }
+            }
+            synchronized (this) {
+                for (SnapshotFile file : files) {
+                    final File directory = getSnapshotDirectory(file);
+                    unstored.put(file.getKey(), directory);
+                    remaining.merge(directory, 1, Integer::sum);
+                }
+                done = taken;
+                if (done) {
+                    for (File directory :
+                            new ArrayList<>(remaining.keySet())) {
+                        clearIfStored(directory);
+                    }
+                }
+            }
+            if (!files.isEmpty()) {
+                return files;
+            } else if (!done) {
+                try {
+                    Thread.sleep(POLL_INTERVAL_MS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Snapshot watch interrupted", ex);
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Records that a file has been durably stored. A file that has not been
+     * listed by the watcher, or that has already been recorded, is ignored.
+     *
+     * @param key The key of the stored file.
+     */
+    public synchronized void stored(String key) {
+        final File directory = unstored.remove(key);
+        if (directory != null) {
+            remaining.merge(directory, -1, Integer::sum);
+            if (done) {
+                clearIfStored(directory);
+            }
+        }
+    }
+
+    private void clearIfStored(File directory) {
+        if (remaining.get(directory) > 0) {
+            return;
+        }
+        remaining.remove(directory);
+        try {
+            FileUtils.deleteDirectory(directory);
+            LOGGER.info("Cleared stored snapshot directory: {}", directory);
+        } catch (IOException ex) {
+            // The snapshot is cleared by the node once the upload is done.
+            LOGGER.warn("Failed to clear snapshot directory: " + directory,
+                    ex);
+        }
+    }
+
+    private static File getSnapshotDirectory(SnapshotFile file) {
+        File directory = file.getFile().getParentFile();
+        for (int index = file.getRelativePath().indexOf('/'); index >= 0;
+             index = file.getRelativePath().indexOf('/', index + 1)) {
+            directory = directory.getParentFile();
+        }
+        return directory;
+    }
+
+    private void checkSnapshot() throws IOException {
+        try {
+            snapshot.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Snapshot watch interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IOException("Failed to take snapshot: " + snapshotName,
+                    ex.getCause());
+        }
+    }
+}
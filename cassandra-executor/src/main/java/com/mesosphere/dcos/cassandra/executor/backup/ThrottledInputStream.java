@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ThrottledInputStream limits the rate at which an InputStream is read. The
+ * RateLimiter is shared by all streams of a transfer and each permit is a
+ * single byte.
+ */
+public class ThrottledInputStream extends FilterInputStream {
+
+    private final RateLimiter limiter;
+
+    /**
+     * Constructs a new ThrottledInputStream.
+     *
+     * @param in      The stream that is throttled.
+     * @param limiter The RateLimiter that limits the bytes per second read
+     *                from in.
+     */
+    public ThrottledInputStream(final InputStream in,
+                                final RateLimiter limiter) {
+        super(in);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0) {
+            limiter.acquire();
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0) {
+            limiter.acquire(read);
+        }
+        return read;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UploadCheckpoint tracks the files of an upload that have been stored at
+ * the external location. The completed files are saved, as a partial
+ * BackupManifest, after every batch of files and at least once per
+ * interval while files complete. When an upload task is relaunched after a
+ * failure the files of the previous checkpoint that are unchanged on disk
+ * are not uploaded again. If the relaunched task retakes the snapshot, the
+ * files of the previous checkpoint that are not in the new snapshot are
+ * dropped from the backup, so that its manifest is a single point in time.
+ */
+public class UploadCheckpoint {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            UploadCheckpoint.class);
+
+    /**
+     * The name of the checkpoint object.
+     */
+    public static final String CHECKPOINT_NAME = "checkpoint.json";
+
+    /**
+     * The number of completed files after which the checkpoint is saved.
+     */
+    public static final int BATCH_SIZE = 32;
+
+    /**
+     * The maximum time between saves of the checkpoint in milliseconds.
+     */
+    public static final long INTERVAL_MS = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Writer saves a checkpoint.
+     */
+    public interface Writer {
+        void write(BackupManifest checkpoint) throws IOException;
+    }
+
+    private final BackupManifest previous;
+    private final Writer writer;
+    private final boolean retaken;
+    private final Map<String, BackupManifest.Entry> completed =
+            new ConcurrentHashMap<>();
+    private int unsaved = 0;
+    private long lastSave = System.currentTimeMillis();
+
+    /**
+     * Constructs a new UploadCheckpoint.
+     *
+     * @param previous The checkpoint saved by a previous attempt of the
+     *                 upload or an empty manifest.
+     * @param writer   The Writer used to save the checkpoint.
+     */
+    public UploadCheckpoint(final BackupManifest previous,
+                            final Writer writer) {
+        this(previous, writer, false);
+    }
+
+    /**
+     * Constructs a new UploadCheckpoint.
+     *
+     * @param previous The checkpoint saved by a previous attempt of the
+     *                 upload or an empty manifest.
+     * @param writer   The Writer used to save the checkpoint.
+     * @param retaken  True if the snapshot is taken again by this attempt,
+     *                 rather than left on disk by the snapshot phase.
+     */
+    public UploadCheckpoint(final BackupManifest previous,
+                            final Writer writer,
+                            final boolean retaken) {
+        this.previous = previous;
+        this.writer = writer;
+        this.retaken = retaken;
+    }
+
+    /**
+     * Gets the entry of a file completed by a previous attempt.
+     *
+     * @param file The local snapshot file.
+     * @return The entry of file if it was stored by a previous attempt and
+     * has not changed since, or empty.
+     */
+    public Optional<BackupManifest.Entry> getCompleted(SnapshotFile file) {
+        final Optional<BackupManifest.Entry> entry =
+                previous.getEntry(file.getKey());
+        return (entry.isPresent() && entry.get().matches(file)) ?
+                entry : Optional.empty();
+    }
+
+    /**
+     * Gets the entries of the files stored by a previous attempt whose
+     * snapshot directories have since been cleared. They are not listed by
+     * the current attempt but still belong to the backup. If the snapshot
+     * was retaken, a file of the previous attempt that is not listed was
+     * compacted away in between and does not belong to the new snapshot.
+     *
+     * @param listed The keys of the files listed by the current attempt.
+     * @return The entries of the previous checkpoint that are not listed,
+     * or an empty list if the snapshot was retaken.
+     */
+    public List<BackupManifest.Entry> getCleared(Set<String> listed) {
+        if (retaken) {
+            return Collections.emptyList();
+        }
+        final List<BackupManifest.Entry> cleared = new ArrayList<>();
+        for (BackupManifest.Entry entry : previous.getEntries()) {
+            if (!listed.contains(entry.getKey())) {
+                cleared.add(entry);
+            }
+        }
+        return cleared;
+    }
+
+    /**
+     * Records a completed file. The checkpoint is saved if a batch of files
+     * has completed or if the interval has elapsed since the last save.
+     *
+     * @param entry The entry of the file that has been stored.
+     */
+    public void complete(BackupManifest.Entry entry) {
+        completed.put(entry.getKey(), entry);
+        final boolean save;
+        synchronized (this) {
+            unsaved++;
+            save = unsaved >= BATCH_SIZE ||
+                    System.currentTimeMillis() - lastSave >= INTERVAL_MS;
+        }
+        if (save) {
+            save();
+        }
+    }
+
+    /**
+     * Saves the checkpoint. A failure to save the checkpoint does not fail
+     * the upload; it only reduces the work saved on a retry.
+     */
+    public synchronized void save() {
+        unsaved = 0;
+        lastSave = System.currentTimeMillis();
+        try {
+            writer.write(BackupManifest.create(
+                    new ArrayList<>(completed.values())));
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn("Failed to save upload checkpoint", ex);
+        }
+    }
+}
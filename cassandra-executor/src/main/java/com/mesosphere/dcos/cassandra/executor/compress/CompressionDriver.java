@@ -24,6 +24,28 @@ import java.io.OutputStream;
  * compress and decompress snapshots during a Cassandra backup.
  */
 public interface CompressionDriver {
+    /**
+     * Gets the extension appended to the name of compressed files.
+     *
+     * @return The file extension (including the leading '.') that identifies
+     * files compressed by the driver.
+     */
+    String getExtension();
+
+    /**
+     * Compresses the source and writes it to the destination. The source is
+     * always closed when the method returns. The destination is only closed
+     * if compression succeeds, so that the caller may discard a partial
+     * output.
+     *
+     * @param source      The InputStream containing the data to compress.
+     * @param destination The OutputStream where the compressed output is
+     *                    written.
+     * @throws IOException If compression fails.
+     */
+    void compress(InputStream source, OutputStream destination)
+            throws IOException;
+
     /**
      * Compresses the file/directory denoted by {@code sourcePath}, and produces an archive at {@code destinationPath}.
      *
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.compress;
+
+import com.google.common.collect.ImmutableMap;
+import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupContext;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * CompressionDrivers resolves the CompressionDriver used for a backup, by
+ * the name of the compression, and for a restore, by the extension of the
+ * stored file.
+ */
+public class CompressionDrivers {
+
+    private static final Map<String, CompressionDriver> DRIVERS =
+            ImmutableMap.of(BackupContext.COMPRESSION_SNAPPY,
+                    new SnappyCompressionDriver());
+
+    private CompressionDrivers() {
+    }
+
+    /**
+     * Gets the driver for a compression.
+     *
+     * @param compression The name of the compression.
+     * @return The CompressionDriver for compression or empty if the files
+     * should not be compressed.
+     */
+    public static Optional<CompressionDriver> forName(String compression) {
+        return (compression == null) ? Optional.empty() :
+                Optional.ofNullable(DRIVERS.get(compression));
+    }
+
+    /**
+     * Gets the driver that compressed a stored file.
+     *
+     * @param key The name or key of the stored file.
+     * @return The CompressionDriver that must be used to decompress the file
+     * or empty if the file is not compressed.
+     */
+    public static Optional<CompressionDriver> forKey(String key) {
+        return DRIVERS.values().stream()
+                .filter(driver -> key.endsWith(driver.getExtension()))
+                .findFirst();
+    }
+}
@@ -33,9 +33,26 @@ public class SnappyCompressionDriver implements CompressionDriver {
 
     public static final int DEFAULT_BUFFER_SIZE = 4 * 1024; // 3KB
 
-    public void compress(final InputStream source,
-                         final OutputStream destination) {
+    public static final String EXTENSION = ".snappy";
 
+    @Override
+    public String getExtension() {
+        return EXTENSION;
+    }
+
+    @Override
+    public void compress(final InputStream source,
+                         final OutputStream destination) throws IOException {
+        try {
+            final SnappyOutputStream compressedStream =
+                    new SnappyOutputStream(destination);
+            IOUtils.copy(source, compressedStream);
+            // Closing the compressed stream flushes the last block and
+            // closes the destination.
+            compressedStream.close();
+        } finally {
+            IOUtils.closeQuietly(source);
+        }
     }
 
     @Override
@@ -16,13 +16,26 @@
 package com.mesosphere.dcos.cassandra.executor.config;
 
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.dropwizard.Configuration;
 
 /**
- * The Configuration object for the Executor application. It contains no
- * properties and the executor requires no static application
- * level configuration. If, at some point, more configuration is necessary it
+ * The Configuration object for the Executor application. The only static
+ * application level configuration is that of the S3 clients used for
+ * backup and restore. If, at some point, more configuration is necessary it
  * should be implemented here.
  */
 public class CassandraExecutorConfiguration extends Configuration {
+
+    private S3ClientConfig s3Config = S3ClientConfig.DEFAULT;
+
+    @JsonProperty("s3")
+    public S3ClientConfig getS3Config() {
+        return s3Config;
+    }
+
+    @JsonProperty("s3")
+    public void setS3Config(S3ClientConfig s3Config) {
+        this.s3Config = s3Config;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.config;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
+
+import java.util.Objects;
+
+/**
+ * S3ClientConfig is the configuration of the S3 clients that are shared by
+ * the backup and restore tasks of the executor.
+ */
+public class S3ClientConfig {
+
+    /**
+     * The default configuration.
+     */
+    public static final S3ClientConfig DEFAULT =
+            new S3ClientConfig(50, 60000, 16, 300);
+
+    @JsonProperty("max_connections")
+    private final int maxConnections;
+
+    @JsonProperty("connection_max_idle_ms")
+    private final long connectionMaxIdleMs;
+
+    @JsonProperty("transfer_threads")
+    private final int transferThreads;
+
+    @JsonProperty("client_idle_timeout_seconds")
+    private final long clientIdleTimeoutSeconds;
+
+    /**
+     * Creates a new S3ClientConfig.
+     *
+     * @param maxConnections           The maximum number of open
+     *                                 connections of a client.
+     * @param connectionMaxIdleMs      The time after which an idle pooled
+     *                                 connection is closed.
+     * @param transferThreads          The number of threads of the transfer
+     *                                 pool of a client.
+     * @param clientIdleTimeoutSeconds The time after which a client that is
+     *                                 not used by any task is shut down.
+     * @return A new S3ClientConfig.
+     */
+    @JsonCreator
+    public static S3ClientConfig create(
+            @JsonProperty("max_connections") int maxConnections,
+            @JsonProperty("connection_max_idle_ms") long connectionMaxIdleMs,
+            @JsonProperty("transfer_threads") int transferThreads,
+            @JsonProperty("client_idle_timeout_seconds")
+                    long clientIdleTimeoutSeconds) {
+        return new S3ClientConfig(maxConnections,
+                connectionMaxIdleMs,
+                transferThreads,
+                clientIdleTimeoutSeconds);
+    }
+
+    private S3ClientConfig(int maxConnections,
+                           long connectionMaxIdleMs,
+                           int transferThreads,
+                           long clientIdleTimeoutSeconds) {
+        this.maxConnections = maxConnections;
+        this.connectionMaxIdleMs = connectionMaxIdleMs;
+        this.transferThreads = transferThreads;
+        this.clientIdleTimeoutSeconds = clientIdleTimeoutSeconds;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public long getConnectionMaxIdleMs() {
+        return connectionMaxIdleMs;
+    }
+
+    public int getTransferThreads() {
+        return transferThreads;
+    }
+
+    public long getClientIdleTimeoutSeconds() {
+        return clientIdleTimeoutSeconds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof S3ClientConfig)) return false;
+        S3ClientConfig that = (S3ClientConfig) o;
+        return getMaxConnections() == that.getMaxConnections() &&
+                getConnectionMaxIdleMs() == that.getConnectionMaxIdleMs() &&
+                getTransferThreads() == that.getTransferThreads() &&
+                getClientIdleTimeoutSeconds() ==
+                        that.getClientIdleTimeoutSeconds();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getMaxConnections(), getConnectionMaxIdleMs(),
+                getTransferThreads(), getClientIdleTimeoutSeconds());
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtils.toJsonString(this);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.repair;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * RepairMetrics holds the progress of the repairs run by the executor. It
+ * is registered with the metrics of the executor under the "repair" prefix.
+ * The counts are cumulative over the life of the executor, and the
+ * percentage is that of the repair command in progress.
+ */
+public class RepairMetrics implements MetricSet {
+
+    /**
+     * The prefix of the names of the repair metrics.
+     */
+    public static final String NAME = "repair";
+
+    private final AtomicLong sessionsCompleted = new AtomicLong();
+    private final AtomicLong sessionsFailed = new AtomicLong();
+    private final AtomicLong bytesStreamed = new AtomicLong();
+    private final AtomicLong validationMs = new AtomicLong();
+    private final AtomicReference<Double> percentComplete =
+            new AtomicReference<>(0.0);
+
+    /**
+     * Records a repair session that has completed.
+     */
+    public void sessionCompleted() {
+        sessionsCompleted.incrementAndGet();
+    }
+
+    /**
+     * Records a repair session that has failed.
+     */
+    public void sessionFailed() {
+        sessionsFailed.incrementAndGet();
+    }
+
+    /**
+     * Records bytes streamed between replicas by repair.
+     *
+     * @param bytes The number of bytes streamed since the last call.
+     */
+    public void addBytesStreamed(long bytes) {
+        bytesStreamed.addAndGet(bytes);
+    }
+
+    /**
+     * Records time spent building Merkle trees.
+     *
+     * @param ms The time, in milliseconds, spent validating since the last
+     *           call.
+     */
+    public void addValidationMs(long ms) {
+        validationMs.addAndGet(ms);
+    }
+
+    /**
+     * Sets the progress of the repair command in progress.
+     *
+     * @param percent The percentage of the ranges of the command that have
+     *                been repaired.
+     */
+    public void setPercentComplete(double percent) {
+        percentComplete.set(percent);
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return ImmutableMap.of(
+                "sessions.completed", (Gauge<Long>) sessionsCompleted::get,
+                "sessions.failed", (Gauge<Long>) sessionsFailed::get,
+                "bytes.streamed", (Gauge<Long>) bytesStreamed::get,
+                "validation.ms", (Gauge<Long>) validationMs::get,
+                "percent.complete", (Gauge<Double>) percentComplete::get);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.repair;
+
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.apache.cassandra.utils.progress.ProgressEvent;
+import org.apache.cassandra.utils.progress.jmx.JMXNotificationProgressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * RepairProgressListener follows the repair commands of a node through the
+ * progress notifications of the StorageService of the daemon. While a
+ * command runs, the repair streams and Merkle tree validations of the node
+ * are sampled. The progress of the command, the bytes streamed and the
+ * validation time are recorded in the RepairMetrics and reported, at most
+ * once per report interval, to the Reporter. If notifications are lost
+ * while a command runs, its COMPLETE event may be among them, so the
+ * command is failed rather than waited for indefinitely. Its range is then
+ * repaired again when the repair is resumed.
+ */
+public class RepairProgressListener extends JMXNotificationProgressListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            RepairProgressListener.class);
+
+    private static final String REPAIR_TAG_PREFIX = "repair:";
+    private static final long SAMPLE_INTERVAL_MS = 1000;
+
+    /**
+     * The minimum time between two reports of the progress of a repair.
+     */
+    public static final long REPORT_INTERVAL_MS = 10000;
+
+    /**
+     * Reporter is notified of the progress of the repair.
+     */
+    public interface Reporter {
+        void report(String progress);
+    }
+
+    private final CassandraDaemonProcess daemon;
+    private final RepairMetrics metrics;
+    private final Reporter reporter;
+    private final Set<String> completed = new HashSet<>();
+    private final Map<String, String> errors = new HashMap<>();
+    private final Map<UUID, Long> streamed = new HashMap<>();
+    private ProgressEvent last = null;
+    private String connectionError = null;
+    private String notificationsLost = null;
+    private long bytesStreamed = 0;
+    private long validationMs = 0;
+    private long lastSample = 0;
+    private long lastReport = 0;
+
+    /**
+     * Constructs a new RepairProgressListener.
+     *
+     * @param daemon   The CassandraDaemonProcess of the repaired node.
+     * @param metrics  The RepairMetrics of the executor.
+     * @param reporter The Reporter notified of the progress of the repair.
+     */
+    public RepairProgressListener(final CassandraDaemonProcess daemon,
+                                  final RepairMetrics metrics,
+                                  final Reporter reporter) {
+        this.daemon = daemon;
+        this.metrics = metrics;
+        this.reporter = reporter;
+    }
+
+    @Override
+    public boolean isInterestedIn(String tag) {
+        return tag.startsWith(REPAIR_TAG_PREFIX);
+    }
+
+    @Override
+    public synchronized void progress(String tag, ProgressEvent event) {
+        LOGGER.info("Repair progress: tag = {}, type = {}, progress = {}/{}" +
+                        ", message = {}", tag, event.getType(),
+                event.getProgressCount(), event.getTotal(),
+                event.getMessage());
+        switch (event.getType()) {
+            case PROGRESS:
+                last = event;
+                metrics.sessionCompleted();
+                metrics.setPercentComplete(event.getProgressPercentage());
+                break;
+            case ERROR:
+            case ABORT:
+                errors.put(tag, event.getMessage());
+                metrics.sessionFailed();
+                break;
+            case COMPLETE:
+                completed.add(tag);
+                notifyAll();
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public synchronized void handleNotificationLost(long timestamp,
+                                                    String message) {
+        LOGGER.warn("Repair notifications lost: {}", message);
+        notificationsLost = "Repair notifications lost: " + message;
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void handleConnectionClosed(long timestamp,
+                                                    String message) {
+        connectionError = "JMX connection closed: " + message;
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void handleConnectionFailed(long timestamp,
+                                                    String message) {
+        connectionError = "JMX connection failed: " + message;
+        notifyAll();
+    }
+
+    private void sample() {
+        final long now = System.currentTimeMillis();
+        try {
+            for (Map.Entry<UUID, Long> entry :
+                    daemon.getRepairStreamBytes().entrySet()) {
+                final long previous = streamed.getOrDefault(entry.getKey(),
+                        0L);
+                if (entry.getValue() > previous) {
+                    metrics.addBytesStreamed(entry.getValue() - previous);
+                    bytesStreamed += entry.getValue() - previous;
+                    streamed.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (lastSample > 0 && daemon.isValidating()) {
+                metrics.addValidationMs(now - lastSample);
+                validationMs += now - lastSample;
+            }
+        } catch (Throwable t) {
+            // An error sampling the node must not fail the repair.
+            LOGGER.warn("Failed to sample repair progress", t);
+        }
+        lastSample = now;
+    }
+
+    private void report(int command) {
+        final long now = System.currentTimeMillis();
+        if (now - lastReport < REPORT_INTERVAL_MS) {
+            return;
+        }
+        lastReport = now;
+        reporter.report(String.format("Repair progress : command = %d, " +
+                        "sessions = %d/%d, bytesStreamed = %d, " +
+                        "validationMs = %d", command,
+                (last == null) ? 0 : last.getProgressCount(),
+                (last == null) ? 0 : last.getTotal(),
+                bytesStreamed, validationMs));
+    }
+
+    /**
+     * Waits until a repair command completes, reporting its progress.
+     *
+     * @param command The number of the repair command returned by the
+     *                StorageService.
+     * @throws IOException          If the repair fails, the connection to
+     *                              the daemon is lost or notifications of
+     *                              the command are lost.
+     * @throws InterruptedException If the thread is interrupted while
+     *                              waiting.
+     */
+    public synchronized void await(int command)
+            throws IOException, InterruptedException {
+        final String tag = REPAIR_TAG_PREFIX + command;
+        last = null;
+        lastSample = 0;
+        try {
+            while (!completed.contains(tag)) {
+                if (connectionError != null) {
+                    throw new IOException(connectionError);
+                }
+                if (notificationsLost != null) {
+                    throw new IOException("Repair command " + command +
+                            " failed: " + notificationsLost);
+                }
+                sample();
+                report(command);
+                wait(SAMPLE_INTERVAL_MS);
+            }
+        } finally {
+            // A loss only concerns the command that was running.
+            notificationsLost = null;
+        }
+        sample();
+        metrics.setPercentComplete(100.0);
+        if (errors.containsKey(tag)) {
+            throw new IOException("Repair command " + command + " failed: " +
+                    errors.get(tag));
+        }
+    }
+}
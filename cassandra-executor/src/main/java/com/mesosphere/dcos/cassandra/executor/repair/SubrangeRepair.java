@@ -0,0 +1,394 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.repair;
+
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.apache.cassandra.repair.RepairParallelism;
+import org.apache.cassandra.repair.messages.RepairOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * SubrangeRepair repairs the primary ranges of a node. If a number of
+ * partitions per subrange is given, each primary range is split into
+ * subranges that are expected to hold that number of partitions of the
+ * largest repaired table, based on the partition estimates of the node, and
+ * the subranges are repaired one at a time. Otherwise, the primary ranges of
+ * each key space are repaired at once.
+ *
+ * An incremental repair only repairs the SSTables that have not been
+ * repaired yet, and marks them as repaired by anticompacting them. The
+ * primary ranges of incremental repairs are not split, as each subrange
+ * would anticompact the same SSTables again, and they are repaired in
+ * parallel, as incremental repair requires.
+ *
+ * The repaired subranges are recorded on the persistent volume of the node,
+ * under the identifier of the repair, so a repair that is restarted resumes
+ * from the first subrange that was not repaired. The subranges of a key
+ * space are recorded before they are repaired, so a resumed repair uses the
+ * same subranges even if the estimates have changed.
+ */
+public class SubrangeRepair {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            SubrangeRepair.class);
+
+    /**
+     * The name of the directory, on the persistent volume, that holds the
+     * progress of the repair of the node.
+     */
+    public static final String PROGRESS_DIRECTORY = "repair";
+
+    private static final String PLANNED = "P";
+    private static final String REPAIRED = "R";
+    private static final String ALL_RANGES = "*";
+
+    private static final BigInteger MURMUR3_RING_SIZE =
+            BigInteger.ONE.shiftLeft(64);
+    private static final BigInteger RANDOM_RING_SIZE =
+            BigInteger.ONE.shiftLeft(127);
+
+    /**
+     * The maximum number of subranges a primary range is split into.
+     */
+    private static final int MAX_SPLITS = 4096;
+
+    /**
+     * Progress is notified each time a subrange has been repaired.
+     */
+    public interface Progress {
+        void repaired(String keyspace, int repaired, int total);
+    }
+
+    /**
+     * Gets the size of the token ring of a partitioner.
+     *
+     * @param partitioner The class name of the partitioner.
+     * @return The number of tokens of the ring or empty if the tokens of the
+     * partitioner are not numeric.
+     */
+    static Optional<BigInteger> getRingSize(String partitioner) {
+        if (partitioner.endsWith("Murmur3Partitioner")) {
+            return Optional.of(MURMUR3_RING_SIZE);
+        } else if (partitioner.endsWith("RandomPartitioner")) {
+            return Optional.of(RANDOM_RING_SIZE);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gets the width of a range of the token ring.
+     *
+     * @param start    The exclusive start token of the range.
+     * @param end      The inclusive end token of the range.
+     * @param ringSize The number of tokens of the ring.
+     * @return The number of tokens in the range. A range that starts and
+     * ends with the same token is the whole ring.
+     */
+    static BigInteger getWidth(BigInteger start,
+                               BigInteger end,
+                               BigInteger ringSize) {
+        final BigInteger width = end.subtract(start).mod(ringSize);
+        return width.signum() == 0 ? ringSize : width;
+    }
+
+    /**
+     * Gets the number of subranges of a range.
+     *
+     * @param partitions    The estimated number of partitions in the range.
+     * @param perSubrange   The number of partitions of each subrange.
+     * @return The number of subranges, between 1 and MAX_SPLITS.
+     */
+    static int getSplits(long partitions, int perSubrange) {
+        if (perSubrange <= 0 || partitions <= perSubrange) {
+            return 1;
+        }
+        return (int) Math.min(MAX_SPLITS,
+                (partitions + perSubrange - 1) / perSubrange);
+    }
+
+    private static BigInteger getValue(Token token) {
+        return new BigInteger(token.getValue().toString());
+    }
+
+    private static String toString(TokenRange range) {
+        return range.getStart().getValue() + ":" +
+                range.getEnd().getValue();
+    }
+
+    private final CassandraDaemonProcess daemon;
+    private final RepairProgressListener listener;
+    private final Optional<Path> progressFile;
+    private final Map<String, List<String>> planned = new HashMap<>();
+    private final Set<String> repaired = new HashSet<>();
+
+    /**
+     * Constructs a new SubrangeRepair. The progress of the repair with the
+     * same identifier is loaded, and the progress of other repairs is
+     * discarded.
+     *
+     * @param daemon   The CassandraDaemonProcess of the repaired node.
+     * @param repairId The identifier of the repair, or an empty string if
+     *                 the progress of the repair is not recorded.
+     * @param listener The RepairProgressListener that follows the repair of
+     *                 each subrange.
+     * @throws IOException If the progress of the repair can not be loaded.
+     */
+    public SubrangeRepair(final CassandraDaemonProcess daemon,
+                          final String repairId,
+                          final RepairProgressListener listener)
+            throws IOException {
+        this.daemon = daemon;
+        this.listener = listener;
+        if (repairId == null || repairId.isEmpty()) {
+            this.progressFile = Optional.empty();
+            return;
+        }
+        final Path directory = daemon.getVolume().resolve(PROGRESS_DIRECTORY);
+        Files.createDirectories(directory);
+        final Path file = directory.resolve(repairId);
+        final File[] files = directory.toFile().listFiles();
+        if (files != null) {
+            for (File other : files) {
+                if (!other.getName().equals(repairId)) {
+                    LOGGER.info("Discarding progress of repair: {}",
+                            other.getName());
+                    Files.deleteIfExists(other.toPath());
+                }
+            }
+        }
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file,
+                    StandardCharsets.UTF_8)) {
+                final String[] fields = line.split(" ", 3);
+                if (fields.length < 3) {
+                    continue;
+                }
+                if (PLANNED.equals(fields[0])) {
+                    planned.computeIfAbsent(fields[1],
+                            key -> new ArrayList<>()).add(fields[2]);
+                } else if (REPAIRED.equals(fields[0])) {
+                    repaired.add(fields[1] + " " + fields[2]);
+                }
+            }
+            LOGGER.info("Resuming repair: {}, repaired subranges = {}",
+                    repairId, repaired.size());
+        }
+        this.progressFile = Optional.of(file);
+    }
+
+    private void record(String... lines) throws IOException {
+        if (!progressFile.isPresent()) {
+            return;
+        }
+        final StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append('\n');
+        }
+        Files.write(progressFile.get(),
+                builder.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND,
+                StandardOpenOption.SYNC);
+    }
+
+    private long getEstimatedPartitions(KeyspaceMetadata keyspace,
+                                        List<String> columnFamilies) {
+        long partitions = 0;
+        for (TableMetadata table : keyspace.getTables()) {
+            if (columnFamilies.isEmpty() ||
+                    columnFamilies.contains(table.getName())) {
+                partitions = Math.max(partitions,
+                        daemon.getEstimatedPartitions(keyspace.getName(),
+                                table.getName()));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * Splits the primary ranges of the node for a key space.
+     *
+     * @return The subranges of the primary ranges, formatted as
+     * start:end, or ALL_RANGES if the primary ranges are not split.
+     */
+    private List<String> plan(String keyspace,
+                              List<String> columnFamilies,
+                              int subrangePartitions) {
+        if (subrangePartitions <= 0) {
+            return Collections.singletonList(ALL_RANGES);
+        }
+        final Metadata metadata = daemon.getSession().getMetadata();
+        final String endpoint = daemon.getProbe().getEndpoint();
+        final Host local = metadata.getAllHosts().stream()
+                .filter(host -> host.getAddress().getHostAddress()
+                        .equals(endpoint))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Local host not found in ring: " + endpoint));
+        final String quoted = Metadata.quote(keyspace);
+        final KeyspaceMetadata keyspaceMetadata =
+                metadata.getKeyspace(quoted);
+        final Optional<BigInteger> ringSize =
+                getRingSize(metadata.getPartitioner());
+        if (keyspaceMetadata == null || !ringSize.isPresent()) {
+            return Collections.singletonList(ALL_RANGES);
+        }
+
+        // The estimates of the node cover all of the ranges it replicates,
+        // so the partitions of each primary range are proportional to its
+        // share of the replicated ranges.
+        BigInteger replicated = BigInteger.ZERO;
+        for (TokenRange range : metadata.getTokenRanges(quoted, local)) {
+            replicated = replicated.add(getWidth(getValue(range.getStart()),
+                    getValue(range.getEnd()), ringSize.get()));
+        }
+        final BigInteger partitions = BigInteger.valueOf(
+                getEstimatedPartitions(keyspaceMetadata, columnFamilies));
+
+        final List<TokenRange> primary = new ArrayList<>();
+        for (TokenRange range : metadata.getTokenRanges()) {
+            if (local.getTokens().contains(range.getEnd())) {
+                primary.add(range);
+            }
+        }
+        if (primary.isEmpty()) {
+            return Collections.singletonList(ALL_RANGES);
+        }
+        Collections.sort(primary);
+
+        final List<String> subranges = new ArrayList<>();
+        for (TokenRange range : primary) {
+            final long estimate = (replicated.signum() == 0) ? 0 :
+                    partitions.multiply(getWidth(getValue(range.getStart()),
+                            getValue(range.getEnd()), ringSize.get()))
+                            .divide(replicated).longValue();
+            final int splits = getSplits(estimate, subrangePartitions);
+            if (splits <= 1) {
+                subranges.add(toString(range));
+            } else {
+                for (TokenRange subrange : range.splitEvenly(splits)) {
+                    subranges.add(toString(subrange));
+                }
+            }
+        }
+        LOGGER.info("Split {} primary ranges of key space {} into {} " +
+                        "subranges: estimated partitions = {}",
+                primary.size(), keyspace, subranges.size(), partitions);
+        return subranges;
+    }
+
+    /**
+     * Repairs the primary ranges of the node for a key space.
+     *
+     * @param keyspace           The key space that will be repaired.
+     * @param columnFamilies     The column families that will be repaired.
+     *                           If empty, all of the column families of the
+     *                           key space are repaired.
+     * @param parallelism        The parallelism of the repair of each range.
+     * @param subrangePartitions The estimated number of partitions of each
+     *                           subrange, or 0 if the primary ranges are not
+     *                           split.
+     * @param incremental        If true, only the SSTables that have not
+     *                           been repaired yet are repaired.
+     * @param progress           The Progress notified as subranges are
+     *                           repaired.
+     * @throws IOException If the repair of a range fails.
+     */
+    public void repair(String keyspace,
+                       List<String> columnFamilies,
+                       RepairParallelism parallelism,
+                       int subrangePartitions,
+                       boolean incremental,
+                       Progress progress) throws IOException {
+        List<String> subranges = planned.get(keyspace);
+        if (subranges == null) {
+            subranges = plan(keyspace, columnFamilies,
+                    incremental ? 0 : subrangePartitions);
+            final List<String> lines = new ArrayList<>();
+            for (String subrange : subranges) {
+                lines.add(PLANNED + " " + keyspace + " " + subrange);
+            }
+            record(lines.toArray(new String[lines.size()]));
+            planned.put(keyspace, subranges);
+        }
+
+        int done = 0;
+        for (String subrange : subranges) {
+            if (repaired.contains(keyspace + " " + subrange)) {
+                done++;
+                continue;
+            }
+            final Map<String, String> options = new LinkedHashMap<>();
+            if (ALL_RANGES.equals(subrange)) {
+                options.put(RepairOption.PRIMARY_RANGE_KEY, "true");
+            } else {
+                options.put(RepairOption.PRIMARY_RANGE_KEY, "false");
+                options.put(RepairOption.RANGES_KEY, subrange);
+            }
+            options.put(RepairOption.COLUMNFAMILIES_KEY,
+                    String.join(",", columnFamilies));
+            options.put(RepairOption.PARALLELISM_KEY, incremental ?
+                    RepairParallelism.PARALLEL.getName() :
+                    parallelism.getName());
+            options.put(RepairOption.INCREMENTAL_KEY,
+                    Boolean.toString(incremental));
+
+            LOGGER.info("Starting repair: keySpace = {}, range = {}, " +
+                    "incremental = {}", keyspace, subrange, incremental);
+            daemon.repair(keyspace, options, listener);
+
+            record(REPAIRED + " " + keyspace + " " + subrange);
+            repaired.add(keyspace + " " + subrange);
+            progress.repaired(keyspace, ++done, subranges.size());
+        }
+    }
+
+    /**
+     * Discards the progress of the repair once all of its key spaces have
+     * been repaired.
+     *
+     * @throws IOException If the progress can not be deleted.
+     */
+    public void complete() throws IOException {
+        if (progressFile.isPresent()) {
+            Files.deleteIfExists(progressFile.get());
+        }
+    }
+}
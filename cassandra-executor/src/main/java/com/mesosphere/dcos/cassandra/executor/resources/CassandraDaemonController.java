@@ -19,14 +19,17 @@ import com.codahale.metrics.annotation.Counted;
 import com.google.inject.Inject;
 import com.mesosphere.dcos.cassandra.common.config.CassandraConfig;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraStatus;
+import com.mesosphere.dcos.cassandra.common.tasks.DiskUsage;
 import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
 import com.mesosphere.dcos.cassandra.executor.CassandraExecutor;
+import com.mesosphere.dcos.cassandra.executor.backup.BackupThrottle;
 import org.apache.mesos.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.MediaType;
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -41,6 +44,7 @@ public class CassandraDaemonController {
             LoggerFactory.getLogger(CassandraDaemonController.class);
 
     private final CassandraExecutor executor;
+    private final BackupThrottle backupThrottle;
 
     private final CassandraDaemonProcess getDaemon() {
 
@@ -55,12 +59,16 @@ public class CassandraDaemonController {
     /**
      * Constructs a new controller.
      * @param executor The Executor instance that will be controlled.
+     * @param backupThrottle The BackupThrottle of the executor's backup
+     *                       uploads.
      */
     @Inject
-    public CassandraDaemonController(Executor executor) {
+    public CassandraDaemonController(Executor executor,
+                                     BackupThrottle backupThrottle) {
 
         LOGGER.info("Setting executor to {}", executor);
         this.executor = (CassandraExecutor) executor;
+        this.backupThrottle = backupThrottle;
         LOGGER.info("Set executor to {}", this.executor);
     }
 
@@ -90,6 +98,54 @@ public class CassandraDaemonController {
         return getDaemon().getTask().getConfig();
     }
 
+    /**
+     * Gets the disk usage of the Cassandra daemon's persistent volume.
+     * @return A DiskUsage object containing the size, the free space and
+     * the live data size of the volume.
+     * @throws IOException If the file store of the volume can not be read.
+     */
+    @GET
+    @Counted
+    @Path("/disk")
+    public DiskUsage getDiskUsage() throws IOException {
+
+        return getDaemon().getDiskUsage();
+    }
+
+    /**
+     * Gets the status of the backup throttle.
+     * @return The bandwidth, load factor and effective rate of the
+     * throttle.
+     */
+    @GET
+    @Counted
+    @Path("/backup/throttle")
+    public BackupThrottle.Status getBackupThrottle() {
+
+        return backupThrottle.getStatus();
+    }
+
+    /**
+     * Sets the bandwidth of the backup throttle. The new bandwidth applies
+     * immediately to any upload in progress.
+     * @param bandwidthMb The maximum upload rate in Mb per second or 0 if
+     *                    it is unlimited.
+     * @return The status of the throttle.
+     */
+    @PUT
+    @Counted
+    @Path("/backup/throttle")
+    public BackupThrottle.Status setBackupThrottle(
+            @QueryParam("bandwidth_mb") int bandwidthMb) {
+
+        if (bandwidthMb < 0) {
+            throw new BadRequestException(
+                    "bandwidth_mb must not be negative");
+        }
+        backupThrottle.setBandwidthMb(bandwidthMb);
+        return backupThrottle.getStatus();
+    }
+
     /**
      * Shuts the Cassandra daemon down. This will also shutdown the executor
      * instance via a side effect.
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.startup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * StartupBackoff paces the attempts to connect to the JMX port of a
+ * starting daemon. The delay between attempts doubles from an initial delay
+ * up to a maximum, and each delay is jittered between half and all of its
+ * value, so that a fast start is detected quickly and a slow start is not
+ * hammered with connections. The attempts stop at a deadline.
+ */
+public class StartupBackoff {
+
+    /**
+     * The initial delay between attempts in milliseconds.
+     */
+    public static final long INITIAL_MS = 50;
+
+    /**
+     * The maximum delay between attempts in milliseconds.
+     */
+    public static final long MAX_MS = 5000;
+
+    /**
+     * The time, in milliseconds, after which the attempts stop.
+     */
+    public static final long TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private final LongSupplier clock;
+    private final long deadline;
+    private final long maxMs;
+    private long backoffMs;
+
+    /**
+     * Creates a StartupBackoff whose deadline starts now.
+     *
+     * @return A StartupBackoff with the default delays and timeout.
+     */
+    public static StartupBackoff create() {
+        return new StartupBackoff(INITIAL_MS, MAX_MS, TIMEOUT_MS,
+                System::currentTimeMillis);
+    }
+
+    StartupBackoff(final long initialMs,
+                   final long maxMs,
+                   final long timeoutMs,
+                   final LongSupplier clock) {
+        this.clock = clock;
+        this.deadline = clock.getAsLong() + timeoutMs;
+        this.maxMs = maxMs;
+        this.backoffMs = initialMs;
+    }
+
+    /**
+     * Tests if the deadline has not passed.
+     *
+     * @return True if another attempt can be made.
+     */
+    public boolean hasTime() {
+        return clock.getAsLong() < deadline;
+    }
+
+    /**
+     * Gets the delay before the next attempt and doubles the backoff.
+     *
+     * @return The delay in milliseconds, between half and all of the
+     * current backoff, and never past the deadline.
+     */
+    public long nextDelayMs() {
+        final long delay = ThreadLocalRandom.current().nextLong(
+                backoffMs / 2, backoffMs + 1);
+        backoffMs = Math.min(backoffMs * 2, maxMs);
+        return Math.max(0, Math.min(delay, deadline - clock.getAsLong()));
+    }
+}
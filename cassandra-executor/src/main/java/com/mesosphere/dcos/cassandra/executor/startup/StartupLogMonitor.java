@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * StartupLogMonitor tails the standard output of the Cassandra daemon while
+ * it starts and records, in the StartupMetrics, the time at which each
+ * phase of the start completes. The phases are recognized by the messages
+ * that the daemon logs when it starts its JVM, replays its commit log,
+ * waits for gossip to settle and starts listening for CQL clients. The
+ * monitor stops when the daemon is ready, or when the process terminates.
+ */
+public class StartupLogMonitor implements Runnable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            StartupLogMonitor.class);
+
+    private static final String JVM_STARTED = "JVM vendor/version";
+    private static final String REPLAY_STARTED = "Replaying";
+    private static final String REPLAY_SKIPPED = "No commitlog files found";
+    private static final String REPLAY_COMPLETE = "Log replay complete";
+    private static final String GOSSIP_WAITING =
+            "Waiting for gossip to settle";
+    private static final String GOSSIP_SETTLED = "; proceeding";
+    private static final String GOSSIP_NOT_SETTLED = "Gossip not settled";
+    private static final String READY = "Starting listening for CQL clients";
+
+    private static final long POLL_MS = 100;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path log;
+    private final StartupMetrics metrics;
+    private final AtomicBoolean open;
+    private long jvmStarted = 0;
+    private long replayStarted = 0;
+    private long gossipWaiting = 0;
+
+    /**
+     * Constructs a new StartupLogMonitor.
+     *
+     * @param log     The path of the standard output of the daemon.
+     * @param metrics The StartupMetrics in which the phases are recorded.
+     * @param open    Indicates that the daemon process is running.
+     */
+    public StartupLogMonitor(final Path log,
+                             final StartupMetrics metrics,
+                             final AtomicBoolean open) {
+        this.log = log;
+        this.metrics = metrics;
+        this.open = open;
+    }
+
+    private void match(final String line) {
+        final long now = System.currentTimeMillis();
+        if (jvmStarted == 0 && line.contains(JVM_STARTED)) {
+            jvmStarted = now;
+            metrics.jvmStarted();
+        } else if (replayStarted == 0 && line.contains(REPLAY_STARTED) &&
+                line.contains("CommitLog")) {
+            replayStarted = now;
+        } else if (line.contains(REPLAY_SKIPPED)) {
+            metrics.setCommitLogReplayMs(0);
+        } else if (line.contains(REPLAY_COMPLETE)) {
+            metrics.setCommitLogReplayMs(now - ((replayStarted > 0) ?
+                    replayStarted :
+                    jvmStarted));
+        } else if (line.contains(GOSSIP_WAITING)) {
+            gossipWaiting = now;
+        } else if (gossipWaiting > 0 && (line.contains(GOSSIP_SETTLED) ||
+                line.contains(GOSSIP_NOT_SETTLED))) {
+            metrics.setGossipSettleMs(now - gossipWaiting);
+            gossipWaiting = 0;
+        } else if (line.contains(READY)) {
+            metrics.ready();
+            LOGGER.info("Cassandra Daemon is accepting CQL clients");
+        }
+    }
+
+    @Override
+    public void run() {
+        // The log is read as bytes so that a line that is still being
+        // written is only matched once it is complete.
+        final StringBuilder line = new StringBuilder();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(log)) {
+            while (open.get() && !metrics.isReady()) {
+                final int read = in.read(buffer);
+                if (read < 0) {
+                    Thread.sleep(POLL_MS);
+                    continue;
+                }
+                int start = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        line.append(new String(buffer, start, i - start,
+                                StandardCharsets.UTF_8));
+                        match(line.toString());
+                        line.setLength(0);
+                        start = i + 1;
+                    }
+                }
+                line.append(new String(buffer, start, read - start,
+                        StandardCharsets.UTF_8));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to read Cassandra Daemon log: path = " + log,
+                    ex);
+        }
+    }
+}
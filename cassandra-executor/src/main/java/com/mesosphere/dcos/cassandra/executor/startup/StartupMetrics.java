@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.startup;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StartupMetrics holds the durations of the phases of the last start of the
+ * Cassandra daemon. It is registered with the metrics of the executor under
+ * the "startup" prefix. All durations are in milliseconds, and a phase that
+ * has not been observed in the current start has a duration of -1.
+ */
+public class StartupMetrics implements MetricSet {
+
+    /**
+     * The prefix of the names of the startup metrics.
+     */
+    public static final String NAME = "startup";
+
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong jvmStartMs = new AtomicLong(-1);
+    private final AtomicLong jmxConnectMs = new AtomicLong(-1);
+    private final AtomicLong jmxConnectAttempts = new AtomicLong();
+    private final AtomicLong commitLogReplayMs = new AtomicLong(-1);
+    private final AtomicLong gossipSettleMs = new AtomicLong(-1);
+    private final AtomicLong readyMs = new AtomicLong(-1);
+
+    private long sinceStart() {
+        return System.currentTimeMillis() - started.get();
+    }
+
+    /**
+     * Records the launch of the daemon process, clearing the durations of
+     * the previous start.
+     */
+    public void daemonLaunched() {
+        started.set(System.currentTimeMillis());
+        jvmStartMs.set(-1);
+        jmxConnectMs.set(-1);
+        jmxConnectAttempts.set(0);
+        commitLogReplayMs.set(-1);
+        gossipSettleMs.set(-1);
+        readyMs.set(-1);
+    }
+
+    /**
+     * Records that the JVM of the daemon has started.
+     */
+    public void jvmStarted() {
+        jvmStartMs.set(sinceStart());
+    }
+
+    /**
+     * Records an attempt to connect to the JMX port of the daemon.
+     */
+    public void jmxConnectAttempted() {
+        jmxConnectAttempts.incrementAndGet();
+    }
+
+    /**
+     * Records that the executor is connected to the daemon over JMX.
+     */
+    public void jmxConnected() {
+        jmxConnectMs.set(sinceStart());
+    }
+
+    /**
+     * Records the replay of the commit log.
+     *
+     * @param ms The time, in milliseconds, spent replaying the commit log.
+     */
+    public void setCommitLogReplayMs(long ms) {
+        commitLogReplayMs.set(ms);
+    }
+
+    /**
+     * Records the wait for gossip to settle.
+     *
+     * @param ms The time, in milliseconds, spent waiting for gossip to
+     *           settle.
+     */
+    public void setGossipSettleMs(long ms) {
+        gossipSettleMs.set(ms);
+    }
+
+    /**
+     * Records that the daemon accepts CQL clients.
+     */
+    public void ready() {
+        readyMs.set(sinceStart());
+    }
+
+    /**
+     * Tests if the daemon is ready.
+     *
+     * @return True if the daemon accepts CQL clients since its last launch.
+     */
+    public boolean isReady() {
+        return readyMs.get() >= 0;
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return ImmutableMap.<String, Metric>builder()
+                .put("jvm.start.ms", (Gauge<Long>) jvmStartMs::get)
+                .put("jmx.connect.ms", (Gauge<Long>) jmxConnectMs::get)
+                .put("jmx.connect.attempts",
+                        (Gauge<Long>) jmxConnectAttempts::get)
+                .put("commitlog.replay.ms",
+                        (Gauge<Long>) commitLogReplayMs::get)
+                .put("gossip.settle.ms", (Gauge<Long>) gossipSettleMs::get)
+                .put("ready.ms", (Gauge<Long>) readyMs::get)
+                .build();
+    }
+}
@@ -1,7 +1,7 @@
 package com.mesosphere.dcos.cassandra.executor.tasks;
 
-import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
 import com.mesosphere.dcos.cassandra.common.config.CassandraApplicationConfig;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupContext;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupSchemaStatus;
@@ -64,13 +64,12 @@ public class BackupSchema implements Runnable{
 
     @Override
     public void run(){
-        Cluster cluster = null;
         try{
             // Send TASK_RUNNING
             sendStatus(driver, Protos.TaskState.TASK_RUNNING,
                     "Started taking schema backup");
 
-            cluster = Cluster.builder().addContactPoint(daemon.getProbe().getEndpoint()).build();
+            final Metadata metadata = daemon.getSession().getMetadata();
             final List<String> nonSystemKeyspaces = daemon.getNonSystemKeySpaces();
 
             LOGGER.info("Started taking schema for non system keyspaces: {}", nonSystemKeyspaces);
@@ -78,7 +77,7 @@ public class BackupSchema implements Runnable{
             for (String keyspace : nonSystemKeyspaces) {
                 if (!CassandraApplicationConfig.SYSTEM_KEYSPACE_LIST.contains(keyspace)) {
                     LOGGER.info("Taking schema for keyspace: {}", keyspace);
-                    KeyspaceMetadata ksm = cluster.getMetadata().getKeyspace(keyspace);
+                    KeyspaceMetadata ksm = metadata.getKeyspace(keyspace);
                     sb.append(ksm.exportAsString()).append(System.getProperty("line.separator"));
                 }
             }
@@ -92,9 +91,6 @@ public class BackupSchema implements Runnable{
         } catch (Throwable t){
             LOGGER.error("Schema backup failed. Reason: ", t);
             sendStatus(driver, Protos.TaskState.TASK_FAILED, t.getMessage());
-        } finally {
-            if (cluster != null)
-                cluster.close();
         }
     }
 }
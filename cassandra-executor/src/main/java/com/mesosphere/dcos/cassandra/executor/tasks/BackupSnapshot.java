@@ -68,6 +68,30 @@ public class BackupSnapshot implements Runnable {
         this.cassandraTask = cassandraTask;
     }
 
+    /**
+     * Gets the key spaces that are included in a backup.
+     * @param daemon The CassandraDaemonProcess of the node.
+     * @param requested The key spaces requested for the backup. If empty,
+     *                  all non system key spaces are included.
+     * @return The key spaces of the node that are included in the backup.
+     */
+    static List<String> getKeySpaces(CassandraDaemonProcess daemon,
+                                     List<String> requested) {
+        final List<String> nonSystemKeyspaces = daemon.getNonSystemKeySpaces();
+        final List<String> keySpaces = new ArrayList<>();
+        if (requested != null && requested.size() != 0) {
+            keySpaces.addAll(CassandraApplicationConfig.SYSTEM_KEYSPACE_LIST);
+            for (String keyspace : nonSystemKeyspaces) {
+                if (requested.contains(keyspace) &&
+                        !keySpaces.contains(keyspace))
+                    keySpaces.add(keyspace);
+            }
+        } else {
+            keySpaces.addAll(nonSystemKeyspaces);
+        }
+        return keySpaces;
+    }
+
     @Override
     public void run() {
         try {
@@ -75,29 +99,16 @@ public class BackupSnapshot implements Runnable {
             sendStatus(driver, Protos.TaskState.TASK_RUNNING,
                     "Started taking snapshot");
             final String snapshotName = this.cassandraTask.getBackupName();
-            final List<String> nonSystemKeyspaces = daemon.getNonSystemKeySpaces();
-            final List<String> customerKeySpacesRequested = cassandraTask.getKeySpaces();
-            List<String> resultKeySpacesBackup = new ArrayList<String>();
-
-            if (customerKeySpacesRequested != null && customerKeySpacesRequested.size() != 0) {
-                resultKeySpacesBackup.addAll(CassandraApplicationConfig.SYSTEM_KEYSPACE_LIST);
-                for (String keyspace : nonSystemKeyspaces){
-                    if (customerKeySpacesRequested.contains(keyspace) && !resultKeySpacesBackup.contains(keyspace))
-                        resultKeySpacesBackup.add(keyspace);
-                }
-            } else {
-                resultKeySpacesBackup.addAll(nonSystemKeyspaces);
-            }
+            final List<String> resultKeySpacesBackup = getKeySpaces(daemon,
+                    cassandraTask.getKeySpaces());
 
             LOGGER.info("Started taking snapshot for non system keyspaces: {}", resultKeySpacesBackup);
-            for (String keyspace : resultKeySpacesBackup) {
-                LOGGER.info("Taking snapshot for keyspace: {}", keyspace);
-                daemon.takeSnapShot(snapshotName, keyspace);
-            }
+            daemon.takeSnapShot(snapshotName,
+                    resultKeySpacesBackup.toArray(new String[0]));
 
             // Send TASK_FINISHED
             sendStatus(driver, Protos.TaskState.TASK_FINISHED,
-                    "Finished taking snapshot for non system keyspaces: " + nonSystemKeyspaces);
+                    "Finished taking snapshot for non system keyspaces: " + resultKeySpacesBackup);
         } catch (Throwable t) {
             LOGGER.error("Snapshot failed",t);
             sendStatus(driver, Protos.TaskState.TASK_FAILED, t.getMessage());
@@ -15,6 +15,9 @@
  */
 package com.mesosphere.dcos.cassandra.executor.tasks;
 
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.TableMetadata;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupTask;
 import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
@@ -23,14 +26,23 @@ import org.apache.mesos.Protos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Implements the execution of CleanupTask for the node invoking the cleanup
  * methods of the CassandraDaemonProcess for the key spaces and column
- * families indicated by the task.
+ * families indicated by the task. The tables of each key space are cleaned
+ * one at a time, from the smallest to the largest, so that the space freed
+ * by the small tables is available to the rewrite of the large ones. The
+ * jobs of the task bound the number of compaction threads used for the
+ * SSTables of each table.
  */
 public class Cleanup implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(Cleanup.class);
@@ -51,6 +63,34 @@ public class Cleanup implements Runnable {
         return task.getColumnFamilies();
     }
 
+    /**
+     * Gets the tables of a key space in size order.
+     *
+     * @return The tables of keyspace that will be cleaned, ordered by their
+     * live disk space from the smallest to the largest. If the tables of the
+     * key space are not known, an empty list, so that the whole key space is
+     * cleaned at once.
+     */
+    private List<String> getTablesBySize(String keyspace) {
+        final List<String> tables = new ArrayList<>(getColumnFamilies());
+        if (tables.isEmpty()) {
+            final KeyspaceMetadata metadata = daemon.getSession()
+                    .getMetadata().getKeyspace(Metadata.quote(keyspace));
+            if (metadata == null) {
+                return tables;
+            }
+            for (TableMetadata table : metadata.getTables()) {
+                tables.add(table.getName());
+            }
+        }
+        final Map<String, Long> sizes = new HashMap<>();
+        for (String table : tables) {
+            sizes.put(table, daemon.getLiveDiskSpaceUsed(keyspace, table));
+        }
+        tables.sort(Comparator.comparing(sizes::get));
+        return tables;
+    }
+
     private void sendStatus(ExecutorDriver driver,
                             Protos.TaskState state, String message) {
         Protos.TaskStatus status = CleanupStatus.create(
@@ -92,11 +132,25 @@ public class Cleanup implements Runnable {
 
             for (String keyspace : keySpaces) {
                 LOGGER.info("Starting cleanup : keySpace = {}, " +
-                                "columnFamilies = {}",
+                                "columnFamilies = {}, jobs = {}",
                         keyspace,
-                        Arrays.asList(columnFamilies));
+                        Arrays.asList(columnFamilies),
+                        task.getJobs());
 
-                daemon.cleanup(keyspace, columnFamilies);
+                final List<String> tables = getTablesBySize(keyspace);
+                if (tables.isEmpty()) {
+                    daemon.cleanup(keyspace, tables, task.getJobs());
+                }
+                for (int i = 0; i < tables.size(); i++) {
+                    daemon.cleanup(keyspace,
+                            Collections.singletonList(tables.get(i)),
+                            task.getJobs());
+                    sendStatus(driver, Protos.TaskState.TASK_RUNNING,
+                            String.format("Cleaned table : keySpace = %s, " +
+                                            "table = %s, tables = %d/%d",
+                                    keyspace, tables.get(i), i + 1,
+                                    tables.size()));
+                }
 
                 LOGGER.info("Completed cleanup : keySpace = {}, " +
                                 "columnFamilies = {}",
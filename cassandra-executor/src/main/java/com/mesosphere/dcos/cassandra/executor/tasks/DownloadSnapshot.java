@@ -20,17 +20,22 @@ import com.mesosphere.dcos.cassandra.common.tasks.backup.DownloadSnapshotTask;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreContext;
 import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
 import com.mesosphere.dcos.cassandra.executor.backup.BackupStorageDriver;
+import com.mesosphere.dcos.cassandra.executor.backup.BulkRestore;
+import com.mesosphere.dcos.cassandra.executor.backup.PipelinedTableLoader;
 import org.apache.mesos.ExecutorDriver;
 import org.apache.mesos.Protos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
  * DownloadSnapshot implements the execution of the DownloadSnapshotTask by
  * delegating download of the snapshotted tables to a BackupStorageDriver
- * implementation.
+ * implementation. A streaming download loads the SSTables of the node as
+ * soon as all of their components have been downloaded. A bulk load streams
+ * the SSTables of a share of the source nodes of the backup to the ring.
  */
 public class DownloadSnapshot implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(
@@ -79,7 +84,15 @@ public class DownloadSnapshot implements Runnable {
         context.setLocalLocation(this.cassandraTask.getLocalLocation());
         context.setS3AccessKey(this.cassandraTask.getS3AccessKey());
         context.setS3SecretKey(this.cassandraTask.getS3SecretKey());
-        context.setKeyspaces(this.daemon.getNonSystemKeySpaces());
+        context.setKeyspaces(RestoreContext.selectKeyspaces(
+                this.daemon.getNonSystemKeySpaces(),
+                this.cassandraTask.getKeySpaces(),
+                this.cassandraTask.getColumnFamilies()));
+        context.setTables(this.cassandraTask.getColumnFamilies());
+        context.setConcurrency(this.cassandraTask.getConcurrency());
+        context.setBandwidthMb(this.cassandraTask.getBandwidthMb());
+        context.setStreaming(this.cassandraTask.isStreaming());
+        context.setBulkLoad(this.cassandraTask.isBulkLoad());
     }
 
     @Override
@@ -89,7 +102,13 @@ public class DownloadSnapshot implements Runnable {
             // Send TASK_RUNNING
             sendStatus(driver, Protos.TaskState.TASK_RUNNING,
                     "Started downloading snapshot");
-            backupStorageDriver.download(context);
+            if (context.isBulkLoad()) {
+                bulkLoad();
+            } else if (context.isStreaming()) {
+                download();
+            } else {
+                backupStorageDriver.download(context, Optional.empty());
+            }
             // Send TASK_FINISHED
             sendStatus(driver, Protos.TaskState.TASK_FINISHED, "Finished downloading snapshots");
         } catch (Throwable t) {
@@ -98,4 +117,26 @@ public class DownloadSnapshot implements Runnable {
             sendStatus(driver, Protos.TaskState.TASK_FAILED, t.getMessage());
         }
     }
+
+    private void bulkLoad() throws IOException {
+        new BulkRestore(backupStorageDriver, daemon).restore(context,
+                cassandraTask.getLoaderIndex(),
+                cassandraTask.getLoaderCount(),
+                (source, loaded, total) -> sendStatus(driver,
+                        Protos.TaskState.TASK_RUNNING,
+                        String.format("Bulk loaded %d of %d source nodes, " +
+                                "last node: %s", loaded, total, source)));
+    }
+
+    private void download() throws IOException {
+        final int concurrency = context.getConcurrency() > 0 ?
+                context.getConcurrency() : RestoreContext.DEFAULT_CONCURRENCY;
+        LOGGER.info("Loading SSTables as they are downloaded, " +
+                "concurrency = {}", concurrency);
+        try (PipelinedTableLoader loader = new PipelinedTableLoader(daemon,
+                concurrency)) {
+            backupStorageDriver.download(context, Optional.of(loader));
+            loader.finish();
+        }
+    }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2016 Mesosphere
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mesosphere.dcos.cassandra.executor.tasks;
+
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.TableMetadata;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceStatus;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceTask;
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.apache.mesos.ExecutorDriver;
+import org.apache.mesos.Protos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Implements the execution of MaintenanceTask for the node invoking the
+ * method of the CassandraDaemonProcess that corresponds to the operation of
+ * the task for the key spaces and column families indicated by the task.
+ * The tables of each key space are processed one at a time, and a status is
+ * sent as each table completes. If the task has a throughput, the
+ * compaction throughput of the node is set to it while the operation runs
+ * and restored when the operation completes or fails.
+ */
+public class Maintenance implements Runnable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            Maintenance.class);
+
+    private final CassandraDaemonProcess daemon;
+    private final ExecutorDriver driver;
+    private final MaintenanceTask task;
+
+    private List<String> getKeySpaces() {
+        if (task.getKeySpaces().isEmpty()) {
+            return daemon.getNonSystemKeySpaces();
+        } else {
+            return task.getKeySpaces();
+        }
+    }
+
+    private List<String> getColumnFamilies() {
+        return task.getColumnFamilies();
+    }
+
+    /**
+     * Gets the tables of a key space.
+     *
+     * @return The tables of keyspace that will be processed. If the tables
+     * of the key space are not known, an empty list, so that the whole key
+     * space is processed at once.
+     */
+    private List<String> getTables(String keyspace) {
+        final List<String> tables = new ArrayList<>(getColumnFamilies());
+        if (tables.isEmpty()) {
+            final KeyspaceMetadata metadata = daemon.getSession()
+                    .getMetadata().getKeyspace(Metadata.quote(keyspace));
+            if (metadata != null) {
+                for (TableMetadata table : metadata.getTables()) {
+                    tables.add(table.getName());
+                }
+            }
+        }
+        return tables;
+    }
+
+    private void perform(String keyspace, List<String> tables)
+            throws InterruptedException, ExecutionException, IOException {
+        switch (task.getOperation()) {
+            case MaintenanceContext.OPERATION_COMPACT:
+                daemon.compact(keyspace, tables);
+                break;
+            case MaintenanceContext.OPERATION_UPGRADE_SSTABLES:
+                daemon.upgradeSSTables(keyspace, tables, task.getJobs());
+                break;
+            case MaintenanceContext.OPERATION_FLUSH:
+                daemon.flush(keyspace, tables);
+                break;
+            case MaintenanceContext.OPERATION_SCRUB:
+                daemon.scrub(keyspace, tables, task.getJobs());
+                break;
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown maintenance operation: " +
+                                task.getOperation());
+        }
+    }
+
+    private void sendStatus(ExecutorDriver driver,
+                            Protos.TaskState state, String message) {
+        Protos.TaskStatus status = MaintenanceStatus.create(
+                state,
+                task.getId(),
+                task.getSlaveId(),
+                task.getExecutor().getId(),
+                Optional.of(message)
+        ).toProto();
+        driver.sendStatusUpdate(status);
+    }
+
+    /**
+     * Construct a new Maintenance.
+     *
+     * @param driver The ExecutorDriver used to send task status.
+     * @param daemon The CassandraDaemonProcess on which the operation is
+     *               performed.
+     * @param task   The MaintenanceTask executed by the Maintenance.
+     */
+    public Maintenance(final ExecutorDriver driver,
+                       final CassandraDaemonProcess daemon,
+                       final MaintenanceTask task) {
+        this.driver = driver;
+        this.daemon = daemon;
+        this.task = task;
+    }
+
+    @Override
+    public void run() {
+        Optional<Integer> throughput = Optional.empty();
+        try {
+
+            final List<String> keySpaces = getKeySpaces();
+            final List<String> columnFamilies = getColumnFamilies();
+            sendStatus(driver, Protos.TaskState.TASK_RUNNING,
+                    String.format("Starting %s: keySpaces = %s, " +
+                                    "columnFamilies = %s",
+                            task.getOperation(),
+                            keySpaces,
+                            columnFamilies));
+
+            if (task.getThroughputMb() > 0) {
+                throughput = Optional.of(daemon.getCompactionThroughput());
+                LOGGER.info("Setting compaction throughput : " +
+                                "throughputMb = {}, previous = {}",
+                        task.getThroughputMb(), throughput.get());
+                daemon.setCompactionThroughput(task.getThroughputMb());
+            }
+
+            for (String keyspace : keySpaces) {
+                LOGGER.info("Starting {} : keySpace = {}, " +
+                                "columnFamilies = {}, jobs = {}",
+                        task.getOperation(),
+                        keyspace,
+                        columnFamilies,
+                        task.getJobs());
+
+                final List<String> tables = getTables(keyspace);
+                if (tables.isEmpty()) {
+                    perform(keyspace, tables);
+                }
+                for (int i = 0; i < tables.size(); i++) {
+                    perform(keyspace,
+                            Collections.singletonList(tables.get(i)));
+                    sendStatus(driver, Protos.TaskState.TASK_RUNNING,
+                            String.format("Completed %s : keySpace = %s, " +
+                                            "table = %s, tables = %d/%d, " +
+                                            "pendingCompactions = %d",
+                                    task.getOperation(), keyspace,
+                                    tables.get(i), i + 1, tables.size(),
+                                    daemon.getPendingCompactions()));
+                }
+
+                LOGGER.info("Completed {} : keySpace = {}, " +
+                                "columnFamilies = {}",
+                        task.getOperation(),
+                        keyspace,
+                        columnFamilies);
+            }
+
+            sendStatus(driver, Protos.TaskState.TASK_FINISHED,
+                    String.format("Completed %s: keySpaces = %s, " +
+                                    "columnFamilies = %s",
+                            task.getOperation(),
+                            keySpaces,
+                            columnFamilies));
+        } catch (final Throwable t) {
+            LOGGER.error("Maintenance failed", t);
+            sendStatus(driver, Protos.TaskState.TASK_FAILED, t.getMessage());
+        } finally {
+            if (throughput.isPresent()) {
+                try {
+                    daemon.setCompactionThroughput(throughput.get());
+                } catch (Throwable t) {
+                    LOGGER.error("Failed to restore compaction throughput",
+                            t);
+                }
+            }
+        }
+    }
+}
@@ -15,24 +15,34 @@
  */
 package com.mesosphere.dcos.cassandra.executor.tasks;
 
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.TableMetadata;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairTask;
 import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import com.mesosphere.dcos.cassandra.executor.repair.RepairMetrics;
+import com.mesosphere.dcos.cassandra.executor.repair.RepairProgressListener;
+import com.mesosphere.dcos.cassandra.executor.repair.SubrangeRepair;
 import org.apache.cassandra.repair.RepairParallelism;
-import org.apache.cassandra.repair.messages.RepairOption;
 import org.apache.mesos.ExecutorDriver;
 import org.apache.mesos.Protos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
- * Implements anti-entropy, primary range, sequential repair by executing
- * RepairTask by delegating repair to the CassandraDaemonProcess.
+ * Implements anti-entropy, primary range repair by executing RepairTask.
+ * The primary ranges of each key space are repaired, whole or split into
+ * subranges, by a SubrangeRepair that records its progress so that a
+ * restarted task resumes the repair. The progress of each repair command is
+ * followed through the JMX notifications of the node and sent as throttled
+ * status updates.
  */
 public class Repair implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(Repair.class);
@@ -40,6 +50,7 @@ public class Repair implements Runnable {
     private final CassandraDaemonProcess daemon;
     private final ExecutorDriver driver;
     private final RepairTask task;
+    private final RepairMetrics metrics;
 
     private List<String> getKeySpaces() {
         if (task.getKeySpaces().isEmpty()) {
@@ -53,25 +64,34 @@ public class Repair implements Runnable {
         return task.getColumnFamilies();
     }
 
-    private void repairKeyspace(String keyspace, List<String> columnFamilies)
+    private void repairKeyspace(SubrangeRepair repair,
+                                String keyspace,
+                                List<String> columnFamilies)
             throws
             Exception {
         LOGGER.info("Starting repair : keySpace = {}, columnFamilies = {}",
                 keyspace, columnFamilies);
 
-        Map<String, String> options = new HashMap<>();
-        options.put(RepairOption.PRIMARY_RANGE_KEY, "true");
-        options.put(RepairOption.COLUMNFAMILIES_KEY,
-                String.join(",", columnFamilies));
-        options.put(RepairOption.PARALLELISM_KEY,
-                RepairParallelism.SEQUENTIAL.getName());
-        options.put(RepairOption.INCREMENTAL_KEY, "false");
+        repair.repair(keyspace,
+                columnFamilies,
+                RepairParallelism.fromName(task.getParallelism()),
+                task.getSubrangePartitions(),
+                task.isIncremental(),
+                (name, repaired, total) -> {
+                    if (total > 1) {
+                        sendStatus(driver, Protos.TaskState.TASK_RUNNING,
+                                String.format("Repaired subranges : " +
+                                                "keySpace = %s, " +
+                                                "subranges = %d/%d",
+                                        name, repaired, total));
+                    }
+                });
 
-        String result = daemon.repair(keyspace, options);
-
-        LOGGER.info("Repair output = {}", result);
         LOGGER.info("Completed repair : keySpace = {}, columnFamilies = {}",
                 keyspace, columnFamilies);
+        if (task.isIncremental()) {
+            reportRepairedBytes(keyspace, columnFamilies);
+        }
 
         sendStatus(driver, Protos.TaskState.TASK_RUNNING,
                 String.format(
@@ -79,18 +99,55 @@ public class Repair implements Runnable {
                         keyspace, columnFamilies));
     }
 
+    /**
+     * Reports the repaired and unrepaired bytes of the tables of a key space
+     * after an incremental repair. Unrepaired bytes that remain were written
+     * during the repair, or belong to ranges repaired by other nodes.
+     */
+    private void reportRepairedBytes(String keyspace,
+                                     List<String> columnFamilies) {
+        final List<String> tables = new ArrayList<>(columnFamilies);
+        if (tables.isEmpty()) {
+            final KeyspaceMetadata metadata = daemon.getSession()
+                    .getMetadata().getKeyspace(Metadata.quote(keyspace));
+            if (metadata == null) {
+                return;
+            }
+            for (TableMetadata table : metadata.getTables()) {
+                tables.add(table.getName());
+            }
+        }
+        final Map<String, String> bytes = new TreeMap<>();
+        for (String table : tables) {
+            final long live = daemon.getLiveDiskSpaceUsed(keyspace, table);
+            final long repaired = (long) (live *
+                    daemon.getPercentRepaired(keyspace, table) / 100.0);
+            bytes.put(table, String.format("repaired = %d, unrepaired = %d",
+                    repaired, live - repaired));
+        }
+        LOGGER.info("Repaired bytes : keySpace = {}, tables = {}", keyspace,
+                bytes);
+        sendStatus(driver, Protos.TaskState.TASK_RUNNING,
+                String.format("Repaired bytes : keySpace = %s, tables = %s",
+                        keyspace, bytes));
+    }
+
     /**
      * Creates a new Repair.
      * @param driver The ExecutorDriver used to send status updates.
      * @param daemon The CassandraDaemonProcess used to execute the repair.
      * @param task The RepairTask that will be executed.
+     * @param metrics The RepairMetrics that record the progress of the
+     *                repair.
      */
     public Repair(final ExecutorDriver driver,
                   final CassandraDaemonProcess daemon,
-                  final RepairTask task) {
+                  final RepairTask task,
+                  final RepairMetrics metrics) {
         this.driver = driver;
         this.daemon = daemon;
         this.task = task;
+        this.metrics = metrics;
     }
 
     @Override
@@ -105,9 +162,16 @@ public class Repair implements Runnable {
                             keySpaces,
                             columnFamilies));
 
+            final SubrangeRepair repair = new SubrangeRepair(daemon,
+                    task.getRepairId(),
+                    new RepairProgressListener(daemon, metrics,
+                            progress -> sendStatus(driver,
+                                    Protos.TaskState.TASK_RUNNING,
+                                    progress)));
             for (String keyspace : keySpaces) {
-                repairKeyspace(keyspace, columnFamilies);
+                repairKeyspace(repair, keyspace, columnFamilies);
             }
+            repair.complete();
 
             // Send TASK_FINISHED
             sendStatus(driver, Protos.TaskState.TASK_FINISHED,
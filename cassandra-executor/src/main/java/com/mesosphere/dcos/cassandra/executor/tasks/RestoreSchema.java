@@ -1,6 +1,5 @@
 package com.mesosphere.dcos.cassandra.executor.tasks;
 
-import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.exceptions.AlreadyExistsException;
 import com.mesosphere.dcos.cassandra.common.config.CassandraApplicationConfig;
@@ -9,25 +8,34 @@ import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreSchemaStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreSchemaTask;
 import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
 import com.mesosphere.dcos.cassandra.executor.backup.BackupStorageDriver;
+import com.mesosphere.dcos.cassandra.executor.backup.CqlSchema;
 import org.apache.mesos.ExecutorDriver;
 import org.apache.mesos.Protos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
-import java.util.Scanner;
-import java.util.stream.Collectors;
 
 /**
- * Restores the schema first before restoring the data. Here, schema is only restored if it does not exist.
- * Restore schema only works on clean cluster.
+ * Restores the schema first before restoring the data. The schema is
+ * restored by a single node of the cluster. Its statements are made
+ * idempotent and applied in dependency order through the local session of
+ * the executor, so that they are all coordinated by the local node, and
+ * schema agreement is only awaited once all of them have been applied, so a
+ * restore can be retried on a cluster where part of the schema already
+ * exists.
  */
 public class RestoreSchema implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(
             RestoreSchema.class);
 
+    private static final long SCHEMA_AGREEMENT_TIMEOUT_MS = 5 * 60 * 1000;
+
     private final ExecutorDriver driver;
     private final RestoreContext context;
     private CassandraDaemonProcess daemon;
@@ -68,43 +76,31 @@ public class RestoreSchema implements Runnable {
 
     @Override
     public void run() {
-        Cluster cluster = null;
-        Session session = null;
-        Scanner read = null;
         try {
             // Send TASK_RUNNING
             sendStatus(driver, Protos.TaskState.TASK_RUNNING,
                     "Started restoring schema");
-            List<String> nonSystemKeyspaces = daemon.getNonSystemKeySpaces();
-
-            nonSystemKeyspaces = nonSystemKeyspaces.stream()
-                                  .filter(keyspace -> !CassandraApplicationConfig.SYSTEM_KEYSPACE_LIST.contains(keyspace))
-                                  .collect(Collectors.toList());
-
-            LOGGER.info("Started restoring schema for non system keyspaces: {}", nonSystemKeyspaces);
+            backupStorageDriver.downloadSchema(context);
+            final Path schemaFile = Paths.get(context.getLocalLocation(),
+                    CassandraApplicationConfig.SCHEMAFILENAME);
+            LOGGER.info("Path of schema file: " + schemaFile);
+            final List<String> statements = CqlSchema.getRestoreStatements(
+                    new String(Files.readAllBytes(schemaFile),
+                            StandardCharsets.UTF_8));
+            LOGGER.info("Restoring {} schema statements",
+                    statements.size());
 
-            if (nonSystemKeyspaces.isEmpty()) {
-                backupStorageDriver.downloadSchema(context);
-                final String schemaFile = context.getLocalLocation() +
-                        File.separator + CassandraApplicationConfig.SCHEMAFILENAME;
-                LOGGER.info("Path of schema file: " + schemaFile);
-                cluster = Cluster.builder().addContactPoint(daemon.getProbe().getEndpoint()).build();
-                session = cluster.connect();
-                read = new Scanner(new File(schemaFile));
-                read.useDelimiter(";");
-                while (read.hasNext()) {
-                    try {
-                        String cqlStmt = read.next().trim();
-                        if (cqlStmt.isEmpty())
-                            continue;
-                        cqlStmt += ";";
-                        session.execute(cqlStmt);
-                        LOGGER.info("cql stmt: {}", cqlStmt);
-                    } catch (AlreadyExistsException e) {
-                        LOGGER.info("Schema already exists: {}", e.toString());
-                    }
+            final Session session = daemon.getSession().getLocal();
+            for (String statement : statements) {
+                try {
+                    LOGGER.info("cql stmt: {}", statement);
+                    session.execute(statement);
+                } catch (AlreadyExistsException e) {
+                    LOGGER.info("Schema already exists: {}", e.toString());
                 }
             }
+            daemon.getSession().awaitSchemaAgreement(
+                    SCHEMA_AGREEMENT_TIMEOUT_MS);
 
             // Send TASK_FINISHED
             sendStatus(driver, Protos.TaskState.TASK_FINISHED,
@@ -114,13 +110,6 @@ public class RestoreSchema implements Runnable {
             final String errorMessage = "Failed restoring schema. Reason: " + t;
             LOGGER.error(errorMessage);
             sendStatus(driver, Protos.TaskState.TASK_FAILED, errorMessage);
-        } finally {
-            if (read != null)
-                read.close();
-            if (session != null)
-                session.close();
-            if (cluster != null)
-                cluster.close();
         }
     }
 
@@ -19,6 +19,7 @@ import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreContext;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreSnapshotStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreSnapshotTask;
 import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import com.mesosphere.dcos.cassandra.executor.backup.ParallelTableLoader;
 import org.apache.mesos.ExecutorDriver;
 import org.apache.mesos.Protos;
 import org.slf4j.Logger;
@@ -27,20 +28,28 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
- * Implements RestoreSnapshotTask by invoking the Nodetool Refresh / LoadNewSSTables binary that is
- * packaged with the Cassandra distribution.
+ * Implements RestoreSnapshotTask by loading the restored SSTables of each
+ * table through the Nodetool Refresh / LoadNewSSTables operation of the
+ * Cassandra daemon. Tables are loaded concurrently, largest first, and the
+ * progress of the load is reported in the task status.
  */
 public class RestoreSnapshot implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(
             RestoreSnapshot.class);
 
+    private static final long PROGRESS_INTERVAL_MS =
+            TimeUnit.SECONDS.toMillis(5);
+
     private final ExecutorDriver driver;
     private final RestoreContext context;
     private final RestoreSnapshotTask cassandraTask;
     private final String version;
     private final CassandraDaemonProcess daemon;
+    private long lastProgress = 0;
 
     /**
      * Constructs a new RestoreSnapshot.
@@ -67,6 +76,12 @@ public class RestoreSnapshot implements Runnable {
         context.setS3SecretKey(this.cassandraTask.getS3SecretKey());
         context.setExternalLocation(this.cassandraTask.getExternalLocation());
         context.setLocalLocation(this.cassandraTask.getLocalLocation());
+        context.setConcurrency(this.cassandraTask.getConcurrency());
+        context.setKeyspaces(RestoreContext.selectKeyspaces(
+                this.daemon.getNonSystemKeySpaces(),
+                this.cassandraTask.getKeySpaces(),
+                this.cassandraTask.getColumnFamilies()));
+        context.setTables(this.cassandraTask.getColumnFamilies());
     }
 
     @Override
@@ -75,19 +90,18 @@ public class RestoreSnapshot implements Runnable {
             // Send TASK_RUNNING
             sendStatus(driver, Protos.TaskState.TASK_RUNNING, "Started restoring snapshot");
             final String localLocation = context.getLocalLocation();
-            final List<String> keyspaces = daemon.getNonSystemKeySpaces();
-            for (String keyspace : keyspaces) {
-                String keyspaceDirPath = localLocation + File.separator + keyspace;
-                File keySpaceDir = new File(keyspaceDirPath);
-                File[] cfNames = keySpaceDir.listFiles ();
-                for (File cfName : cfNames) {
-                    if (cfName.isFile ())
-                        continue;
-                    String columnFamilyName = cfName.getName().substring(0, cfName.getName().indexOf("-"));
-                    daemon.getProbe().loadNewSSTables(keyspace, columnFamilyName);
-                    LOGGER.info("Keyspace Name " + keyspace + " Column Family Name " + columnFamilyName);
-                }
-            }
+            final List<ParallelTableLoader.Table> tables =
+                    ParallelTableLoader.getTables(new File(localLocation),
+                            context.getKeyspaces()).stream()
+                            .filter(table -> context.isTableRestored(
+                                    table.getKeyspace(), table.getName()))
+                            .collect(Collectors.toList());
+            final int concurrency = context.getConcurrency() > 0 ?
+                    context.getConcurrency() :
+                    RestoreContext.DEFAULT_CONCURRENCY;
+            lastProgress = System.currentTimeMillis();
+            new ParallelTableLoader(daemon, concurrency).load(tables,
+                    this::reportProgress);
             final String message = "Finished restoring snapshot";
             LOGGER.info(message);
             sendStatus(driver, Protos.TaskState.TASK_FINISHED, message);
@@ -99,6 +113,21 @@ public class RestoreSnapshot implements Runnable {
         }
     }
 
+    private synchronized void reportProgress(ParallelTableLoader.Table table,
+                                             int loaded,
+                                             int total) {
+        LOGGER.info("Loaded table: {} ({} of {})", table, loaded, total);
+        final long now = System.currentTimeMillis();
+        // Limit the rate of status updates on nodes with many tables.
+        if (loaded < total && now - lastProgress < PROGRESS_INTERVAL_MS) {
+            return;
+        }
+        lastProgress = now;
+        sendStatus(driver, Protos.TaskState.TASK_RUNNING,
+                String.format("Loaded %d of %d tables, last table: %s",
+                        loaded, total, table));
+    }
+
     private void sendStatus(ExecutorDriver driver,
                             Protos.TaskState state,
                             String message) {
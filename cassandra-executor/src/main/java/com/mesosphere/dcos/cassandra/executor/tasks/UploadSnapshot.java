@@ -20,17 +20,32 @@ import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupUploadStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupUploadTask;
 import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
 import com.mesosphere.dcos.cassandra.executor.backup.BackupStorageDriver;
+import com.mesosphere.dcos.cassandra.executor.backup.BackupThrottle;
+import com.mesosphere.dcos.cassandra.executor.backup.BackupThrottleMonitor;
 import org.apache.mesos.ExecutorDriver;
 import org.apache.mesos.Protos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * UploadSnapshot implements UploadSnapshotTask by delegating the upload of
  * the snapshot to a BackupStorageDriver implementation and the clearing of
- * the local snapshot to CassandraDaemonProcess.
+ * the local snapshot to CassandraDaemonProcess. The upload is throttled by
+ * the BackupThrottle of the executor, whose load factor is adapted to the
+ * load of the node if the task requests it. A streaming upload takes the
+ * snapshot itself, with a single call for all key spaces, and uploads the
+ * files of each table as soon as they are linked.
  */
 public class UploadSnapshot implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(
@@ -40,6 +55,8 @@ public class UploadSnapshot implements Runnable {
     private final BackupContext context;
     private final BackupUploadTask cassandraTask;
     private final BackupStorageDriver backupStorageDriver;
+    private final BackupThrottle throttle;
+    private final ScheduledExecutorService scheduler;
 
     /**
      * Constructs a new UploadSnapshot
@@ -49,17 +66,24 @@ public class UploadSnapshot implements Runnable {
      * @param nodeId The id of the node the local node.
      * @param backupStorageDriver The BackupStorageDriver used to upload the
      *                            snapshot.
+     * @param throttle The BackupThrottle that limits the rate of the upload.
+     * @param scheduler The ScheduledExecutorService used to monitor the load
+     *                  of the node during the upload.
      */
     public UploadSnapshot(
             ExecutorDriver driver,
             CassandraDaemonProcess daemon,
             BackupUploadTask cassandraTask,
             String nodeId,
-            BackupStorageDriver backupStorageDriver) {
+            BackupStorageDriver backupStorageDriver,
+            BackupThrottle throttle,
+            ScheduledExecutorService scheduler) {
         this.daemon = daemon;
         this.driver = driver;
         this.cassandraTask = cassandraTask;
         this.backupStorageDriver = backupStorageDriver;
+        this.throttle = throttle;
+        this.scheduler = scheduler;
         context = new BackupContext();
         context.setNodeId(nodeId);
         context.setName(this.cassandraTask.getBackupName());
@@ -67,6 +91,44 @@ public class UploadSnapshot implements Runnable {
         context.setS3AccessKey(this.cassandraTask.getS3AccessKey());
         context.setS3SecretKey(this.cassandraTask.getS3SecretKey());
         context.setLocalLocation(this.cassandraTask.getLocalLocation());
+        context.setConcurrency(this.cassandraTask.getConcurrency());
+        context.setPartSizeMb(this.cassandraTask.getPartSizeMb());
+        context.setCompression(this.cassandraTask.getCompression());
+        context.setIncremental(this.cassandraTask.isIncremental());
+        context.setBandwidthMb(this.cassandraTask.getBandwidthMb());
+        context.setAdaptiveThrottle(this.cassandraTask.isAdaptiveThrottle());
+        context.setStreaming(this.cassandraTask.isStreaming());
+    }
+
+    private Future<?> takeSnapshot() throws IOException {
+        if (!context.isStreaming()) {
+            // The snapshot was taken by the snapshot phase of the backup.
+            return CompletableFuture.completedFuture(null);
+        }
+        final List<String> keySpaces = BackupSnapshot.getKeySpaces(daemon,
+                cassandraTask.getKeySpaces());
+        // A retried upload finds the partial snapshot of the failed attempt,
+        // and Cassandra refuses to take a snapshot whose name exists. It is
+        // cleared before the upload starts listing it. The files stored by
+        // the failed attempt are skipped by the upload checkpoint.
+        LOGGER.info("Clearing snapshot: {} for keyspaces: {}",
+                context.getName(), keySpaces);
+        daemon.clearSnapShot(context.getName(),
+                keySpaces.toArray(new String[0]));
+        LOGGER.info("Taking snapshot: {} for keyspaces: {}",
+                context.getName(), keySpaces);
+        final ExecutorService snapshots = Executors.newSingleThreadExecutor();
+        try {
+            return snapshots.submit(() -> {
+                daemon.takeSnapShot(context.getName(),
+                        keySpaces.toArray(new String[0]));
+                LOGGER.info("Finished taking snapshot: {}",
+                        context.getName());
+                return null;
+            });
+        } finally {
+            snapshots.shutdown();
+        }
     }
 
     private void sendStatus(ExecutorDriver driver,
@@ -84,13 +146,24 @@ public class UploadSnapshot implements Runnable {
 
     @Override
     public void run() {
+        ScheduledFuture<?> monitor = null;
         try {
             // Send TASK_RUNNING
             sendStatus(driver, Protos.TaskState.TASK_RUNNING,
                     "Started uploading snapshots");
 
+            throttle.setFactor(1.0);
+            throttle.setBandwidthMb(context.getBandwidthMb());
+            if (context.isAdaptiveThrottle()) {
+                monitor = scheduler.scheduleWithFixedDelay(
+                        new BackupThrottleMonitor(daemon, throttle),
+                        BackupThrottleMonitor.INTERVAL_SECONDS,
+                        BackupThrottleMonitor.INTERVAL_SECONDS,
+                        TimeUnit.SECONDS);
+            }
+
             // Upload snapshots to external location.
-            backupStorageDriver.upload(context);
+            backupStorageDriver.upload(context, throttle, takeSnapshot());
 
             // Once we have uploaded all existing snapshots, let's clear on-disk snapshots
             daemon.clearSnapShot(context.getName());
@@ -101,6 +174,11 @@ public class UploadSnapshot implements Runnable {
         } catch (Throwable t) {
             LOGGER.error("Upload snapshot failed",t);
             sendStatus(driver, Protos.TaskState.TASK_FAILED, t.getMessage());
+        } finally {
+            if (monitor != null) {
+                monitor.cancel(false);
+                throttle.setFactor(1.0);
+            }
         }
     }
 }
@@ -8,6 +8,7 @@ import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonTask;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraMode;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraTaskExecutor;
+import com.mesosphere.dcos.cassandra.executor.startup.StartupMetrics;
 import io.dropwizard.testing.junit.DropwizardClientRule;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -244,7 +245,8 @@ public class CassandraDaemonProcessTest {
         CassandraDaemonProcess process =
                 CassandraDaemonProcess.create(task,
                         Executors.newScheduledThreadPool(10),
-                        driver);
+                        driver,
+                        new StartupMetrics());
 
 
         System.out.println(process.getMode());
@@ -0,0 +1,38 @@
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class BulkRestoreTest {
+    private static final List<String> NODES = Arrays.asList(
+            "node-0", "node-1", "node-2", "node-3", "node-4");
+
+    @Test
+    public void testSourceNodesAreSplitByIndex() {
+        assertEquals(Arrays.asList("node-0", "node-3"),
+                BulkRestore.getSourceNodes(NODES, 0, 3));
+        assertEquals(Arrays.asList("node-1", "node-4"),
+                BulkRestore.getSourceNodes(NODES, 1, 3));
+        assertEquals(Collections.singletonList("node-2"),
+                BulkRestore.getSourceNodes(NODES, 2, 3));
+    }
+
+    @Test
+    public void testMoreLoadersThanSourceNodes() {
+        assertEquals(Collections.singletonList("node-4"),
+                BulkRestore.getSourceNodes(NODES, 4, 7));
+        assertEquals(Collections.emptyList(),
+                BulkRestore.getSourceNodes(NODES, 6, 7));
+    }
+
+    @Test
+    public void testSingleLoaderRestoresAllSourceNodes() {
+        assertEquals(NODES, BulkRestore.getSourceNodes(NODES, 0, 1));
+        assertEquals(NODES, BulkRestore.getSourceNodes(NODES, 0, 0));
+    }
+}
@@ -0,0 +1,69 @@
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class CqlSchemaTest {
+
+    @Test
+    public void testSplitRespectsLiteralsAndComments() {
+        final List<String> statements = CqlSchema.split(
+                "-- a comment; with a semicolon\n" +
+                        "CREATE TABLE ks.t (k text PRIMARY KEY) " +
+                        "WITH comment = 'it''s; here';\n" +
+                        "/* block; comment */ CREATE TABLE ks.\"a;b\" " +
+                        "(k int PRIMARY KEY);\n" +
+                        "CREATE FUNCTION ks.f (a int) RETURNS NULL ON NULL " +
+                        "INPUT RETURNS int LANGUAGE java " +
+                        "AS $$ return a; $$;\n;\n");
+
+        assertEquals(Arrays.asList(
+                "CREATE TABLE ks.t (k text PRIMARY KEY) " +
+                        "WITH comment = 'it''s; here'",
+                "CREATE TABLE ks.\"a;b\" (k int PRIMARY KEY)",
+                "CREATE FUNCTION ks.f (a int) RETURNS NULL ON NULL " +
+                        "INPUT RETURNS int LANGUAGE java " +
+                        "AS $$ return a; $$"),
+                statements);
+    }
+
+    @Test
+    public void testMakeIdempotent() {
+        assertEquals("CREATE KEYSPACE IF NOT EXISTS ks WITH replication = {}",
+                CqlSchema.makeIdempotent(
+                        "CREATE KEYSPACE ks WITH replication = {}"));
+        assertEquals("create custom index IF NOT EXISTS i ON ks.t (v)",
+                CqlSchema.makeIdempotent(
+                        "create custom index i ON ks.t (v)"));
+        assertEquals("CREATE TABLE IF NOT EXISTS ks.t (k int PRIMARY KEY)",
+                CqlSchema.makeIdempotent(
+                        "CREATE TABLE IF NOT EXISTS ks.t (k int PRIMARY KEY)"));
+        assertEquals("CREATE OR REPLACE FUNCTION ks.f () RETURNS int",
+                CqlSchema.makeIdempotent(
+                        "CREATE OR REPLACE FUNCTION ks.f () RETURNS int"));
+    }
+
+    @Test
+    public void testOrder() {
+        assertEquals(Arrays.asList(
+                "CREATE KEYSPACE ks",
+                "CREATE TYPE ks.a",
+                "CREATE TYPE ks.b",
+                "CREATE TABLE ks.t",
+                "CREATE COLUMNFAMILY ks.u",
+                "CREATE INDEX ON ks.t (v)",
+                "ALTER TABLE ks.t WITH comment = ''"),
+                CqlSchema.order(Arrays.asList(
+                        "ALTER TABLE ks.t WITH comment = ''",
+                        "CREATE INDEX ON ks.t (v)",
+                        "CREATE TABLE ks.t",
+                        "CREATE TYPE ks.a",
+                        "CREATE COLUMNFAMILY ks.u",
+                        "CREATE TYPE ks.b",
+                        "CREATE KEYSPACE ks")));
+    }
+}
@@ -0,0 +1,136 @@
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupContext;
+import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LocalStorageDriverTest {
+    private static final String BACKUP = "backup";
+    private static final String NODE = "node-0";
+    private static final String TABLE = "cf-0123456789abcdef";
+    private static final String DATA = "la-1-big-Data.db";
+    private static final String INDEX = "la-1-big-Index.db";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final LocalStorageDriver driver = new LocalStorageDriver();
+    private File data;
+    private File location;
+
+    private static void write(Path path, String contents) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    private Path getSnapshotFile(String name) {
+        return data.toPath().resolve("ks").resolve(TABLE)
+                .resolve("snapshots").resolve(BACKUP).resolve(name);
+    }
+
+    private Path getBackupFile(String name) {
+        return location.toPath().resolve(BACKUP).resolve(NODE)
+                .resolve("ks").resolve(TABLE).resolve(name);
+    }
+
+    private BackupContext createBackupContext() {
+        final BackupContext ctx = new BackupContext();
+        ctx.setName(BACKUP);
+        ctx.setNodeId(NODE);
+        ctx.setExternalLocation(location.toURI().toString());
+        ctx.setLocalLocation(data.getAbsolutePath());
+        ctx.setConcurrency(2);
+        return ctx;
+    }
+
+    private void upload(BackupContext ctx) throws IOException {
+        driver.upload(ctx, new BackupThrottle(),
+                CompletableFuture.completedFuture(null));
+    }
+
+    @Before
+    public void beforeEach() throws IOException {
+        data = folder.newFolder("data");
+        location = folder.newFolder("backups");
+        write(getSnapshotFile(DATA), "data of the sstable");
+        write(getSnapshotFile(INDEX), "index");
+    }
+
+    @Test
+    public void testUpload() throws IOException {
+        upload(createBackupContext());
+
+        assertEquals("data of the sstable", read(getBackupFile(DATA)));
+        assertEquals("index", read(getBackupFile(INDEX)));
+        // The snapshot is cleared once all of its files are stored.
+        assertFalse(Files.exists(getSnapshotFile(DATA).getParent()));
+    }
+
+    @Test
+    public void testResumeKeepsCompleteFiles() throws IOException {
+        // The Data component was copied by a previous attempt, the Index
+        // component was interrupted.
+        write(getBackupFile(DATA), "data copied earlier");
+        write(getBackupFile(INDEX), "ind");
+
+        upload(createBackupContext());
+
+        assertEquals("data copied earlier", read(getBackupFile(DATA)));
+        assertEquals("index", read(getBackupFile(INDEX)));
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsIncrementalBackups() throws IOException {
+        final BackupContext ctx = createBackupContext();
+        ctx.setIncremental(true);
+        upload(ctx);
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsCompressedBackups() throws IOException {
+        final BackupContext ctx = createBackupContext();
+        ctx.setCompression(BackupContext.COMPRESSION_SNAPPY);
+        upload(ctx);
+    }
+
+    @Test
+    public void testDownload() throws IOException {
+        upload(createBackupContext());
+        final File restore = folder.newFolder("restore");
+        final Path table = restore.toPath().resolve("ks").resolve(
+                "cf-fedcba9876543210");
+        Files.createDirectories(table);
+
+        final RestoreContext ctx = new RestoreContext();
+        ctx.setName(BACKUP);
+        ctx.setNodeId(NODE);
+        ctx.setExternalLocation(location.toURI().toString());
+        ctx.setLocalLocation(restore.getAbsolutePath());
+        ctx.setKeyspaces(Collections.singletonList("ks"));
+        driver.download(ctx, Optional.empty());
+
+        assertEquals("data of the sstable", read(table.resolve(DATA)));
+        assertEquals("index", read(table.resolve(INDEX)));
+        assertTrue(Files.exists(getBackupFile(DATA)));
+    }
+}
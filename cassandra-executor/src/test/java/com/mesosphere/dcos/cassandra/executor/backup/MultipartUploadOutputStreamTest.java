@@ -0,0 +1,208 @@
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MultipartUploadOutputStreamTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "backup/node-0/ks/cf/la-1-big-Data.db";
+    private static final String UPLOAD_ID = "interrupted";
+    private static final int PART_SIZE = 4;
+
+    /**
+     * An S3 client that records the multipart upload of a single object.
+     */
+    private static class UploadRecorder extends AbstractAmazonS3 {
+        private final List<PartSummary> stored = new ArrayList<>();
+        private final Map<Integer, byte[]> uploaded = new TreeMap<>();
+        private List<PartETag> completed = null;
+        private boolean missing = false;
+        private boolean initiated = false;
+        private boolean aborted = false;
+
+        void store(int partNumber, int size) {
+            final PartSummary part = new PartSummary();
+            part.setPartNumber(partNumber);
+            part.setSize(size);
+            part.setETag("stored-" + partNumber);
+            stored.add(part);
+        }
+
+        @Override
+        public PartListing listParts(ListPartsRequest request) {
+            if (missing) {
+                throw new AmazonS3Exception("The upload does not exist");
+            }
+            final PartListing listing = new PartListing();
+            listing.setParts(stored);
+            listing.setTruncated(false);
+            return listing;
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(
+                InitiateMultipartUploadRequest request) {
+            initiated = true;
+            final InitiateMultipartUploadResult result =
+                    new InitiateMultipartUploadResult();
+            result.setUploadId("new");
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            try {
+                uploaded.put(request.getPartNumber(),
+                        IOUtils.toByteArray(request.getInputStream()));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            final UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("uploaded-" + request.getPartNumber());
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(
+                CompleteMultipartUploadRequest request) {
+            completed = request.getPartETags();
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+            aborted = true;
+        }
+    }
+
+    private static byte[] createData(int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    /**
+     * Writes data in chunks that do not line up with the parts, as a
+     * compressor or a throttled stream would.
+     */
+    private static void write(MultipartUploadOutputStream out,
+                              byte[] data,
+                              int chunk) throws IOException {
+        for (int offset = 0; offset < data.length; offset += chunk) {
+            out.write(data, offset, Math.min(chunk, data.length - offset));
+        }
+    }
+
+    private static List<String> getETags(List<PartETag> parts) {
+        return parts.stream()
+                .map(part -> part.getPartNumber() + ":" + part.getETag())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testResumeKeepsLeadingRunOfParts() throws IOException {
+        final UploadRecorder s3 = new UploadRecorder();
+        s3.store(2, PART_SIZE);
+        s3.store(1, PART_SIZE);
+        // Part 3 is missing, so part 4 is uploaded again.
+        s3.store(4, PART_SIZE);
+        final byte[] data = createData(14);
+
+        final MultipartUploadOutputStream out =
+                MultipartUploadOutputStream.resume(s3, BUCKET, KEY,
+                        PART_SIZE, UPLOAD_ID);
+        write(out, data, 3);
+        out.close();
+
+        assertFalse(s3.initiated);
+        assertEquals(Arrays.asList(3, 4),
+                new ArrayList<>(s3.uploaded.keySet()));
+        assertArrayEquals(Arrays.copyOfRange(data, 8, 12),
+                s3.uploaded.get(3));
+        assertArrayEquals(Arrays.copyOfRange(data, 12, 14),
+                s3.uploaded.get(4));
+        assertEquals(Arrays.asList("1:stored-1", "2:stored-2",
+                "3:uploaded-3", "4:uploaded-4"), getETags(s3.completed));
+    }
+
+    @Test
+    public void testResumeDiscardsSingleByteWrites() throws IOException {
+        final UploadRecorder s3 = new UploadRecorder();
+        s3.store(1, PART_SIZE);
+        final byte[] data = createData(6);
+
+        final MultipartUploadOutputStream out =
+                MultipartUploadOutputStream.resume(s3, BUCKET, KEY,
+                        PART_SIZE, UPLOAD_ID);
+        for (byte b : data) {
+            out.write(b);
+        }
+        out.close();
+
+        assertArrayEquals(Arrays.copyOfRange(data, 4, 6), s3.uploaded.get(2));
+        assertEquals(Arrays.asList("1:stored-1", "2:uploaded-2"),
+                getETags(s3.completed));
+    }
+
+    @Test
+    public void testShortRewriteAbortsUpload() throws IOException {
+        final UploadRecorder s3 = new UploadRecorder();
+        s3.store(1, PART_SIZE);
+        s3.store(2, PART_SIZE);
+
+        final MultipartUploadOutputStream out =
+                MultipartUploadOutputStream.resume(s3, BUCKET, KEY,
+                        PART_SIZE, UPLOAD_ID);
+        // The file is shorter than the parts that were already uploaded.
+        write(out, createData(5), 2);
+        try {
+            out.close();
+            fail("Closing a short rewrite must fail");
+        } catch (IOException expected) {
+        }
+
+        assertTrue(s3.aborted);
+        assertTrue(s3.uploaded.isEmpty());
+        assertNull(s3.completed);
+    }
+
+    @Test
+    public void testResumeRestartsMissingUpload() throws IOException {
+        final UploadRecorder s3 = new UploadRecorder();
+        s3.missing = true;
+        final byte[] data = createData(6);
+
+        final MultipartUploadOutputStream out =
+                MultipartUploadOutputStream.resume(s3, BUCKET, KEY,
+                        PART_SIZE, UPLOAD_ID);
+        write(out, data, 6);
+        out.close();
+
+        assertTrue(s3.initiated);
+        assertArrayEquals(Arrays.copyOfRange(data, 0, 4), s3.uploaded.get(1));
+        assertArrayEquals(Arrays.copyOfRange(data, 4, 6), s3.uploaded.get(2));
+        assertEquals(Arrays.asList("1:uploaded-1", "2:uploaded-2"),
+                getETags(s3.completed));
+    }
+}
@@ -0,0 +1,56 @@
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelDownloaderTest {
+
+    private static long crc(byte[] bytes, int offset, int length) {
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return crc.getValue();
+    }
+
+    @Test
+    public void testCombineMatchesChecksumOfWholeFile() {
+        final Random random = new Random(0);
+        final byte[] bytes = new byte[100000];
+        random.nextBytes(bytes);
+        for (int split : new int[]{1, 7, 4096, 65536, 99999}) {
+            assertEquals(crc(bytes, 0, bytes.length),
+                    ParallelDownloader.combine(
+                            crc(bytes, 0, split),
+                            crc(bytes, split, bytes.length - split),
+                            bytes.length - split));
+        }
+    }
+
+    @Test
+    public void testCombineOfManyRanges() {
+        final Random random = new Random(1);
+        final byte[] bytes = new byte[10000];
+        random.nextBytes(bytes);
+        final int rangeSize = 1024;
+        long combined = 0;
+        for (int start = 0; start < bytes.length; start += rangeSize) {
+            final int length = Math.min(rangeSize, bytes.length - start);
+            combined = ParallelDownloader.combine(combined,
+                    crc(bytes, start, length), length);
+        }
+        assertEquals(crc(bytes, 0, bytes.length), combined);
+    }
+
+    @Test
+    public void testCombineWithEmptyBlock() {
+        final byte[] bytes = {1, 2, 3};
+        final long checksum = crc(bytes, 0, bytes.length);
+        assertEquals(checksum, ParallelDownloader.combine(checksum,
+                crc(bytes, 0, 0), 0));
+        assertEquals(checksum, ParallelDownloader.combine(
+                crc(bytes, 0, 0), checksum, bytes.length));
+    }
+}
@@ -0,0 +1,109 @@
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PipelinedTableLoaderTest {
+    private static final String KEYSPACE = "ks";
+    private static final String TABLE = "cf";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private CassandraDaemonProcess daemon;
+    private File cfDir;
+
+    private static void download(File staged) throws IOException {
+        Files.write(staged.toPath(), new byte[]{1, 2, 3});
+    }
+
+    @Before
+    public void beforeEach() throws IOException {
+        daemon = mock(CassandraDaemonProcess.class);
+        cfDir = folder.newFolder(KEYSPACE, TABLE + "-0123456789abcdef");
+    }
+
+    @Test
+    public void testGetDescriptor() {
+        assertEquals("la-12-big",
+                PipelinedTableLoader.getDescriptor("la-12-big-Data.db"));
+        assertEquals("la-12-big",
+                PipelinedTableLoader.getDescriptor("la-12-big-Index.db"));
+        assertEquals("ks-cf-ka-12",
+                PipelinedTableLoader.getDescriptor("ks-cf-ka-12-Data.db"));
+        assertEquals("ks-cf-ka-12",
+                PipelinedTableLoader.getDescriptor(
+                        "ks-cf-ka-12-CompressionInfo.db"));
+        assertEquals("manifest.json",
+                PipelinedTableLoader.getDescriptor("manifest.json"));
+    }
+
+    @Test
+    public void testLoadsOnlyAfterLastComponent() throws Exception {
+        try (PipelinedTableLoader loader =
+                     new PipelinedTableLoader(daemon, 1)) {
+            final File data = loader.stage(KEYSPACE, cfDir,
+                    "la-12-big-Data.db");
+            final File index = loader.stage(KEYSPACE, cfDir,
+                    "la-12-big-Index.db");
+            final File other = loader.stage(KEYSPACE, cfDir,
+                    "la-13-big-Data.db");
+
+            download(data);
+            loader.downloaded(data);
+            download(other);
+            loader.downloaded(other);
+            // la-13-big is complete and may be loading, but la-12-big must
+            // not be moved until its index has been downloaded.
+            assertFalse(new File(cfDir, "la-12-big-Data.db").exists());
+
+            download(index);
+            loader.downloaded(index);
+            loader.finish();
+
+            assertTrue(new File(cfDir, "la-12-big-Data.db").exists());
+            assertTrue(new File(cfDir, "la-12-big-Index.db").exists());
+            assertTrue(new File(cfDir, "la-13-big-Data.db").exists());
+            assertFalse(new File(cfDir,
+                    PipelinedTableLoader.STAGING_DIRECTORY).exists());
+        }
+        verify(daemon, times(2)).loadNewSSTables(KEYSPACE, TABLE);
+    }
+
+    @Test
+    public void testDoesNotLoadIncompleteSSTable() throws Exception {
+        try (PipelinedTableLoader loader =
+                     new PipelinedTableLoader(daemon, 1)) {
+            final File data = loader.stage(KEYSPACE, cfDir,
+                    "ks-cf-ka-12-Data.db");
+            loader.stage(KEYSPACE, cfDir, "ks-cf-ka-12-Index.db");
+
+            download(data);
+            loader.downloaded(data);
+            try {
+                loader.finish();
+                throw new AssertionError("Expected an IOException");
+            } catch (IOException expected) {
+                assertTrue(expected.getMessage().contains("ks-cf-ka-12"));
+            }
+        }
+        verify(daemon, never()).loadNewSSTables(anyString(), anyString());
+        assertFalse(new File(cfDir, "ks-cf-ka-12-Data.db").exists());
+    }
+}
@@ -0,0 +1,131 @@
+package com.mesosphere.dcos.cassandra.executor.backup;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class UploadCheckpointTest {
+    private static final String NAME = "la-1-big-Data.db";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+    private SnapshotFile snapshotFile;
+
+    private BackupManifest.Entry createEntry(String key) {
+        return BackupManifest.Entry.create(key, file.length(),
+                file.lastModified(), 1, "cafe", "backup/node-0/" + key);
+    }
+
+    private UploadCheckpoint createCheckpoint(
+            List<BackupManifest> saved,
+            BackupManifest.Entry... previous) {
+        return new UploadCheckpoint(
+                BackupManifest.create(Arrays.asList(previous)), saved::add);
+    }
+
+    @Before
+    public void beforeEach() throws IOException {
+        file = folder.newFile(NAME);
+        Files.write(file.toPath(), "data".getBytes(StandardCharsets.UTF_8));
+        snapshotFile = SnapshotFile.create("ks", "cf", NAME, file);
+    }
+
+    @Test
+    public void testCompletedFileMatches() {
+        final BackupManifest.Entry entry = createEntry(snapshotFile.getKey());
+        final UploadCheckpoint checkpoint = createCheckpoint(
+                new ArrayList<>(), entry);
+
+        assertEquals(entry, checkpoint.getCompleted(snapshotFile).get());
+    }
+
+    @Test
+    public void testFileWithOtherKeyDoesNotMatch() {
+        final UploadCheckpoint checkpoint = createCheckpoint(
+                new ArrayList<>(), createEntry("ks/other/" + NAME));
+
+        assertFalse(checkpoint.getCompleted(snapshotFile).isPresent());
+    }
+
+    @Test
+    public void testResizedFileDoesNotMatch() throws IOException {
+        final UploadCheckpoint checkpoint = createCheckpoint(
+                new ArrayList<>(), createEntry(snapshotFile.getKey()));
+        final long lastModified = file.lastModified();
+        Files.write(file.toPath(),
+                "more data".getBytes(StandardCharsets.UTF_8));
+        assertTrue(file.setLastModified(lastModified));
+
+        assertFalse(checkpoint.getCompleted(snapshotFile).isPresent());
+    }
+
+    @Test
+    public void testModifiedFileDoesNotMatch() {
+        final UploadCheckpoint checkpoint = createCheckpoint(
+                new ArrayList<>(), createEntry(snapshotFile.getKey()));
+        assertTrue(file.setLastModified(file.lastModified() - 60000));
+
+        assertFalse(checkpoint.getCompleted(snapshotFile).isPresent());
+    }
+
+    @Test
+    public void testGetCleared() {
+        final BackupManifest.Entry listed = createEntry(snapshotFile.getKey());
+        final BackupManifest.Entry cleared = createEntry("ks/other/" + NAME);
+        final UploadCheckpoint checkpoint = createCheckpoint(
+                new ArrayList<>(), listed, cleared);
+
+        assertEquals(Collections.singletonList(cleared),
+                checkpoint.getCleared(
+                        Collections.singleton(snapshotFile.getKey())));
+    }
+
+    @Test
+    public void testRetakenSnapshotDropsMissingFiles() {
+        final BackupManifest.Entry listed = createEntry(snapshotFile.getKey());
+        // Compacted away between the failed attempt and the retry
+        final BackupManifest.Entry compacted =
+                createEntry("ks/cf/la-0-big-Data.db");
+        final UploadCheckpoint checkpoint = new UploadCheckpoint(
+                BackupManifest.create(Arrays.asList(listed, compacted)),
+                manifest -> {
+                }, true);
+
+        assertEquals(listed, checkpoint.getCompleted(snapshotFile).get());
+        assertEquals(Collections.emptyList(),
+                checkpoint.getCleared(
+                        Collections.singleton(snapshotFile.getKey())));
+    }
+
+    @Test
+    public void testSavedAfterBatch() {
+        final List<BackupManifest> saved = new ArrayList<>();
+        final UploadCheckpoint checkpoint = createCheckpoint(saved);
+
+        for (int i = 0; i < UploadCheckpoint.BATCH_SIZE - 1; i++) {
+            checkpoint.complete(createEntry("ks/cf/" + i));
+        }
+        assertTrue(saved.isEmpty());
+        checkpoint.complete(createEntry("ks/cf/last"));
+
+        assertEquals(1, saved.size());
+        assertEquals(UploadCheckpoint.BATCH_SIZE,
+                saved.get(0).getEntries().size());
+    }
+}
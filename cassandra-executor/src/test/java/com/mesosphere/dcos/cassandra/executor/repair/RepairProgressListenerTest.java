@@ -0,0 +1,56 @@
+package com.mesosphere.dcos.cassandra.executor.repair;
+
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.apache.cassandra.utils.progress.ProgressEvent;
+import org.apache.cassandra.utils.progress.ProgressEventType;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class RepairProgressListenerTest {
+
+    private final RepairProgressListener listener =
+            new RepairProgressListener(mock(CassandraDaemonProcess.class),
+                    new RepairMetrics(), progress -> {
+            });
+
+    private void later(Runnable runnable) {
+        final Thread thread = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            runnable.run();
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Test(timeout = 10000)
+    public void testCompletes() throws Exception {
+        later(() -> listener.progress("repair:1", new ProgressEvent(
+                ProgressEventType.COMPLETE, 1, 1, "done")));
+        listener.await(1);
+    }
+
+    @Test(timeout = 10000)
+    public void testLostNotificationsFailCommand() throws Exception {
+        later(() -> listener.handleNotificationLost(0, "10 lost"));
+        try {
+            listener.await(1);
+            fail("Expected an IOException");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("10 lost"));
+        }
+
+        // The loss does not fail the next command.
+        later(() -> listener.progress("repair:2", new ProgressEvent(
+                ProgressEventType.COMPLETE, 1, 1, "done")));
+        listener.await(2);
+    }
+}
@@ -0,0 +1,159 @@
+package com.mesosphere.dcos.cassandra.executor.repair;
+
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.apache.cassandra.repair.RepairParallelism;
+import org.apache.cassandra.repair.messages.RepairOption;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SubrangeRepairTest {
+
+    private static final BigInteger RING = SubrangeRepair.getRingSize(
+            "org.apache.cassandra.dht.Murmur3Partitioner").get();
+
+    private static final String KEYSPACE = "ks";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private CassandraDaemonProcess daemon;
+    private RepairProgressListener listener;
+    private Path progress;
+
+    @Before
+    public void beforeEach() throws IOException {
+        daemon = mock(CassandraDaemonProcess.class);
+        listener = mock(RepairProgressListener.class);
+        when(daemon.getVolume()).thenReturn(folder.getRoot().toPath());
+        progress = folder.newFolder(SubrangeRepair.PROGRESS_DIRECTORY)
+                .toPath();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, String>> verifyRepairs(int count)
+            throws IOException {
+        final ArgumentCaptor<Map> options =
+                ArgumentCaptor.forClass(Map.class);
+        verify(daemon, times(count)).repair(eq(KEYSPACE), options.capture(),
+                eq(listener));
+        return (List) options.getAllValues();
+    }
+
+    @Test
+    public void testRingSize() {
+        assertEquals(BigInteger.ONE.shiftLeft(64), RING);
+        assertFalse(SubrangeRepair.getRingSize(
+                "org.apache.cassandra.dht.ByteOrderedPartitioner")
+                .isPresent());
+    }
+
+    @Test
+    public void testWidth() {
+        assertEquals(BigInteger.valueOf(10), SubrangeRepair.getWidth(
+                BigInteger.valueOf(-5), BigInteger.valueOf(5), RING));
+        // A range that wraps around the end of the ring.
+        assertEquals(BigInteger.valueOf(2), SubrangeRepair.getWidth(
+                BigInteger.valueOf(Long.MAX_VALUE),
+                BigInteger.valueOf(Long.MIN_VALUE + 1), RING));
+        // A single token owns the whole ring.
+        assertEquals(RING, SubrangeRepair.getWidth(
+                BigInteger.valueOf(42), BigInteger.valueOf(42), RING));
+    }
+
+    @Test
+    public void testSplits() {
+        assertEquals(1, SubrangeRepair.getSplits(1000, 0));
+        assertEquals(1, SubrangeRepair.getSplits(1000, 1000));
+        assertEquals(2, SubrangeRepair.getSplits(1001, 1000));
+        assertEquals(4096, SubrangeRepair.getSplits(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    public void testResumesFromProgressFile() throws IOException {
+        Files.write(progress.resolve("repair-1"), Arrays.asList(
+                "P ks 0:10",
+                "P ks 10:20",
+                "R ks 0:10"), StandardCharsets.UTF_8);
+        final List<Integer> repaired = new ArrayList<>();
+        final SubrangeRepair repair = new SubrangeRepair(daemon, "repair-1",
+                listener);
+
+        repair.repair(KEYSPACE, Collections.emptyList(),
+                RepairParallelism.SEQUENTIAL, 100, false,
+                (keyspace, done, total) -> {
+                    assertEquals(2, total);
+                    repaired.add(done);
+                });
+
+        final Map<String, String> options = verifyRepairs(1).get(0);
+        assertEquals("10:20", options.get(RepairOption.RANGES_KEY));
+        assertEquals("false", options.get(RepairOption.PRIMARY_RANGE_KEY));
+        assertEquals(Collections.singletonList(2), repaired);
+        assertTrue(Files.readAllLines(progress.resolve("repair-1"),
+                StandardCharsets.UTF_8).contains("R ks 10:20"));
+
+        repair.complete();
+        assertFalse(Files.exists(progress.resolve("repair-1")));
+    }
+
+    @Test
+    public void testDiscardsProgressOfOtherRepairs() throws IOException {
+        Files.write(progress.resolve("repair-0"),
+                Collections.singletonList("P ks 0:10"),
+                StandardCharsets.UTF_8);
+        Files.write(progress.resolve("repair-1"),
+                Collections.singletonList("P ks 10:20"),
+                StandardCharsets.UTF_8);
+
+        new SubrangeRepair(daemon, "repair-1", listener);
+
+        assertFalse(Files.exists(progress.resolve("repair-0")));
+        assertTrue(Files.exists(progress.resolve("repair-1")));
+    }
+
+    @Test
+    public void testIncrementalRepairIsNotSplit() throws IOException {
+        final SubrangeRepair repair = new SubrangeRepair(daemon, "repair-2",
+                listener);
+
+        repair.repair(KEYSPACE, Collections.singletonList("cf"),
+                RepairParallelism.SEQUENTIAL, 100, true,
+                (keyspace, done, total) -> assertEquals(1, total));
+
+        final Map<String, String> options = verifyRepairs(1).get(0);
+        assertEquals("true", options.get(RepairOption.PRIMARY_RANGE_KEY));
+        assertFalse(options.containsKey(RepairOption.RANGES_KEY));
+        assertEquals("cf", options.get(RepairOption.COLUMNFAMILIES_KEY));
+        assertEquals("true", options.get(RepairOption.INCREMENTAL_KEY));
+        assertEquals(RepairParallelism.PARALLEL.getName(),
+                options.get(RepairOption.PARALLELISM_KEY));
+        // The ring is never read to plan the subranges.
+        verify(daemon, times(0)).getSession();
+        assertEquals(Collections.singletonList("P ks *"),
+                Files.readAllLines(progress.resolve("repair-2"),
+                        StandardCharsets.UTF_8));
+    }
+}
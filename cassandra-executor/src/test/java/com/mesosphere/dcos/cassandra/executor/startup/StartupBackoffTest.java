@@ -0,0 +1,54 @@
+package com.mesosphere.dcos.cassandra.executor.startup;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StartupBackoffTest {
+    private final AtomicLong now = new AtomicLong(1000000);
+
+    private StartupBackoff createBackoff() {
+        return new StartupBackoff(StartupBackoff.INITIAL_MS,
+                StartupBackoff.MAX_MS, StartupBackoff.TIMEOUT_MS, now::get);
+    }
+
+    @Test
+    public void testDelaysDoubleWithJitterUpToTheMaximum() {
+        final StartupBackoff backoff = createBackoff();
+        long expected = StartupBackoff.INITIAL_MS;
+        for (int attempt = 0; attempt < 20; attempt++) {
+            final long delay = backoff.nextDelayMs();
+            assertTrue("delay " + delay + " below " + expected / 2,
+                    delay >= expected / 2);
+            assertTrue("delay " + delay + " above " + expected,
+                    delay <= expected);
+            expected = Math.min(expected * 2, StartupBackoff.MAX_MS);
+        }
+        assertEquals(StartupBackoff.MAX_MS, expected);
+    }
+
+    @Test
+    public void testAttemptsStopAfterTenMinutes() {
+        final StartupBackoff backoff = createBackoff();
+        assertEquals(TimeUnit.MINUTES.toMillis(10),
+                StartupBackoff.TIMEOUT_MS);
+        assertTrue(backoff.hasTime());
+
+        now.addAndGet(StartupBackoff.TIMEOUT_MS - 1);
+        assertTrue(backoff.hasTime());
+        // The last delay does not extend past the deadline.
+        for (int attempt = 0; attempt < 10; attempt++) {
+            backoff.nextDelayMs();
+        }
+        assertTrue(backoff.nextDelayMs() <= 1);
+
+        now.incrementAndGet();
+        assertFalse(backoff.hasTime());
+        assertEquals(0, backoff.nextDelayMs());
+    }
+}
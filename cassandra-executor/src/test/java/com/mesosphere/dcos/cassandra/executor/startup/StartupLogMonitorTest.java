@@ -0,0 +1,109 @@
+package com.mesosphere.dcos.cassandra.executor.startup;
+
+import com.codahale.metrics.Gauge;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StartupLogMonitorTest {
+    private static final String JVM =
+            "INFO  10:00:00 JVM vendor/version: OpenJDK 64-Bit Server " +
+                    "VM/1.8.0_77";
+    private static final String GOSSIP_WAITING =
+            "INFO  10:00:05 Waiting for gossip to settle before accepting " +
+                    "client requests...";
+    private static final String GOSSIP_SETTLED =
+            "INFO  10:00:13 No gossip backlog; proceeding";
+    private static final String READY =
+            "INFO  10:00:14 Starting listening for CQL clients on " +
+                    "/10.0.0.1:9042 (unencrypted)...";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StartupMetrics metrics;
+    private Path log;
+
+    @SuppressWarnings("unchecked")
+    private long get(String name) {
+        return ((Gauge<Long>) metrics.getMetrics().get(name)).getValue();
+    }
+
+    private void monitor(List<String> lines) throws IOException {
+        Files.write(log, lines, StandardCharsets.UTF_8);
+        // The monitor returns once the daemon is ready.
+        new StartupLogMonitor(log, metrics, new AtomicBoolean(true)).run();
+    }
+
+    @Before
+    public void beforeEach() throws IOException {
+        metrics = new StartupMetrics();
+        metrics.daemonLaunched();
+        log = folder.newFile("cassandra-stdout.log").toPath();
+    }
+
+    @Test
+    public void testRecordsPhasesOfStart() throws IOException {
+        monitor(Arrays.asList(
+                JVM,
+                "INFO  10:00:02 Replaying /var/lib/cassandra/commitlog/" +
+                        "CommitLog-5-1461234567.log",
+                "INFO  10:00:03 Log replay complete, 12 replayed mutations",
+                GOSSIP_WAITING,
+                GOSSIP_SETTLED,
+                READY));
+
+        assertTrue(metrics.isReady());
+        assertTrue(get("jvm.start.ms") >= 0);
+        assertTrue(get("commitlog.replay.ms") >= 0);
+        assertTrue(get("gossip.settle.ms") >= 0);
+        assertTrue(get("ready.ms") >= get("jvm.start.ms"));
+        // The JMX connection is recorded by the daemon, not the log.
+        assertEquals(-1, get("jmx.connect.ms"));
+    }
+
+    @Test
+    public void testStartWithoutCommitLog() throws IOException {
+        monitor(Arrays.asList(
+                JVM,
+                "INFO  10:00:02 No commitlog files found; skipping replay",
+                GOSSIP_WAITING,
+                "WARN  10:01:05 Gossip not settled after 60 polls.",
+                READY));
+
+        assertEquals(0, get("commitlog.replay.ms"));
+        assertTrue(get("gossip.settle.ms") >= 0);
+        assertTrue(metrics.isReady());
+    }
+
+    @Test
+    public void testPhasesNotLoggedAreNotRecorded() throws IOException {
+        monitor(Arrays.asList(JVM, READY));
+
+        assertTrue(get("jvm.start.ms") >= 0);
+        assertEquals(-1, get("commitlog.replay.ms"));
+        assertEquals(-1, get("gossip.settle.ms"));
+        assertTrue(metrics.isReady());
+    }
+
+    @Test
+    public void testStopsWhenDaemonTerminates() throws IOException {
+        Files.write(log, Arrays.asList(JVM), StandardCharsets.UTF_8);
+        new StartupLogMonitor(log, metrics, new AtomicBoolean(false)).run();
+
+        assertFalse(metrics.isReady());
+    }
+}
@@ -0,0 +1,70 @@
+package com.mesosphere.dcos.cassandra.executor.tasks;
+
+import com.mesosphere.dcos.cassandra.common.tasks.CassandraTaskExecutor;
+import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupTask;
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import org.apache.mesos.ExecutorDriver;
+import org.apache.mesos.Protos;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CleanupTest {
+    private static final String KEYSPACE = "ks";
+
+    private final ExecutorDriver driver = mock(ExecutorDriver.class);
+    private final CassandraDaemonProcess daemon =
+            mock(CassandraDaemonProcess.class);
+    private final CleanupTask task = mock(CleanupTask.class);
+
+    @Before
+    public void beforeEach() {
+        final CassandraTaskExecutor executor =
+                mock(CassandraTaskExecutor.class);
+        when(executor.getId()).thenReturn("executor");
+        when(task.getId()).thenReturn("cleanup");
+        when(task.getSlaveId()).thenReturn("slave");
+        when(task.getExecutor()).thenReturn(executor);
+        when(task.getKeySpaces()).thenReturn(
+                Collections.singletonList(KEYSPACE));
+        when(task.getColumnFamilies()).thenReturn(
+                Arrays.asList("large", "small", "medium"));
+        when(task.getJobs()).thenReturn(2);
+        when(daemon.getLiveDiskSpaceUsed(KEYSPACE, "large"))
+                .thenReturn(3000L);
+        when(daemon.getLiveDiskSpaceUsed(KEYSPACE, "small"))
+                .thenReturn(10L);
+        when(daemon.getLiveDiskSpaceUsed(KEYSPACE, "medium"))
+                .thenReturn(200L);
+    }
+
+    @Test
+    public void testTablesAreCleanedFromSmallestToLargest()
+            throws Exception {
+        new Cleanup(driver, daemon, task).run();
+
+        final InOrder order = inOrder(daemon);
+        order.verify(daemon).cleanup(KEYSPACE,
+                Collections.singletonList("small"), 2);
+        order.verify(daemon).cleanup(KEYSPACE,
+                Collections.singletonList("medium"), 2);
+        order.verify(daemon).cleanup(KEYSPACE,
+                Collections.singletonList("large"), 2);
+        final ArgumentCaptor<Protos.TaskStatus> status =
+                ArgumentCaptor.forClass(Protos.TaskStatus.class);
+        verify(driver, atLeastOnce()).sendStatusUpdate(status.capture());
+        assertEquals(Protos.TaskState.TASK_FINISHED,
+                status.getValue().getState());
+    }
+}
@@ -0,0 +1,93 @@
+package com.mesosphere.dcos.cassandra.executor.tasks;
+
+import com.mesosphere.dcos.cassandra.common.tasks.CassandraTaskExecutor;
+import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupUploadTask;
+import com.mesosphere.dcos.cassandra.executor.CassandraDaemonProcess;
+import com.mesosphere.dcos.cassandra.executor.backup.BackupStorageDriver;
+import com.mesosphere.dcos.cassandra.executor.backup.BackupThrottle;
+import org.apache.mesos.ExecutorDriver;
+import org.apache.mesos.Protos;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UploadSnapshotTest {
+    private static final String BACKUP = "backup";
+
+    private final ExecutorDriver driver = mock(ExecutorDriver.class);
+    private final CassandraDaemonProcess daemon =
+            mock(CassandraDaemonProcess.class);
+    private final BackupStorageDriver storage =
+            mock(BackupStorageDriver.class);
+    private final BackupUploadTask task = mock(BackupUploadTask.class);
+    // The snapshot left on the node by a failed upload.
+    private final AtomicBoolean snapshotExists = new AtomicBoolean(true);
+
+    @Before
+    public void beforeEach() throws IOException {
+        final CassandraTaskExecutor executor =
+                mock(CassandraTaskExecutor.class);
+        when(executor.getId()).thenReturn("executor");
+        when(task.getId()).thenReturn("upload");
+        when(task.getSlaveId()).thenReturn("slave");
+        when(task.getExecutor()).thenReturn(executor);
+        when(task.getBackupName()).thenReturn(BACKUP);
+        when(task.getKeySpaces()).thenReturn(Collections.emptyList());
+        when(task.isStreaming()).thenReturn(true);
+        when(daemon.getNonSystemKeySpaces()).thenReturn(
+                Collections.singletonList("ks"));
+
+        doAnswer(invocation -> {
+            snapshotExists.set(false);
+            return null;
+        }).when(daemon).clearSnapShot(anyString(), (String[]) anyVararg());
+        doAnswer(invocation -> {
+            if (!snapshotExists.compareAndSet(false, true)) {
+                throw new IOException("Snapshot " + BACKUP +
+                        " already exists.");
+            }
+            return null;
+        }).when(daemon).takeSnapShot(anyString(), (String[]) anyVararg());
+        // The storage driver uploads the snapshot once it is taken.
+        doAnswer(invocation -> {
+            ((Future<?>) invocation.getArguments()[2]).get();
+            return null;
+        }).when(storage).upload(any(), any(), any());
+    }
+
+    @Test
+    public void testRetriedStreamingUploadRetakesSnapshot()
+            throws IOException {
+        new UploadSnapshot(driver, daemon, task, "node-0", storage,
+                new BackupThrottle(), mock(ScheduledExecutorService.class))
+                .run();
+
+        final InOrder order = inOrder(daemon);
+        order.verify(daemon).clearSnapShot(BACKUP, "ks");
+        order.verify(daemon).takeSnapShot(BACKUP, "ks");
+        order.verify(daemon).clearSnapShot(BACKUP);
+        final ArgumentCaptor<Protos.TaskStatus> status =
+                ArgumentCaptor.forClass(Protos.TaskStatus.class);
+        verify(driver, atLeastOnce()).sendStatusUpdate(status.capture());
+        assertEquals(Protos.TaskState.TASK_FINISHED,
+                status.getValue().getState());
+    }
+}
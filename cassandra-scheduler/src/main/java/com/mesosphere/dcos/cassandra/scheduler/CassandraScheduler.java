@@ -17,6 +17,7 @@ import com.mesosphere.dcos.cassandra.scheduler.plan.DeploymentManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.BackupManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.RestoreManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.cleanup.CleanupManager;
+import com.mesosphere.dcos.cassandra.scheduler.plan.maintenance.MaintenanceManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.repair.RepairManager;
 import com.mesosphere.dcos.cassandra.scheduler.seeds.SeedsManager;
 import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
@@ -61,6 +62,7 @@ public class CassandraScheduler implements Scheduler, Managed {
     private final RestoreManager restore;
     private final CleanupManager cleanup;
     private final RepairManager repair;
+    private final MaintenanceManager maintenance;
     private final SeedsManager seeds;
     private final ExecutorService executor;
     private final Filters offerFilters;
@@ -80,6 +82,7 @@ public class CassandraScheduler implements Scheduler, Managed {
             final RestoreManager restore,
             final CleanupManager cleanup,
             final RepairManager repair,
+            final MaintenanceManager maintenance,
             final SeedsManager seeds,
             final ExecutorService executor) {
         this.eventBus = eventBus;
@@ -101,6 +104,7 @@ public class CassandraScheduler implements Scheduler, Managed {
         this.restore = restore;
         this.cleanup = cleanup;
         this.repair = repair;
+        this.maintenance = maintenance;
         this.seeds = seeds;
         this.executor = executor;
         this.offerFilters = Filters.newBuilder().setRefuseSeconds(mesosConfig.getRefuseSeconds()).build();
@@ -145,7 +149,8 @@ public class CassandraScheduler implements Scheduler, Managed {
                     backup,
                     restore,
                     cleanup,
-                    repair));
+                    repair,
+                    maintenance));
             reconciler.start(cassandraTasks.get().values().stream().map(
                     task -> task.getStatus().toProto()
             ).collect(Collectors.toList()));
@@ -88,6 +88,8 @@ public class Main extends Application<CassandraSchedulerConfiguration> {
                 injector.getInstance(CleanupResource.class));
         environment.jersey().register(
                 injector.getInstance(RepairResource.class));
+        environment.jersey().register(
+                injector.getInstance(MaintenanceResource.class));
         environment.jersey().register(
                 injector.getInstance(DataCenterResource.class)
         );
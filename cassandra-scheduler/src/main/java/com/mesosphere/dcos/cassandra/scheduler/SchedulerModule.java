@@ -13,6 +13,7 @@ import com.mesosphere.dcos.cassandra.common.tasks.CassandraTask;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupContext;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreContext;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupContext;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairContext;
 import com.mesosphere.dcos.cassandra.scheduler.client.SchedulerClient;
 import com.mesosphere.dcos.cassandra.scheduler.config.*;
@@ -26,6 +27,7 @@ import com.mesosphere.dcos.cassandra.scheduler.plan.CassandraStageManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.BackupManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.RestoreManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.cleanup.CleanupManager;
+import com.mesosphere.dcos.cassandra.scheduler.plan.maintenance.MaintenanceManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.repair.RepairManager;
 import com.mesosphere.dcos.cassandra.scheduler.seeds.SeedsManager;
 import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
@@ -103,6 +105,9 @@ public class SchedulerModule extends AbstractModule {
         bind(new TypeLiteral<Serializer<RepairContext>>() {
         }).toInstance(RepairContext.JSON_SERIALIZER);
 
+        bind(new TypeLiteral<Serializer<MaintenanceContext>>() {
+        }).toInstance(MaintenanceContext.JSON_SERIALIZER);
+
         bind(new TypeLiteral<Serializer<DataCenterInfo>>() {
         }).toInstance(
                 DataCenterInfo.JSON_SERIALIZER
@@ -170,6 +175,7 @@ public class SchedulerModule extends AbstractModule {
         bind(RestoreManager.class).asEagerSingleton();
         bind(CleanupManager.class).asEagerSingleton();
         bind(RepairManager.class).asEagerSingleton();
+        bind(MaintenanceManager.class).asEagerSingleton();
         bind(SeedsManager.class).asEagerSingleton();
     }
 }
@@ -3,6 +3,7 @@ package com.mesosphere.dcos.cassandra.scheduler.client;
 import com.google.inject.Inject;
 import com.mesosphere.dcos.cassandra.common.config.CassandraConfig;
 import com.mesosphere.dcos.cassandra.common.tasks.CassandraStatus;
+import com.mesosphere.dcos.cassandra.common.tasks.DiskUsage;
 import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
 import com.mesosphere.dcos.cassandra.scheduler.seeds.DataCenterInfo;
 import org.apache.http.HttpResponse;
@@ -220,6 +221,11 @@ public class SchedulerClient {
                 CassandraConfig.class);
     }
 
+    public CompletionStage<DiskUsage> diskUsage(String hostname, int port) {
+        return get(host(hostname, port), "/v1/cassandra/disk",
+                DiskUsage.class);
+    }
+
     public CompletionStage<Boolean> shutdown(String hostname, int port) {
 
         return delete(host(hostname, port), "/v1/cassandra");
@@ -14,6 +14,9 @@ import com.mesosphere.dcos.cassandra.common.tasks.backup.*;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupContext;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupTask;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceStatus;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceTask;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairContext;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairTask;
@@ -448,7 +451,18 @@ public class ConfigurationManager implements Managed {
                 context.getExternalLocation(),
                 context.getS3AccessKey(),
                 context.getS3SecretKey(),
-                cassandraConfig.getVolume().getPath() + "/data");
+                cassandraConfig.getVolume().getPath() + "/data",
+                context.getConcurrency(),
+                context.getBandwidthMb(),
+                context.isStreaming(),
+                context.getKeyspaces(),
+                context.getTables(),
+                context.isBulkLoad(),
+                // Each node bulk loads the source nodes of the backup whose
+                // index modulo the number of nodes is its own index.
+                Integer.parseInt(daemon.getName().substring(
+                        CassandraDaemonTask.NAME_PREFIX.length())),
+                servers);
     }
 
     public RestoreSnapshotTask createRestoreSnapshotTask(
@@ -477,7 +491,10 @@ public class ConfigurationManager implements Managed {
                 context.getExternalLocation(),
                 context.getS3AccessKey(),
                 context.getS3SecretKey(),
-                cassandraConfig.getVolume().getPath() + "/data");
+                cassandraConfig.getVolume().getPath() + "/data",
+                context.getConcurrency(),
+                context.getKeyspaces(),
+                context.getTables());
     }
 
     public RestoreSchemaTask createRestoreSchemaTask(
@@ -531,13 +548,20 @@ public class ConfigurationManager implements Managed {
                         daemon.getSlaveId(),
                         name,
                         Optional.empty()),
-                Lists.newArrayList(),
+                context.getKeySpaces(),
                 Lists.newArrayList(),
                 context.getName(),
                 context.getExternalLocation(),
                 context.getS3AccessKey(),
                 context.getS3SecretKey(),
-                cassandraConfig.getVolume().getPath() + "/data");
+                cassandraConfig.getVolume().getPath() + "/data",
+                context.getConcurrency(),
+                context.getPartSizeMb(),
+                context.getCompression(),
+                context.isIncremental(),
+                context.getBandwidthMb(),
+                context.isAdaptiveThrottle(),
+                context.isStreaming());
     }
 
     public CleanupTask createCleanupTask(
@@ -563,7 +587,8 @@ public class ConfigurationManager implements Managed {
                         name,
                         Optional.empty()),
                 context.getKeySpaces(),
-                context.getColumnFamilies()
+                context.getColumnFamilies(),
+                context.getJobs()
         );
     }
 
@@ -590,7 +615,41 @@ public class ConfigurationManager implements Managed {
                         name,
                         Optional.empty()),
                 context.getKeySpaces(),
-                context.getColumnFamilies()
+                context.getColumnFamilies(),
+                context.getParallelism(),
+                context.getSubrangePartitions(),
+                context.getId(),
+                context.isIncremental()
+        );
+    }
+
+    public MaintenanceTask createMaintenanceTask(
+            CassandraDaemonTask daemon,
+            MaintenanceContext context) {
+        String name = MaintenanceTask.nameForDaemon(daemon);
+        String id = name + "_" + UUID.randomUUID().toString();
+
+        return MaintenanceTask.create(
+                id,
+                daemon.getSlaveId(),
+                daemon.getHostname(),
+                daemon.getExecutor(),
+                name,
+                daemon.getRole(),
+                daemon.getPrincipal(),
+                clusterTaskConfig.getCpus(),
+                clusterTaskConfig.getMemoryMb(),
+                clusterTaskConfig.getDiskMb(),
+                MaintenanceStatus.create(Protos.TaskState.TASK_STAGING,
+                        id,
+                        daemon.getSlaveId(),
+                        name,
+                        Optional.empty()),
+                context.getKeySpaces(),
+                context.getColumnFamilies(),
+                context.getJobs(),
+                context.getOperation(),
+                context.getThroughputMb()
         );
     }
 
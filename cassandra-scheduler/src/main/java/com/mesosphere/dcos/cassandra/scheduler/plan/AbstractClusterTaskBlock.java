@@ -113,6 +113,27 @@ public abstract class AbstractClusterTaskBlock<C extends ClusterTaskContext> imp
                 getId(), getName(), status);
         try {
             cassandraTasks.update(status);
+        } catch (Exception ex) {
+            LOGGER.error(
+                    String.format("Exception for task {} in block {}. Block " +
+                                    "failed to progress",
+                            getName(),
+                            id), ex);
+            return;
+        }
+        reconcile();
+    }
+
+    /**
+     * Updates the status of the block from the last known state of its task.
+     * Blocks that run in parallel are reconciled by their strategy, as only
+     * the current block of a phase receives status updates.
+     */
+    public void reconcile() {
+        if (Status.Complete == this.status) {
+            return;
+        }
+        try {
             Optional<CassandraTask> taskOption = cassandraTasks.get(getName());
 
             if (taskOption.isPresent()) {
@@ -1,5 +1,6 @@
 package com.mesosphere.dcos.cassandra.scheduler.plan;
 
+import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonTask;
 import com.mesosphere.dcos.cassandra.common.tasks.ClusterTaskContext;
 import com.mesosphere.dcos.cassandra.scheduler.offer.CassandraOfferRequirementProvider;
 import com.mesosphere.dcos.cassandra.scheduler.offer.ClusterTaskOfferRequirementProvider;
@@ -12,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public abstract class AbstractClusterTaskPhase<B extends Block, C extends ClusterTaskContext> implements Phase {
@@ -36,6 +38,18 @@ public abstract class AbstractClusterTaskPhase<B extends Block, C extends Cluste
 
     protected abstract List<B> createBlocks();
 
+    public C getContext() {
+        return context;
+    }
+
+    /**
+     * Gets the daemons of the cluster.
+     * @return The Cassandra daemons of the cluster by name.
+     */
+    public Map<String, CassandraDaemonTask> getDaemons() {
+        return cassandraTasks.getDaemons();
+    }
+
     @Override
     public List<? extends Block> getBlocks() {
         return blocks;
@@ -6,6 +6,7 @@ import com.mesosphere.dcos.cassandra.scheduler.plan.backup.BackupSnapshotPhase;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.DownloadSnapshotPhase;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.RestoreSnapshotPhase;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.UploadBackupPhase;
+import com.mesosphere.dcos.cassandra.scheduler.plan.repair.RepairPhase;
 import org.apache.mesos.scheduler.plan.*;
 
 public class CassandraPhaseStrategies implements PhaseStrategyFactory {
@@ -34,6 +35,34 @@ public class CassandraPhaseStrategies implements PhaseStrategyFactory {
             return NoOpPhaseStrategy.get();
         } else if (phase instanceof ReconciliationPhase) {
             return ReconciliationStrategy.create((ReconciliationPhase) phase);
+        } else if (phase instanceof DownloadSnapshotPhase &&
+                ((DownloadSnapshotPhase) phase).getContext().isBulkLoad()) {
+            // Every node bulk loads its share of the backup at the same time.
+            return new ParallelPhaseStrategy(phase, Integer.MAX_VALUE);
+        } else if (phase instanceof RepairPhase &&
+                ((RepairPhase) phase).getContext().getConcurrency() > 1) {
+            // Only nodes whose replicas do not overlap are repaired at the
+            // same time, which is also safe for incremental repair.
+            return new ReplicaAwarePhaseStrategy((RepairPhase) phase,
+                    ((RepairPhase) phase).getContext().getConcurrency(),
+                    ((RepairPhase) phase).getContext().getKeySpaces());
+        } else if (phase instanceof ClusterTaskPhase &&
+                ((ClusterTaskPhase<?, ?>) phase).getConcurrency() > 1) {
+            // Cleanup, and operations such as compaction and scrub, load
+            // the disks of the node, so only nodes whose replicas do not
+            // overlap are processed at the same time and each range keeps
+            // replicas that are not busy.
+            return new ReplicaAwarePhaseStrategy(
+                    (ClusterTaskPhase<?, ?>) phase,
+                    ((ClusterTaskPhase<?, ?>) phase).getConcurrency(),
+                    ((ClusterTaskPhase<?, ?>) phase).getKeySpaces());
+        } else if (phase instanceof RepairPhase &&
+                ((RepairPhase) phase).getContext().isIncremental()) {
+            // The replicas of adjacent nodes overlap, and incremental
+            // sessions on overlapping ranges fail on anticompaction, so
+            // without a concurrency incremental repair runs one node at a
+            // time.
+            return new DefaultInstallStrategy(phase);
         } else if (phase instanceof BackupSnapshotPhase ||
                 phase instanceof UploadBackupPhase ||
                 phase instanceof DownloadSnapshotPhase ||
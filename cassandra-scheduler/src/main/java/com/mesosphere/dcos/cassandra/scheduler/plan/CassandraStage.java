@@ -5,6 +5,7 @@ import com.mesosphere.dcos.cassandra.scheduler.config.ConfigurationManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.BackupManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.RestoreManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.cleanup.CleanupManager;
+import com.mesosphere.dcos.cassandra.scheduler.plan.maintenance.MaintenanceManager;
 import com.mesosphere.dcos.cassandra.scheduler.plan.repair.RepairManager;
 import org.apache.mesos.scheduler.plan.Phase;
 import org.apache.mesos.scheduler.plan.Stage;
@@ -20,7 +21,8 @@ public class CassandraStage implements Stage {
             final BackupManager backup,
             final RestoreManager restore,
             final CleanupManager cleanup,
-            final RepairManager repair) {
+            final RepairManager repair,
+            final MaintenanceManager maintenance) {
 
         return new CassandraStage(
                 configuration,
@@ -28,7 +30,8 @@ public class CassandraStage implements Stage {
                 backup,
                 restore,
                 cleanup,
-                repair
+                repair,
+                maintenance
         );
     }
 
@@ -38,6 +41,7 @@ public class CassandraStage implements Stage {
     private final ConfigurationManager configuration;
     private final CleanupManager cleanup;
     private final RepairManager repair;
+    private final MaintenanceManager maintenance;
 
     public CassandraStage(
             final ConfigurationManager configuration,
@@ -45,7 +49,8 @@ public class CassandraStage implements Stage {
             final BackupManager backup,
             final RestoreManager restore,
             final CleanupManager cleanup,
-            final RepairManager repair) {
+            final RepairManager repair,
+            final MaintenanceManager maintenance) {
 
         this.configuration = configuration;
         this.deployment = deployment;
@@ -53,6 +58,7 @@ public class CassandraStage implements Stage {
         this.restore = restore;
         this.cleanup = cleanup;
         this.repair = repair;
+        this.maintenance = maintenance;
     }
 
     @Override
@@ -63,6 +69,7 @@ public class CassandraStage implements Stage {
                 .addAll(cleanup.getPhases())
                 .addAll(restore.getPhases())
                 .addAll(repair.getPhases())
+                .addAll(maintenance.getPhases())
                 .build();
     }
 
@@ -81,7 +88,9 @@ public class CassandraStage implements Stage {
                 (backup.inProgress() ? backup.isComplete() : true) &&
                 (restore.inProgress() ? restore.isComplete() : true) &&
                 (cleanup.inProgress() ? cleanup.isComplete() : true) &&
-                (repair.inProgress() ? repair.isComplete() : true);
+                (repair.inProgress() ? repair.isComplete() : true) &&
+                (maintenance.inProgress() ?
+                        maintenance.isComplete() : true);
 
     }
 }
@@ -0,0 +1,69 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan;
+
+import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonTask;
+import com.mesosphere.dcos.cassandra.common.tasks.CassandraTask;
+import com.mesosphere.dcos.cassandra.common.tasks.ClusterTaskContext;
+import com.mesosphere.dcos.cassandra.scheduler.offer.CassandraOfferRequirementProvider;
+import com.mesosphere.dcos.cassandra.scheduler.persistence.PersistenceException;
+import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
+import org.apache.mesos.scheduler.plan.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * ClusterTaskBlock is the block of a node in a ClusterTaskPhase. It runs
+ * the task of the operation on the daemon of the node, and completes
+ * without a task if the daemon no longer exists.
+ *
+ * @param <C> The type of the context of the operation.
+ * @param <T> The type of the task of the block.
+ */
+public abstract class ClusterTaskBlock<C extends ClusterTaskContext,
+        T extends CassandraTask> extends AbstractClusterTaskBlock<C> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            ClusterTaskBlock.class);
+
+    public ClusterTaskBlock(
+            final String daemon,
+            final CassandraTasks cassandraTasks,
+            final CassandraOfferRequirementProvider provider,
+            final C context) {
+        super(daemon, cassandraTasks, provider, context);
+    }
+
+    /**
+     * Gets the task of the block, creating it if it does not exist.
+     *
+     * @param daemonTask The daemon on which the task runs.
+     * @param context    The context of the operation.
+     * @return The task of the block.
+     * @throws PersistenceException If the task can not be stored.
+     */
+    protected abstract T getOrCreateTask(CassandraDaemonTask daemonTask,
+                                         C context)
+            throws PersistenceException;
+
+    @Override
+    protected Optional<CassandraTask> getOrCreateTask(C context)
+            throws PersistenceException {
+        CassandraDaemonTask daemonTask =
+                cassandraTasks.getDaemons().get(daemon);
+        if (daemonTask == null) {
+            LOGGER.warn("Cassandra Daemon for {} does not exist",
+                    getName());
+            setStatus(Status.Complete);
+            return Optional.empty();
+        }
+        return Optional.of(getOrCreateTask(daemonTask, context));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "name='" + getName() + '\'' +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -0,0 +1,133 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan;
+
+import com.mesosphere.dcos.cassandra.common.serialization.Serializer;
+import com.mesosphere.dcos.cassandra.common.tasks.CassandraTask;
+import com.mesosphere.dcos.cassandra.common.tasks.ClusterTaskContext;
+import com.mesosphere.dcos.cassandra.scheduler.offer.ClusterTaskOfferRequirementProvider;
+import com.mesosphere.dcos.cassandra.scheduler.persistence.PersistenceException;
+import com.mesosphere.dcos.cassandra.scheduler.persistence.PersistenceFactory;
+import com.mesosphere.dcos.cassandra.scheduler.persistence.PersistentReference;
+import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
+import org.apache.mesos.scheduler.plan.Phase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ClusterTaskManager manages a cluster wide operation that runs a task on
+ * each of a set of nodes (e.g. cleanup or maintenance). The context of the
+ * operation is persisted when it is started, and the phase of the operation
+ * is recovered from it when the scheduler restarts. Only one operation of a
+ * manager runs at a time, and the tasks of a completed operation are
+ * removed when the next one is started.
+ *
+ * @param <C> The type of the context of the operation.
+ * @param <T> The type of the tasks of the operation.
+ */
+public abstract class ClusterTaskManager<C extends ClusterTaskContext,
+        T extends CassandraTask> {
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ClusterTaskManager.class);
+
+    private final String key;
+    private final PersistentReference<C> persistent;
+    protected final CassandraTasks cassandraTasks;
+    protected final ClusterTaskOfferRequirementProvider provider;
+    private volatile ClusterTaskPhase<?, C> phase = null;
+    private volatile C context = null;
+
+    protected ClusterTaskManager(
+            final String key,
+            final CassandraTasks cassandraTasks,
+            final ClusterTaskOfferRequirementProvider provider,
+            final PersistenceFactory persistenceFactory,
+            final Serializer<C> serializer) {
+        this.key = key;
+        this.provider = provider;
+        this.cassandraTasks = cassandraTasks;
+
+        // Load the context of the operation from the state store
+        this.persistent = persistenceFactory.createReference(key,
+                serializer);
+        try {
+            final Optional<C> loaded = persistent.load();
+            if (loaded.isPresent() && loaded.get() != null) {
+                // Recovering from failure
+                this.phase = createPhase(loaded.get());
+                this.context = loaded.get();
+            }
+        } catch (PersistenceException e) {
+            LOGGER.error(String.format("Error loading %s context from " +
+                    "persistence store. Reason: ", key), e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates the phase of an operation.
+     *
+     * @param context The context of the operation.
+     * @return The phase that runs the tasks of the operation.
+     */
+    protected abstract ClusterTaskPhase<?, C> createPhase(C context);
+
+    /**
+     * Gets the tasks of the operation.
+     *
+     * @return The tasks of the operation by name.
+     */
+    protected abstract Map<String, T> getTasks();
+
+    /**
+     * Starts an operation, if no other operation is in progress.
+     *
+     * @param context The context of the operation.
+     */
+    public void start(C context) {
+        LOGGER.info("Starting {}", key);
+
+        if (canStart()) {
+            try {
+                if (isComplete()) {
+                    for (String name : getTasks().keySet()) {
+                        cassandraTasks.remove(name);
+                    }
+                }
+                persistent.store(context);
+                this.phase = createPhase(context);
+                this.context = context;
+            } catch (PersistenceException e) {
+                LOGGER.error(String.format("Error storing %s context into " +
+                        "persistence store. Reason: ", key), e);
+            }
+        }
+    }
+
+    public boolean canStart() {
+        // If the context is null, then we can start an operation;
+        // otherwise, not.
+        return context == null || isComplete();
+    }
+
+    public boolean inProgress() {
+        return (context != null && !isComplete());
+    }
+
+    public boolean isComplete() {
+        return (context != null &&
+                phase != null && phase.isComplete());
+    }
+
+    public List<Phase> getPhases() {
+        if (phase == null) {
+            return Collections.emptyList();
+        } else {
+            return Arrays.asList(phase);
+        }
+    }
+}
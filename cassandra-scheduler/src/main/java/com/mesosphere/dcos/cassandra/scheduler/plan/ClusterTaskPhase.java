@@ -0,0 +1,76 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan;
+
+import com.mesosphere.dcos.cassandra.common.tasks.ClusterTaskContext;
+import com.mesosphere.dcos.cassandra.scheduler.offer.CassandraOfferRequirementProvider;
+import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ClusterTaskPhase is the phase of a ClusterTaskManager operation. It has a
+ * block for each of the nodes of the operation that is still a daemon of
+ * the cluster, in the order of the names of the daemons. If the operation
+ * has a concurrency greater than one, nodes whose replicas do not overlap
+ * run their tasks at the same time.
+ *
+ * @param <B> The type of the blocks of the phase.
+ * @param <C> The type of the context of the operation.
+ */
+public abstract class ClusterTaskPhase<B extends ClusterTaskBlock<C, ?>,
+        C extends ClusterTaskContext> extends AbstractClusterTaskPhase<B, C> {
+
+    public ClusterTaskPhase(
+            C context,
+            CassandraTasks cassandraTasks,
+            CassandraOfferRequirementProvider provider) {
+        super(context, cassandraTasks, provider);
+    }
+
+    /**
+     * Gets the nodes of the operation.
+     *
+     * @return The names of the daemons on which the operation runs.
+     */
+    public abstract List<String> getNodes();
+
+    /**
+     * Gets the key spaces of the operation.
+     *
+     * @return The key spaces of the operation, or an empty list for all of
+     * the key spaces of the cluster.
+     */
+    public abstract List<String> getKeySpaces();
+
+    /**
+     * Gets the concurrency of the operation.
+     *
+     * @return The maximum number of nodes that run their tasks at the same
+     * time.
+     */
+    public abstract int getConcurrency();
+
+    /**
+     * Creates the block of a node.
+     *
+     * @param daemon The name of the daemon of the node.
+     * @return The block that runs the task of the node.
+     */
+    protected abstract B createBlock(String daemon);
+
+    @Override
+    protected List<B> createBlocks() {
+        final Set<String> nodes = new HashSet<>(getNodes());
+        final List<String> daemons =
+                new ArrayList<>(cassandraTasks.getDaemons().keySet());
+        Collections.sort(daemons);
+        return daemons.stream()
+                .filter(daemon -> nodes.contains(daemon))
+                .map(this::createBlock)
+                .collect(Collectors.toList());
+    }
+}
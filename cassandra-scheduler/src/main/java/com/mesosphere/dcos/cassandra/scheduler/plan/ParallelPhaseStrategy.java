@@ -0,0 +1,137 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan;
+
+import org.apache.mesos.scheduler.plan.Block;
+import org.apache.mesos.scheduler.plan.Phase;
+import org.apache.mesos.scheduler.plan.PhaseStrategy;
+import org.apache.mesos.scheduler.plan.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A strategy that runs up to a fixed number of the blocks of a phase at the
+ * same time. Pending blocks are started, in order, while fewer than the
+ * maximum number of blocks are in progress. Subclasses may further restrict
+ * which blocks can run together by overriding canStart. Otherwise, the
+ * blocks that are in progress are returned in turn, so that each of them can
+ * be offered resources until its task is launched. Only the current block receives status updates, so the
+ * AbstractClusterTaskBlocks of the phase are reconciled with the state of
+ * their tasks each time the current block is requested.
+ */
+public class ParallelPhaseStrategy implements PhaseStrategy {
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ParallelPhaseStrategy.class);
+
+    private final Phase phase;
+    private final int parallelism;
+    private volatile boolean interrupted = false;
+    private int next = 0;
+
+    public ParallelPhaseStrategy(final Phase phase, final int parallelism) {
+        this.phase = phase;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Tests whether a pending block can be started while other blocks are in
+     * progress.
+     *
+     * @param block      The pending block.
+     * @param inProgress The blocks that are in progress.
+     * @return True if fewer than the maximum number of blocks are in
+     * progress.
+     */
+    protected boolean canStart(Block block, List<Block> inProgress) {
+        return inProgress.size() < parallelism;
+    }
+
+    @Override
+    public synchronized Block getCurrentBlock() {
+        final List<Block> inProgress = new ArrayList<>();
+        final List<Block> pending = new ArrayList<>();
+        for (Block block : phase.getBlocks()) {
+            if (block instanceof AbstractClusterTaskBlock) {
+                ((AbstractClusterTaskBlock<?>) block).reconcile();
+            }
+            if (block.isComplete()) {
+                continue;
+            } else if (block.isPending()) {
+                pending.add(block);
+            } else {
+                inProgress.add(block);
+            }
+        }
+        if (!interrupted) {
+            for (Block block : pending) {
+                if (canStart(block, inProgress)) {
+                    LOGGER.info("Starting block {}, {} blocks in progress",
+                            block.getName(), inProgress.size());
+                    return block;
+                }
+            }
+        }
+        if (!inProgress.isEmpty()) {
+            next = (next + 1) % inProgress.size();
+            return inProgress.get(next);
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void proceed() {
+        interrupted = false;
+    }
+
+    @Override
+    public void interrupt() {
+        interrupted = true;
+    }
+
+    @Override
+    public void restart(UUID blockId) {
+        final Block block = phase.getBlock(blockId);
+        if (block != null) {
+            block.setStatus(Status.Pending);
+        }
+    }
+
+    @Override
+    public void forceComplete(UUID blockId) {
+        final Block block = phase.getBlock(blockId);
+        if (block != null) {
+            block.setStatus(Status.Complete);
+        }
+    }
+
+    @Override
+    public Status getStatus() {
+        if (phase.isComplete()) {
+            return Status.Complete;
+        }
+        for (Block block : phase.getBlocks()) {
+            if (block.isInProgress()) {
+                return Status.InProgress;
+            }
+        }
+        return Status.Pending;
+    }
+
+    @Override
+    public Phase getPhase() {
+        return phase;
+    }
+
+    @Override
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+
+    @Override
+    public boolean hasDecisionPoint(Block block) {
+        return false;
+    }
+}
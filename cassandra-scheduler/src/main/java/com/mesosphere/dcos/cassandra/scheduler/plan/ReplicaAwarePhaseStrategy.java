@@ -0,0 +1,81 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan;
+
+import org.apache.mesos.scheduler.plan.Block;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * ReplicaAwarePhaseStrategy is the strategy of a cluster task phase, such as
+ * repair or cleanup, whose concurrency is greater than one. A node is
+ * started at the same time as other nodes only if its replica set does not
+ * overlap with theirs, and at most the concurrency of the phase nodes of
+ * each data center are in progress at the same time. The replica sets are
+ * loaded from the ring in the background. Until they are loaded, or if they
+ * can not be loaded, nodes are processed one at a time.
+ */
+public class ReplicaAwarePhaseStrategy extends ParallelPhaseStrategy {
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ReplicaAwarePhaseStrategy.class);
+
+    private final int concurrency;
+    private final CompletableFuture<ReplicaSets> replicaSets;
+
+    /**
+     * Constructs a new ReplicaAwarePhaseStrategy.
+     *
+     * @param phase       The phase of the strategy.
+     * @param concurrency The maximum number of nodes of each data center
+     *                    that are in progress at the same time.
+     * @param keySpaces   The key spaces of the phase. If empty, all
+     *                    non-system key spaces are used.
+     */
+    public ReplicaAwarePhaseStrategy(
+            final AbstractClusterTaskPhase<?, ?> phase,
+            final int concurrency,
+            final List<String> keySpaces) {
+        super(phase, Integer.MAX_VALUE);
+        this.concurrency = concurrency;
+        this.replicaSets = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ReplicaSets.load(phase.getDaemons(), keySpaces);
+            } catch (UnknownHostException ex) {
+                throw new CompletionException(ex);
+            }
+        }).exceptionally(ex -> {
+            LOGGER.warn("Failed to load replica sets, nodes will be " +
+                    "processed one at a time", ex);
+            return ReplicaSets.UNKNOWN;
+        });
+    }
+
+    private static String getDaemon(final Block block) {
+        return ((AbstractClusterTaskBlock<?>) block).getDaemon();
+    }
+
+    @Override
+    protected boolean canStart(final Block block,
+                               final List<Block> inProgress) {
+        if (inProgress.isEmpty()) {
+            return true;
+        }
+        final ReplicaSets sets = replicaSets.getNow(ReplicaSets.UNKNOWN);
+        final String daemon = getDaemon(block);
+        final Optional<String> datacenter = sets.getDatacenter(daemon);
+        int running = 0;
+        for (Block other : inProgress) {
+            final String otherDaemon = getDaemon(other);
+            if (sets.overlap(daemon, otherDaemon)) {
+                return false;
+            } else if (datacenter.equals(sets.getDatacenter(otherDaemon))) {
+                running++;
+            }
+        }
+        return running < concurrency;
+    }
+}
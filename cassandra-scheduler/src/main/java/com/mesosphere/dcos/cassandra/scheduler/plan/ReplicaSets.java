@@ -0,0 +1,163 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
+import com.mesosphere.dcos.cassandra.common.config.CassandraApplicationConfig;
+import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ReplicaSets holds, for each Cassandra daemon, the nodes that hold replicas
+ * of its primary ranges and the data center of the daemon. The repair
+ * sessions of two daemons whose replica sets intersect validate and stream
+ * on the same nodes, and two adjacent daemons that are cleaned at the same
+ * time both slow the reads of their shared ranges, so such operations must
+ * not run on both daemons at the same time. A daemon that is not found in
+ * the ring overlaps with every other daemon.
+ */
+public class ReplicaSets {
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ReplicaSets.class);
+
+    private static final String SYSTEM_KEYSPACE = "system";
+
+    /**
+     * ReplicaSets that do not know any daemon, so that all daemons overlap.
+     */
+    public static final ReplicaSets UNKNOWN = new ReplicaSets(
+            Collections.emptyMap(),
+            Collections.emptyMap());
+
+    /**
+     * Loads the replica sets of the daemons from the ring of the cluster.
+     * The ring is read with a short lived driver connection to the native
+     * transport of the daemons.
+     *
+     * @param daemons   The daemons of the cluster by name.
+     * @param keySpaces The key spaces of the operation. If empty, all
+     *                  non-system key spaces are used.
+     * @return The replica sets of the daemons.
+     * @throws UnknownHostException If the host of a daemon can not be
+     *                              resolved.
+     */
+    public static ReplicaSets load(
+            final Map<String, CassandraDaemonTask> daemons,
+            final List<String> keySpaces) throws UnknownHostException {
+        final Map<InetAddress, String> names = new HashMap<>();
+        final List<InetSocketAddress> contactPoints = new ArrayList<>();
+        for (Map.Entry<String, CassandraDaemonTask> entry :
+                daemons.entrySet()) {
+            final InetAddress address = InetAddress.getByName(
+                    entry.getValue().getHostname());
+            names.put(address, entry.getKey());
+            contactPoints.add(new InetSocketAddress(address,
+                    entry.getValue().getNativeTransportPort()));
+        }
+        try (Cluster cluster = Cluster.builder()
+                .addContactPointsWithPorts(contactPoints)
+                .build()) {
+            cluster.init();
+            return create(cluster.getMetadata(), keySpaces, names);
+        }
+    }
+
+    private static ReplicaSets create(final Metadata metadata,
+                                      final List<String> keySpaces,
+                                      final Map<InetAddress, String> names) {
+        final List<String> used = keySpaces.isEmpty() ?
+                metadata.getKeyspaces().stream()
+                        .map(KeyspaceMetadata::getName)
+                        .filter(name -> !SYSTEM_KEYSPACE.equals(name) &&
+                                !CassandraApplicationConfig
+                                        .SYSTEM_KEYSPACE_LIST.contains(name))
+                        .collect(Collectors.toList()) :
+                keySpaces;
+        final Map<Token, Host> owners = new HashMap<>();
+        final Map<String, Set<String>> replicas = new HashMap<>();
+        final Map<String, String> datacenters = new HashMap<>();
+        for (Host host : metadata.getAllHosts()) {
+            final String name = names.get(host.getAddress());
+            if (name == null) {
+                continue;
+            }
+            for (Token token : host.getTokens()) {
+                owners.put(token, host);
+            }
+            replicas.put(name, new HashSet<>(
+                    Collections.singleton(name)));
+            datacenters.put(name, host.getDatacenter());
+        }
+        for (TokenRange range : metadata.getTokenRanges()) {
+            final Host owner = owners.get(range.getEnd());
+            if (owner == null) {
+                continue;
+            }
+            final Set<String> involved =
+                    replicas.get(names.get(owner.getAddress()));
+            for (String keySpace : used) {
+                for (Host replica : metadata.getReplicas(
+                        Metadata.quote(keySpace), range)) {
+                    // Nodes that are not daemons of this cluster are kept by
+                    // address so that they still cause an overlap.
+                    involved.add(names.getOrDefault(replica.getAddress(),
+                            replica.getAddress().getHostAddress()));
+                }
+            }
+        }
+        LOGGER.info("Loaded replica sets: key spaces = {}, replicas = {}",
+                used, replicas);
+        return new ReplicaSets(replicas, datacenters);
+    }
+
+    private final Map<String, Set<String>> replicas;
+    private final Map<String, String> datacenters;
+
+    ReplicaSets(final Map<String, Set<String>> replicas,
+                final Map<String, String> datacenters) {
+        this.replicas = replicas;
+        this.datacenters = datacenters;
+    }
+
+    /**
+     * Tests whether the replicas of two daemons overlap.
+     *
+     * @param daemon The name of a daemon.
+     * @param other  The name of another daemon.
+     * @return True if the primary ranges of daemon and other are replicated
+     * on a common node, or if either daemon is not known.
+     */
+    public boolean overlap(final String daemon, final String other) {
+        final Set<String> first = replicas.get(daemon);
+        final Set<String> second = replicas.get(other);
+        return first == null || second == null ||
+                !Collections.disjoint(first, second);
+    }
+
+    /**
+     * Gets the data center of a daemon.
+     *
+     * @param daemon The name of the daemon.
+     * @return The data center of the daemon, or empty if it is not known.
+     */
+    public Optional<String> getDatacenter(final String daemon) {
+        return Optional.ofNullable(datacenters.get(daemon));
+    }
+}
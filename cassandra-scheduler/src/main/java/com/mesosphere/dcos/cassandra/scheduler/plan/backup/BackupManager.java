@@ -21,7 +21,9 @@ import java.util.Optional;
 /**
  * BackupManager is responsible for orchestrating cluster-wide backup.
  * It also ensures that only one backup can run an anytime. For each new backup
- * a new BackupPlan is created, which will assist in orchestration.
+ * a new BackupPlan is created, which will assist in orchestration. A
+ * streaming backup has no snapshot phase, the snapshot of each node is taken
+ * by its upload task.
  */
 public class BackupManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(
@@ -147,7 +149,8 @@ public class BackupManager {
     public boolean isComplete() {
 
         return (backupContext != null &&
-                backup != null && backup.isComplete() &&
+                (backupContext.isStreaming() ||
+                        (backup != null && backup.isComplete())) &&
                 schema != null && schema.isComplete() &&
                 upload != null && upload.isComplete());
     }
@@ -155,6 +158,8 @@ public class BackupManager {
     public List<Phase> getPhases() {
         if (backupContext == null) {
             return Collections.emptyList();
+        } else if (backupContext.isStreaming()) {
+            return Arrays.asList(upload, schema);
         } else {
             return Arrays.asList(backup, upload, schema);
         }
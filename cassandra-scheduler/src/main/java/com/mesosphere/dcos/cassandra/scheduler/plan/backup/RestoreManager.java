@@ -148,13 +148,17 @@ public class RestoreManager {
 
         return (context != null &&
                 download != null && download.isComplete() &&
-                schema != null && restore.isComplete() &&
-                restore != null && restore.isComplete());
+                schema != null && schema.isComplete() &&
+                (context.isStreaming() || context.isBulkLoad() ||
+                        (restore != null && restore.isComplete())));
     }
 
     public List<Phase> getPhases() {
         if (context == null) {
             return Collections.emptyList();
+        } else if (context.isStreaming() || context.isBulkLoad()) {
+            // The SSTables are loaded by the download tasks.
+            return Arrays.asList(schema, download);
         } else {
             return Arrays.asList(schema, download, restore);
         }
@@ -13,8 +13,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * /**
- * During restore schema phase, data will be schemated across all cassandra nodes.
+ * During restore schema phase, the schema of the backup is restored through
+ * the first node of the cluster. Schema changes are propagated to the other
+ * nodes by Cassandra, so the schema is only restored once per cluster.
  */
 public class RestoreSchemaPhase extends AbstractClusterTaskPhase<RestoreSchemaBlock, RestoreContext> {
     private static final Logger LOGGER =
@@ -31,7 +32,7 @@ public class RestoreSchemaPhase extends AbstractClusterTaskPhase<RestoreSchemaBl
         final List<String> daemons =
                 new ArrayList<>(cassandraTasks.getDaemons().keySet());
         Collections.sort(daemons);
-        return daemons.stream().map(daemon -> RestoreSchemaBlock.create(
+        return daemons.stream().limit(1).map(daemon -> RestoreSchemaBlock.create(
                 daemon,
                 cassandraTasks,
                 provider,
@@ -3,18 +3,13 @@ package com.mesosphere.dcos.cassandra.scheduler.plan.cleanup;
 
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupContext;
 import com.mesosphere.dcos.cassandra.scheduler.offer.ClusterTaskOfferRequirementProvider;
-import com.mesosphere.dcos.cassandra.scheduler.plan.AbstractClusterTaskPhase;
+import com.mesosphere.dcos.cassandra.scheduler.plan.ClusterTaskPhase;
 import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 
-public class CleanupPhase extends AbstractClusterTaskPhase<CleanupBlock,
+public class CleanupPhase extends ClusterTaskPhase<CleanupBlock,
         CleanupContext> {
-    private static final Logger LOGGER =
-            LoggerFactory.getLogger(CleanupPhase.class);
 
     public CleanupPhase(
             CleanupContext context,
@@ -23,19 +18,24 @@ public class CleanupPhase extends AbstractClusterTaskPhase<CleanupBlock,
         super(context, cassandraTasks, provider);
     }
 
-    protected List<CleanupBlock> createBlocks() {
-        final Set<String> nodes = new HashSet<>(context.getNodes());
-        final List<String> daemons =
-                new ArrayList<>(cassandraTasks.getDaemons().keySet());
-        Collections.sort(daemons);
-        return daemons.stream().filter(
-                deamon -> nodes.contains(deamon)
-        ).map(daemon -> CleanupBlock.create(
-                daemon,
-                cassandraTasks,
-                provider,
-                context
-        )).collect(Collectors.toList());
+    @Override
+    public List<String> getNodes() {
+        return context.getNodes();
+    }
+
+    @Override
+    public List<String> getKeySpaces() {
+        return context.getKeySpaces();
+    }
+
+    @Override
+    public int getConcurrency() {
+        return context.getConcurrency();
+    }
+
+    @Override
+    protected CleanupBlock createBlock(String daemon) {
+        return CleanupBlock.create(daemon, cassandraTasks, provider, context);
     }
 
     @Override
@@ -0,0 +1,42 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan.maintenance;
+
+
+import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonTask;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceTask;
+import com.mesosphere.dcos.cassandra.scheduler.offer.CassandraOfferRequirementProvider;
+import com.mesosphere.dcos.cassandra.scheduler.persistence.PersistenceException;
+import com.mesosphere.dcos.cassandra.scheduler.plan.ClusterTaskBlock;
+import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
+
+public class MaintenanceBlock
+        extends ClusterTaskBlock<MaintenanceContext, MaintenanceTask> {
+
+    public static MaintenanceBlock create(
+            String daemon,
+            CassandraTasks cassandraTasks,
+            CassandraOfferRequirementProvider provider,
+            MaintenanceContext context) {
+        return new MaintenanceBlock(daemon, cassandraTasks, provider, context);
+    }
+
+    public MaintenanceBlock(
+            String daemon,
+            CassandraTasks cassandraTasks,
+            CassandraOfferRequirementProvider provider,
+            MaintenanceContext context) {
+        super(daemon, cassandraTasks, provider, context);
+    }
+
+    @Override
+    protected MaintenanceTask getOrCreateTask(CassandraDaemonTask daemonTask,
+                                              MaintenanceContext context)
+            throws PersistenceException {
+        return cassandraTasks.getOrCreateMaintenance(daemonTask, context);
+    }
+
+    @Override
+    public String getName() {
+        return MaintenanceTask.nameForDaemon(daemon);
+    }
+}
@@ -0,0 +1,38 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan.maintenance;
+
+
+import com.google.inject.Inject;
+import com.mesosphere.dcos.cassandra.common.serialization.Serializer;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceTask;
+import com.mesosphere.dcos.cassandra.scheduler.offer.ClusterTaskOfferRequirementProvider;
+import com.mesosphere.dcos.cassandra.scheduler.persistence.PersistenceFactory;
+import com.mesosphere.dcos.cassandra.scheduler.plan.ClusterTaskManager;
+import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
+
+import java.util.Map;
+
+public class MaintenanceManager
+        extends ClusterTaskManager<MaintenanceContext, MaintenanceTask> {
+    public static final String MAINTENANCE_KEY = "maintenance";
+
+    @Inject
+    public MaintenanceManager(
+            CassandraTasks cassandraTasks,
+            ClusterTaskOfferRequirementProvider provider,
+            PersistenceFactory persistenceFactory,
+            final Serializer<MaintenanceContext> serializer) {
+        super(MAINTENANCE_KEY, cassandraTasks, provider, persistenceFactory,
+                serializer);
+    }
+
+    @Override
+    protected MaintenancePhase createPhase(MaintenanceContext context) {
+        return new MaintenancePhase(context, cassandraTasks, provider);
+    }
+
+    @Override
+    protected Map<String, MaintenanceTask> getTasks() {
+        return cassandraTasks.getMaintenanceTasks();
+    }
+}
@@ -0,0 +1,45 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan.maintenance;
+
+
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
+import com.mesosphere.dcos.cassandra.scheduler.offer.ClusterTaskOfferRequirementProvider;
+import com.mesosphere.dcos.cassandra.scheduler.plan.ClusterTaskPhase;
+import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
+
+import java.util.List;
+
+public class MaintenancePhase extends ClusterTaskPhase<MaintenanceBlock,
+        MaintenanceContext> {
+
+    public MaintenancePhase(
+            MaintenanceContext context,
+            CassandraTasks cassandraTasks,
+            ClusterTaskOfferRequirementProvider provider) {
+        super(context, cassandraTasks, provider);
+    }
+
+    @Override
+    public List<String> getNodes() {
+        return context.getNodes();
+    }
+
+    @Override
+    public List<String> getKeySpaces() {
+        return context.getKeySpaces();
+    }
+
+    @Override
+    public int getConcurrency() {
+        return context.getConcurrency();
+    }
+
+    @Override
+    protected MaintenanceBlock createBlock(String daemon) {
+        return MaintenanceBlock.create(daemon, cassandraTasks, provider, context);
+    }
+
+    @Override
+    public String getName() {
+        return "Maintenance";
+    }
+}
@@ -4,6 +4,7 @@ package com.mesosphere.dcos.cassandra.scheduler.plan.repair;
 import com.google.inject.Inject;
 import com.mesosphere.dcos.cassandra.common.serialization.Serializer;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairContext;
+import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairTask;
 import com.mesosphere.dcos.cassandra.scheduler.offer.CassandraOfferRequirementProvider;
 import com.mesosphere.dcos.cassandra.scheduler.offer.MaintenanceTaskOfferRequirementProvider;
 import com.mesosphere.dcos.cassandra.scheduler.persistence.PersistenceException;
@@ -17,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class RepairManager {
@@ -68,9 +70,12 @@ public class RepairManager {
 
         if (canStartRepair()) {
             try {
-                if(isComplete()){
-                    for(String name: cassandraTasks.getRepairTasks().keySet()) {
-                        cassandraTasks.remove(name);
+                // The tasks of a completed or stopped repair would otherwise
+                // be reused, with their context, by the new repair.
+                for (Map.Entry<String, RepairTask> task :
+                        cassandraTasks.getRepairTasks().entrySet()) {
+                    if (task.getValue().getStatus().isTerminated()) {
+                        cassandraTasks.remove(task.getKey());
                     }
                 }
                 persistent.store(context);
@@ -103,6 +108,17 @@ public class RepairManager {
     }
 
 
+    /**
+     * Gets whether repair tasks are running. The tasks of a stopped repair
+     * keep running on their nodes until they terminate.
+     *
+     * @return True if any repair task is running.
+     */
+    public boolean hasRunningRepairs() {
+        return cassandraTasks.getRepairTasks().values().stream()
+                .anyMatch(task -> task.getStatus().isRunning());
+    }
+
     public boolean inProgress() {
 
         return (context != null && !isComplete());
@@ -1,9 +1,14 @@
 package com.mesosphere.dcos.cassandra.scheduler.resources;
 
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Strings;
 import com.google.inject.Inject;
+import com.mesosphere.dcos.cassandra.common.tasks.CassandraDaemonTask;
+import com.mesosphere.dcos.cassandra.common.tasks.DiskUsage;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupContext;
+import com.mesosphere.dcos.cassandra.scheduler.client.SchedulerClient;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.BackupManager;
+import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +18,11 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Path("/v1/backup")
 @Produces(MediaType.APPLICATION_JSON)
@@ -21,11 +31,25 @@ public class BackupResource {
     private static final Logger LOGGER = LoggerFactory.getLogger
             (BackupResource.class);
 
+    /**
+     * The default maximum percentage of a node's volume that may be used if
+     * the snapshot of a backup retained all of its live SSTables.
+     */
+    public static final int DEFAULT_MAX_DISK_USAGE_PERCENT = 90;
+
+    private static final long DISK_USAGE_TIMEOUT_SECONDS = 30;
+
     private final BackupManager manager;
+    private final CassandraTasks tasks;
+    private final SchedulerClient client;
 
     @Inject
-    public BackupResource(final BackupManager manager) {
+    public BackupResource(final BackupManager manager,
+                          final CassandraTasks tasks,
+                          final SchedulerClient client) {
         this.manager = manager;
+        this.tasks = tasks;
+        this.client = client;
     }
 
     @PUT
@@ -37,6 +61,19 @@ public class BackupResource {
             if(!request.isValid()){
                 return Response.status(Response.Status.BAD_REQUEST).build();
             } else  if (manager.canStartBackup()) {
+                final int maxDiskUsagePercent =
+                        request.getMaxDiskUsagePercent() != null ?
+                                request.getMaxDiskUsagePercent() :
+                                DEFAULT_MAX_DISK_USAGE_PERCENT;
+                final Optional<String> refused = checkDiskUsage(
+                        maxDiskUsagePercent);
+                if (refused.isPresent()) {
+                    LOGGER.warn("Backup refused: {}, request = {}",
+                            refused.get(), request);
+                    return Response.status(Response.Status.BAD_REQUEST)
+                            .entity(ErrorResponse.fromString(refused.get()))
+                            .build();
+                }
                 final BackupContext backupContext = from(request);
                 manager.startBackup(backupContext);
                 LOGGER.info("Backup started : context = {}", backupContext);
@@ -61,14 +98,76 @@ public class BackupResource {
         }
     }
 
+    /**
+     * Checks that a snapshot can be taken on every node without using more
+     * than the maximum percentage of its volume, even if the snapshot came
+     * to retain all of the node's live SSTables.
+     * @param maxDiskUsagePercent The maximum usage of a node's volume.
+     * @return The reason the backup is refused, or empty if it can start.
+     * @throws InterruptedException If the check is interrupted.
+     */
+    private Optional<String> checkDiskUsage(int maxDiskUsagePercent)
+            throws InterruptedException {
+        final Map<String, CompletableFuture<DiskUsage>> usages =
+                new HashMap<>();
+        for (CassandraDaemonTask daemon : tasks.getDaemons().values()) {
+            usages.put(daemon.getName(), client.diskUsage(
+                    daemon.getHostname(),
+                    daemon.getExecutor().getApiPort())
+                    .toCompletableFuture());
+        }
+        for (Map.Entry<String, CompletableFuture<DiskUsage>> usage :
+                usages.entrySet()) {
+            final DiskUsage diskUsage;
+            try {
+                diskUsage = usage.getValue().get(DISK_USAGE_TIMEOUT_SECONDS,
+                        TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                LOGGER.error("Failed to get disk usage of node: " +
+                        usage.getKey(), ex);
+                return Optional.of("Failed to get disk usage of node " +
+                        usage.getKey() + ".");
+            }
+            LOGGER.info("Disk usage of node: {} = {}", usage.getKey(),
+                    diskUsage);
+            if (diskUsage.getSnapshotUsagePercent() > maxDiskUsagePercent) {
+                return Optional.of(String.format("Snapshot could use %.1f%% " +
+                                "of the volume of node %s, the maximum is " +
+                                "%d%%.",
+                        diskUsage.getSnapshotUsagePercent(),
+                        usage.getKey(),
+                        maxDiskUsagePercent));
+            }
+        }
+        return Optional.empty();
+    }
+
     public static BackupContext from(StartBackupRequest request) {
         final BackupContext context =
                 new BackupContext();
         context.setName(request.getName());
         context.setExternalLocation(request.getExternalLocation());
-        context.setS3AccessKey(request.getS3AccessKey());
-        context.setS3SecretKey(request.getS3SecretKey());
+        // Credentials are only required by s3:// locations.
+        context.setS3AccessKey(Strings.nullToEmpty(request.getS3AccessKey()));
+        context.setS3SecretKey(Strings.nullToEmpty(request.getS3SecretKey()));
         context.setKeySpaces(request.getKeyspaces());
+        if (request.getConcurrency() != null) {
+            context.setConcurrency(request.getConcurrency());
+        }
+        if (request.getPartSizeMb() != null) {
+            context.setPartSizeMb(request.getPartSizeMb());
+        }
+        if (request.getCompression() != null) {
+            context.setCompression(request.getCompression());
+        }
+        context.setIncremental(request.isIncremental());
+        if (request.getBandwidthMb() != null) {
+            context.setBandwidthMb(request.getBandwidthMb());
+        }
+        context.setAdaptiveThrottle(request.isAdaptiveThrottle());
+        context.setStreaming(request.isStreaming());
         return context;
     }
 }
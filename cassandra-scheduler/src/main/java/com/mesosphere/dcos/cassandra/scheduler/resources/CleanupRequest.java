@@ -18,8 +18,11 @@ public class CleanupRequest {
             @JsonProperty("nodes") final List<String> nodes,
             @JsonProperty("key_spaces") final List<String> keySpaces,
             @JsonProperty("column_families") final List<String>
-                    columnFamilies) {
-        return new CleanupRequest(nodes, keySpaces, columnFamilies);
+                    columnFamilies,
+            @JsonProperty("jobs") final int jobs,
+            @JsonProperty("concurrency") final int concurrency) {
+        return new CleanupRequest(nodes, keySpaces, columnFamilies, jobs,
+                concurrency);
     }
 
     @JsonProperty("nodes")
@@ -28,17 +31,25 @@ public class CleanupRequest {
     private final List<String> keySpaces;
     @JsonProperty("column_families")
     private final List<String> columnFamiles;
+    @JsonProperty("jobs")
+    private final int jobs;
+    @JsonProperty("concurrency")
+    private final int concurrency;
 
     public CleanupRequest(
             final List<String> nodes,
             final List<String> keySpaces,
-            final List<String> columnFamiles) {
+            final List<String> columnFamiles,
+            final int jobs,
+            final int concurrency) {
 
         this.nodes = (nodes == null) ? Collections.emptyList() : nodes;
         this.keySpaces = (keySpaces == null) ? Collections.emptyList() :
                 keySpaces;
         this.columnFamiles = (columnFamiles == null) ? Collections.emptyList() :
                 columnFamiles;
+        this.jobs = jobs;
+        this.concurrency = concurrency;
     }
 
 
@@ -54,8 +65,16 @@ public class CleanupRequest {
         return nodes;
     }
 
+    public int getJobs() {
+        return jobs;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
     public boolean isValid(){
-        return !this.nodes.isEmpty();
+        return !this.nodes.isEmpty() && jobs >= 0 && concurrency >= 0;
     }
 
     @Override
@@ -66,12 +85,15 @@ public class CleanupRequest {
         return Objects.equals(getNodes(), that.getNodes()) &&
                 Objects.equals(getKeySpaces(), that.getKeySpaces()) &&
                 Objects.equals(getColumnFamiles(),
-                        that.getColumnFamiles());
+                        that.getColumnFamiles()) &&
+                getJobs() == that.getJobs() &&
+                getConcurrency() == that.getConcurrency();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getNodes(), getKeySpaces(), getColumnFamiles());
+        return Objects.hash(getNodes(), getKeySpaces(), getColumnFamiles(),
+                getJobs(), getConcurrency());
     }
 
     @Override
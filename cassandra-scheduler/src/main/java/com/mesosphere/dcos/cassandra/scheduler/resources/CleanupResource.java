@@ -43,12 +43,9 @@ public class CleanupResource {
         try {
             if(!request.isValid()){
                 return Response.status(Response.Status.BAD_REQUEST).build();
-            }  else if (manager.canStartCleanup()) {
-                manager.startCleanup(CleanupContext.create(
-                       new ArrayList<>(getNodes(request)),
-                        request.getKeySpaces(),
-                        request.getColumnFamiles()
-                ));
+            }  else if (manager.canStart()) {
+                manager.start(from(request,
+                        tasks.getDaemons().keySet()));
 
                 LOGGER.info("Cleanup started");
                 return Response.accepted().build();
@@ -71,15 +68,32 @@ public class CleanupResource {
         }
     }
 
-    private Set<String> getNodes(CleanupRequest request) {
+    /**
+     * Creates the context of a cleanup from a request.
+     *
+     * @param request The request of the cleanup.
+     * @param daemons The names of the daemons of the cluster.
+     * @return The context of the cleanup of the daemons that are in the
+     * request.
+     */
+    public static CleanupContext from(CleanupRequest request,
+                                      Set<String> daemons) {
+        return CleanupContext.create(
+                new ArrayList<>(getNodes(request, daemons)),
+                request.getKeySpaces(),
+                request.getColumnFamiles(),
+                request.getJobs(),
+                request.getConcurrency());
+    }
+
+    private static Set<String> getNodes(CleanupRequest request,
+                                        Set<String> daemons) {
         if (request.getNodes().size() == 1 &&
                 request.getNodes().get(0).equals(CleanupRequest.ALL)) {
-            return tasks.getDaemons().keySet();
+            return daemons;
         } else {
-            final Set<String> daemons = tasks.getDaemons().keySet();
             return request.getNodes().stream().filter(node -> daemons
                     .contains(node)).collect(Collectors.toSet());
         }
-
     }
 }
@@ -0,0 +1,129 @@
+package com.mesosphere.dcos.cassandra.scheduler.resources;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
+import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class MaintenanceRequest {
+
+    public static final String ALL = "*";
+
+    @JsonCreator
+    public static MaintenanceRequest create(
+            @JsonProperty("operation") final String operation,
+            @JsonProperty("nodes") final List<String> nodes,
+            @JsonProperty("key_spaces") final List<String> keySpaces,
+            @JsonProperty("column_families") final List<String>
+                    columnFamilies,
+            @JsonProperty("jobs") final int jobs,
+            @JsonProperty("throughput_mb") final int throughputMb,
+            @JsonProperty("concurrency") final int concurrency) {
+        return new MaintenanceRequest(operation, nodes, keySpaces,
+                columnFamilies, jobs, throughputMb, concurrency);
+    }
+
+    @JsonProperty("operation")
+    private final String operation;
+    @JsonProperty("nodes")
+    private final List<String> nodes;
+    @JsonProperty("key_spaces")
+    private final List<String> keySpaces;
+    @JsonProperty("column_families")
+    private final List<String> columnFamilies;
+    @JsonProperty("jobs")
+    private final int jobs;
+    @JsonProperty("throughput_mb")
+    private final int throughputMb;
+    @JsonProperty("concurrency")
+    private final int concurrency;
+
+    public MaintenanceRequest(
+            final String operation,
+            final List<String> nodes,
+            final List<String> keySpaces,
+            final List<String> columnFamilies,
+            final int jobs,
+            final int throughputMb,
+            final int concurrency) {
+
+        this.operation = (operation == null) ? "" : operation;
+        this.nodes = (nodes == null) ? Collections.emptyList() : nodes;
+        this.keySpaces = (keySpaces == null) ? Collections.emptyList() :
+                keySpaces;
+        this.columnFamilies = (columnFamilies == null) ?
+                Collections.emptyList() :
+                columnFamilies;
+        this.jobs = jobs;
+        this.throughputMb = throughputMb;
+        this.concurrency = concurrency;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public List<String> getColumnFamilies() {
+        return columnFamilies;
+    }
+
+    public List<String> getKeySpaces() {
+        return keySpaces;
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    public int getJobs() {
+        return jobs;
+    }
+
+    public int getThroughputMb() {
+        return throughputMb;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public boolean isValid() {
+        return MaintenanceContext.OPERATIONS.contains(operation) &&
+                !this.nodes.isEmpty() &&
+                jobs >= 0 &&
+                throughputMb >= 0 &&
+                concurrency >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MaintenanceRequest)) return false;
+        MaintenanceRequest that = (MaintenanceRequest) o;
+        return Objects.equals(getOperation(), that.getOperation()) &&
+                Objects.equals(getNodes(), that.getNodes()) &&
+                Objects.equals(getKeySpaces(), that.getKeySpaces()) &&
+                Objects.equals(getColumnFamilies(),
+                        that.getColumnFamilies()) &&
+                getJobs() == that.getJobs() &&
+                getThroughputMb() == that.getThroughputMb() &&
+                getConcurrency() == that.getConcurrency();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getOperation(), getNodes(), getKeySpaces(),
+                getColumnFamilies(), getJobs(), getThroughputMb(),
+                getConcurrency());
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtils.toJsonString(this);
+    }
+}
@@ -0,0 +1,102 @@
+package com.mesosphere.dcos.cassandra.scheduler.resources;
+
+import com.codahale.metrics.annotation.Timed;
+import com.google.inject.Inject;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
+import com.mesosphere.dcos.cassandra.scheduler.plan.maintenance.MaintenanceManager;
+import com.mesosphere.dcos.cassandra.scheduler.tasks.CassandraTasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Path("/v1/maintenance")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class MaintenanceResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+            MaintenanceResource.class);
+    private final MaintenanceManager manager;
+    private final CassandraTasks tasks;
+
+    @Inject
+    public MaintenanceResource(final MaintenanceManager manager,
+                           final CassandraTasks tasks) {
+        this.manager = manager;
+        this.tasks = tasks;
+    }
+
+    @PUT
+    @Timed
+    @Path("/start")
+    public Response start(MaintenanceRequest request) {
+        LOGGER.info("Processing start maintenance request = {}", request);
+        try {
+            if(!request.isValid()){
+                return Response.status(Response.Status.BAD_REQUEST).build();
+            }  else if (manager.canStart()) {
+                manager.start(from(request,
+                        tasks.getDaemons().keySet()));
+
+                LOGGER.info("Maintenance started: operation = {}",
+                        request.getOperation());
+                return Response.accepted().build();
+            } else {
+                // Send error back
+                LOGGER.warn("Maintenance already in progress: request = {}",
+                        request);
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(ErrorResponse.fromString(
+                                "Maintenance already in progress"))
+                        .build();
+            }
+        } catch (Throwable t) {
+            LOGGER.error(
+                    String.format("Error creating maintenance: request = %s",
+                            request), t);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(ErrorResponse.fromThrowable(t))
+                    .build();
+        }
+    }
+
+    /**
+     * Creates the context of a maintenance from a request.
+     *
+     * @param request The request of the maintenance.
+     * @param daemons The names of the daemons of the cluster.
+     * @return The context of the maintenance of the daemons that are in the
+     * request.
+     */
+    public static MaintenanceContext from(MaintenanceRequest request,
+                                          Set<String> daemons) {
+        return MaintenanceContext.create(
+                request.getOperation(),
+                new ArrayList<>(getNodes(request, daemons)),
+                request.getKeySpaces(),
+                request.getColumnFamilies(),
+                request.getJobs(),
+                request.getThroughputMb(),
+                request.getConcurrency());
+    }
+
+    private static Set<String> getNodes(MaintenanceRequest request,
+                                        Set<String> daemons) {
+        if (request.getNodes().size() == 1 &&
+                request.getNodes().get(0).equals(MaintenanceRequest.ALL)) {
+            return daemons;
+        } else {
+            return request.getNodes().stream().filter(node -> daemons
+                    .contains(node)).collect(Collectors.toSet());
+        }
+    }
+}
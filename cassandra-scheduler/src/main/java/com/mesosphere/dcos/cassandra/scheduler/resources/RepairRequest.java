@@ -3,6 +3,7 @@ package com.mesosphere.dcos.cassandra.scheduler.resources;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairContext;
 import com.mesosphere.dcos.cassandra.common.util.JsonUtils;
 
 import java.util.Collections;
@@ -18,8 +19,14 @@ public class RepairRequest {
             @JsonProperty("nodes") final List<String> nodes,
             @JsonProperty("key_spaces") final List<String> keySpaces,
             @JsonProperty("column_families") final List<String>
-                    columnFamilies) {
-        return new RepairRequest(nodes, keySpaces, columnFamilies);
+                    columnFamilies,
+            @JsonProperty("parallelism") final String parallelism,
+            @JsonProperty("subrange_partitions") final int
+                    subrangePartitions,
+            @JsonProperty("incremental") final boolean incremental,
+            @JsonProperty("concurrency") final int concurrency) {
+        return new RepairRequest(nodes, keySpaces, columnFamilies,
+                parallelism, subrangePartitions, incremental, concurrency);
     }
 
     @JsonProperty("nodes")
@@ -28,17 +35,35 @@ public class RepairRequest {
     private final List<String> keySpaces;
     @JsonProperty("column_families")
     private final List<String> columnFamiles;
+    @JsonProperty("parallelism")
+    private final String parallelism;
+    @JsonProperty("subrange_partitions")
+    private final int subrangePartitions;
+    @JsonProperty("incremental")
+    private final boolean incremental;
+    @JsonProperty("concurrency")
+    private final int concurrency;
 
     public RepairRequest(
             final List<String> nodes,
             final List<String> keySpaces,
-            final List<String> columnFamiles) {
+            final List<String> columnFamiles,
+            final String parallelism,
+            final int subrangePartitions,
+            final boolean incremental,
+            final int concurrency) {
 
         this.nodes = (nodes == null) ? Collections.emptyList() : nodes;
         this.keySpaces = (keySpaces == null) ? Collections.emptyList() :
                 keySpaces;
         this.columnFamiles = (columnFamiles == null) ? Collections.emptyList() :
                 columnFamiles;
+        this.parallelism = (parallelism == null) ?
+                RepairContext.PARALLELISM_SEQUENTIAL :
+                parallelism;
+        this.subrangePartitions = subrangePartitions;
+        this.incremental = incremental;
+        this.concurrency = concurrency;
     }
 
 
@@ -54,7 +79,28 @@ public class RepairRequest {
         return nodes;
     }
 
-    public boolean isValid(){return !nodes.isEmpty();}
+    public String getParallelism() {
+        return parallelism;
+    }
+
+    public int getSubrangePartitions() {
+        return subrangePartitions;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public boolean isValid() {
+        return !nodes.isEmpty() &&
+                RepairContext.PARALLELISMS.contains(parallelism) &&
+                subrangePartitions >= 0 &&
+                concurrency >= 0;
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -64,12 +110,18 @@ public class RepairRequest {
         return Objects.equals(getNodes(), that.getNodes()) &&
                 Objects.equals(getKeySpaces(), that.getKeySpaces()) &&
                 Objects.equals(getColumnFamiles(),
-                        that.getColumnFamiles());
+                        that.getColumnFamiles()) &&
+                Objects.equals(getParallelism(), that.getParallelism()) &&
+                getSubrangePartitions() == that.getSubrangePartitions() &&
+                isIncremental() == that.isIncremental() &&
+                getConcurrency() == that.getConcurrency();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getNodes(), getKeySpaces(), getColumnFamiles());
+        return Objects.hash(getNodes(), getKeySpaces(), getColumnFamiles(),
+                getParallelism(), getSubrangePartitions(), isIncremental(),
+                getConcurrency());
     }
 
     @Override
@@ -16,6 +16,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.util.ArrayList;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Path("/v1/repair")
@@ -43,13 +44,29 @@ public class RepairResource {
         try {
             if (!request.isValid()) {
                 return Response.status(Response.Status.BAD_REQUEST).build();
+            } else if (request.isIncremental() &&
+                    manager.hasRunningRepairs()) {
+                // Overlapping incremental sessions anticompact the same
+                // SSTables and fail, so the sessions of a stopped repair
+                // must terminate first.
+                LOGGER.warn("Repair sessions are still running: request = {}",
+                        request);
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(ErrorResponse.fromString(
+                                "Repair sessions are still running"))
+                        .build();
             } else if (manager.canStartRepair()) {
 
                 manager.startRepair(RepairContext.create(
                         new ArrayList<>(
                                 getNodes(request)),
                         request.getKeySpaces(),
-                        request.getColumnFamiles()
+                        request.getColumnFamiles(),
+                        request.getParallelism(),
+                        request.getSubrangePartitions(),
+                        UUID.randomUUID().toString(),
+                        request.isIncremental(),
+                        request.getConcurrency()
                 ));
 
                 LOGGER.info("Repair started : ");
@@ -1,6 +1,7 @@
 package com.mesosphere.dcos.cassandra.scheduler.resources;
 
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Strings;
 import com.google.inject.Inject;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.RestoreContext;
 import com.mesosphere.dcos.cassandra.scheduler.plan.backup.RestoreManager;
@@ -60,8 +61,19 @@ public class RestoreResource {
                 new RestoreContext();
         context.setName(request.getName());
         context.setExternalLocation(request.getExternalLocation());
-        context.setS3AccessKey(request.getS3AccessKey());
-        context.setS3SecretKey(request.getS3SecretKey());
+        // Credentials are only required by s3:// locations.
+        context.setS3AccessKey(Strings.nullToEmpty(request.getS3AccessKey()));
+        context.setS3SecretKey(Strings.nullToEmpty(request.getS3SecretKey()));
+        if (request.getConcurrency() != null) {
+            context.setConcurrency(request.getConcurrency());
+        }
+        if (request.getBandwidthMb() != null) {
+            context.setBandwidthMb(request.getBandwidthMb());
+        }
+        context.setKeyspaces(request.getKeyspaces());
+        context.setTables(request.getTables());
+        context.setStreaming(request.isStreaming());
+        context.setBulkLoad(request.isBulkLoad());
         return context;
     }
 }
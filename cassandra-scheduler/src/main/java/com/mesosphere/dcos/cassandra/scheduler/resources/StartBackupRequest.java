@@ -1,6 +1,7 @@
 package com.mesosphere.dcos.cassandra.scheduler.resources;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mesosphere.dcos.cassandra.common.tasks.backup.BackupContext;
 import org.hibernate.validator.constraints.NotEmpty;
 
 import java.util.Collections;
@@ -16,16 +17,38 @@ public class StartBackupRequest {
     private String externalLocation;
 
     @JsonProperty("s3_access_key")
-    @NotEmpty
     private String s3AccessKey;
 
     @JsonProperty("s3_secret_key")
-    @NotEmpty
     private String s3SecretKey;
 
     @JsonProperty("key_spaces")
     private List<String> keySpaces;
 
+    @JsonProperty("concurrency")
+    private Integer concurrency;
+
+    @JsonProperty("part_size_mb")
+    private Integer partSizeMb;
+
+    @JsonProperty("compression")
+    private String compression;
+
+    @JsonProperty("incremental")
+    private boolean incremental;
+
+    @JsonProperty("bandwidth_mb")
+    private Integer bandwidthMb;
+
+    @JsonProperty("adaptive_throttle")
+    private boolean adaptiveThrottle;
+
+    @JsonProperty("streaming")
+    private boolean streaming;
+
+    @JsonProperty("max_disk_usage_percent")
+    private Integer maxDiskUsagePercent;
+
     public String getName() {
         return name;
     }
@@ -62,8 +85,91 @@ public class StartBackupRequest {
 
     public void setKeySpaces(List<String> keySpaces) { this.keySpaces = keySpaces; }
 
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Integer getPartSizeMb() {
+        return partSizeMb;
+    }
+
+    public void setPartSizeMb(Integer partSizeMb) {
+        this.partSizeMb = partSizeMb;
+    }
+
+    public String getCompression() {
+        return compression;
+    }
+
+    public void setCompression(String compression) {
+        this.compression = compression;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public Integer getBandwidthMb() {
+        return bandwidthMb;
+    }
+
+    public void setBandwidthMb(Integer bandwidthMb) {
+        this.bandwidthMb = bandwidthMb;
+    }
+
+    public boolean isAdaptiveThrottle() {
+        return adaptiveThrottle;
+    }
+
+    public void setAdaptiveThrottle(boolean adaptiveThrottle) {
+        this.adaptiveThrottle = adaptiveThrottle;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public Integer getMaxDiskUsagePercent() {
+        return maxDiskUsagePercent;
+    }
+
+    public void setMaxDiskUsagePercent(Integer maxDiskUsagePercent) {
+        this.maxDiskUsagePercent = maxDiskUsagePercent;
+    }
+
+    /**
+     * Tests if the request is valid. Backups to a file:// location are
+     * hard links or plain copies of the snapshot files, so compression and
+     * incremental backups, which need a manifest of checksummed files, are
+     * only supported for s3:// locations.
+     */
     public boolean isValid(){
         return name != null && externalLocation != null &&
-                s3AccessKey != null && s3SecretKey != null;
+                ((externalLocation.startsWith("file://") &&
+                        !incremental &&
+                        (compression == null || compression.equals(
+                                BackupContext.COMPRESSION_NONE))) ||
+                        (externalLocation.startsWith("s3://") &&
+                                s3AccessKey != null && s3SecretKey != null)) &&
+                (concurrency == null || concurrency > 0) &&
+                (partSizeMb == null || partSizeMb >= 5) &&
+                (compression == null ||
+                        BackupContext.COMPRESSIONS.contains(compression)) &&
+                (bandwidthMb == null || bandwidthMb >= 0) &&
+                (maxDiskUsagePercent == null ||
+                        (maxDiskUsagePercent > 0 &&
+                                maxDiskUsagePercent <= 100));
     }
 }
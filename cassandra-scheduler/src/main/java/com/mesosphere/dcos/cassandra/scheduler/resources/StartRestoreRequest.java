@@ -3,6 +3,9 @@ package com.mesosphere.dcos.cassandra.scheduler.resources;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.hibernate.validator.constraints.NotEmpty;
 
+import java.util.Collections;
+import java.util.List;
+
 public class StartRestoreRequest {
     @JsonProperty("backup_name")
     @NotEmpty
@@ -13,13 +16,29 @@ public class StartRestoreRequest {
     private String externalLocation;
 
     @JsonProperty("s3_access_key")
-    @NotEmpty
     private String s3AccessKey;
 
     @JsonProperty("s3_secret_key")
-    @NotEmpty
     private String s3SecretKey;
 
+    @JsonProperty("key_spaces")
+    private List<String> keySpaces;
+
+    @JsonProperty("tables")
+    private List<String> tables;
+
+    @JsonProperty("concurrency")
+    private Integer concurrency;
+
+    @JsonProperty("bandwidth_mb")
+    private Integer bandwidthMb;
+
+    @JsonProperty("streaming")
+    private boolean streaming;
+
+    @JsonProperty("bulk_load")
+    private boolean bulkLoad;
+
     public String getName() {
         return name;
     }
@@ -52,8 +71,63 @@ public class StartRestoreRequest {
         this.s3SecretKey = s3SecretKey;
     }
 
+    public List<String> getKeyspaces() {
+        return keySpaces != null ? keySpaces : Collections.emptyList();
+    }
+
+    public void setKeySpaces(List<String> keySpaces) {
+        this.keySpaces = keySpaces;
+    }
+
+    public List<String> getTables() {
+        return tables != null ? tables : Collections.emptyList();
+    }
+
+    public void setTables(List<String> tables) {
+        this.tables = tables;
+    }
+
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Integer getBandwidthMb() {
+        return bandwidthMb;
+    }
+
+    public void setBandwidthMb(Integer bandwidthMb) {
+        this.bandwidthMb = bandwidthMb;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public boolean isBulkLoad() {
+        return bulkLoad;
+    }
+
+    public void setBulkLoad(boolean bulkLoad) {
+        this.bulkLoad = bulkLoad;
+    }
+
     public boolean isValid(){
         return name != null && externalLocation != null &&
-                s3AccessKey != null && s3SecretKey != null;
+                (externalLocation.startsWith("file://") ||
+                        (externalLocation.startsWith("s3://") &&
+                                s3AccessKey != null && s3SecretKey != null)) &&
+                (concurrency == null || concurrency > 0) &&
+                (bandwidthMb == null || bandwidthMb >= 0) &&
+                getTables().stream().allMatch(table ->
+                        table.indexOf('.') > 0 &&
+                                table.indexOf('.') < table.length() - 1);
     }
 }
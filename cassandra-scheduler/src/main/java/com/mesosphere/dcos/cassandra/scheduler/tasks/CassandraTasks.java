@@ -11,6 +11,8 @@ import com.mesosphere.dcos.cassandra.common.tasks.CassandraTaskStatus;
 import com.mesosphere.dcos.cassandra.common.tasks.backup.*;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupContext;
 import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupTask;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceTask;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairContext;
 import com.mesosphere.dcos.cassandra.common.tasks.repair.RepairTask;
 import com.mesosphere.dcos.cassandra.common.util.TaskUtils;
@@ -187,6 +189,13 @@ public class CassandraTasks implements Managed, TaskStatusProvider {
                         (RepairTask) entry.getValue())));
     }
 
+    public Map<String, MaintenanceTask> getMaintenanceTasks() {
+        return tasks.entrySet().stream().filter(entry -> entry.getValue()
+                .getType() == CassandraTask.TYPE.MAINTENANCE).collect
+                (Collectors.toMap(entry -> entry.getKey(), entry -> (
+                        (MaintenanceTask) entry.getValue())));
+    }
+
     public CassandraDaemonTask createDaemon(String name) throws
             PersistenceException {
         CassandraDaemonTask task = configuration.createDaemon(
@@ -316,6 +325,18 @@ public class CassandraTasks implements Managed, TaskStatusProvider {
         return task;
     }
 
+    public MaintenanceTask createMaintenanceTask(
+            CassandraDaemonTask daemon,
+            MaintenanceContext context) throws PersistenceException {
+        MaintenanceTask task = configuration.createMaintenanceTask(
+                daemon,
+                context);
+        synchronized (persistent) {
+            update(task);
+        }
+        return task;
+    }
+
     public CassandraDaemonTask getOrCreateDaemon(String name) throws
             PersistenceException {
         if (getDaemons().containsKey(name)) {
@@ -433,6 +454,19 @@ public class CassandraTasks implements Managed, TaskStatusProvider {
         }
     }
 
+    public MaintenanceTask getOrCreateMaintenance(
+            CassandraDaemonTask daemon,
+            MaintenanceContext context) throws PersistenceException {
+
+        String name = MaintenanceTask.nameForDaemon(daemon);
+        Map<String, MaintenanceTask> maintenances = getMaintenanceTasks();
+        if (maintenances.containsKey(name)) {
+            return maintenances.get(name);
+        } else {
+            return createMaintenanceTask(daemon, context);
+        }
+    }
+
     public boolean needsConfigUpdate(final CassandraDaemonTask daemon) {
         return !configuration.hasCurrentConfig(daemon);
     }
@@ -0,0 +1,42 @@
+package com.mesosphere.dcos.cassandra.scheduler.plan;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ReplicaSetsTest {
+
+    private static final ReplicaSets SETS = new ReplicaSets(
+            ImmutableMap.of(
+                    "node-0", ImmutableSet.of("node-0", "node-1"),
+                    "node-1", ImmutableSet.of("node-1", "node-2"),
+                    "node-2", ImmutableSet.of("node-2", "node-3"),
+                    "node-3", ImmutableSet.of("node-3", "node-0")),
+            ImmutableMap.of(
+                    "node-0", "dc1",
+                    "node-1", "dc1",
+                    "node-2", "dc2",
+                    "node-3", "dc2"));
+
+    @Test
+    public void testOverlap() {
+        assertTrue(SETS.overlap("node-0", "node-1"));
+        assertTrue(SETS.overlap("node-0", "node-3"));
+        assertFalse(SETS.overlap("node-0", "node-2"));
+        assertFalse(SETS.overlap("node-1", "node-3"));
+    }
+
+    @Test
+    public void testUnknownDaemonsOverlap() {
+        assertTrue(SETS.overlap("node-0", "node-4"));
+        assertTrue(ReplicaSets.UNKNOWN.overlap("node-0", "node-2"));
+        assertEquals(Optional.empty(), SETS.getDatacenter("node-4"));
+        assertEquals(Optional.of("dc2"), SETS.getDatacenter("node-2"));
+    }
+}
@@ -0,0 +1,50 @@
+package com.mesosphere.dcos.cassandra.scheduler.resources;
+
+import com.google.common.collect.ImmutableSet;
+import com.mesosphere.dcos.cassandra.common.tasks.cleanup.CleanupContext;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class CleanupResourceTest {
+    private static final Set<String> DAEMONS = ImmutableSet.of(
+            "node-0", "node-1", "node-2");
+
+    @Test
+    public void testContextOfAllNodes() {
+        final CleanupContext context = CleanupResource.from(
+                CleanupRequest.create(
+                        Collections.singletonList(CleanupRequest.ALL),
+                        null, null, 0, 0),
+                DAEMONS);
+
+        assertEquals(DAEMONS, new HashSet<>(context.getNodes()));
+        assertEquals(Collections.emptyList(), context.getKeySpaces());
+        assertEquals(Collections.emptyList(), context.getColumnFamilies());
+    }
+
+    @Test
+    public void testContextOfRequest() {
+        final List<String> keySpaces = Collections.singletonList("ks");
+        final List<String> columnFamilies = Arrays.asList("cf0", "cf1");
+        final CleanupContext context = CleanupResource.from(
+                CleanupRequest.create(
+                        Arrays.asList("node-0", "node-2", "node-3"),
+                        keySpaces, columnFamilies, 2, 3),
+                DAEMONS);
+
+        // Nodes that are not daemons of the cluster are ignored.
+        assertEquals(ImmutableSet.of("node-0", "node-2"),
+                new HashSet<>(context.getNodes()));
+        assertEquals(keySpaces, context.getKeySpaces());
+        assertEquals(columnFamilies, context.getColumnFamilies());
+        assertEquals(2, context.getJobs());
+        assertEquals(3, context.getConcurrency());
+    }
+}
@@ -0,0 +1,57 @@
+package com.mesosphere.dcos.cassandra.scheduler.resources;
+
+import com.google.common.collect.ImmutableSet;
+import com.mesosphere.dcos.cassandra.common.tasks.maintenance.MaintenanceContext;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class MaintenanceResourceTest {
+    private static final Set<String> DAEMONS = ImmutableSet.of(
+            "node-0", "node-1", "node-2");
+
+    @Test
+    public void testContextOfAllNodes() {
+        final MaintenanceContext context = MaintenanceResource.from(
+                MaintenanceRequest.create(
+                        MaintenanceContext.OPERATION_FLUSH,
+                        Collections.singletonList(MaintenanceRequest.ALL),
+                        null, null, 0, 0, 0),
+                DAEMONS);
+
+        assertEquals(MaintenanceContext.OPERATION_FLUSH,
+                context.getOperation());
+        assertEquals(DAEMONS, new HashSet<>(context.getNodes()));
+        assertEquals(Collections.emptyList(), context.getKeySpaces());
+        assertEquals(Collections.emptyList(), context.getColumnFamilies());
+    }
+
+    @Test
+    public void testContextOfRequest() {
+        final List<String> keySpaces = Collections.singletonList("ks");
+        final List<String> columnFamilies = Arrays.asList("cf0", "cf1");
+        final MaintenanceContext context = MaintenanceResource.from(
+                MaintenanceRequest.create(
+                        MaintenanceContext.OPERATION_COMPACT,
+                        Arrays.asList("node-1", "node-3"),
+                        keySpaces, columnFamilies, 2, 16, 3),
+                DAEMONS);
+
+        assertEquals(MaintenanceContext.OPERATION_COMPACT,
+                context.getOperation());
+        // Nodes that are not daemons of the cluster are ignored.
+        assertEquals(Collections.singletonList("node-1"),
+                context.getNodes());
+        assertEquals(keySpaces, context.getKeySpaces());
+        assertEquals(columnFamilies, context.getColumnFamilies());
+        assertEquals(2, context.getJobs());
+        assertEquals(16, context.getThroughputMb());
+        assertEquals(3, context.getConcurrency());
+    }
+}